@@ -18,11 +18,33 @@ import com.tencent.rtmp.downloader.TXVodDownloadDataSource;
 import com.tencent.rtmp.downloader.TXVodDownloadManager;
 import com.tencent.rtmp.downloader.TXVodDownloadMediaInfo;
 import com.tencent.rtmp.downloader.TXVodPreloadManager;
+import com.tencent.vod.flutter.common.FTXBufferingMonitor;
+import com.tencent.vod.flutter.download.FTXDownloadCatalog;
+import com.tencent.vod.flutter.download.FTXDownloadEventThrottle;
+import com.tencent.vod.flutter.download.FTXDownloadQuota;
+import com.tencent.vod.flutter.download.FTXDownloadScheduler;
+import com.tencent.vod.flutter.download.FTXDownloadSnapshot;
+import com.tencent.vod.flutter.download.FTXFeedPreloader;
+import com.tencent.vod.flutter.download.FTXPreloadGroup;
+import com.tencent.vod.flutter.download.FTXPreloadScheduler;
 import com.tencent.vod.flutter.messages.FtxMessages;
 import com.tencent.vod.flutter.messages.FtxMessages.BoolMsg;
+import com.tencent.vod.flutter.messages.FtxMessages.DownloadBatchMsg;
+import com.tencent.vod.flutter.messages.FtxMessages.DownloadBatchResultMsg;
+import com.tencent.vod.flutter.messages.FtxMessages.DownloadEventConfigMsg;
+import com.tencent.vod.flutter.messages.FtxMessages.DownloadListPageMsg;
+import com.tencent.vod.flutter.messages.FtxMessages.DownloadListQueryMsg;
+import com.tencent.vod.flutter.messages.FtxMessages.DownloadPriorityMsg;
+import com.tencent.vod.flutter.messages.FtxMessages.DownloadQuotaMsg;
+import com.tencent.vod.flutter.messages.FtxMessages.DownloadSchedulerConfigMsg;
+import com.tencent.vod.flutter.messages.FtxMessages.FeedPreloadCursorMsg;
+import com.tencent.vod.flutter.messages.FtxMessages.FeedPreloadListMsg;
 import com.tencent.vod.flutter.messages.FtxMessages.IntMsg;
 import com.tencent.vod.flutter.messages.FtxMessages.MapMsg;
 import com.tencent.vod.flutter.messages.FtxMessages.PreLoadMsg;
+import com.tencent.vod.flutter.messages.FtxMessages.PreloadPriorityMsg;
+import com.tencent.vod.flutter.messages.FtxMessages.PreloadSchedulerConfigMsg;
+import com.tencent.vod.flutter.messages.FtxMessages.Result;
 import com.tencent.vod.flutter.messages.FtxMessages.TXDownloadListMsg;
 import com.tencent.vod.flutter.messages.FtxMessages.TXFlutterDownloadApi;
 import com.tencent.vod.flutter.messages.FtxMessages.TXVodDownloadMediaMsg;
@@ -30,10 +52,14 @@ import com.tencent.vod.flutter.tools.TXCommonUtil;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
 
@@ -45,12 +71,30 @@ import io.flutter.embedding.engine.plugins.FlutterPlugin;
 public class FTXDownloadManager implements ITXVodDownloadListener, TXFlutterDownloadApi, FtxMessages.VoidResult {
 
     private static final String TAG = "FTXDownloadManager";
+    private static final long BATCH_PROGRESS_INTERVAL_MS = 200;
+
+    /**
+     * Work on one item of a batch, called on the batch thread.
+     */
+    private interface BatchOperation {
+        boolean run(TXVodDownloadMediaMsg msg);
+    }
 
     private final FlutterPlugin.FlutterPluginBinding mFlutterPluginBinding;
     private boolean isInitDownloadListener = false;
-    private final ExecutorService mPreloadPool = Executors.newCachedThreadPool();
+    private final FTXPreloadScheduler mPreloadScheduler = new FTXPreloadScheduler();
+    // ids of preloads without flutter tmp task id, below NO_REQUESTER_ID
+    private final AtomicLong mNativePreloadId = new AtomicLong(FTXPreloadGroup.NO_REQUESTER_ID);
+    // preloads by media key and by SDK task id, guarded by mPreloadGroups
+    private final Map<String, FTXPreloadGroup> mPreloadGroups = new HashMap<>();
+    private final Map<Integer, FTXPreloadGroup> mPreloadGroupsBySdkId = new HashMap<>();
     private final FtxMessages.TXDownloadFlutterAPI mDownloadFlutterApi;
+    private final FTXDownloadCatalog mDownloadCatalog = new FTXDownloadCatalog();
+    private final FTXDownloadEventThrottle mDownloadEventThrottle = new FTXDownloadEventThrottle();
+    private final FTXDownloadScheduler mDownloadScheduler;
+    private final FTXDownloadSnapshot mDownloadSnapshot;
     private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+    private final ExecutorService mBatchExecutor = Executors.newSingleThreadExecutor();
 
     /**
      * Video download management.
@@ -61,8 +105,81 @@ public class FTXDownloadManager implements ITXVodDownloadListener, TXFlutterDown
         mFlutterPluginBinding = flutterPluginBinding;
         TXFlutterDownloadApi.setUp(mFlutterPluginBinding.getBinaryMessenger(), this);
         mDownloadFlutterApi = new FtxMessages.TXDownloadFlutterAPI(flutterPluginBinding.getBinaryMessenger());
+        FTXFeedPreloader.getInstance().setPreloadStarter(mFeedPreloadStarter);
+        mDownloadScheduler = new FTXDownloadScheduler(flutterPluginBinding.getApplicationContext(), mDownloadStarter);
+        mDownloadSnapshot = new FTXDownloadSnapshot(flutterPluginBinding.getApplicationContext());
+        FTXDownloadQuota.getInstance().setEvictor(flutterPluginBinding.getApplicationContext(), mDownloadEvictor);
+        FTXBufferingMonitor.getInstance().addListener(mBufferingListener);
     }
 
+    private final FTXDownloadScheduler.Starter mDownloadStarter = new FTXDownloadScheduler.Starter() {
+        @Override
+        public void startTask(FTXDownloadScheduler.Task task) {
+            if (null != task.fileId) {
+                TXVodDownloadDataSource dataSource = new TXVodDownloadDataSource(task.appId, task.fileId,
+                        task.quality, task.pSign, task.userName);
+                TXVodDownloadManager.getInstance().startDownload(dataSource);
+            } else {
+                TXVodDownloadManager.getInstance().startDownloadUrl(task.url, task.userName);
+            }
+        }
+
+        @Override
+        public boolean stopTask(FTXDownloadScheduler.Task task) {
+            TXVodDownloadMediaInfo mediaInfo = parseMediaInfoFromInfo(task.quality, task.url,
+                    null != task.fileId ? task.appId : null, task.fileId, task.userName);
+            if (null == mediaInfo) {
+                return false;
+            }
+            TXVodDownloadManager.getInstance().stopDownload(mediaInfo);
+            return true;
+        }
+    };
+
+    private final FTXDownloadQuota.Evictor mDownloadEvictor = new FTXDownloadQuota.Evictor() {
+        @Override
+        public boolean evict(String key) {
+            TXVodDownloadMediaInfo mediaInfo = mDownloadCatalog.findByKey(key);
+            if (null == mediaInfo) {
+                return false;
+            }
+            mDownloadScheduler.cancel(key);
+            return deleteDownload(mediaInfo);
+        }
+    };
+
+    private final FTXBufferingMonitor.Listener mBufferingListener = new FTXBufferingMonitor.Listener() {
+        @Override
+        public void onBufferingChanged(boolean isAnyBuffering) {
+            mDownloadScheduler.onPlaybackBufferingChanged(isAnyBuffering);
+        }
+    };
+
+    private final FTXFeedPreloader.PreloadStarter mFeedPreloadStarter = new FTXFeedPreloader.PreloadStarter() {
+        @Override
+        public long newRequesterId() {
+            return mNativePreloadId.decrementAndGet();
+        }
+
+        @Override
+        public void startPreload(FtxMessages.PreLoadInfoMsg msg) {
+            startPreLoadByParams(msg);
+        }
+
+        @Override
+        public void cancelPreload(long requesterId) {
+            FTXDownloadManager.this.cancelPreload(TXCommonUtil.intMsgWith(requesterId));
+        }
+
+        @Override
+        public void setPreloadPriority(long requesterId, int priority) {
+            PreloadPriorityMsg msg = new PreloadPriorityMsg();
+            msg.setTmpPreloadTaskId(requesterId);
+            msg.setPriority((long) priority);
+            FTXDownloadManager.this.setPreloadPriority(msg);
+        }
+    };
+
     private void initDownloadListenerIfNeed() {
         if (!isInitDownloadListener) {
             isInitDownloadListener = true;
@@ -109,7 +226,19 @@ public class FTXDownloadManager implements ITXVodDownloadListener, TXFlutterDown
         });
     }
 
+    /**
+     * Downloads are listed again from the new folder, and the snapshot of that folder is loaded.
+     */
+    public void onCacheFolderChanged(String cacheFolderPath) {
+        mDownloadCatalog.invalidate();
+        mDownloadSnapshot.open(cacheFolderPath);
+        FTXDownloadQuota.getInstance().clear();
+    }
+
     public void destroy() {
+        FTXFeedPreloader.getInstance().removePreloadStarter(mFeedPreloadStarter);
+        FTXBufferingMonitor.getInstance().removeListener(mBufferingListener);
+        FTXDownloadQuota.getInstance().removeEvictor(mDownloadEvictor);
         TXVodDownloadManager.getInstance().setListener(null);
     }
 
@@ -202,6 +331,15 @@ public class FTXDownloadManager implements ITXVodDownloadListener, TXFlutterDown
                                                                String fileId, String userName) {
         boolean isFileIdInfo = null != appId && null != fileId;
         boolean isUrlInfo = !TextUtils.isEmpty(url);
+        if (mDownloadCatalog.isReady()) {
+            if (isFileIdInfo) {
+                return mDownloadCatalog.findByFileId(userName, appId, fileId, optQuality(quality));
+            }
+            return isUrlInfo ? mDownloadCatalog.findByUrl(userName, url) : null;
+        }
+        // scan once until the catalog is built, callbacks keep it up to date after that
+        initDownloadListenerIfNeed();
+        mDownloadCatalog.buildAsync();
         List<TXVodDownloadMediaInfo> mediaInfoList = TXVodDownloadManager.getInstance().getDownloadMediaInfoList();
         if (null != mediaInfoList && (isFileIdInfo || isUrlInfo)) {
             for (TXVodDownloadMediaInfo mediaInfo : mediaInfoList) {
@@ -229,34 +367,83 @@ public class FTXDownloadManager implements ITXVodDownloadListener, TXFlutterDown
 
     @Override
     public void onDownloadStart(TXVodDownloadMediaInfo txVodDownloadMediaInfo) {
+        mDownloadCatalog.put(txVodDownloadMediaInfo);
         Bundle bundle = buildCommonDownloadBundle(txVodDownloadMediaInfo);
-        onDownloadCallback(TXCommonUtil.getParams(FTXEvent.EVENT_DOWNLOAD_START, bundle));
+        onDownloadEvent(txVodDownloadMediaInfo, TXCommonUtil.getParams(FTXEvent.EVENT_DOWNLOAD_START, bundle), false);
+        updateDownloadSnapshot(txVodDownloadMediaInfo);
     }
 
     @Override
     public void onDownloadProgress(TXVodDownloadMediaInfo txVodDownloadMediaInfo) {
+        mDownloadCatalog.put(txVodDownloadMediaInfo);
+        final String taskKey = FTXDownloadCatalog.keyOf(txVodDownloadMediaInfo);
+        mDownloadScheduler.onTaskProgress(taskKey, txVodDownloadMediaInfo.getSpeed());
+        updateDownloadQuota(txVodDownloadMediaInfo);
+        if (!mDownloadEventThrottle.shouldSendProgress(taskKey, txVodDownloadMediaInfo.getProgress(),
+                TXCommonUtil.getDownloadEventByState(txVodDownloadMediaInfo.getDownloadState()))) {
+            return;
+        }
         Bundle bundle = buildCommonDownloadBundle(txVodDownloadMediaInfo);
-        onDownloadCallback(TXCommonUtil.getParams(FTXEvent.EVENT_DOWNLOAD_PROGRESS, bundle));
+        onDownloadCallback(mDownloadEventThrottle.encode(taskKey,
+                TXCommonUtil.getParams(FTXEvent.EVENT_DOWNLOAD_PROGRESS, bundle), false));
     }
 
     @Override
     public void onDownloadStop(TXVodDownloadMediaInfo txVodDownloadMediaInfo) {
+        mDownloadCatalog.put(txVodDownloadMediaInfo);
+        if (mDownloadScheduler.onTaskStopped(FTXDownloadCatalog.keyOf(txVodDownloadMediaInfo))) {
+            // paused by scheduler and queued again, not a stop of user
+            return;
+        }
         Bundle bundle = buildCommonDownloadBundle(txVodDownloadMediaInfo);
-        onDownloadCallback(TXCommonUtil.getParams(FTXEvent.EVENT_DOWNLOAD_STOP, bundle));
+        onDownloadEvent(txVodDownloadMediaInfo, TXCommonUtil.getParams(FTXEvent.EVENT_DOWNLOAD_STOP, bundle), true);
+        updateDownloadSnapshot(txVodDownloadMediaInfo);
     }
 
     @Override
     public void onDownloadFinish(TXVodDownloadMediaInfo txVodDownloadMediaInfo) {
+        mDownloadCatalog.put(txVodDownloadMediaInfo);
+        mDownloadScheduler.onTaskEnded(FTXDownloadCatalog.keyOf(txVodDownloadMediaInfo));
         Bundle bundle = buildCommonDownloadBundle(txVodDownloadMediaInfo);
-        onDownloadCallback(TXCommonUtil.getParams(FTXEvent.EVENT_DOWNLOAD_FINISH, bundle));
+        onDownloadEvent(txVodDownloadMediaInfo, TXCommonUtil.getParams(FTXEvent.EVENT_DOWNLOAD_FINISH, bundle), true);
+        updateDownloadSnapshot(txVodDownloadMediaInfo);
     }
 
     @Override
     public void onDownloadError(TXVodDownloadMediaInfo txVodDownloadMediaInfo, int i, String s) {
+        mDownloadCatalog.put(txVodDownloadMediaInfo);
+        mDownloadScheduler.onTaskEnded(FTXDownloadCatalog.keyOf(txVodDownloadMediaInfo));
         Bundle bundle = buildCommonDownloadBundle(txVodDownloadMediaInfo);
         bundle.putInt("errorCode", i);
         bundle.putString("errorMsg", s);
-        onDownloadCallback(TXCommonUtil.getParams(FTXEvent.EVENT_DOWNLOAD_ERROR, bundle));
+        onDownloadEvent(txVodDownloadMediaInfo, TXCommonUtil.getParams(FTXEvent.EVENT_DOWNLOAD_ERROR, bundle), true);
+        updateDownloadSnapshot(txVodDownloadMediaInfo);
+    }
+
+    /**
+     * Progress is not written, the snapshot keeps the progress of the last start, stop or end.
+     */
+    private void updateDownloadSnapshot(TXVodDownloadMediaInfo mediaInfo) {
+        mDownloadSnapshot.put(FTXDownloadCatalog.keyOf(mediaInfo), buildMsgFromDownloadInfo(mediaInfo));
+        updateDownloadQuota(mediaInfo);
+    }
+
+    private void updateDownloadQuota(TXVodDownloadMediaInfo mediaInfo) {
+        final int state = mediaInfo.getDownloadState();
+        FTXDownloadQuota.getInstance().update(FTXDownloadCatalog.keyOf(mediaInfo), mediaInfo.getUserName(),
+                mediaInfo.getPlayPath(), mediaInfo.getDownloadSize(),
+                state == TXVodDownloadMediaInfo.STATE_INIT || state == TXVodDownloadMediaInfo.STATE_START);
+    }
+
+    /**
+     * Send a start or terminal event in full, at once.
+     */
+    private void onDownloadEvent(TXVodDownloadMediaInfo mediaInfo, Map<String, Object> event, boolean isTerminal) {
+        final String taskKey = FTXDownloadCatalog.keyOf(mediaInfo);
+        onDownloadCallback(mDownloadEventThrottle.encode(taskKey, event, true));
+        if (isTerminal) {
+            mDownloadEventThrottle.remove(taskKey);
+        }
     }
 
     private void onDownloadCallback(Map<String, Object> eventArg) {
@@ -284,110 +471,403 @@ public class FTXDownloadManager implements ITXVodDownloadListener, TXFlutterDown
         String playUrl = msg.getPlayUrl();
         float preloadSizeMB = msg.getPreloadSizeMB() != null ? msg.getPreloadSizeMB().floatValue() : 0;
         long preferredResolution = msg.getPreferredResolution() != null ? msg.getPreferredResolution() : 0;
+        final String key = FTXPreloadGroup.keyOf(playUrl, 0, null, preferredResolution);
+        synchronized (mPreloadGroups) {
+            final FTXPreloadGroup group = mPreloadGroups.get(key);
+            if (null != group && !group.isFinished() && group.getSdkTaskId() >= 0) {
+                group.addRequester(FTXPreloadGroup.NO_REQUESTER_ID);
+                LiteavLog.i(TAG, "startPreLoad attach to running preload, taskId:" + group.getSdkTaskId());
+                return TXCommonUtil.intMsgWith((long) group.getSdkTaskId());
+            }
+        }
         final TXVodPreloadManager downloadManager =
                 TXVodPreloadManager.getInstance(mFlutterPluginBinding.getApplicationContext());
+        final FTXPreloadGroup group = new FTXPreloadGroup(key, -1, 0, false);
+        group.addRequester(FTXPreloadGroup.NO_REQUESTER_ID);
+        // registered before start, SDK may call back before startPreload returns
+        synchronized (mPreloadGroups) {
+            if (!mPreloadGroups.containsKey(key)) {
+                mPreloadGroups.put(key, group);
+            }
+        }
         final int retTaskID = downloadManager.startPreload(playUrl, preloadSizeMB, preferredResolution,
                 new ITXVodPreloadListener() {
                     @Override
                     public void onComplete(int taskID, String url) {
+                        removePreloadGroup(group);
                         onPreLoadCompleteEvent(taskID, url);
                     }
 
                     @Override
                     public void onError(int taskID, String url, int code, String msg) {
+                        removePreloadGroup(group);
                         onPreLoadErrorEvent(-1, taskID, url, code, msg);
                     }
                 });
+        synchronized (mPreloadGroups) {
+            if (retTaskID < 0) {
+                removePreloadGroup(group);
+            } else if (!group.isFinished()) {
+                group.onStarted(retTaskID, null, playUrl, null);
+                mPreloadGroupsBySdkId.put(retTaskID, group);
+            }
+        }
         IntMsg res = new IntMsg();
         res.setValue((long) retTaskID);
         return res;
     }
 
     @Override
-    public void startPreLoadByParams(@NonNull FtxMessages.PreLoadInfoMsg msg) {
-        mPreloadPool.execute(new Runnable() {
-            @Override
-            public void run() {
-                final boolean isUrlPreload = !TextUtils.isEmpty(msg.getPlayUrl());
-                TXPlayInfoParams txPlayInfoParams;
-                if (isUrlPreload) {
-                    txPlayInfoParams = new TXPlayInfoParams(msg.getPlayUrl());
-                } else {
-                    int appId = msg.getAppId() != null ? msg.getAppId().intValue() : 0;
-                    txPlayInfoParams = new TXPlayInfoParams(appId, msg.getFileId(), msg.getPSign());
+    public void startPreLoadByParams(@NonNull final FtxMessages.PreLoadInfoMsg msg) {
+        final float preloadSizeMB = msg.getPreloadSizeMB() != null ? msg.getPreloadSizeMB().floatValue() : 0;
+        final long tmpTaskId = msg.getTmpPreloadTaskId() != null ? msg.getTmpPreloadTaskId()
+                : FTXPreloadGroup.NO_REQUESTER_ID;
+        final int priority = msg.getPriority() != null ? msg.getPriority().intValue() : 0;
+        final long appId = msg.getAppId() != null ? msg.getAppId() : 0;
+        final long preferredResolution = msg.getPreferredResolution() != null ? msg.getPreferredResolution() : 0;
+        final String key = FTXPreloadGroup.keyOf(msg.getPlayUrl(), appId, msg.getFileId(), preferredResolution);
+        final FTXPreloadGroup group;
+        boolean isAttachedToStarted = false;
+        synchronized (mPreloadGroups) {
+            final FTXPreloadGroup runningGroup = mPreloadGroups.get(key);
+            // a direct preload is registered before it is started, share it only once it has a task
+            if (null != runningGroup && !runningGroup.isFinished()
+                    && (runningGroup.isScheduled() || runningGroup.isStarted())) {
+                // same media is queued or loading, share it
+                runningGroup.addRequester(tmpTaskId);
+                if (runningGroup.isScheduled() && priority < runningGroup.getPriority()) {
+                    runningGroup.setPriority(priority);
+                    mPreloadScheduler.setPriority(runningGroup.getSchedulerTaskId(), priority);
                 }
-                if (msg.getHttpHeader() != null) {
-                    txPlayInfoParams.setHeaders(msg.getHttpHeader());
+                LiteavLog.i(TAG, "startPreLoadByParams attach to preload:" + key + ", tmpTaskId:" + tmpTaskId);
+                if (runningGroup.isStarted() && tmpTaskId >= 0) {
+                    onPreLoadStartEvent(tmpTaskId, runningGroup.getSdkTaskId(), runningGroup.getFileId(),
+                            runningGroup.getUrl(), runningGroup.getStartParams());
                 }
-                final TXVodPreloadManager downloadManager =
-                        TXVodPreloadManager.getInstance(mFlutterPluginBinding.getApplicationContext());
-                float preloadSizeMB = msg.getPreloadSizeMB() != null ? msg.getPreloadSizeMB().floatValue() : 0;
-                final long tmpTaskId = msg.getTmpPreloadTaskId() != null ? msg.getTmpPreloadTaskId() : -1;
-                long preferredResolution = msg.getPreferredResolution() != null ? msg.getPreferredResolution() : 0;
-                int retTaskID = downloadManager.startPreload(txPlayInfoParams, preloadSizeMB, preferredResolution,
-                        new ITXVodFilePreloadListener() {
+                isAttachedToStarted = runningGroup.isStarted();
+                group = null;
+            } else {
+                final long schedulerTaskId = tmpTaskId != FTXPreloadGroup.NO_REQUESTER_ID ? tmpTaskId
+                        : mNativePreloadId.decrementAndGet();
+                group = new FTXPreloadGroup(key, schedulerTaskId, priority, true);
+                group.addRequester(tmpTaskId);
+                mPreloadGroups.put(key, group);
+            }
+        }
+        if (null == group) {
+            if (isAttachedToStarted && tmpTaskId < FTXPreloadGroup.NO_REQUESTER_ID) {
+                // called out of the lock, feed preloader calls in with its own lock held
+                FTXFeedPreloader.getInstance().onPreloadStarted(Collections.singletonList(tmpTaskId));
+            }
+            return;
+        }
+        mPreloadScheduler.submit(new FTXPreloadScheduler.Task(group.getSchedulerTaskId(),
+                (long) (preloadSizeMB * 1024 * 1024), priority) {
+            @Override
+            protected int onStart() {
+                return startPreLoadByParamsInner(msg, group);
+            }
 
-                    @Override
-                    public void onStart(int taskID, String fileId, String url, Bundle bundle) {
-                        if (tmpTaskId >= 0) {
-                            onPreLoadStartEvent(tmpTaskId, taskID, fileId, url, bundle);
-                        }
-                    }
+            @Override
+            protected void onStop(int sdkTaskId) {
+                TXVodPreloadManager.getInstance(mFlutterPluginBinding.getApplicationContext()).stopPreload(sdkTaskId);
+            }
+        });
+    }
 
-                    @Override
-                    public void onComplete(int taskID, String url) {
-                        onPreLoadCompleteEvent(taskID, url);
-                    }
+    private int startPreLoadByParamsInner(final FtxMessages.PreLoadInfoMsg msg, final FTXPreloadGroup group) {
+        final boolean isUrlPreload = !TextUtils.isEmpty(msg.getPlayUrl());
+        TXPlayInfoParams txPlayInfoParams;
+        if (isUrlPreload) {
+            txPlayInfoParams = new TXPlayInfoParams(msg.getPlayUrl());
+        } else {
+            int appId = msg.getAppId() != null ? msg.getAppId().intValue() : 0;
+            txPlayInfoParams = new TXPlayInfoParams(appId, msg.getFileId(), msg.getPSign());
+        }
+        if (msg.getHttpHeader() != null) {
+            txPlayInfoParams.setHeaders(msg.getHttpHeader());
+        }
+        final TXVodPreloadManager downloadManager =
+                TXVodPreloadManager.getInstance(mFlutterPluginBinding.getApplicationContext());
+        float preloadSizeMB = msg.getPreloadSizeMB() != null ? msg.getPreloadSizeMB().floatValue() : 0;
+        long preferredResolution = msg.getPreferredResolution() != null ? msg.getPreferredResolution() : 0;
+        int retTaskID = downloadManager.startPreload(txPlayInfoParams, preloadSizeMB, preferredResolution,
+                new ITXVodFilePreloadListener() {
 
-                    @Override
-                    public void onError(int taskID, String url, int code, String msg) {
-                        onPreLoadErrorEvent(tmpTaskId, taskID, url, code, msg);
+            @Override
+            public void onStart(int taskID, String fileId, String url, Bundle bundle) {
+                onPreloadGroupStarted(group, taskID, fileId, url, bundle);
+            }
+
+            @Override
+            public void onComplete(int taskID, String url) {
+                mPreloadScheduler.onTaskFinished(group.getSchedulerTaskId());
+                final List<Long> requesterIds;
+                synchronized (mPreloadGroups) {
+                    // removed in the same lock, so no requester can attach after its ids are read
+                    requesterIds = group.getRequesterIds();
+                    removePreloadGroup(group);
+                }
+                onPreLoadCompleteEvent(taskID, url);
+                FTXFeedPreloader.getInstance().onPreloadFinished(requesterIds, true);
+            }
+
+            @Override
+            public void onError(int taskID, String url, int code, String msg) {
+                mPreloadScheduler.onTaskFinished(group.getSchedulerTaskId());
+                final List<Long> requesterIds;
+                final boolean isStarted;
+                synchronized (mPreloadGroups) {
+                    requesterIds = group.getRequesterIds();
+                    isStarted = group.isStarted();
+                    removePreloadGroup(group);
+                }
+                final List<Long> flutterRequesterIds = filterFlutterRequesters(requesterIds);
+                if (isStarted || flutterRequesterIds.isEmpty()) {
+                    onPreLoadErrorEvent(-1, taskID, url, code, msg);
+                } else {
+                    for (Long requesterId : flutterRequesterIds) {
+                        onPreLoadErrorEvent(requesterId, taskID, url, code, msg);
                     }
-                });
-                if (isUrlPreload && tmpTaskId >= 0) {
-                    onPreLoadStartEvent(tmpTaskId, retTaskID, msg.getFileId(), msg.getPlayUrl(), new Bundle());
                 }
+                FTXFeedPreloader.getInstance().onPreloadFinished(requesterIds, false);
             }
         });
+        if (retTaskID >= 0) {
+            synchronized (mPreloadGroups) {
+                // it may be completed, failed or cancelled before startPreload returns
+                if (!group.isFinished()) {
+                    group.setSdkTaskId(retTaskID);
+                    mPreloadGroupsBySdkId.put(retTaskID, group);
+                }
+            }
+        } else {
+            final List<Long> requesterIds;
+            synchronized (mPreloadGroups) {
+                requesterIds = group.getRequesterIds();
+                removePreloadGroup(group);
+            }
+            FTXFeedPreloader.getInstance().onPreloadFinished(requesterIds, false);
+        }
+        if (isUrlPreload) {
+            onPreloadGroupStarted(group, retTaskID, msg.getFileId(), msg.getPlayUrl(), new Bundle());
+        }
+        return retTaskID;
     }
 
+    private void onPreloadGroupStarted(FTXPreloadGroup group, int taskID, String fileId, String url, Bundle bundle) {
+        final List<Long> requesterIds;
+        synchronized (mPreloadGroups) {
+            if (group.isStarted() || group.isFinished()) {
+                return;
+            }
+            group.onStarted(taskID, fileId, url, bundle);
+            if (taskID >= 0) {
+                mPreloadGroupsBySdkId.put(taskID, group);
+            }
+            requesterIds = group.getRequesterIds();
+        }
+        for (Long requesterId : filterFlutterRequesters(requesterIds)) {
+            onPreLoadStartEvent(requesterId, taskID, fileId, url, bundle);
+        }
+        FTXFeedPreloader.getInstance().onPreloadStarted(requesterIds);
+    }
+
+    /**
+     * Native requesters, e.g. feed preloader, have negative ids and get no flutter events.
+     */
+    private static List<Long> filterFlutterRequesters(List<Long> requesterIds) {
+        final List<Long> flutterRequesterIds = new ArrayList<>();
+        for (Long requesterId : requesterIds) {
+            if (requesterId >= 0) {
+                flutterRequesterIds.add(requesterId);
+            }
+        }
+        return flutterRequesterIds;
+    }
+
+    /**
+     * Unregister a group and mark it finished, so late SDK callbacks and returns don't register it again.
+     */
+    private void removePreloadGroup(FTXPreloadGroup group) {
+        synchronized (mPreloadGroups) {
+            group.finish();
+            if (mPreloadGroups.get(group.getKey()) == group) {
+                mPreloadGroups.remove(group.getKey());
+            }
+            if (mPreloadGroupsBySdkId.get(group.getSdkTaskId()) == group) {
+                mPreloadGroupsBySdkId.remove(group.getSdkTaskId());
+            }
+        }
+    }
+
+    /**
+     * Stop a preload by SDK task id, shared preloads are stopped after all requesters stopped them.
+     */
     @Override
     public void stopPreLoad(@NonNull IntMsg msg) {
-        if (null != msg.getValue()) {
-            final TXVodPreloadManager downloadManager =
-                    TXVodPreloadManager.getInstance(mFlutterPluginBinding.getApplicationContext());
-            downloadManager.stopPreload(msg.getValue().intValue());
+        if (null == msg.getValue()) {
+            return;
         }
+        final int taskId = msg.getValue().intValue();
+        synchronized (mPreloadGroups) {
+            final FTXPreloadGroup group = mPreloadGroupsBySdkId.get(taskId);
+            if (null != group) {
+                if (group.release() > 0) {
+                    LiteavLog.i(TAG, "stopPreLoad, preload is still used by others, taskId:" + taskId);
+                    return;
+                }
+                removePreloadGroup(group);
+            }
+        }
+        final TXVodPreloadManager downloadManager =
+                TXVodPreloadManager.getInstance(mFlutterPluginBinding.getApplicationContext());
+        downloadManager.stopPreload(taskId);
+        mPreloadScheduler.onSdkTaskStopped(taskId);
     }
 
+    @Override
+    public void setPreloadPriority(@NonNull PreloadPriorityMsg msg) {
+        if (null == msg.getTmpPreloadTaskId() || null == msg.getPriority()) {
+            return;
+        }
+        synchronized (mPreloadGroups) {
+            final FTXPreloadGroup group = findPreloadGroupByRequester(msg.getTmpPreloadTaskId());
+            if (null != group && group.isScheduled()) {
+                group.setPriority(msg.getPriority().intValue());
+                mPreloadScheduler.setPriority(group.getSchedulerTaskId(), msg.getPriority().intValue());
+            }
+        }
+    }
+
+    /**
+     * Cancel a request of startPreLoadByParams, shared preloads are cancelled after all requesters cancelled them.
+     */
+    @Override
+    public void cancelPreload(@NonNull IntMsg msg) {
+        if (null == msg.getValue()) {
+            return;
+        }
+        final FTXPreloadGroup group;
+        synchronized (mPreloadGroups) {
+            group = findPreloadGroupByRequester(msg.getValue());
+            if (null == group || group.removeRequester(msg.getValue()) > 0) {
+                return;
+            }
+            removePreloadGroup(group);
+        }
+        if (group.isScheduled()) {
+            mPreloadScheduler.cancel(group.getSchedulerTaskId());
+        } else if (group.getSdkTaskId() >= 0) {
+            TXVodPreloadManager.getInstance(mFlutterPluginBinding.getApplicationContext())
+                    .stopPreload(group.getSdkTaskId());
+        }
+    }
+
+    private FTXPreloadGroup findPreloadGroupByRequester(long requesterId) {
+        for (FTXPreloadGroup group : mPreloadGroups.values()) {
+            if (group.hasRequester(requesterId)) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void setPreloadSchedulerConfig(@NonNull PreloadSchedulerConfigMsg msg) {
+        int maxConcurrentCount = null != msg.getMaxConcurrentCount() ? msg.getMaxConcurrentCount().intValue()
+                : FTXPreloadScheduler.DEFAULT_MAX_CONCURRENT_COUNT;
+        double maxInflightMB = null != msg.getMaxInflightMB() ? msg.getMaxInflightMB() : 0;
+        mPreloadScheduler.setConfig(maxConcurrentCount, (long) (maxInflightMB * 1024 * 1024));
+    }
+
+    @NonNull
+    @Override
+    public MapMsg getPreloadMetrics() {
+        MapMsg res = new MapMsg();
+        res.setMap(mPreloadScheduler.getMetrics());
+        return res;
+    }
+
+    @Override
+    public void setFeedPreloadList(@NonNull FeedPreloadListMsg msg) {
+        final int maxPreloadCount = null != msg.getMaxPreloadCount() ? msg.getMaxPreloadCount().intValue()
+                : FTXFeedPreloader.DEFAULT_MAX_PRELOAD_COUNT;
+        final double nextItemMB = null != msg.getNextItemMB() ? msg.getNextItemMB()
+                : FTXFeedPreloader.DEFAULT_NEXT_ITEM_MB;
+        FTXFeedPreloader.getInstance().setItems(msg.getItems(), maxPreloadCount, nextItemMB);
+    }
+
+    @Override
+    public void updateFeedPreloadCursor(@NonNull FeedPreloadCursorMsg msg) {
+        if (null == msg.getIndex()) {
+            return;
+        }
+        final double velocity = null != msg.getVelocity() ? msg.getVelocity() : 0;
+        FTXFeedPreloader.getInstance().updateCursor(msg.getIndex().intValue(), velocity);
+    }
+
+    @Override
+    public void stopFeedPreload() {
+        FTXFeedPreloader.getInstance().stop();
+    }
+
+    @NonNull
+    @Override
+    public MapMsg getFeedPreloadMetrics() {
+        MapMsg res = new MapMsg();
+        res.setMap(FTXFeedPreloader.getInstance().getMetrics());
+        return res;
+    }
+
+    /**
+     * Queued in the scheduler, it starts the download when a slot is free.
+     */
     @Override
     public void startDownload(@NonNull TXVodDownloadMediaMsg msg) {
+        startDownloadInner(msg, 0);
+    }
+
+    @Override
+    public void startDownloadWithPriority(@NonNull DownloadPriorityMsg msg) {
+        if (null != msg.getMediaInfo()) {
+            startDownloadInner(msg.getMediaInfo(), optPriority(msg.getPriority()));
+        }
+    }
+
+    private void startDownloadInner(TXVodDownloadMediaMsg msg, int priority) {
         initDownloadListenerIfNeed();
-        Integer quality = null != msg.getQuality() ? msg.getQuality().intValue() : 0;
-        String videoUrl = msg.getUrl();
-        Integer appId = null != msg.getAppId() ? msg.getAppId().intValue() : null;
-        String fileId = msg.getFileId();
-        String pSign = msg.getPSign();
-        String userName = msg.getUserName();
-        if (!TextUtils.isEmpty(videoUrl)) {
-            TXVodDownloadManager.getInstance().startDownloadUrl(videoUrl, userName);
-        } else if (null != appId && null != fileId) {
-            TXVodDownloadDataSource dataSource =
-                    new TXVodDownloadDataSource(appId, fileId, optQuality(quality), pSign, userName);
-            TXVodDownloadManager.getInstance().startDownload(dataSource);
+        FTXDownloadScheduler.Task task = buildDownloadTask(msg, priority);
+        if (null != task) {
+            mDownloadScheduler.submit(task);
         }
     }
 
     @Override
     public void resumeDownload(@NonNull TXVodDownloadMediaMsg msg) {
+        resumeDownloadInner(msg, 0);
+    }
+
+    @Override
+    public void resumeDownloadWithPriority(@NonNull DownloadPriorityMsg msg) {
+        if (null != msg.getMediaInfo()) {
+            resumeDownloadInner(msg.getMediaInfo(), optPriority(msg.getPriority()));
+        }
+    }
+
+    private void resumeDownloadInner(TXVodDownloadMediaMsg msg, int priority) {
         initDownloadListenerIfNeed();
         TXVodDownloadMediaInfo mediaInfo = getDownloadInfoFromMsg(msg);
         if (null != mediaInfo) {
+            final String key = FTXDownloadCatalog.keyOf(mediaInfo);
             TXVodDownloadDataSource dataSource = mediaInfo.getDataSource();
             if (dataSource != null) {
-                TXVodDownloadManager.getInstance().startDownload(dataSource);
+                mDownloadScheduler.submit(new FTXDownloadScheduler.Task(key, null, dataSource.getAppId(),
+                        dataSource.getFileId(), dataSource.getPSign(), dataSource.getQuality(),
+                        mediaInfo.getUserName(), priority));
             } else {
-                TXVodDownloadManager.getInstance().startDownloadUrl(mediaInfo.getUrl(), mediaInfo.getUserName());
+                mDownloadScheduler.submit(new FTXDownloadScheduler.Task(key, mediaInfo.getUrl(), 0, null, null, 0,
+                        mediaInfo.getUserName(), priority));
             }
         }
     }
@@ -396,9 +876,82 @@ public class FTXDownloadManager implements ITXVodDownloadListener, TXFlutterDown
     public void stopDownload(@NonNull TXVodDownloadMediaMsg msg) {
         initDownloadListenerIfNeed();
         TXVodDownloadMediaInfo mediaInfo = getDownloadInfoFromMsg(msg);
+        cancelScheduledDownload(msg, mediaInfo);
         TXVodDownloadManager.getInstance().stopDownload(mediaInfo);
     }
 
+    private int optPriority(Long priority) {
+        return null != priority ? priority.intValue() : 0;
+    }
+
+    private FTXDownloadScheduler.Task buildDownloadTask(TXVodDownloadMediaMsg msg, int priority) {
+        int quality = optQuality(null != msg.getQuality() ? msg.getQuality().intValue() : 0);
+        String videoUrl = msg.getUrl();
+        Integer appId = null != msg.getAppId() ? msg.getAppId().intValue() : null;
+        String fileId = msg.getFileId();
+        String userName = null != msg.getUserName() ? msg.getUserName() : "default";
+        if (!TextUtils.isEmpty(videoUrl)) {
+            return new FTXDownloadScheduler.Task(FTXDownloadCatalog.urlKeyOf(userName, videoUrl), videoUrl, 0,
+                    null, null, 0, userName, priority);
+        } else if (null != appId && null != fileId) {
+            return new FTXDownloadScheduler.Task(FTXDownloadCatalog.fileIdKeyOf(userName, appId, fileId, quality),
+                    null, appId, fileId, msg.getPSign(), quality, userName, priority);
+        }
+        return null;
+    }
+
+    /**
+     * Remove a download from the scheduler, before it is stopped or deleted in SDK.
+     */
+    private void cancelScheduledDownload(TXVodDownloadMediaMsg msg, TXVodDownloadMediaInfo mediaInfo) {
+        FTXDownloadScheduler.Task task = buildDownloadTask(msg, 0);
+        if (null != task) {
+            mDownloadScheduler.cancel(task.key);
+        }
+        String key = FTXDownloadCatalog.keyOf(mediaInfo);
+        if (null != key && (null == task || !key.equals(task.key))) {
+            mDownloadScheduler.cancel(key);
+        }
+    }
+
+    @Override
+    public void setDownloadSchedulerConfig(@NonNull DownloadSchedulerConfigMsg msg) {
+        initDownloadListenerIfNeed();
+        final int maxConcurrentCount = null != msg.getMaxConcurrentCount() ? msg.getMaxConcurrentCount().intValue()
+                : FTXDownloadScheduler.DEFAULT_MAX_CONCURRENT_COUNT;
+        final int maxRateKBps = null != msg.getMaxRateKBps() ? msg.getMaxRateKBps().intValue() : 0;
+        final boolean isYieldToPlayback = null == msg.getYieldToPlayback() || msg.getYieldToPlayback();
+        mDownloadScheduler.setConfig(maxConcurrentCount, maxRateKBps, isYieldToPlayback);
+    }
+
+    @Override
+    public void setDownloadPriority(@NonNull DownloadPriorityMsg msg) {
+        if (null == msg.getMediaInfo()) {
+            return;
+        }
+        FTXDownloadScheduler.Task task = buildDownloadTask(msg.getMediaInfo(), 0);
+        if (null != task) {
+            mDownloadScheduler.setPriority(task.key, optPriority(msg.getPriority()));
+        }
+    }
+
+    @NonNull
+    @Override
+    public MapMsg getDownloadSchedulerMetrics() {
+        MapMsg res = new MapMsg();
+        res.setMap(mDownloadScheduler.getMetrics());
+        return res;
+    }
+
+    @Override
+    public void setDownloadEventConfig(@NonNull DownloadEventConfigMsg msg) {
+        final long minIntervalMs = null != msg.getMinIntervalMs() ? msg.getMinIntervalMs()
+                : FTXDownloadEventThrottle.DEFAULT_MIN_INTERVAL_MS;
+        final double minProgressDelta = null != msg.getMinProgressDelta() ? msg.getMinProgressDelta()
+                : FTXDownloadEventThrottle.DEFAULT_MIN_PROGRESS_DELTA;
+        mDownloadEventThrottle.setConfig(minIntervalMs, (float) minProgressDelta);
+    }
+
     @Override
     public void setDownloadHeaders(@NonNull MapMsg headers) {
         TXVodDownloadManager.getInstance().setHeaders(headers.getMap());
@@ -409,18 +962,128 @@ public class FTXDownloadManager implements ITXVodDownloadListener, TXFlutterDown
     public TXDownloadListMsg getDownloadList() {
         List<TXVodDownloadMediaInfo> medias = TXVodDownloadManager.getInstance().getDownloadMediaInfoList();
         List<TXVodDownloadMediaMsg> mediaResults = new ArrayList<>();
+        Map<String, TXVodDownloadMediaMsg> snapshot = new LinkedHashMap<>();
         if (null != medias) {
             for (TXVodDownloadMediaInfo mediaInfo : medias) {
                 if (null != mediaInfo) {
-                    mediaResults.add(buildMsgFromDownloadInfo(mediaInfo));
+                    TXVodDownloadMediaMsg mediaMsg = buildMsgFromDownloadInfo(mediaInfo);
+                    mediaResults.add(mediaMsg);
+                    String key = FTXDownloadCatalog.keyOf(mediaInfo);
+                    if (null != key) {
+                        snapshot.put(key, mediaMsg);
+                    }
                 }
             }
+            mDownloadSnapshot.replaceAll(snapshot);
         }
         TXDownloadListMsg res = new TXDownloadListMsg();
         res.setInfoList(mediaResults);
         return res;
     }
 
+    /**
+     * Read on the catalog thread, only the page is converted to messages.
+     */
+    @Override
+    public void getDownloadListPage(@NonNull final DownloadListQueryMsg msg,
+                                    @NonNull final Result<DownloadListPageMsg> result) {
+        initDownloadListenerIfNeed();
+        mDownloadCatalog.runWhenReady(new Runnable() {
+            @Override
+            public void run() {
+                final int offset = null != msg.getOffset() ? msg.getOffset().intValue() : 0;
+                final int limit = null != msg.getLimit() ? msg.getLimit().intValue() : 0;
+                replyDownloadListPage(mDownloadCatalog.queryPage(buildDownloadFilter(msg), offset, limit), result);
+            }
+        });
+    }
+
+    @Override
+    public void getDownloadListDelta(@NonNull final DownloadListQueryMsg msg,
+                                     @NonNull final Result<DownloadListPageMsg> result) {
+        initDownloadListenerIfNeed();
+        mDownloadCatalog.runWhenReady(new Runnable() {
+            @Override
+            public void run() {
+                final long sinceVersion = null != msg.getSinceVersion() ? msg.getSinceVersion() : 0;
+                replyDownloadListPage(mDownloadCatalog.queryDelta(buildDownloadFilter(msg), sinceVersion), result);
+            }
+        });
+    }
+
+    /**
+     * Replies from the snapshot at once, then reconciles the snapshot with the catalog once it is built.
+     */
+    @Override
+    public void getDownloadListSnapshot(@NonNull final Result<TXDownloadListMsg> result) {
+        initDownloadListenerIfNeed();
+        mDownloadSnapshot.read(new FTXDownloadSnapshot.Callback() {
+            @Override
+            public void onSnapshot(List<TXVodDownloadMediaMsg> infoList) {
+                final TXDownloadListMsg res = new TXDownloadListMsg();
+                res.setInfoList(infoList);
+                mMainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        result.success(res);
+                    }
+                });
+            }
+        });
+        mDownloadCatalog.runWhenReady(new Runnable() {
+            @Override
+            public void run() {
+                Map<String, TXVodDownloadMediaMsg> snapshot = new LinkedHashMap<>();
+                for (TXVodDownloadMediaInfo mediaInfo : mDownloadCatalog.queryPage(null, 0, 0).items) {
+                    String key = FTXDownloadCatalog.keyOf(mediaInfo);
+                    if (null != key) {
+                        snapshot.put(key, buildMsgFromDownloadInfo(mediaInfo));
+                    }
+                }
+                mDownloadSnapshot.replaceAll(snapshot);
+            }
+        });
+    }
+
+    private FTXDownloadCatalog.Filter buildDownloadFilter(DownloadListQueryMsg msg) {
+        final String userName = msg.getUserName();
+        final Long downloadState = msg.getDownloadState();
+        if (null == userName && null == downloadState) {
+            return null;
+        }
+        return new FTXDownloadCatalog.Filter() {
+            @Override
+            public boolean accept(TXVodDownloadMediaInfo mediaInfo) {
+                return (null == userName || TextUtils.equals(userName, mediaInfo.getUserName()))
+                        && (null == downloadState || downloadState.intValue()
+                        == TXCommonUtil.getDownloadEventByState(mediaInfo.getDownloadState()));
+            }
+        };
+    }
+
+    private void replyDownloadListPage(FTXDownloadCatalog.Page page, final Result<DownloadListPageMsg> result) {
+        final List<TXVodDownloadMediaMsg> infoList = new ArrayList<>();
+        for (TXVodDownloadMediaInfo mediaInfo : page.items) {
+            infoList.add(buildMsgFromDownloadInfo(mediaInfo));
+        }
+        final List<TXVodDownloadMediaMsg> removedList = new ArrayList<>();
+        for (TXVodDownloadMediaInfo mediaInfo : page.removedItems) {
+            removedList.add(buildMsgFromDownloadInfo(mediaInfo));
+        }
+        final DownloadListPageMsg res = new DownloadListPageMsg();
+        res.setInfoList(infoList);
+        res.setRemovedList(removedList);
+        res.setTotalCount((long) page.totalCount);
+        res.setVersion(page.version);
+        res.setIsFullSyncRequired(page.isFullSyncRequired);
+        mMainHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                result.success(res);
+            }
+        });
+    }
+
     @NonNull
     @Override
     public TXVodDownloadMediaMsg getDownloadInfo(@NonNull TXVodDownloadMediaMsg msg) {
@@ -433,15 +1096,175 @@ public class FTXDownloadManager implements ITXVodDownloadListener, TXFlutterDown
     public BoolMsg deleteDownloadMediaInfo(@NonNull TXVodDownloadMediaMsg msg) {
         TXVodDownloadMediaInfo mediaInfo = getDownloadInfoFromMsg(msg);
         boolean deleteResult = false;
+        cancelScheduledDownload(msg, mediaInfo);
         if (mediaInfo != null) {
-            TXVodDownloadManager.getInstance().stopDownload(mediaInfo);
-            deleteResult = TXVodDownloadManager.getInstance().deleteDownloadMediaInfo(mediaInfo);
+            deleteResult = deleteDownload(mediaInfo);
         }
         BoolMsg res = new BoolMsg();
         res.setValue(deleteResult);
         return res;
     }
 
+    private boolean deleteDownload(TXVodDownloadMediaInfo mediaInfo) {
+        TXVodDownloadManager.getInstance().stopDownload(mediaInfo);
+        boolean deleteResult = TXVodDownloadManager.getInstance().deleteDownloadMediaInfo(mediaInfo);
+        if (deleteResult) {
+            final String key = FTXDownloadCatalog.keyOf(mediaInfo);
+            mDownloadCatalog.remove(mediaInfo);
+            mDownloadSnapshot.remove(key);
+            FTXDownloadQuota.getInstance().remove(key);
+        }
+        return deleteResult;
+    }
+
+    @Override
+    public void startDownloadBatch(@NonNull DownloadBatchMsg msg, @NonNull Result<DownloadBatchResultMsg> result) {
+        initDownloadListenerIfNeed();
+        final int priority = optPriority(msg.getPriority());
+        runDownloadBatch(msg, new BatchOperation() {
+            @Override
+            public boolean run(TXVodDownloadMediaMsg itemMsg) {
+                FTXDownloadScheduler.Task task = buildDownloadTask(itemMsg, priority);
+                if (null == task) {
+                    return false;
+                }
+                mDownloadScheduler.submit(task);
+                return true;
+            }
+        }, result);
+    }
+
+    @Override
+    public void deleteDownloadBatch(@NonNull DownloadBatchMsg msg, @NonNull Result<DownloadBatchResultMsg> result) {
+        initDownloadListenerIfNeed();
+        runDownloadBatch(msg, new BatchOperation() {
+            @Override
+            public boolean run(TXVodDownloadMediaMsg itemMsg) {
+                TXVodDownloadMediaInfo mediaInfo = getDownloadInfoFromMsg(itemMsg);
+                cancelScheduledDownload(itemMsg, mediaInfo);
+                return null != mediaInfo && deleteDownload(mediaInfo);
+            }
+        }, result);
+    }
+
+    /**
+     * Run a batch on the batch thread, progress is sent at most every {@link #BATCH_PROGRESS_INTERVAL_MS} and
+     * after the last item. A failed item does not stop the batch.
+     */
+    private void runDownloadBatch(final DownloadBatchMsg msg, final BatchOperation operation,
+                                  final Result<DownloadBatchResultMsg> result) {
+        mBatchExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                final long batchId = null != msg.getBatchId() ? msg.getBatchId() : -1;
+                final List<TXVodDownloadMediaMsg> infoList = null != msg.getInfoList() ? msg.getInfoList()
+                        : Collections.<TXVodDownloadMediaMsg>emptyList();
+                final long startMs = System.currentTimeMillis();
+                final List<Object> results = new ArrayList<>();
+                int successCount = 0;
+                long lastProgressMs = 0;
+                for (TXVodDownloadMediaMsg itemMsg : infoList) {
+                    boolean isSuccess = false;
+                    if (null != itemMsg) {
+                        try {
+                            isSuccess = operation.run(itemMsg);
+                        } catch (Exception e) {
+                            LiteavLog.e(TAG, "batch " + batchId + " item error:" + e);
+                        }
+                    }
+                    results.add(isSuccess);
+                    if (isSuccess) {
+                        successCount++;
+                    }
+                    final long nowMs = System.currentTimeMillis();
+                    if (results.size() == infoList.size() || nowMs - lastProgressMs >= BATCH_PROGRESS_INTERVAL_MS) {
+                        lastProgressMs = nowMs;
+                        onDownloadBatchProgress(batchId, results.size(), infoList.size(), successCount);
+                    }
+                }
+                LiteavLog.i(TAG, "batch " + batchId + " done, count:" + infoList.size() + ", success:"
+                        + successCount + ", cost:" + (System.currentTimeMillis() - startMs) + "ms");
+                final DownloadBatchResultMsg res = new DownloadBatchResultMsg();
+                res.setBatchId(batchId);
+                res.setResults(results);
+                res.setSuccessCount((long) successCount);
+                mMainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        result.success(res);
+                    }
+                });
+            }
+        });
+    }
+
+    private void onDownloadBatchProgress(long batchId, int completedCount, int totalCount, int successCount) {
+        Bundle bundle = new Bundle();
+        bundle.putLong("batchId", batchId);
+        bundle.putInt("completedCount", completedCount);
+        bundle.putInt("totalCount", totalCount);
+        bundle.putInt("successCount", successCount);
+        onDownloadCallback(TXCommonUtil.getParams(FTXEvent.EVENT_DOWNLOAD_BATCH_PROGRESS, bundle));
+    }
+
+    @Override
+    public void setDownloadQuota(@NonNull DownloadQuotaMsg msg) {
+        initDownloadListenerIfNeed();
+        final long globalLimitBytes = null != msg.getGlobalLimitBytes() ? msg.getGlobalLimitBytes() : 0;
+        final long userLimitBytes = null != msg.getUserLimitBytes() ? msg.getUserLimitBytes() : 0;
+        final Map<String, Long> userLimits = new HashMap<>();
+        if (null != msg.getUserLimits()) {
+            for (Map.Entry<String, String> entry : msg.getUserLimits().entrySet()) {
+                try {
+                    userLimits.put(entry.getKey(), Long.parseLong(entry.getValue()));
+                } catch (NumberFormatException e) {
+                    LiteavLog.e(TAG, "invalid quota of user " + entry.getKey() + ":" + entry.getValue());
+                }
+            }
+        }
+        // count existing downloads first, limits apply to them as well
+        mDownloadCatalog.runWhenReady(new Runnable() {
+            @Override
+            public void run() {
+                countDownloadQuota();
+                FTXDownloadQuota.getInstance().setLimits(globalLimitBytes, userLimitBytes, userLimits);
+            }
+        });
+    }
+
+    @Override
+    public void getDownloadUsage(@NonNull final Result<MapMsg> result) {
+        initDownloadListenerIfNeed();
+        mDownloadCatalog.runWhenReady(new Runnable() {
+            @Override
+            public void run() {
+                countDownloadQuota();
+                FTXDownloadQuota.getInstance().getUsage(new FTXDownloadQuota.UsageCallback() {
+                    @Override
+                    public void onUsage(Map<String, String> usage) {
+                        final MapMsg res = new MapMsg();
+                        res.setMap(usage);
+                        mMainHandler.post(new Runnable() {
+                            @Override
+                            public void run() {
+                                result.success(res);
+                            }
+                        });
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Count all downloads of the catalog, called on the catalog thread.
+     */
+    private void countDownloadQuota() {
+        for (TXVodDownloadMediaInfo mediaInfo : mDownloadCatalog.queryPage(null, 0, 0).items) {
+            updateDownloadQuota(mediaInfo);
+        }
+    }
+
     @Override
     public void success() {
     }
@@ -65,6 +65,9 @@ public class FTXEvent {
     // Video download error.
     // 视频下载错误
     public static final int EVENT_DOWNLOAD_ERROR = 305;
+    // Progress of a batch of downloads or deletes.
+    // 批量下载或删除进度
+    public static final int EVENT_DOWNLOAD_BATCH_PROGRESS = 306;
 
     public static final int NO_ERROR = 0;
     /**
@@ -250,5 +253,10 @@ public class FTXEvent {
         String NET_STATUS_VIDEO_BLOCK_RATE = "VIDEO_BLOCK_RATE";
         String NET_STATUS_AUDIO_BLOCK_RATE = "AUDIO_BLOCK_RATE";
         String NET_STATUS_RTT = "RTT";
+        // frames presented / dropped by plugin GL render, android only
+        String NET_STATUS_RENDER_PRESENTED_FRAMES = "RENDER_PRESENTED_FRAMES";
+        String NET_STATUS_RENDER_DROPPED_FRAMES = "RENDER_DROPPED_FRAMES";
+        // average cost of render filters per frame in microseconds, android only
+        String NET_STATUS_RENDER_FILTER_COST_US = "RENDER_FILTER_COST_US";
     }
 }
@@ -267,7 +267,9 @@ public class SuperPlayerPlugin implements FlutterPlugin, ActivityAware,
             File sdcardDir = mFlutterPluginBinding.getApplicationContext().getExternalFilesDir(null);
             if (null != sdcardDir) {
                 LiteavLog.v(TAG, "setGlobalCacheFolderPath:" + postfixPath.getValue());
-                TXPlayerGlobalSetting.setCacheFolderPath(sdcardDir.getPath() + File.separator + postfixPath.getValue());
+                final String cachePath = sdcardDir.getPath() + File.separator + postfixPath.getValue();
+                TXPlayerGlobalSetting.setCacheFolderPath(cachePath);
+                mFTXDownloadManager.onCacheFolderChanged(cachePath);
                 configResult = true;
             }
         }
@@ -284,6 +286,7 @@ public class SuperPlayerPlugin implements FlutterPlugin, ActivityAware,
         if (!TextUtils.isEmpty(cachePath)) {
             LiteavLog.v(TAG, "setGlobalCacheFolderCustomPath:" + cachePath);
             TXPlayerGlobalSetting.setCacheFolderPath(cachePath);
+            mFTXDownloadManager.onCacheFolderChanged(cachePath);
             configResult = true;
         }
         BoolMsg boolMsg = new BoolMsg();
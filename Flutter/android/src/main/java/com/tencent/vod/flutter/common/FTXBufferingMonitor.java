@@ -0,0 +1,70 @@
+// Copyright (c) 2022 Tencent. All rights reserved.
+
+package com.tencent.vod.flutter.common;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tracks whether any player is buffering, so that background work such as downloads can give way to playback.
+ * <p>
+ * 监听是否有播放器正在缓冲
+ */
+public class FTXBufferingMonitor {
+
+    public interface Listener {
+        /**
+         * Called on the thread that reported the change.
+         */
+        void onBufferingChanged(boolean isAnyBuffering);
+    }
+
+    private final Set<Integer> mBufferingPlayers = new HashSet<>();
+    private final List<Listener> mListeners = new CopyOnWriteArrayList<>();
+
+    private static final class SingletonInstance {
+        private static final FTXBufferingMonitor instance = new FTXBufferingMonitor();
+    }
+
+    public static FTXBufferingMonitor getInstance() {
+        return SingletonInstance.instance;
+    }
+
+    private FTXBufferingMonitor() {
+    }
+
+    public void addListener(Listener listener) {
+        mListeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        mListeners.remove(listener);
+    }
+
+    public void setBuffering(int playerId, boolean isBuffering) {
+        final boolean wasAnyBuffering;
+        final boolean isAnyBuffering;
+        synchronized (mBufferingPlayers) {
+            wasAnyBuffering = !mBufferingPlayers.isEmpty();
+            if (isBuffering) {
+                mBufferingPlayers.add(playerId);
+            } else {
+                mBufferingPlayers.remove(playerId);
+            }
+            isAnyBuffering = !mBufferingPlayers.isEmpty();
+        }
+        if (wasAnyBuffering != isAnyBuffering) {
+            for (Listener listener : mListeners) {
+                listener.onBufferingChanged(isAnyBuffering);
+            }
+        }
+    }
+
+    public boolean isAnyBuffering() {
+        synchronized (mBufferingPlayers) {
+            return !mBufferingPlayers.isEmpty();
+        }
+    }
+}
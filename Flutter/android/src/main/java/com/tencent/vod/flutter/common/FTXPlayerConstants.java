@@ -23,6 +23,25 @@ public class FTXPlayerConstants {
         long SCALE_FULL_FILL_CONTAINER = 2;
     }
 
+    /**
+     * 插件自身处理的播放器参数，通过 setStringOption 设置，不会透传给播放器 SDK
+     * Options handled by the plugin itself via setStringOption, they are not passed to player SDK.
+     */
+    public interface FTXPlayerOptionKey {
+
+        /**
+         * 画面最大上屏帧率，0 表示跟随屏幕刷新率
+         * Max presented fps of render view, 0 means following display refresh rate.
+         */
+        String RENDER_MAX_FPS = "FTX_KEY_RENDER_MAX_FPS";
+
+        /**
+         * 画面锐化强度，0 ~ 1，0 表示关闭
+         * Sharpness of render view, 0 ~ 1, 0 means disabled.
+         */
+        String RENDER_SHARPNESS = "FTX_KEY_RENDER_SHARPNESS";
+    }
+
     public interface FTXDrmProvisionEnvInt {
 
         long DRM_PROVISION_ENV_COM = 0;
@@ -0,0 +1,175 @@
+package com.tencent.vod.flutter.common;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Render statistics of one render target. Written by render thread, read by any thread without locks.
+ * <p>
+ * Recording a sample is a few atomic adds, so it is always on.
+ */
+public class FTXRenderStats {
+
+    public static final String KEY_PRESENTED_FRAMES = "presentedFrames";
+    public static final String KEY_DROPPED_FRAMES = "droppedFrames";
+    public static final String KEY_EGL_ERRORS = "eglErrors";
+    public static final String KEY_LAST_EGL_ERROR = "lastEglError";
+    public static final String KEY_LATCH = "latch";
+    public static final String KEY_DRAW = "draw";
+    public static final String KEY_SWAP = "swap";
+
+    /**
+     * time of updateTexImage or texture upload
+     */
+    public final Histogram latchTime = new Histogram();
+    /**
+     * time of GL draw calls, including filters
+     */
+    public final Histogram drawTime = new Histogram();
+    /**
+     * time of eglSwapBuffers
+     */
+    public final Histogram swapTime = new Histogram();
+
+    private final AtomicLong mPresentedFrames = new AtomicLong(0);
+    private final AtomicLong mDroppedFrames = new AtomicLong(0);
+    private final AtomicLong mEglErrors = new AtomicLong(0);
+    private final AtomicInteger mLastEglError = new AtomicInteger(0);
+
+    public void addPresentedFrame() {
+        mPresentedFrames.incrementAndGet();
+    }
+
+    public void addDroppedFrames(long count) {
+        if (count > 0) {
+            mDroppedFrames.addAndGet(count);
+        }
+    }
+
+    public void addEglError(int error) {
+        mEglErrors.incrementAndGet();
+        mLastEglError.set(error);
+    }
+
+    public long getPresentedFrameCount() {
+        return mPresentedFrames.get();
+    }
+
+    public long getDroppedFrameCount() {
+        return mDroppedFrames.get();
+    }
+
+    public long getEglErrorCount() {
+        return mEglErrors.get();
+    }
+
+    public void reset() {
+        latchTime.reset();
+        drawTime.reset();
+        swapTime.reset();
+        mPresentedFrames.set(0);
+        mDroppedFrames.set(0);
+        mEglErrors.set(0);
+        mLastEglError.set(0);
+    }
+
+    /**
+     * Flat snapshot for flutter side, times are in microseconds, e.g. drawP99Us.
+     */
+    public Map<String, String> toMap() {
+        Map<String, String> map = new HashMap<>();
+        map.put(KEY_PRESENTED_FRAMES, String.valueOf(mPresentedFrames.get()));
+        map.put(KEY_DROPPED_FRAMES, String.valueOf(mDroppedFrames.get()));
+        map.put(KEY_EGL_ERRORS, String.valueOf(mEglErrors.get()));
+        map.put(KEY_LAST_EGL_ERROR, String.valueOf(mLastEglError.get()));
+        latchTime.putTo(map, KEY_LATCH);
+        drawTime.putTo(map, KEY_DRAW);
+        swapTime.putTo(map, KEY_SWAP);
+        return map;
+    }
+
+    /**
+     * Log2 buckets of microseconds, bucket i holds [2^(i-1), 2^i) us, the last one holds everything above.
+     * Percentiles are the upper bound of the bucket, so they are accurate to 2x.
+     */
+    public static class Histogram {
+
+        private static final int BUCKET_COUNT = 24;
+
+        private final AtomicLongArray mBuckets = new AtomicLongArray(BUCKET_COUNT);
+        private final AtomicLong mCount = new AtomicLong(0);
+        private final AtomicLong mSumUs = new AtomicLong(0);
+        private final AtomicLong mMaxUs = new AtomicLong(0);
+
+        public void record(long durationNs) {
+            final long us = Math.max(durationNs / 1000, 0);
+            final int bucket = Math.min(64 - Long.numberOfLeadingZeros(us), BUCKET_COUNT - 1);
+            mBuckets.incrementAndGet(bucket);
+            mCount.incrementAndGet();
+            mSumUs.addAndGet(us);
+            long max = mMaxUs.get();
+            while (us > max && !mMaxUs.compareAndSet(max, us)) {
+                max = mMaxUs.get();
+            }
+        }
+
+        public long getCount() {
+            return mCount.get();
+        }
+
+        public long getAvgUs() {
+            final long count = mCount.get();
+            return count > 0 ? mSumUs.get() / count : 0;
+        }
+
+        public long getMaxUs() {
+            return mMaxUs.get();
+        }
+
+        /**
+         * @param percentile 0 ~ 100
+         */
+        public long getPercentileUs(int percentile) {
+            long total = 0;
+            final long[] buckets = new long[BUCKET_COUNT];
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                buckets[i] = mBuckets.get(i);
+                total += buckets[i];
+            }
+            if (total <= 0) {
+                return 0;
+            }
+            final long target = (long) Math.ceil(total * Math.max(0, Math.min(percentile, 100)) / 100d);
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += buckets[i];
+                if (seen >= target && buckets[i] > 0) {
+                    // upper bound of bucket, but never above the real max
+                    return Math.min(1L << i, mMaxUs.get());
+                }
+            }
+            return mMaxUs.get();
+        }
+
+        public void reset() {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                mBuckets.set(i, 0);
+            }
+            mCount.set(0);
+            mSumUs.set(0);
+            mMaxUs.set(0);
+        }
+
+        void putTo(Map<String, String> map, String name) {
+            map.put(name + "Count", String.valueOf(getCount()));
+            map.put(name + "AvgUs", String.valueOf(getAvgUs()));
+            map.put(name + "P50Us", String.valueOf(getPercentileUs(50)));
+            map.put(name + "P90Us", String.valueOf(getPercentileUs(90)));
+            map.put(name + "P99Us", String.valueOf(getPercentileUs(99)));
+            map.put(name + "MaxUs", String.valueOf(getMaxUs()));
+        }
+    }
+}
@@ -0,0 +1,344 @@
+// Copyright (c) 2022 Tencent. All rights reserved.
+
+package com.tencent.vod.flutter.download;
+
+import android.text.TextUtils;
+
+import com.tencent.liteav.base.util.LiteavLog;
+import com.tencent.rtmp.downloader.TXVodDownloadDataSource;
+import com.tencent.rtmp.downloader.TXVodDownloadManager;
+import com.tencent.rtmp.downloader.TXVodDownloadMediaInfo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-memory index of offline downloads by (userName, appId, fileId, quality) and by (userName, url).
+ * <p>
+ * The index is built once from the SDK download list on a worker thread, then kept up to date by download
+ * callbacks, so lookups never scan the list. Until it is ready callers fall back to their own lookup.
+ * <p>
+ * Every change gets a new version, so the list can be read in pages and clients holding a version can fetch only
+ * the entries changed or removed after it.
+ * <p>
+ * 离线下载目录索引
+ */
+public class FTXDownloadCatalog {
+
+    private static final String TAG = "FTXDownloadCatalog";
+
+    private static final int STATE_EMPTY = 0;
+    private static final int STATE_BUILDING = 1;
+    private static final int STATE_READY = 2;
+    // removed entries kept for delta queries, older clients do a full sync
+    private static final int MAX_REMOVED_ENTRIES = 1024;
+
+    /**
+     * Selects entries of a query.
+     */
+    public interface Filter {
+        boolean accept(TXVodDownloadMediaInfo mediaInfo);
+    }
+
+    /**
+     * Result of {@link #queryPage} and {@link #queryDelta}.
+     */
+    public static final class Page {
+        public final List<TXVodDownloadMediaInfo> items = new ArrayList<>();
+        public final List<TXVodDownloadMediaInfo> removedItems = new ArrayList<>();
+        public int totalCount = 0;
+        public long version = 0;
+        // the version of the client is too old, items is empty and a full list must be read by pages
+        public boolean isFullSyncRequired = false;
+    }
+
+    private static final class Entry {
+        private final TXVodDownloadMediaInfo mediaInfo;
+        private final long version;
+
+        private Entry(TXVodDownloadMediaInfo mediaInfo, long version) {
+            this.mediaInfo = mediaInfo;
+            this.version = version;
+        }
+    }
+
+    private final Object mLock = new Object();
+    private final ExecutorService mBuildExecutor = Executors.newSingleThreadExecutor();
+    private final Map<String, TXVodDownloadMediaInfo> mByFileId = new HashMap<>();
+    private final Map<String, TXVodDownloadMediaInfo> mByUrl = new HashMap<>();
+    // all downloads by keyOf, in order of the SDK list, new downloads at the end
+    private final LinkedHashMap<String, Entry> mEntries = new LinkedHashMap<>();
+    // removed downloads by keyOf, oldest first
+    private final LinkedHashMap<String, Entry> mRemovedEntries = new LinkedHashMap<>();
+    // keys deleted while building, the list snapshot may still contain them
+    private final Set<String> mRemovedWhileBuilding = new HashSet<>();
+    private int mState = STATE_EMPTY;
+    // increased by invalidate, a build of an older generation is dropped
+    private int mGeneration = 0;
+    private long mVersion = 0;
+    // deltas since versions below this are not known
+    private long mMinDeltaVersion = 0;
+
+    public static String fileIdKeyOf(String userName, int appId, String fileId, int quality) {
+        return userName + "/" + appId + "/" + fileId + "/" + quality;
+    }
+
+    public static String urlKeyOf(String userName, String url) {
+        return userName + "/" + url;
+    }
+
+    public boolean isReady() {
+        synchronized (mLock) {
+            return mState == STATE_READY;
+        }
+    }
+
+    /**
+     * Build the index on a worker thread if it is not built or building.
+     */
+    public void buildAsync() {
+        final int generation;
+        synchronized (mLock) {
+            if (mState != STATE_EMPTY) {
+                return;
+            }
+            mState = STATE_BUILDING;
+            generation = mGeneration;
+        }
+        mBuildExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                build(generation);
+            }
+        });
+    }
+
+    /**
+     * Run a task on the worker thread once the index is built, e.g. queries that would block the caller.
+     */
+    public void runWhenReady(Runnable task) {
+        buildAsync();
+        mBuildExecutor.execute(task);
+    }
+
+    private void build(int generation) {
+        final long startMs = System.currentTimeMillis();
+        final List<TXVodDownloadMediaInfo> mediaInfoList =
+                TXVodDownloadManager.getInstance().getDownloadMediaInfoList();
+        synchronized (mLock) {
+            if (generation != mGeneration) {
+                return;
+            }
+            final long version = ++mVersion;
+            if (null != mediaInfoList) {
+                for (TXVodDownloadMediaInfo mediaInfo : mediaInfoList) {
+                    // entries put by callbacks while building are newer than the snapshot
+                    addLocked(mediaInfo, version, false);
+                }
+            }
+            mRemovedWhileBuilding.clear();
+            mState = STATE_READY;
+            LiteavLog.i(TAG, "catalog built, count:" + (null != mediaInfoList ? mediaInfoList.size() : 0)
+                    + ", cost:" + (System.currentTimeMillis() - startMs) + "ms");
+        }
+    }
+
+    /**
+     * Drop the index, e.g. the download folder is changed. It is built again by the next {@link #buildAsync}.
+     */
+    public void invalidate() {
+        synchronized (mLock) {
+            mGeneration++;
+            mByFileId.clear();
+            mByUrl.clear();
+            mEntries.clear();
+            mRemovedEntries.clear();
+            mRemovedWhileBuilding.clear();
+            mMinDeltaVersion = ++mVersion;
+            mState = STATE_EMPTY;
+        }
+    }
+
+    /**
+     * Add or update a download, called from download callbacks.
+     */
+    public void put(TXVodDownloadMediaInfo mediaInfo) {
+        synchronized (mLock) {
+            if (mState != STATE_EMPTY) {
+                addLocked(mediaInfo, ++mVersion, true);
+            }
+        }
+    }
+
+    public void remove(TXVodDownloadMediaInfo mediaInfo) {
+        if (null == mediaInfo) {
+            return;
+        }
+        synchronized (mLock) {
+            if (mState == STATE_EMPTY) {
+                return;
+            }
+            removeLocked(mByFileId, fileIdKeyOf(mediaInfo));
+            removeLocked(mByUrl, urlKeyOf(mediaInfo));
+            final String key = keyOf(mediaInfo);
+            if (null != key && null != mEntries.remove(key)) {
+                mRemovedEntries.remove(key);
+                mRemovedEntries.put(key, new Entry(mediaInfo, ++mVersion));
+                trimRemovedEntriesLocked();
+            }
+        }
+    }
+
+    private void removeLocked(Map<String, TXVodDownloadMediaInfo> index, String key) {
+        if (null == key) {
+            return;
+        }
+        index.remove(key);
+        if (mState == STATE_BUILDING) {
+            mRemovedWhileBuilding.add(key);
+        }
+    }
+
+    private void trimRemovedEntriesLocked() {
+        final Iterator<Entry> iterator = mRemovedEntries.values().iterator();
+        while (mRemovedEntries.size() > MAX_REMOVED_ENTRIES && iterator.hasNext()) {
+            mMinDeltaVersion = Math.max(mMinDeltaVersion, iterator.next().version);
+            iterator.remove();
+        }
+    }
+
+    public TXVodDownloadMediaInfo findByFileId(String userName, int appId, String fileId, int quality) {
+        synchronized (mLock) {
+            return mByFileId.get(fileIdKeyOf(userName, appId, fileId, quality));
+        }
+    }
+
+    public TXVodDownloadMediaInfo findByUrl(String userName, String url) {
+        synchronized (mLock) {
+            return mByUrl.get(urlKeyOf(userName, url));
+        }
+    }
+
+    /**
+     * @param key {@link #keyOf}
+     */
+    public TXVodDownloadMediaInfo findByKey(String key) {
+        synchronized (mLock) {
+            final Entry entry = mEntries.get(key);
+            return null != entry ? entry.mediaInfo : null;
+        }
+    }
+
+    /**
+     * Read a page of downloads accepted by filter. Call when ready, e.g. from {@link #runWhenReady}.
+     *
+     * @param filter null for all
+     * @param limit  0 or less for all after offset
+     */
+    public Page queryPage(Filter filter, int offset, int limit) {
+        final Page page = new Page();
+        synchronized (mLock) {
+            int index = 0;
+            for (Entry entry : mEntries.values()) {
+                if (null != filter && !filter.accept(entry.mediaInfo)) {
+                    continue;
+                }
+                if (index >= offset && (limit <= 0 || page.items.size() < limit)) {
+                    page.items.add(entry.mediaInfo);
+                }
+                index++;
+            }
+            page.totalCount = index;
+            page.version = mVersion;
+        }
+        return page;
+    }
+
+    /**
+     * Read downloads changed or removed after a version. Call when ready, e.g. from {@link #runWhenReady}.
+     *
+     * @param filter null for all, removed items are not filtered
+     */
+    public Page queryDelta(Filter filter, long sinceVersion) {
+        final Page page = new Page();
+        synchronized (mLock) {
+            page.version = mVersion;
+            page.totalCount = mEntries.size();
+            if (sinceVersion < mMinDeltaVersion || sinceVersion > mVersion) {
+                page.isFullSyncRequired = true;
+                return page;
+            }
+            for (Entry entry : mEntries.values()) {
+                if (entry.version > sinceVersion && (null == filter || filter.accept(entry.mediaInfo))) {
+                    page.items.add(entry.mediaInfo);
+                }
+            }
+            for (Entry entry : mRemovedEntries.values()) {
+                if (entry.version > sinceVersion) {
+                    page.removedItems.add(entry.mediaInfo);
+                }
+            }
+        }
+        return page;
+    }
+
+    private void addLocked(TXVodDownloadMediaInfo mediaInfo, long version, boolean isNewer) {
+        if (null == mediaInfo) {
+            return;
+        }
+        final boolean isFileIdAdded = putLocked(mByFileId, fileIdKeyOf(mediaInfo), mediaInfo, isNewer);
+        final boolean isUrlAdded = putLocked(mByUrl, urlKeyOf(mediaInfo), mediaInfo, isNewer);
+        final String key = keyOf(mediaInfo);
+        if (null != key && (isFileIdAdded || isUrlAdded)) {
+            mEntries.put(key, new Entry(mediaInfo, version));
+            mRemovedEntries.remove(key);
+        }
+    }
+
+    private boolean putLocked(Map<String, TXVodDownloadMediaInfo> index, String key,
+                              TXVodDownloadMediaInfo mediaInfo, boolean isNewer) {
+        if (null == key) {
+            return false;
+        }
+        if (isNewer || (!index.containsKey(key) && !mRemovedWhileBuilding.contains(key))) {
+            index.put(key, mediaInfo);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return file id key of a download, or url key if it has no file id, null if it has neither
+     */
+    public static String keyOf(TXVodDownloadMediaInfo mediaInfo) {
+        if (null == mediaInfo) {
+            return null;
+        }
+        final String fileIdKey = fileIdKeyOf(mediaInfo);
+        return null != fileIdKey ? fileIdKey : urlKeyOf(mediaInfo);
+    }
+
+    private static String fileIdKeyOf(TXVodDownloadMediaInfo mediaInfo) {
+        final TXVodDownloadDataSource dataSource = mediaInfo.getDataSource();
+        if (null == dataSource) {
+            return null;
+        }
+        return fileIdKeyOf(mediaInfo.getUserName(), dataSource.getAppId(), dataSource.getFileId(),
+                dataSource.getQuality());
+    }
+
+    private static String urlKeyOf(TXVodDownloadMediaInfo mediaInfo) {
+        if (TextUtils.isEmpty(mediaInfo.getUrl())) {
+            return null;
+        }
+        return urlKeyOf(mediaInfo.getUserName(), mediaInfo.getUrl());
+    }
+}
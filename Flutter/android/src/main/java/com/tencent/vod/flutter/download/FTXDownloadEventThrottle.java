@@ -0,0 +1,111 @@
+// Copyright (c) 2022 Tencent. All rights reserved.
+
+package com.tencent.vod.flutter.download;
+
+import com.tencent.vod.flutter.FTXEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Throttles download progress events per task and sends only the fields changed since the last event of the task.
+ * <p>
+ * A progress event is sent when both the min interval has passed and progress moved by the min delta, or when the
+ * download state changes. Start and terminal events are always sent in full and reset the task, flutter merges
+ * delta events of a task, marked by {@link #KEY_TASK_KEY} and {@link #KEY_IS_DELTA}, into the last full one.
+ * <p>
+ * 下载进度事件节流，仅发送变化的字段
+ */
+public class FTXDownloadEventThrottle {
+
+    public static final long DEFAULT_MIN_INTERVAL_MS = 300;
+    public static final float DEFAULT_MIN_PROGRESS_DELTA = 0;
+    public static final String KEY_TASK_KEY = "taskKey";
+    public static final String KEY_IS_DELTA = "isDelta";
+
+    private static final class TaskState {
+        private long lastSentMs;
+        private float lastProgress;
+        private Object lastDownloadState;
+        private final Map<String, Object> lastSent = new HashMap<>();
+    }
+
+    private final Map<String, TaskState> mTasks = new HashMap<>();
+    private long mMinIntervalMs = DEFAULT_MIN_INTERVAL_MS;
+    private float mMinProgressDelta = DEFAULT_MIN_PROGRESS_DELTA;
+
+    /**
+     * @param minIntervalMs    0 to send every progress
+     * @param minProgressDelta 0 ~ 1, 0 to send on any progress
+     */
+    public synchronized void setConfig(long minIntervalMs, float minProgressDelta) {
+        mMinIntervalMs = Math.max(0, minIntervalMs);
+        mMinProgressDelta = Math.max(0, Math.min(1, minProgressDelta));
+    }
+
+    /**
+     * Checked before building a progress event, so dropped events cost nothing.
+     *
+     * @param taskKey null if the task can not be identified, always sent
+     */
+    public synchronized boolean shouldSendProgress(String taskKey, float progress, int downloadState) {
+        if (null == taskKey) {
+            return true;
+        }
+        final TaskState state = mTasks.get(taskKey);
+        if (null == state || !Integer.valueOf(downloadState).equals(state.lastDownloadState)) {
+            return true;
+        }
+        return System.currentTimeMillis() - state.lastSentMs >= mMinIntervalMs
+                && (progress >= 1 || Math.abs(progress - state.lastProgress) >= mMinProgressDelta);
+    }
+
+    /**
+     * @param event  full event, see {@link com.tencent.vod.flutter.tools.TXCommonUtil#getParams}
+     * @param isFull false to send only changed fields
+     * @return event to send
+     */
+    public synchronized Map<String, Object> encode(String taskKey, Map<String, Object> event, boolean isFull) {
+        if (null == taskKey) {
+            return event;
+        }
+        TaskState state = mTasks.get(taskKey);
+        final Map<String, Object> result;
+        if (isFull || null == state) {
+            if (null == state) {
+                state = new TaskState();
+                mTasks.put(taskKey, state);
+            }
+            state.lastSent.clear();
+            state.lastSent.putAll(event);
+            result = new HashMap<>(event);
+            result.put(KEY_IS_DELTA, false);
+        } else {
+            result = new HashMap<>();
+            for (Map.Entry<String, Object> entry : event.entrySet()) {
+                final Object last = state.lastSent.get(entry.getKey());
+                if (null == last || !last.equals(entry.getValue())) {
+                    result.put(entry.getKey(), entry.getValue());
+                    state.lastSent.put(entry.getKey(), entry.getValue());
+                }
+            }
+            result.put(FTXEvent.EVT_KEY_PLAYER_EVENT, event.get(FTXEvent.EVT_KEY_PLAYER_EVENT));
+            result.put(KEY_IS_DELTA, true);
+        }
+        result.put(KEY_TASK_KEY, taskKey);
+        state.lastSentMs = System.currentTimeMillis();
+        final Object progress = event.get("progress");
+        state.lastProgress = progress instanceof Float ? (Float) progress : state.lastProgress;
+        state.lastDownloadState = event.get("downloadState");
+        return result;
+    }
+
+    /**
+     * Forget a task after its terminal event.
+     */
+    public synchronized void remove(String taskKey) {
+        if (null != taskKey) {
+            mTasks.remove(taskKey);
+        }
+    }
+}
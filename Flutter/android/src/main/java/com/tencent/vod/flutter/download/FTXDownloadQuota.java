@@ -0,0 +1,385 @@
+// Copyright (c) 2022 Tencent. All rights reserved.
+
+package com.tencent.vod.flutter.download;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.text.TextUtils;
+
+import com.tencent.liteav.base.util.LiteavLog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Keeps offline downloads under a global byte limit and per-user byte limits.
+ * <p>
+ * Usage is counted from the downloaded size reported by download callbacks, so disk is never scanned. Plays of
+ * a download's playPath update its last access, which is saved. Over a limit, the least recently watched
+ * downloads that are not downloading or playing are evicted. Plays before a download is known, e.g. before the
+ * download list is read, are applied when it is added. All accounting runs on one worker thread.
+ * <p>
+ * 离线下载磁盘配额，超出全局或用户配额时淘汰最久未观看的下载
+ */
+public class FTXDownloadQuota {
+
+    private static final String TAG = "FTXDownloadQuota";
+
+    public static final String KEY_TOTAL_BYTES = "totalBytes";
+    public static final String KEY_DOWNLOAD_COUNT = "downloadCount";
+    public static final String KEY_EVICTED_COUNT = "evictedCount";
+    public static final String KEY_EVICTED_BYTES = "evictedBytes";
+    // followed by user name
+    public static final String KEY_USER_BYTES_PREFIX = "userBytes/";
+
+    private static final String PREFS_NAME = "ftx_download_access";
+    private static final int MAX_UNKNOWN_PLAYS = 64;
+
+    /**
+     * Deletes an evicted download, implemented by download manager.
+     */
+    public interface Evictor {
+        /**
+         * Called on the worker thread.
+         *
+         * @param key {@link FTXDownloadCatalog#keyOf}
+         * @return true if deleted
+         */
+        boolean evict(String key);
+    }
+
+    private static final class Entry {
+        private final String key;
+        private String userName;
+        private String playPath;
+        private long sizeBytes;
+        private long lastAccessMs;
+        private boolean isDownloading;
+
+        private Entry(String key) {
+            this.key = key;
+        }
+    }
+
+    private static final class SingletonInstance {
+        private static final FTXDownloadQuota instance = new FTXDownloadQuota();
+    }
+
+    public static FTXDownloadQuota getInstance() {
+        return SingletonInstance.instance;
+    }
+
+    private final ExecutorService mExecutor = Executors.newSingleThreadExecutor();
+    // below are used on mExecutor only
+    private final Map<String, Entry> mEntries = new HashMap<>();
+    private final Map<String, Entry> mEntriesByPlayPath = new HashMap<>();
+    private final Map<String, Long> mUserBytes = new HashMap<>();
+    // play paths by player id
+    private final Map<Integer, String> mPlaying = new HashMap<>();
+    // plays of paths without a download yet, e.g. before the download list is read, applied when it is added
+    private final Map<String, Long> mUnknownPlays = new LinkedHashMap<String, Long>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            // most are plays of online videos, which never get a download
+            return size() > MAX_UNKNOWN_PLAYS;
+        }
+    };
+    private final Map<String, Long> mUserLimitBytes = new HashMap<>();
+    private SharedPreferences mPrefs;
+    private Evictor mEvictor;
+    // 0 means no limit
+    private long mGlobalLimitBytes = 0;
+    private long mDefaultUserLimitBytes = 0;
+    private long mTotalBytes = 0;
+    private long mEvictedCount = 0;
+    private long mEvictedBytes = 0;
+
+    private FTXDownloadQuota() {
+    }
+
+    public void setEvictor(final Context context, final Evictor evictor) {
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (null == mPrefs) {
+                    mPrefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+                }
+                mEvictor = evictor;
+            }
+        });
+    }
+
+    /**
+     * Forget the evictor, if it is the current one. Usage is still counted.
+     */
+    public void removeEvictor(final Evictor evictor) {
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (mEvictor == evictor) {
+                    mEvictor = null;
+                }
+            }
+        });
+    }
+
+    /**
+     * @param globalLimitBytes      limit of all downloads, 0 for no limit
+     * @param defaultUserLimitBytes limit of each user without its own limit, 0 for no limit
+     * @param userLimitBytes        limits by user name, 0 for no limit
+     */
+    public void setLimits(final long globalLimitBytes, final long defaultUserLimitBytes,
+                          final Map<String, Long> userLimitBytes) {
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                mGlobalLimitBytes = Math.max(0, globalLimitBytes);
+                mDefaultUserLimitBytes = Math.max(0, defaultUserLimitBytes);
+                mUserLimitBytes.clear();
+                if (null != userLimitBytes) {
+                    mUserLimitBytes.putAll(userLimitBytes);
+                }
+                LiteavLog.i(TAG, "setLimits, global:" + mGlobalLimitBytes + ", user:" + mDefaultUserLimitBytes
+                        + ", userLimits:" + mUserLimitBytes.size());
+                evictIfNeeded();
+            }
+        });
+    }
+
+    /**
+     * Add or update a download, called from download callbacks and when the download list is read.
+     *
+     * @param sizeBytes downloaded bytes
+     */
+    public void update(final String key, final String userName, final String playPath, final long sizeBytes,
+                       final boolean isDownloading) {
+        if (null == key) {
+            return;
+        }
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                Entry entry = mEntries.get(key);
+                final boolean isNew = null == entry;
+                if (isNew) {
+                    entry = new Entry(key);
+                    entry.userName = userName;
+                    entry.lastAccessMs = loadLastAccess(key);
+                    mEntries.put(key, entry);
+                }
+                if (!TextUtils.equals(entry.playPath, playPath)) {
+                    if (null != entry.playPath) {
+                        mEntriesByPlayPath.remove(entry.playPath);
+                    }
+                    entry.playPath = playPath;
+                    if (null != playPath) {
+                        mEntriesByPlayPath.put(playPath, entry);
+                        final Long playMs = mUnknownPlays.remove(playPath);
+                        // a real play ranks before the time a new download is first seen
+                        if (null != playMs && (isNew || playMs > entry.lastAccessMs)) {
+                            saveLastAccess(entry, playMs);
+                        }
+                    }
+                }
+                addBytes(entry, Math.max(0, sizeBytes) - entry.sizeBytes);
+                entry.isDownloading = isDownloading;
+                evictIfNeeded();
+            }
+        });
+    }
+
+    /**
+     * Forget all downloads, e.g. the download folder is changed. Last accesses are kept.
+     */
+    public void clear() {
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                mEntries.clear();
+                mEntriesByPlayPath.clear();
+                mUserBytes.clear();
+                mTotalBytes = 0;
+            }
+        });
+    }
+
+    /**
+     * Forget a deleted download.
+     */
+    public void remove(final String key) {
+        if (null == key) {
+            return;
+        }
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                removeEntry(key);
+            }
+        });
+    }
+
+    /**
+     * Called by players when they start to play a url, plays of a download's playPath are accesses of it.
+     */
+    public void onPlay(final int playerId, final String url) {
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                mPlaying.remove(playerId);
+                if (null == url) {
+                    return;
+                }
+                mPlaying.put(playerId, url);
+                final Entry entry = mEntriesByPlayPath.get(url);
+                if (null == entry) {
+                    mUnknownPlays.put(url, System.currentTimeMillis());
+                    return;
+                }
+                saveLastAccess(entry, System.currentTimeMillis());
+            }
+        });
+    }
+
+    public void onStop(final int playerId) {
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                mPlaying.remove(playerId);
+            }
+        });
+    }
+
+    /**
+     * Read usage on the worker thread.
+     */
+    public void getUsage(final UsageCallback callback) {
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                Map<String, String> map = new HashMap<>();
+                map.put(KEY_TOTAL_BYTES, String.valueOf(mTotalBytes));
+                map.put(KEY_DOWNLOAD_COUNT, String.valueOf(mEntries.size()));
+                map.put(KEY_EVICTED_COUNT, String.valueOf(mEvictedCount));
+                map.put(KEY_EVICTED_BYTES, String.valueOf(mEvictedBytes));
+                for (Map.Entry<String, Long> entry : mUserBytes.entrySet()) {
+                    map.put(KEY_USER_BYTES_PREFIX + entry.getKey(), String.valueOf(entry.getValue()));
+                }
+                callback.onUsage(map);
+            }
+        });
+    }
+
+    /**
+     * Receives usage on the worker thread.
+     */
+    public interface UsageCallback {
+        void onUsage(Map<String, String> usage);
+    }
+
+    private long loadLastAccess(String key) {
+        if (null == mPrefs) {
+            return System.currentTimeMillis();
+        }
+        long lastAccessMs = mPrefs.getLong(key, 0);
+        if (lastAccessMs <= 0) {
+            // never played, ranked by the time it is first seen
+            lastAccessMs = System.currentTimeMillis();
+            mPrefs.edit().putLong(key, lastAccessMs).apply();
+        }
+        return lastAccessMs;
+    }
+
+    private void saveLastAccess(Entry entry, long lastAccessMs) {
+        entry.lastAccessMs = lastAccessMs;
+        if (null != mPrefs) {
+            mPrefs.edit().putLong(entry.key, lastAccessMs).apply();
+        }
+    }
+
+    private void addBytes(Entry entry, long deltaBytes) {
+        if (deltaBytes == 0) {
+            return;
+        }
+        entry.sizeBytes += deltaBytes;
+        mTotalBytes += deltaBytes;
+        final Long userBytes = mUserBytes.get(entry.userName);
+        mUserBytes.put(entry.userName, (null != userBytes ? userBytes : 0) + deltaBytes);
+    }
+
+    private Entry removeEntry(String key) {
+        final Entry entry = mEntries.remove(key);
+        if (null == entry) {
+            return null;
+        }
+        addBytes(entry, -entry.sizeBytes);
+        if (null != entry.playPath) {
+            mEntriesByPlayPath.remove(entry.playPath);
+        }
+        if (null != mPrefs) {
+            mPrefs.edit().remove(key).apply();
+        }
+        return entry;
+    }
+
+    private long limitOf(String userName) {
+        final Long limit = mUserLimitBytes.get(userName);
+        return null != limit ? limit : mDefaultUserLimitBytes;
+    }
+
+    private void evictIfNeeded() {
+        if (null == mEvictor) {
+            return;
+        }
+        while (true) {
+            String overUser = null;
+            for (Map.Entry<String, Long> entry : mUserBytes.entrySet()) {
+                final long limit = limitOf(entry.getKey());
+                if (limit > 0 && entry.getValue() > limit) {
+                    overUser = entry.getKey();
+                    break;
+                }
+            }
+            final boolean isOverGlobal = mGlobalLimitBytes > 0 && mTotalBytes > mGlobalLimitBytes;
+            if (null == overUser && !isOverGlobal) {
+                return;
+            }
+            final Entry victim = findLeastRecentlyWatched(overUser);
+            if (null == victim) {
+                LiteavLog.w(TAG, "over quota but nothing can be evicted, user:" + overUser);
+                return;
+            }
+            final long sizeBytes = victim.sizeBytes;
+            if (!mEvictor.evict(victim.key)) {
+                LiteavLog.e(TAG, "evict failed:" + victim.key);
+                return;
+            }
+            removeEntry(victim.key);
+            mEvictedCount++;
+            mEvictedBytes += sizeBytes;
+            LiteavLog.i(TAG, "evicted:" + victim.key + ", bytes:" + sizeBytes);
+        }
+    }
+
+    /**
+     * @param userName null for all users
+     */
+    private Entry findLeastRecentlyWatched(String userName) {
+        final List<String> playingPaths = new ArrayList<>(mPlaying.values());
+        Entry victim = null;
+        for (Entry entry : mEntries.values()) {
+            if (entry.isDownloading || (null != userName && !TextUtils.equals(userName, entry.userName))
+                    || playingPaths.contains(entry.playPath)) {
+                continue;
+            }
+            if (null == victim || entry.lastAccessMs < victim.lastAccessMs) {
+                victim = entry;
+            }
+        }
+        return victim;
+    }
+}
@@ -0,0 +1,436 @@
+// Copyright (c) 2022 Tencent. All rights reserved.
+
+package com.tencent.vod.flutter.download;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import com.tencent.liteav.base.util.LiteavLog;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Runs offline downloads in priority order with a bounded count of running downloads.
+ * <p>
+ * The SDK has no rate control, so the rate cap is kept by running fewer downloads: a slot is taken away while
+ * the total speed is above the cap and given back when it drops well below. While any player is buffering all
+ * downloads are paused, they are resumed from their cache when playback recovers. Queued and running downloads
+ * are saved, so that they continue after a restart. Until {@link #setConfig} is called the count is not limited and
+ * downloads are not paused for playback.
+ * <p>
+ * 离线下载调度，限制并发数和总速率，播放卡顿时让出带宽，队列持久化
+ */
+public class FTXDownloadScheduler {
+
+    private static final String TAG = "FTXDownloadScheduler";
+
+    public static final int DEFAULT_MAX_CONCURRENT_COUNT = 2;
+    public static final String KEY_QUEUE_COUNT = "queueCount";
+    public static final String KEY_RUNNING_COUNT = "runningCount";
+    public static final String KEY_RATE_KBPS = "rateKBps";
+    public static final String KEY_RATE_SLOTS = "rateSlots";
+    public static final String KEY_IS_YIELDING = "isYielding";
+
+    private static final String PREFS_NAME = "ftx_download_scheduler";
+    private static final String PREFS_KEY_TASKS = "tasks";
+    // a slot is given back when total speed is below this part of the cap
+    private static final float RATE_RESUME_RATIO = 0.6f;
+
+    /**
+     * Starts and stops downloads of the SDK, implemented by download manager.
+     */
+    public interface Starter {
+        void startTask(Task task);
+
+        /**
+         * @return false if nothing is stopped in SDK, so no stop event will come
+         */
+        boolean stopTask(Task task);
+    }
+
+    /**
+     * A download, by url or by file id.
+     */
+    public static final class Task {
+        public final String key;
+        public final String url;
+        public final int appId;
+        public final String fileId;
+        public final String pSign;
+        public final int quality;
+        public final String userName;
+        private int mPriority;
+        private long mSequence;
+        private int mSpeedKBps = 0;
+
+        /**
+         * @param key      {@link FTXDownloadCatalog#keyOf} of the download
+         * @param priority smaller value starts first
+         */
+        public Task(String key, String url, int appId, String fileId, String pSign, int quality, String userName,
+                    int priority) {
+            this.key = key;
+            this.url = url;
+            this.appId = appId;
+            this.fileId = fileId;
+            this.pSign = pSign;
+            this.quality = quality;
+            this.userName = userName;
+            mPriority = priority;
+        }
+
+        private JSONObject toJson() throws JSONException {
+            JSONObject json = new JSONObject();
+            json.put("key", key);
+            json.put("url", url);
+            json.put("appId", appId);
+            json.put("fileId", fileId);
+            json.put("pSign", pSign);
+            json.put("quality", quality);
+            json.put("userName", userName);
+            json.put("priority", mPriority);
+            return json;
+        }
+
+        private static Task fromJson(JSONObject json) {
+            return new Task(json.optString("key"), json.optString("url", null), json.optInt("appId"),
+                    json.optString("fileId", null), json.optString("pSign", null), json.optInt("quality"),
+                    json.optString("userName", null), json.optInt("priority"));
+        }
+    }
+
+    private static final Comparator<Task> PRIORITY_COMPARATOR = new Comparator<Task>() {
+        @Override
+        public int compare(Task o1, Task o2) {
+            if (o1.mPriority != o2.mPriority) {
+                return o1.mPriority < o2.mPriority ? -1 : 1;
+            }
+            return Long.compare(o1.mSequence, o2.mSequence);
+        }
+    };
+
+    private final Object mLock = new Object();
+    private final SharedPreferences mPrefs;
+    private final Starter mStarter;
+    private final PriorityQueue<Task> mQueue = new PriorityQueue<>(16, PRIORITY_COMPARATOR);
+    private final Map<String, Task> mRunningTasks = new LinkedHashMap<>();
+    // stops issued by scheduler whose stop events have not come yet, those events are not from users. A key is
+    // not started again until all its stop events are seen, otherwise a late one would stop the restarted download
+    private final Map<String, Integer> mPendingStops = new HashMap<>();
+    // no limit and no yield until configured, downloads run as they did before the scheduler
+    private int mMaxConcurrentCount = Integer.MAX_VALUE;
+    // 0 means no limit
+    private int mMaxRateKBps = 0;
+    private int mRateSlots = Integer.MAX_VALUE;
+    private boolean mIsYieldToPlayback = false;
+    private boolean mIsPlaybackBuffering = false;
+    // restored tasks wait until downloads are used in this run, when download path is set
+    private boolean mIsActive = false;
+    private long mSequence = 0;
+
+    public FTXDownloadScheduler(Context context, Starter starter) {
+        mPrefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+        mStarter = starter;
+        restore();
+    }
+
+    public void setConfig(int maxConcurrentCount, int maxRateKBps, boolean isYieldToPlayback) {
+        synchronized (mLock) {
+            mMaxConcurrentCount = Math.max(1, maxConcurrentCount);
+            mMaxRateKBps = Math.max(0, maxRateKBps);
+            mRateSlots = Integer.MAX_VALUE;
+            mIsYieldToPlayback = isYieldToPlayback;
+            mIsActive = true;
+            LiteavLog.i(TAG, "setConfig, maxConcurrentCount:" + mMaxConcurrentCount + ", maxRateKBps:"
+                    + mMaxRateKBps + ", isYieldToPlayback:" + isYieldToPlayback);
+        }
+        dispatch();
+    }
+
+    /**
+     * Queue a download, or change its priority if it is already queued or running.
+     */
+    public void submit(Task task) {
+        synchronized (mLock) {
+            mIsActive = true;
+            final Task running = mRunningTasks.get(task.key);
+            if (null != running) {
+                running.mPriority = task.mPriority;
+            } else {
+                removeQueuedLocked(task.key);
+                task.mSequence = mSequence++;
+                mQueue.add(task);
+            }
+            persistLocked();
+        }
+        dispatch();
+    }
+
+    public void setPriority(String key, int priority) {
+        synchronized (mLock) {
+            final Task running = mRunningTasks.get(key);
+            if (null != running) {
+                running.mPriority = priority;
+            }
+            final Task queued = removeQueuedLocked(key);
+            if (null != queued) {
+                queued.mPriority = priority;
+                mQueue.add(queued);
+            }
+            persistLocked();
+        }
+    }
+
+    /**
+     * Forget a download stopped or deleted by user, the caller stops it in SDK.
+     */
+    public void cancel(String key) {
+        synchronized (mLock) {
+            removeQueuedLocked(key);
+            mRunningTasks.remove(key);
+            persistLocked();
+        }
+        dispatch();
+    }
+
+    /**
+     * Called on stop event of SDK.
+     *
+     * @return true if it was stopped by scheduler, not by user
+     */
+    public boolean onTaskStopped(String key) {
+        final boolean isPaused;
+        synchronized (mLock) {
+            isPaused = consumePendingStopLocked(key);
+            if (!isPaused) {
+                if (null == mRunningTasks.remove(key)) {
+                    return false;
+                }
+                persistLocked();
+            }
+        }
+        // its slot is free, and a paused download can start again now
+        dispatch();
+        return isPaused;
+    }
+
+    /**
+     * Called on finish or error event of SDK.
+     */
+    public void onTaskEnded(String key) {
+        synchronized (mLock) {
+            final boolean isKnown = null != mRunningTasks.remove(key) | null != removeQueuedLocked(key);
+            // the SDK download is over, no stop event follows
+            mPendingStops.remove(key);
+            if (!isKnown) {
+                return;
+            }
+            persistLocked();
+        }
+        dispatch();
+    }
+
+    /**
+     * Called on progress event of SDK, keeps total speed under the cap.
+     */
+    public void onTaskProgress(String key, int speedKBps) {
+        final List<Task> toStop = new ArrayList<>();
+        boolean needDispatch = false;
+        synchronized (mLock) {
+            final Task task = mRunningTasks.get(key);
+            if (null == task) {
+                return;
+            }
+            task.mSpeedKBps = speedKBps;
+            if (mMaxRateKBps <= 0) {
+                return;
+            }
+            final int rate = getRateLocked();
+            if (rate > mMaxRateKBps && mRunningTasks.size() > 1) {
+                mRateSlots = mRunningTasks.size() - 1;
+                toStop.add(pauseLocked(findLowestPriorityLocked()));
+                LiteavLog.i(TAG, "rate " + rate + "KBps above cap, slots:" + mRateSlots);
+            } else if (rate < mMaxRateKBps * RATE_RESUME_RATIO && mRateSlots < mMaxConcurrentCount
+                    && mRunningTasks.size() >= mRateSlots) {
+                mRateSlots++;
+                needDispatch = true;
+            }
+        }
+        stopTasks(toStop);
+        if (needDispatch) {
+            dispatch();
+        }
+    }
+
+    /**
+     * Pause all downloads while any player is buffering, resume them after.
+     */
+    public void onPlaybackBufferingChanged(boolean isBuffering) {
+        final List<Task> toStop = new ArrayList<>();
+        synchronized (mLock) {
+            mIsPlaybackBuffering = isBuffering;
+            if (isBuffering && mIsYieldToPlayback) {
+                for (Task task : new ArrayList<>(mRunningTasks.values())) {
+                    toStop.add(pauseLocked(task));
+                }
+            }
+        }
+        if (!toStop.isEmpty()) {
+            LiteavLog.i(TAG, "playback is buffering, pause downloads:" + toStop.size());
+        }
+        stopTasks(toStop);
+        if (!isBuffering) {
+            dispatch();
+        }
+    }
+
+    private void stopTasks(List<Task> tasks) {
+        boolean needDispatch = false;
+        for (Task task : tasks) {
+            if (!mStarter.stopTask(task)) {
+                synchronized (mLock) {
+                    consumePendingStopLocked(task.key);
+                }
+                needDispatch = true;
+            }
+        }
+        if (needDispatch) {
+            dispatch();
+        }
+    }
+
+    private boolean consumePendingStopLocked(String key) {
+        final Integer count = mPendingStops.get(key);
+        if (null == count) {
+            return false;
+        }
+        if (count > 1) {
+            mPendingStops.put(key, count - 1);
+        } else {
+            mPendingStops.remove(key);
+        }
+        return true;
+    }
+
+    private Task pauseLocked(Task task) {
+        mRunningTasks.remove(task.key);
+        final Integer count = mPendingStops.get(task.key);
+        mPendingStops.put(task.key, null != count ? count + 1 : 1);
+        task.mSpeedKBps = 0;
+        // keeps its sequence, resumed before later downloads of the same priority
+        mQueue.add(task);
+        return task;
+    }
+
+    private Task findLowestPriorityLocked() {
+        Task lowest = null;
+        for (Task task : mRunningTasks.values()) {
+            if (null == lowest || PRIORITY_COMPARATOR.compare(task, lowest) > 0) {
+                lowest = task;
+            }
+        }
+        return lowest;
+    }
+
+    private int getRateLocked() {
+        int rate = 0;
+        for (Task task : mRunningTasks.values()) {
+            rate += task.mSpeedKBps;
+        }
+        return rate;
+    }
+
+    private Task removeQueuedLocked(String key) {
+        for (Task task : mQueue) {
+            if (task.key.equals(key)) {
+                mQueue.remove(task);
+                return task;
+            }
+        }
+        return null;
+    }
+
+    private void dispatch() {
+        final List<Task> toStart = new ArrayList<>();
+        synchronized (mLock) {
+            if (!mIsActive || (mIsPlaybackBuffering && mIsYieldToPlayback)) {
+                return;
+            }
+            final int maxCount = Math.min(mMaxConcurrentCount, mRateSlots);
+            // a paused download still runs in SDK until its stop event comes, it keeps its slot until then and
+            // is not started again before that
+            final List<Task> stoppingTasks = new ArrayList<>();
+            while (!mQueue.isEmpty() && mRunningTasks.size() + mPendingStops.size() < maxCount) {
+                final Task task = mQueue.poll();
+                if (mPendingStops.containsKey(task.key)) {
+                    stoppingTasks.add(task);
+                    continue;
+                }
+                mRunningTasks.put(task.key, task);
+                toStart.add(task);
+            }
+            mQueue.addAll(stoppingTasks);
+        }
+        for (Task task : toStart) {
+            mStarter.startTask(task);
+        }
+    }
+
+    private void persistLocked() {
+        final JSONArray array = new JSONArray();
+        try {
+            for (Task task : mRunningTasks.values()) {
+                array.put(task.toJson());
+            }
+            for (Task task : mQueue) {
+                array.put(task.toJson());
+            }
+        } catch (JSONException e) {
+            LiteavLog.e(TAG, "persist download queue error:" + e);
+            return;
+        }
+        mPrefs.edit().putString(PREFS_KEY_TASKS, array.toString()).apply();
+    }
+
+    private void restore() {
+        final String saved = mPrefs.getString(PREFS_KEY_TASKS, null);
+        if (null == saved) {
+            return;
+        }
+        try {
+            final JSONArray array = new JSONArray(saved);
+            synchronized (mLock) {
+                for (int i = 0; i < array.length(); i++) {
+                    final Task task = Task.fromJson(array.getJSONObject(i));
+                    task.mSequence = mSequence++;
+                    mQueue.add(task);
+                }
+            }
+            LiteavLog.i(TAG, "restored downloads:" + array.length());
+        } catch (JSONException e) {
+            LiteavLog.e(TAG, "restore download queue error:" + e);
+        }
+    }
+
+    public Map<String, String> getMetrics() {
+        Map<String, String> map = new HashMap<>();
+        synchronized (mLock) {
+            map.put(KEY_QUEUE_COUNT, String.valueOf(mQueue.size()));
+            map.put(KEY_RUNNING_COUNT, String.valueOf(mRunningTasks.size()));
+            map.put(KEY_RATE_KBPS, String.valueOf(getRateLocked()));
+            map.put(KEY_RATE_SLOTS, String.valueOf(Math.min(mMaxConcurrentCount, mRateSlots)));
+            map.put(KEY_IS_YIELDING, String.valueOf(mIsPlaybackBuffering && mIsYieldToPlayback));
+        }
+        return map;
+    }
+}
@@ -0,0 +1,334 @@
+// Copyright (c) 2022 Tencent. All rights reserved.
+
+package com.tencent.vod.flutter.download;
+
+import android.content.Context;
+
+import com.tencent.liteav.base.util.LiteavLog;
+import com.tencent.vod.flutter.messages.FtxMessages.TXVodDownloadMediaMsg;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * On-disk snapshot of the offline download list, one file per download folder.
+ * <p>
+ * The file is an append-only log with a JSON record per line, a put or a remove of a download. It is replayed
+ * at cold start, so the list can be shown before the SDK has enumerated its downloads, and rewritten from the
+ * authoritative list once that is read. When the log has many more records than downloads it is compacted.
+ * All file work runs on one worker thread.
+ * <p>
+ * 离线下载列表磁盘快照，冷启动时快速展示下载列表
+ */
+public class FTXDownloadSnapshot {
+
+    private static final String TAG = "FTXDownloadSnapshot";
+
+    private static final String DIR_NAME = "ftx_download_snapshot";
+    private static final String DEFAULT_FOLDER = "default";
+    private static final int COMPACT_MIN_RECORDS = 64;
+    private static final String KEY_OP = "op";
+    private static final String KEY_KEY = "key";
+    private static final String KEY_INFO = "info";
+    private static final String OP_PUT = "put";
+    private static final String OP_REMOVE = "remove";
+
+    /**
+     * Receives the snapshot on the worker thread.
+     */
+    public interface Callback {
+        void onSnapshot(List<TXVodDownloadMediaMsg> infoList);
+    }
+
+    private final File mDir;
+    private final ExecutorService mExecutor = Executors.newSingleThreadExecutor();
+    // below are used on mExecutor only
+    private final LinkedHashMap<String, JSONObject> mEntries = new LinkedHashMap<>();
+    private File mFile;
+    private Writer mWriter;
+    private int mRecordCount = 0;
+
+    public FTXDownloadSnapshot(Context context) {
+        mDir = new File(context.getFilesDir(), DIR_NAME);
+        open(DEFAULT_FOLDER);
+    }
+
+    /**
+     * Switch to the snapshot of a download folder and load it.
+     */
+    public void open(final String cacheFolder) {
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                closeWriter();
+                mEntries.clear();
+                mRecordCount = 0;
+                mFile = new File(mDir, Integer.toHexString(String.valueOf(cacheFolder).hashCode()) + ".log");
+                load();
+            }
+        });
+    }
+
+    public void put(final String key, TXVodDownloadMediaMsg info) {
+        if (null == key || null == info) {
+            return;
+        }
+        final JSONObject json;
+        try {
+            json = toJson(info);
+        } catch (JSONException e) {
+            LiteavLog.e(TAG, "put snapshot error:" + e);
+            return;
+        }
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                mEntries.remove(key);
+                mEntries.put(key, json);
+                append(OP_PUT, key, json);
+            }
+        });
+    }
+
+    public void remove(final String key) {
+        if (null == key) {
+            return;
+        }
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (null != mEntries.remove(key)) {
+                    append(OP_REMOVE, key, null);
+                }
+            }
+        });
+    }
+
+    /**
+     * Replace the snapshot with the authoritative list read from SDK.
+     *
+     * @param infos downloads by {@link FTXDownloadCatalog#keyOf}, in list order
+     */
+    public void replaceAll(Map<String, TXVodDownloadMediaMsg> infos) {
+        final LinkedHashMap<String, JSONObject> entries = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, TXVodDownloadMediaMsg> entry : infos.entrySet()) {
+                entries.put(entry.getKey(), toJson(entry.getValue()));
+            }
+        } catch (JSONException e) {
+            LiteavLog.e(TAG, "replace snapshot error:" + e);
+            return;
+        }
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                mEntries.clear();
+                mEntries.putAll(entries);
+                rewrite();
+            }
+        });
+    }
+
+    /**
+     * Read the snapshot, after the pending changes are applied.
+     */
+    public void read(final Callback callback) {
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                final List<TXVodDownloadMediaMsg> infoList = new ArrayList<>();
+                for (JSONObject json : mEntries.values()) {
+                    infoList.add(fromJson(json));
+                }
+                callback.onSnapshot(infoList);
+            }
+        });
+    }
+
+    private void load() {
+        if (!mFile.exists()) {
+            return;
+        }
+        final long startMs = System.currentTimeMillis();
+        boolean isBroken = !endsWithNewLine();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new FileInputStream(mFile), StandardCharsets.UTF_8))) {
+            String line;
+            while (null != (line = reader.readLine())) {
+                final JSONObject record;
+                try {
+                    record = new JSONObject(line);
+                } catch (JSONException e) {
+                    // the last record may be cut by a kill, the records before it are still valid
+                    LiteavLog.w(TAG, "drop broken snapshot record:" + e);
+                    isBroken = true;
+                    break;
+                }
+                final String key = record.optString(KEY_KEY);
+                if (OP_PUT.equals(record.optString(KEY_OP))) {
+                    mEntries.remove(key);
+                    mEntries.put(key, record.optJSONObject(KEY_INFO));
+                } else {
+                    mEntries.remove(key);
+                }
+                mRecordCount++;
+            }
+        } catch (IOException e) {
+            LiteavLog.e(TAG, "load snapshot error:" + e);
+        }
+        if (isBroken) {
+            // drop the partial line, otherwise the next record is appended to it and lost
+            rewrite();
+        }
+        LiteavLog.i(TAG, "snapshot loaded, count:" + mEntries.size() + ", records:" + mRecordCount
+                + ", cost:" + (System.currentTimeMillis() - startMs) + "ms");
+    }
+
+    /**
+     * Whether the log is empty or its last record is complete, a cut record may still be valid JSON.
+     */
+    private boolean endsWithNewLine() {
+        try (RandomAccessFile file = new RandomAccessFile(mFile, "r")) {
+            final long length = file.length();
+            if (length <= 0) {
+                return true;
+            }
+            file.seek(length - 1);
+            return file.read() == '\n';
+        } catch (IOException e) {
+            LiteavLog.e(TAG, "check snapshot error:" + e);
+            return false;
+        }
+    }
+
+    private void append(String op, String key, JSONObject info) {
+        if (mRecordCount >= Math.max(COMPACT_MIN_RECORDS, mEntries.size() * 2)) {
+            rewrite();
+            return;
+        }
+        try {
+            if (null == mWriter) {
+                mDir.mkdirs();
+                mWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(mFile, true),
+                        StandardCharsets.UTF_8));
+            }
+            mWriter.write(recordOf(op, key, info).toString());
+            mWriter.write('\n');
+            mWriter.flush();
+            mRecordCount++;
+        } catch (IOException | JSONException e) {
+            LiteavLog.e(TAG, "append snapshot error:" + e);
+            closeWriter();
+        }
+    }
+
+    /**
+     * Write all entries to a new file and replace the log with it.
+     */
+    private void rewrite() {
+        closeWriter();
+        mDir.mkdirs();
+        final File tmpFile = new File(mDir, mFile.getName() + ".tmp");
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(tmpFile),
+                StandardCharsets.UTF_8))) {
+            for (Map.Entry<String, JSONObject> entry : mEntries.entrySet()) {
+                writer.write(recordOf(OP_PUT, entry.getKey(), entry.getValue()).toString());
+                writer.write('\n');
+            }
+        } catch (IOException | JSONException e) {
+            LiteavLog.e(TAG, "rewrite snapshot error:" + e);
+            tmpFile.delete();
+            return;
+        }
+        if (tmpFile.renameTo(mFile)) {
+            mRecordCount = mEntries.size();
+        } else {
+            LiteavLog.e(TAG, "rename snapshot failed");
+            tmpFile.delete();
+        }
+    }
+
+    private void closeWriter() {
+        if (null != mWriter) {
+            try {
+                mWriter.close();
+            } catch (IOException e) {
+                LiteavLog.e(TAG, "close snapshot error:" + e);
+            }
+            mWriter = null;
+        }
+    }
+
+    private static JSONObject recordOf(String op, String key, JSONObject info) throws JSONException {
+        JSONObject record = new JSONObject();
+        record.put(KEY_OP, op);
+        record.put(KEY_KEY, key);
+        if (null != info) {
+            record.put(KEY_INFO, info);
+        }
+        return record;
+    }
+
+    private static JSONObject toJson(TXVodDownloadMediaMsg msg) throws JSONException {
+        JSONObject json = new JSONObject();
+        json.putOpt("playPath", msg.getPlayPath());
+        json.putOpt("progress", msg.getProgress());
+        json.putOpt("downloadState", msg.getDownloadState());
+        json.putOpt("userName", msg.getUserName());
+        json.putOpt("duration", msg.getDuration());
+        json.putOpt("playableDuration", msg.getPlayableDuration());
+        json.putOpt("size", msg.getSize());
+        json.putOpt("downloadSize", msg.getDownloadSize());
+        json.putOpt("url", msg.getUrl());
+        json.putOpt("appId", msg.getAppId());
+        json.putOpt("fileId", msg.getFileId());
+        json.putOpt("pSign", msg.getPSign());
+        json.putOpt("quality", msg.getQuality());
+        json.putOpt("token", msg.getToken());
+        json.putOpt("isResourceBroken", msg.getIsResourceBroken());
+        return json;
+    }
+
+    private static TXVodDownloadMediaMsg fromJson(JSONObject json) {
+        TXVodDownloadMediaMsg msg = new TXVodDownloadMediaMsg();
+        if (null == json) {
+            return msg;
+        }
+        msg.setPlayPath(json.optString("playPath", null));
+        msg.setProgress(json.has("progress") ? json.optDouble("progress") : null);
+        msg.setDownloadState(json.has("downloadState") ? json.optLong("downloadState") : null);
+        msg.setUserName(json.optString("userName", null));
+        msg.setDuration(json.has("duration") ? json.optLong("duration") : null);
+        msg.setPlayableDuration(json.has("playableDuration") ? json.optLong("playableDuration") : null);
+        msg.setSize(json.has("size") ? json.optLong("size") : null);
+        msg.setDownloadSize(json.has("downloadSize") ? json.optLong("downloadSize") : null);
+        msg.setUrl(json.optString("url", null));
+        msg.setAppId(json.has("appId") ? json.optLong("appId") : null);
+        msg.setFileId(json.optString("fileId", null));
+        msg.setPSign(json.optString("pSign", null));
+        msg.setQuality(json.has("quality") ? json.optLong("quality") : null);
+        msg.setToken(json.optString("token", null));
+        msg.setIsResourceBroken(json.has("isResourceBroken") ? json.optBoolean("isResourceBroken") : null);
+        // a snapshot is not downloading
+        msg.setSpeed(0L);
+        return msg;
+    }
+}
@@ -0,0 +1,332 @@
+// Copyright (c) 2022 Tencent. All rights reserved.
+
+package com.tencent.vod.flutter.download;
+
+import com.tencent.liteav.base.util.LiteavLog;
+import com.tencent.vod.flutter.messages.FtxMessages.PreLoadInfoMsg;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Preloads items of a feed around the viewport.
+ * <p>
+ * The ordered items are set once, after that only the current index and scroll velocity are reported. Items
+ * ahead of the cursor are preloaded with priority of their distance, the next item gets the most data and later
+ * ones less. A fast scroll looks further ahead with smaller sizes, preloads left behind the cursor are cancelled.
+ * Plays of feed items are matched with preloads to get the hit rate.
+ * <p>
+ * 信息流预下载，根据当前位置和滑动速度决定预下载的条目和大小
+ */
+public class FTXFeedPreloader {
+
+    private static final String TAG = "FTXFeedPreloader";
+
+    public static final int DEFAULT_MAX_PRELOAD_COUNT = 3;
+    public static final double DEFAULT_NEXT_ITEM_MB = 2;
+    // at this speed an item is passed before its preload of the normal size can finish
+    private static final double FAST_SCROLL_ITEMS_PER_SECOND = 2;
+    private static final double MIN_PRELOAD_MB = 0.25;
+
+    public static final String KEY_ITEM_COUNT = "itemCount";
+    public static final String KEY_CURSOR = "cursor";
+    public static final String KEY_ACTIVE_COUNT = "activeCount";
+    public static final String KEY_STARTED_COUNT = "startedCount";
+    public static final String KEY_CANCELLED_COUNT = "cancelledCount";
+    public static final String KEY_COMPLETED_COUNT = "completedCount";
+    public static final String KEY_PLAY_COUNT = "playCount";
+    public static final String KEY_HIT_COUNT = "hitCount";
+    public static final String KEY_PARTIAL_HIT_COUNT = "partialHitCount";
+    public static final String KEY_HIT_RATE = "hitRate";
+
+    private static final int STATE_IDLE = 0;
+    // waiting in scheduler or starting
+    private static final int STATE_REQUESTED = 1;
+    // SDK started loading
+    private static final int STATE_LOADING = 2;
+    private static final int STATE_COMPLETED = 3;
+    private static final int STATE_FAILED = 4;
+
+    /**
+     * Starts preloads for the feed, implemented by download manager.
+     */
+    public interface PreloadStarter {
+        /**
+         * @return a requester id not used by flutter requests
+         */
+        long newRequesterId();
+
+        /**
+         * Start or join a preload, tmpPreloadTaskId of msg is the requester id.
+         */
+        void startPreload(PreLoadInfoMsg msg);
+
+        void cancelPreload(long requesterId);
+
+        void setPreloadPriority(long requesterId, int priority);
+    }
+
+    private static final class Entry {
+        private final PreLoadInfoMsg info;
+        private long requesterId = FTXPreloadGroup.NO_REQUESTER_ID;
+        private int state = STATE_IDLE;
+        private boolean isPlayed = false;
+
+        private Entry(PreLoadInfoMsg info) {
+            this.info = info;
+        }
+
+        private boolean isActive() {
+            return state == STATE_REQUESTED || state == STATE_LOADING;
+        }
+    }
+
+    private static final class SingletonInstance {
+        private static final FTXFeedPreloader instance = new FTXFeedPreloader();
+    }
+
+    public static FTXFeedPreloader getInstance() {
+        return SingletonInstance.instance;
+    }
+
+    private PreloadStarter mStarter;
+    private final List<Entry> mItems = new ArrayList<>();
+    private final Map<String, Entry> mItemsByMediaId = new HashMap<>();
+    private final Map<Long, Entry> mItemsByRequester = new HashMap<>();
+    private int mMaxPreloadCount = DEFAULT_MAX_PRELOAD_COUNT;
+    private double mNextItemMB = DEFAULT_NEXT_ITEM_MB;
+    private int mCursor = -1;
+    private double mVelocity = 0;
+    private long mStartedCount = 0;
+    private long mCancelledCount = 0;
+    private long mCompletedCount = 0;
+    private long mPlayCount = 0;
+    private long mHitCount = 0;
+    private long mPartialHitCount = 0;
+
+    private FTXFeedPreloader() {
+    }
+
+    public synchronized void setPreloadStarter(PreloadStarter starter) {
+        mStarter = starter;
+    }
+
+    /**
+     * Stop preloads of the feed and forget the starter, if it is the current one.
+     */
+    public synchronized void removePreloadStarter(PreloadStarter starter) {
+        if (mStarter == starter) {
+            stop();
+            mStarter = null;
+        }
+    }
+
+    /**
+     * Replace items of the feed, preloads of the old items are cancelled. Nothing is preloaded until the cursor
+     * is reported.
+     *
+     * @param items           items in feed order, preloadSizeMB of them is ignored
+     * @param maxPreloadCount items preloaded ahead of cursor when not scrolling fast
+     * @param nextItemMB      size preloaded for the next item
+     */
+    public synchronized void setItems(List<PreLoadInfoMsg> items, int maxPreloadCount, double nextItemMB) {
+        stop();
+        mMaxPreloadCount = Math.max(1, maxPreloadCount);
+        mNextItemMB = nextItemMB > 0 ? nextItemMB : DEFAULT_NEXT_ITEM_MB;
+        if (null != items) {
+            for (PreLoadInfoMsg info : items) {
+                final Entry entry = new Entry(info);
+                mItems.add(entry);
+                if (null != info) {
+                    mItemsByMediaId.put(mediaIdOf(info), entry);
+                }
+            }
+        }
+        LiteavLog.i(TAG, "setItems, count:" + mItems.size() + ", maxPreloadCount:" + mMaxPreloadCount
+                + ", nextItemMB:" + mNextItemMB);
+    }
+
+    /**
+     * @param index    current item
+     * @param velocity items per second, positive towards later items
+     */
+    public synchronized void updateCursor(int index, double velocity) {
+        if (mItems.isEmpty()) {
+            return;
+        }
+        mCursor = Math.max(0, Math.min(index, mItems.size() - 1));
+        mVelocity = velocity;
+        plan();
+    }
+
+    /**
+     * Cancel all preloads of the feed and clear items.
+     */
+    public synchronized void stop() {
+        for (Entry entry : mItems) {
+            if (entry.isActive()) {
+                cancel(entry);
+            }
+        }
+        mItems.clear();
+        mItemsByMediaId.clear();
+        mItemsByRequester.clear();
+        mCursor = -1;
+        mVelocity = 0;
+    }
+
+    private void plan() {
+        if (null == mStarter || mCursor < 0) {
+            return;
+        }
+        final double speed = Math.abs(mVelocity);
+        final boolean isFast = speed >= FAST_SCROLL_ITEMS_PER_SECOND;
+        // feed order unless scrolling back fast, a slow backward drift such as settle jitter keeps the direction
+        final int step = isFast && mVelocity < 0 ? -1 : 1;
+        int lookahead = mMaxPreloadCount;
+        if (isFast) {
+            // reach the items the scroll lands on in about a second
+            lookahead += Math.min(mMaxPreloadCount, (int) Math.ceil(speed));
+        }
+        for (int i = 0; i < mItems.size(); i++) {
+            final Entry entry = mItems.get(i);
+            if (!entry.isActive()) {
+                continue;
+            }
+            final int distance = (i - mCursor) * step;
+            if (distance < 0) {
+                cancel(entry);
+            } else if (entry.state == STATE_REQUESTED) {
+                mStarter.setPreloadPriority(entry.requesterId, distance);
+            }
+        }
+        for (int distance = 1; distance <= lookahead; distance++) {
+            final int index = mCursor + distance * step;
+            if (index < 0 || index >= mItems.size()) {
+                break;
+            }
+            final Entry entry = mItems.get(index);
+            if (null != entry.info && entry.state == STATE_IDLE) {
+                start(entry, distance, sizeOf(distance, isFast));
+            }
+        }
+    }
+
+    private double sizeOf(int distance, boolean isFast) {
+        // next item gets the full size, then a half, then a quarter
+        double sizeMB = mNextItemMB / (1 << Math.min(distance - 1, 2));
+        if (isFast) {
+            sizeMB /= 2;
+        }
+        return Math.max(MIN_PRELOAD_MB, sizeMB);
+    }
+
+    private void start(Entry entry, int priority, double sizeMB) {
+        final PreLoadInfoMsg info = entry.info;
+        final PreLoadInfoMsg msg = new PreLoadInfoMsg();
+        msg.setAppId(info.getAppId());
+        msg.setFileId(info.getFileId());
+        msg.setPSign(info.getPSign());
+        msg.setPlayUrl(info.getPlayUrl());
+        msg.setPreferredResolution(info.getPreferredResolution());
+        msg.setHttpHeader(info.getHttpHeader());
+        msg.setPreloadSizeMB(sizeMB);
+        msg.setPriority((long) priority);
+        final long requesterId = mStarter.newRequesterId();
+        msg.setTmpPreloadTaskId(requesterId);
+        // set before starting, start events of a shared preload may come back synchronously
+        entry.requesterId = requesterId;
+        entry.state = STATE_REQUESTED;
+        mItemsByRequester.put(requesterId, entry);
+        mStartedCount++;
+        mStarter.startPreload(msg);
+    }
+
+    private void cancel(Entry entry) {
+        mItemsByRequester.remove(entry.requesterId);
+        if (null != mStarter) {
+            mStarter.cancelPreload(entry.requesterId);
+        }
+        entry.requesterId = FTXPreloadGroup.NO_REQUESTER_ID;
+        entry.state = STATE_IDLE;
+        mCancelledCount++;
+    }
+
+    /**
+     * Called by download manager when SDK starts loading a preload.
+     */
+    public synchronized void onPreloadStarted(List<Long> requesterIds) {
+        for (Long requesterId : requesterIds) {
+            final Entry entry = mItemsByRequester.get(requesterId);
+            if (null != entry && entry.state == STATE_REQUESTED) {
+                entry.state = STATE_LOADING;
+            }
+        }
+    }
+
+    /**
+     * Called by download manager when a preload completes or fails.
+     */
+    public synchronized void onPreloadFinished(List<Long> requesterIds, boolean isSuccess) {
+        for (Long requesterId : requesterIds) {
+            final Entry entry = mItemsByRequester.remove(requesterId);
+            if (null == entry) {
+                continue;
+            }
+            entry.requesterId = FTXPreloadGroup.NO_REQUESTER_ID;
+            entry.state = isSuccess ? STATE_COMPLETED : STATE_FAILED;
+            if (isSuccess) {
+                mCompletedCount++;
+            }
+        }
+    }
+
+    /**
+     * Called by players when a media starts to play. Only the first play of a feed item is counted.
+     *
+     * @param mediaId {@link FTXPreloadGroup#mediaIdOf}
+     */
+    public synchronized void onPlay(String mediaId) {
+        final Entry entry = mItemsByMediaId.get(mediaId);
+        if (null == entry || entry.isPlayed) {
+            return;
+        }
+        entry.isPlayed = true;
+        mPlayCount++;
+        if (entry.state == STATE_COMPLETED) {
+            mHitCount++;
+        } else if (entry.state == STATE_LOADING) {
+            mPartialHitCount++;
+        }
+    }
+
+    private static String mediaIdOf(PreLoadInfoMsg info) {
+        final long appId = null != info.getAppId() ? info.getAppId() : 0;
+        return FTXPreloadGroup.mediaIdOf(info.getPlayUrl(), appId, info.getFileId());
+    }
+
+    public synchronized Map<String, String> getMetrics() {
+        int activeCount = 0;
+        for (Entry entry : mItems) {
+            if (entry.isActive()) {
+                activeCount++;
+            }
+        }
+        Map<String, String> map = new HashMap<>();
+        map.put(KEY_ITEM_COUNT, String.valueOf(mItems.size()));
+        map.put(KEY_CURSOR, String.valueOf(mCursor));
+        map.put(KEY_ACTIVE_COUNT, String.valueOf(activeCount));
+        map.put(KEY_STARTED_COUNT, String.valueOf(mStartedCount));
+        map.put(KEY_CANCELLED_COUNT, String.valueOf(mCancelledCount));
+        map.put(KEY_COMPLETED_COUNT, String.valueOf(mCompletedCount));
+        map.put(KEY_PLAY_COUNT, String.valueOf(mPlayCount));
+        map.put(KEY_HIT_COUNT, String.valueOf(mHitCount));
+        map.put(KEY_PARTIAL_HIT_COUNT, String.valueOf(mPartialHitCount));
+        final double hitRate = mPlayCount > 0 ? (double) mHitCount / mPlayCount : 0;
+        map.put(KEY_HIT_RATE, String.format(Locale.US, "%.3f", hitRate));
+        return map;
+    }
+}
@@ -0,0 +1,166 @@
+// Copyright (c) 2022 Tencent. All rights reserved.
+
+package com.tencent.vod.flutter.download;
+
+import android.os.Bundle;
+import android.text.TextUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Requests preloading the same media at the same resolution, served by one SDK preload task.
+ * <p>
+ * Every request holds a reference, the SDK task is stopped only when all of them are released.
+ * Not thread safe, guarded by the owner.
+ * <p>
+ * 相同媒体的预下载请求合并为一个预下载任务
+ */
+public class FTXPreloadGroup {
+
+    /**
+     * Requester without id, e.g. startPreLoad by url. Ids of flutter requests are positive, native ones are
+     * negative.
+     */
+    public static final long NO_REQUESTER_ID = -1;
+
+    private final String mKey;
+    private final long mSchedulerTaskId;
+    private final boolean mIsScheduled;
+    private int mPriority;
+    // tmp task ids of requests from startPreLoadByParams, and ids of native requests
+    private final List<Long> mRequesterIds = new ArrayList<>();
+    private int mRefCount = 0;
+    private int mSdkTaskId = -1;
+    private boolean mIsStarted = false;
+    // completed, failed or released, it must not be registered or shared anymore
+    private boolean mIsFinished = false;
+    private String mFileId;
+    private String mUrl;
+    private Bundle mStartParams;
+
+    /**
+     * @param isScheduled false if the SDK task is started directly, not by {@link FTXPreloadScheduler}
+     */
+    public FTXPreloadGroup(String key, long schedulerTaskId, int priority, boolean isScheduled) {
+        mKey = key;
+        mSchedulerTaskId = schedulerTaskId;
+        mPriority = priority;
+        mIsScheduled = isScheduled;
+    }
+
+    /**
+     * @param preferredResolution preloads of different resolutions are different tasks
+     */
+    public static String keyOf(String url, long appId, String fileId, long preferredResolution) {
+        return mediaIdOf(url, appId, fileId) + "@" + preferredResolution;
+    }
+
+    /**
+     * Identity of media regardless of resolution.
+     */
+    public static String mediaIdOf(String url, long appId, String fileId) {
+        if (!TextUtils.isEmpty(url)) {
+            return "url:" + url;
+        }
+        return "file:" + appId + "/" + fileId;
+    }
+
+    public String getKey() {
+        return mKey;
+    }
+
+    public long getSchedulerTaskId() {
+        return mSchedulerTaskId;
+    }
+
+    public boolean isScheduled() {
+        return mIsScheduled;
+    }
+
+    public int getPriority() {
+        return mPriority;
+    }
+
+    public void setPriority(int priority) {
+        mPriority = priority;
+    }
+
+    /**
+     * @param requesterId tmp task id, {@link #NO_REQUESTER_ID} if the request has no id
+     */
+    public void addRequester(long requesterId) {
+        if (requesterId != NO_REQUESTER_ID) {
+            mRequesterIds.add(requesterId);
+        }
+        mRefCount++;
+    }
+
+    public boolean hasRequester(long requesterId) {
+        return mRequesterIds.contains(requesterId);
+    }
+
+    /**
+     * @return references left
+     */
+    public int removeRequester(long requesterId) {
+        if (mRequesterIds.remove(Long.valueOf(requesterId))) {
+            mRefCount--;
+        }
+        return mRefCount;
+    }
+
+    /**
+     * Release a reference without knowing the requester, e.g. stopped by SDK task id.
+     *
+     * @return references left
+     */
+    public int release() {
+        mRefCount = Math.max(0, mRefCount - 1);
+        return mRefCount;
+    }
+
+    public List<Long> getRequesterIds() {
+        return new ArrayList<>(mRequesterIds);
+    }
+
+    public void onStarted(int sdkTaskId, String fileId, String url, Bundle params) {
+        mIsStarted = true;
+        mSdkTaskId = sdkTaskId;
+        mFileId = fileId;
+        mUrl = url;
+        mStartParams = params;
+    }
+
+    public void setSdkTaskId(int sdkTaskId) {
+        mSdkTaskId = sdkTaskId;
+    }
+
+    public int getSdkTaskId() {
+        return mSdkTaskId;
+    }
+
+    public boolean isStarted() {
+        return mIsStarted;
+    }
+
+    public void finish() {
+        mIsFinished = true;
+    }
+
+    public boolean isFinished() {
+        return mIsFinished;
+    }
+
+    public String getFileId() {
+        return mFileId;
+    }
+
+    public String getUrl() {
+        return mUrl;
+    }
+
+    public Bundle getStartParams() {
+        return null != mStartParams ? mStartParams : new Bundle();
+    }
+}
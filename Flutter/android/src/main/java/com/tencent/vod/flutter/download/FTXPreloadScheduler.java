@@ -0,0 +1,294 @@
+// Copyright (c) 2022 Tencent. All rights reserved.
+
+package com.tencent.vod.flutter.download;
+
+import com.tencent.liteav.base.util.LiteavLog;
+import com.tencent.vod.flutter.common.FTXRenderStats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs preloads in priority order with a bounded count of preloads in flight and a bound of their total size.
+ * <p>
+ * A task takes a slot from the moment it starts until the SDK reports complete or error, or until it is
+ * stopped, so the limits apply to real network work and not only to the blocking start call.
+ * <p>
+ * 预下载调度，按优先级启动，限制同时进行的数量和大小
+ */
+public class FTXPreloadScheduler {
+
+    private static final String TAG = "FTXPreloadScheduler";
+
+    public static final int DEFAULT_MAX_CONCURRENT_COUNT = 3;
+    public static final String KEY_QUEUE_DEPTH = "queueDepth";
+    public static final String KEY_MAX_QUEUE_DEPTH = "maxQueueDepth";
+    public static final String KEY_RUNNING_COUNT = "runningCount";
+    public static final String KEY_INFLIGHT_BYTES = "inflightBytes";
+    public static final String KEY_SUBMITTED_COUNT = "submittedCount";
+    public static final String KEY_CANCELLED_COUNT = "cancelledCount";
+    public static final String KEY_WAIT_AVG_MS = "waitAvgMs";
+    public static final String KEY_WAIT_P90_MS = "waitP90Ms";
+    public static final String KEY_WAIT_MAX_MS = "waitMaxMs";
+
+    /**
+     * A preload, implemented by caller.
+     */
+    public abstract static class Task {
+        private final long mId;
+        private final long mSizeBytes;
+        private int mPriority;
+        private long mSequence;
+        private long mEnqueueTimeNs;
+        private int mSdkTaskId = -1;
+        private boolean mIsStarting = false;
+        private boolean mIsStopRequested = false;
+
+        /**
+         * @param id        unique id given by caller, e.g. tmpPreloadTaskId
+         * @param sizeBytes bytes to preload, 0 if unknown
+         * @param priority  smaller value starts first
+         */
+        public Task(long id, long sizeBytes, int priority) {
+            mId = id;
+            mSizeBytes = Math.max(0, sizeBytes);
+            mPriority = priority;
+        }
+
+        public long getId() {
+            return mId;
+        }
+
+        /**
+         * Start preload on a worker thread, may block.
+         *
+         * @return task id of SDK, negative if failed
+         */
+        protected abstract int onStart();
+
+        /**
+         * Stop a started preload.
+         */
+        protected abstract void onStop(int sdkTaskId);
+    }
+
+    private static final Comparator<Task> PRIORITY_COMPARATOR = new Comparator<Task>() {
+        @Override
+        public int compare(Task o1, Task o2) {
+            if (o1.mPriority != o2.mPriority) {
+                return o1.mPriority < o2.mPriority ? -1 : 1;
+            }
+            return Long.compare(o1.mSequence, o2.mSequence);
+        }
+    };
+
+    private final Object mLock = new Object();
+    private final PriorityQueue<Task> mQueue = new PriorityQueue<>(16, PRIORITY_COMPARATOR);
+    // queued and running tasks
+    private final Map<Long, Task> mTasks = new HashMap<>();
+    private final List<Task> mRunningTasks = new ArrayList<>();
+    // threads are bounded by max concurrent count, only running tasks are executed
+    private final ExecutorService mStartExecutor = Executors.newCachedThreadPool();
+    private final FTXRenderStats.Histogram mWaitTime = new FTXRenderStats.Histogram();
+    private int mMaxConcurrentCount = DEFAULT_MAX_CONCURRENT_COUNT;
+    // 0 means no limit
+    private long mMaxInflightBytes = 0;
+    private long mInflightBytes = 0;
+    private long mSequence = 0;
+    private int mMaxQueueDepth = 0;
+    private long mSubmittedCount = 0;
+    private long mCancelledCount = 0;
+
+    /**
+     * @param maxConcurrentCount at least 1
+     * @param maxInflightBytes   0 or less for no limit, a single task larger than it still runs when nothing else is
+     *                           in flight
+     */
+    public void setConfig(int maxConcurrentCount, long maxInflightBytes) {
+        synchronized (mLock) {
+            mMaxConcurrentCount = Math.max(1, maxConcurrentCount);
+            mMaxInflightBytes = Math.max(0, maxInflightBytes);
+            LiteavLog.i(TAG, "setConfig, maxConcurrentCount:" + mMaxConcurrentCount
+                    + ", maxInflightBytes:" + mMaxInflightBytes);
+        }
+        dispatch();
+    }
+
+    public void submit(Task task) {
+        synchronized (mLock) {
+            final Task old = mTasks.get(task.mId);
+            if (null != old) {
+                LiteavLog.w(TAG, "task is already submitted:" + task.mId);
+                return;
+            }
+            task.mSequence = mSequence++;
+            task.mEnqueueTimeNs = System.nanoTime();
+            mTasks.put(task.mId, task);
+            mQueue.add(task);
+            mSubmittedCount++;
+            mMaxQueueDepth = Math.max(mMaxQueueDepth, mQueue.size());
+        }
+        dispatch();
+    }
+
+    /**
+     * Change priority of a queued task, no effect on started ones.
+     */
+    public void setPriority(long id, int priority) {
+        synchronized (mLock) {
+            final Task task = mTasks.get(id);
+            if (null != task && task.mPriority != priority && mQueue.remove(task)) {
+                task.mPriority = priority;
+                mQueue.add(task);
+            }
+        }
+    }
+
+    /**
+     * Remove a queued task, or stop a started one.
+     *
+     * @return true if the task is found
+     */
+    public boolean cancel(long id) {
+        int sdkTaskIdToStop = -1;
+        Task taskToStop = null;
+        synchronized (mLock) {
+            final Task task = mTasks.get(id);
+            if (null == task) {
+                return false;
+            }
+            mCancelledCount++;
+            if (mQueue.remove(task)) {
+                mTasks.remove(id);
+                return true;
+            }
+            if (task.mIsStarting) {
+                // stopped as soon as start returns
+                task.mIsStopRequested = true;
+                return true;
+            }
+            sdkTaskIdToStop = task.mSdkTaskId;
+            taskToStop = task;
+            finishLocked(task);
+        }
+        if (sdkTaskIdToStop >= 0) {
+            taskToStop.onStop(sdkTaskIdToStop);
+        }
+        dispatch();
+        return true;
+    }
+
+    /**
+     * Called when SDK reports complete or error of a started task.
+     */
+    public void onTaskFinished(long id) {
+        synchronized (mLock) {
+            final Task task = mTasks.get(id);
+            if (null == task) {
+                return;
+            }
+            finishLocked(task);
+        }
+        dispatch();
+    }
+
+    /**
+     * Called when a preload is stopped by its SDK task id outside of scheduler.
+     */
+    public void onSdkTaskStopped(int sdkTaskId) {
+        synchronized (mLock) {
+            Task stopped = null;
+            for (Task task : mRunningTasks) {
+                if (task.mSdkTaskId == sdkTaskId) {
+                    stopped = task;
+                    break;
+                }
+            }
+            if (null == stopped) {
+                return;
+            }
+            finishLocked(stopped);
+        }
+        dispatch();
+    }
+
+    private void finishLocked(Task task) {
+        mTasks.remove(task.mId);
+        if (mRunningTasks.remove(task)) {
+            mInflightBytes -= task.mSizeBytes;
+        }
+    }
+
+    private void dispatch() {
+        while (true) {
+            final Task task;
+            synchronized (mLock) {
+                task = mQueue.peek();
+                if (null == task || mRunningTasks.size() >= mMaxConcurrentCount) {
+                    return;
+                }
+                if (mMaxInflightBytes > 0 && !mRunningTasks.isEmpty()
+                        && mInflightBytes + task.mSizeBytes > mMaxInflightBytes) {
+                    return;
+                }
+                mQueue.poll();
+                mRunningTasks.add(task);
+                mInflightBytes += task.mSizeBytes;
+                task.mIsStarting = true;
+                mWaitTime.record(System.nanoTime() - task.mEnqueueTimeNs);
+            }
+            mStartExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    runTask(task);
+                }
+            });
+        }
+    }
+
+    private void runTask(Task task) {
+        int sdkTaskId = -1;
+        try {
+            sdkTaskId = task.onStart();
+        } catch (Exception e) {
+            LiteavLog.e(TAG, "start preload error:" + e);
+        }
+        boolean needStop = false;
+        synchronized (mLock) {
+            task.mIsStarting = false;
+            task.mSdkTaskId = sdkTaskId;
+            if (sdkTaskId < 0) {
+                finishLocked(task);
+            } else if (task.mIsStopRequested) {
+                needStop = true;
+                finishLocked(task);
+            }
+        }
+        if (needStop) {
+            task.onStop(sdkTaskId);
+        }
+        dispatch();
+    }
+
+    public Map<String, String> getMetrics() {
+        Map<String, String> map = new HashMap<>();
+        synchronized (mLock) {
+            map.put(KEY_QUEUE_DEPTH, String.valueOf(mQueue.size()));
+            map.put(KEY_MAX_QUEUE_DEPTH, String.valueOf(mMaxQueueDepth));
+            map.put(KEY_RUNNING_COUNT, String.valueOf(mRunningTasks.size()));
+            map.put(KEY_INFLIGHT_BYTES, String.valueOf(mInflightBytes));
+            map.put(KEY_SUBMITTED_COUNT, String.valueOf(mSubmittedCount));
+            map.put(KEY_CANCELLED_COUNT, String.valueOf(mCancelledCount));
+        }
+        map.put(KEY_WAIT_AVG_MS, String.valueOf(mWaitTime.getAvgUs() / 1000));
+        map.put(KEY_WAIT_P90_MS, String.valueOf(mWaitTime.getPercentileUs(90) / 1000));
+        map.put(KEY_WAIT_MAX_MS, String.valueOf(mWaitTime.getMaxUs() / 1000));
+        return map;
+    }
+}
@@ -0,0 +1,77 @@
+package com.tencent.vod.flutter.live.render;
+
+import android.opengl.GLES20;
+
+import com.tencent.vod.flutter.live.egl.OpenGlUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pool of frame buffers with RGBA texture attachment, reused by size. Must be used on one GL thread.
+ */
+public class FTXFrameBufferPool {
+
+    private static final int MAX_IDLE_COUNT = 4;
+
+    private final List<FrameBuffer> mIdleBuffers = new ArrayList<>();
+
+    public static class FrameBuffer {
+        public final int frameBufferId;
+        public final int textureId;
+        public final int width;
+        public final int height;
+
+        private FrameBuffer(int frameBufferId, int textureId, int width, int height) {
+            this.frameBufferId = frameBufferId;
+            this.textureId = textureId;
+            this.width = width;
+            this.height = height;
+        }
+
+        public void bind() {
+            GLES20.glBindFramebuffer(GLES20.GL_FRAMEBUFFER, frameBufferId);
+            GLES20.glViewport(0, 0, width, height);
+        }
+    }
+
+    public FrameBuffer obtain(int width, int height) {
+        for (int i = 0; i < mIdleBuffers.size(); i++) {
+            FrameBuffer buffer = mIdleBuffers.get(i);
+            if (buffer.width == width && buffer.height == height) {
+                mIdleBuffers.remove(i);
+                return buffer;
+            }
+        }
+        final int textureId = OpenGlUtils.loadTexture(GLES20.GL_RGBA, null, width, height,
+                OpenGlUtils.NO_TEXTURE);
+        final int frameBufferId = OpenGlUtils.generateFrameBufferId();
+        GLES20.glBindFramebuffer(GLES20.GL_FRAMEBUFFER, frameBufferId);
+        GLES20.glFramebufferTexture2D(GLES20.GL_FRAMEBUFFER, GLES20.GL_COLOR_ATTACHMENT0,
+                GLES20.GL_TEXTURE_2D, textureId, 0);
+        GLES20.glBindFramebuffer(GLES20.GL_FRAMEBUFFER, 0);
+        return new FrameBuffer(frameBufferId, textureId, width, height);
+    }
+
+    public void recycle(FrameBuffer buffer) {
+        if (null == buffer) {
+            return;
+        }
+        if (mIdleBuffers.size() >= MAX_IDLE_COUNT) {
+            delete(mIdleBuffers.remove(0));
+        }
+        mIdleBuffers.add(buffer);
+    }
+
+    public void destroy() {
+        for (FrameBuffer buffer : mIdleBuffers) {
+            delete(buffer);
+        }
+        mIdleBuffers.clear();
+    }
+
+    private void delete(FrameBuffer buffer) {
+        OpenGlUtils.deleteFrameBuffer(buffer.frameBufferId);
+        OpenGlUtils.deleteTexture(buffer.textureId);
+    }
+}
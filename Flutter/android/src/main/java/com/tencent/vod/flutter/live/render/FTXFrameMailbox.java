@@ -0,0 +1,270 @@
+package com.tencent.vod.flutter.live.render;
+
+import android.os.SystemClock;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded frame queue between one frame provider and one render. When it is full, the oldest frame is dropped, so
+ * render always gets the freshest frames.
+ * <p>
+ * It is a ring of slots. Offer and poll only write slots and CAS the read index, nothing is locked or allocated per
+ * frame. Every frame is either taken or counted as dropped exactly once, and frames are taken in offer order.
+ */
+public class FTXFrameMailbox<T> {
+
+    /**
+     * keep only the latest frame
+     */
+    public static final int POLICY_KEEP_LATEST = 0;
+    /**
+     * keep the latest N frames
+     */
+    public static final int POLICY_KEEP_N = 1;
+
+    private volatile Ring<T> mRing;
+    private volatile int mPolicy;
+    // capacity of the ring to install on next offer, 0 for none
+    private volatile int mPendingCapacity = 0;
+
+    private final AtomicLong mOfferedCount = new AtomicLong(0);
+    private final AtomicLong mTakenCount = new AtomicLong(0);
+    private final AtomicLong mDroppedCount = new AtomicLong(0);
+    private final AtomicInteger mHighWaterMark = new AtomicInteger(0);
+    // offer time of the last polled frame
+    private long mLastPollOfferTimeNs = 0;
+
+    public FTXFrameMailbox() {
+        this(POLICY_KEEP_LATEST, 1);
+    }
+
+    public FTXFrameMailbox(int policy, int keepCount) {
+        setPolicy(policy, keepCount);
+    }
+
+    /**
+     * Can be called on any thread. The new ring is installed by the provider thread on its next offer, frames
+     * waiting in the old ring are handed over to it, only those beyond the new capacity are dropped.
+     *
+     * @param keepCount only used by {@link #POLICY_KEEP_N}
+     */
+    public void setPolicy(int policy, int keepCount) {
+        mPolicy = policy;
+        final int capacity = policy == POLICY_KEEP_N ? Math.max(keepCount, 1) : 1;
+        if (null == mRing) {
+            mRing = new Ring<>(capacity);
+        } else {
+            mPendingCapacity = capacity;
+        }
+    }
+
+    public int getPolicy() {
+        return mPolicy;
+    }
+
+    /**
+     * Called by frame provider thread only.
+     */
+    public void offer(T frame) {
+        if (null == frame) {
+            return;
+        }
+        mOfferedCount.incrementAndGet();
+        final int pendingCapacity = mPendingCapacity;
+        if (pendingCapacity > 0) {
+            mPendingCapacity = 0;
+            replaceRing(pendingCapacity);
+        }
+        final Ring<T> ring = mRing;
+        if (ring.offer(frame, SystemClock.elapsedRealtimeNanos())) {
+            mDroppedCount.incrementAndGet();
+        }
+        final int size = ring.size();
+        int highWater = mHighWaterMark.get();
+        while (size > highWater && !mHighWaterMark.compareAndSet(highWater, size)) {
+            highWater = mHighWaterMark.get();
+        }
+    }
+
+    /**
+     * Called by frame provider thread only, it is the only writer of both rings. Render may still poll the old
+     * ring meanwhile, every waiting frame is claimed either by render or by the hand over, never by both.
+     */
+    private void replaceRing(int capacity) {
+        final Ring<T> oldRing = mRing;
+        final Ring<T> newRing = new Ring<>(capacity);
+        mDroppedCount.addAndGet(oldRing.transferTo(newRing));
+        mRing = newRing;
+    }
+
+    /**
+     * Called by render thread only.
+     */
+    public T poll() {
+        final Ring<T> ring = mRing;
+        T frame = ring.poll();
+        if (null != frame) {
+            mTakenCount.incrementAndGet();
+            mLastPollOfferTimeNs = ring.mLastPollTimeNs;
+        }
+        return frame;
+    }
+
+    /**
+     * {@link android.os.SystemClock#elapsedRealtimeNanos()} when the last polled frame was offered.
+     * Called by render thread only.
+     */
+    public long getLastPollOfferTimeNs() {
+        return mLastPollOfferTimeNs;
+    }
+
+    /**
+     * Drop all frames in mailbox, they are counted as dropped. Can be called on any thread.
+     */
+    public void clear() {
+        mDroppedCount.addAndGet(mRing.clear());
+    }
+
+    public boolean isEmpty() {
+        return mRing.size() <= 0;
+    }
+
+    public int size() {
+        return mRing.size();
+    }
+
+    public long getOfferedCount() {
+        return mOfferedCount.get();
+    }
+
+    public long getTakenCount() {
+        return mTakenCount.get();
+    }
+
+    public long getDroppedCount() {
+        return mDroppedCount.get();
+    }
+
+    /**
+     * Max frames ever queued in mailbox.
+     */
+    public int getHighWaterMark() {
+        return mHighWaterMark.get();
+    }
+
+    /**
+     * Single writer ring. Frame i is in slot i % capacity. Render claims frame i by moving read index from i to
+     * i + 1 with a CAS, after it has read the slot. When the ring is full, provider claims the oldest frame with
+     * the same CAS before it overwrites its slot, so a claimed slot is never written and a frame is paired with its
+     * own time. Indices only grow, so a CAS can't succeed on a lapped slot.
+     */
+    private static class Ring<T> {
+
+        private final int mCapacity;
+        private final AtomicReferenceArray<T> mSlots;
+        private final AtomicLongArray mSlotTimes;
+        // only written by provider, frames below it are published
+        private final AtomicLong mWriteIndex = new AtomicLong(0);
+        // frames below it are taken or dropped
+        private final AtomicLong mReadIndex = new AtomicLong(0);
+        // only used by render
+        private long mLastPollTimeNs = 0;
+
+        private Ring(int capacity) {
+            mCapacity = capacity;
+            mSlots = new AtomicReferenceArray<>(capacity);
+            mSlotTimes = new AtomicLongArray(capacity);
+        }
+
+        /**
+         * Called by provider only.
+         *
+         * @return true if the oldest frame is dropped for it
+         */
+        private boolean offer(T frame, long timeNs) {
+            final long writeIndex = mWriteIndex.get();
+            boolean isDropped = false;
+            while (true) {
+                final long readIndex = mReadIndex.get();
+                if (writeIndex - readIndex < mCapacity) {
+                    break;
+                }
+                if (mReadIndex.compareAndSet(readIndex, readIndex + 1)) {
+                    isDropped = true;
+                    break;
+                }
+            }
+            final int slot = (int) (writeIndex % mCapacity);
+            mSlots.set(slot, frame);
+            mSlotTimes.set(slot, timeNs);
+            mWriteIndex.set(writeIndex + 1);
+            return isDropped;
+        }
+
+        /**
+         * Called by render only.
+         */
+        private T poll() {
+            while (true) {
+                final long readIndex = mReadIndex.get();
+                if (readIndex >= mWriteIndex.get()) {
+                    return null;
+                }
+                final int slot = (int) (readIndex % mCapacity);
+                final T frame = mSlots.get(slot);
+                final long timeNs = mSlotTimes.get(slot);
+                if (mReadIndex.compareAndSet(readIndex, readIndex + 1)) {
+                    mLastPollTimeNs = timeNs;
+                    return frame;
+                }
+                // provider dropped it or mailbox was cleared, try the next one
+            }
+        }
+
+        /**
+         * Called by provider only, move waiting frames to a ring that is not published yet.
+         *
+         * @return count of dropped frames
+         */
+        private int transferTo(Ring<T> dst) {
+            int droppedCount = 0;
+            while (true) {
+                final long readIndex = mReadIndex.get();
+                if (readIndex >= mWriteIndex.get()) {
+                    return droppedCount;
+                }
+                final int slot = (int) (readIndex % mCapacity);
+                final T frame = mSlots.get(slot);
+                final long timeNs = mSlotTimes.get(slot);
+                if (mReadIndex.compareAndSet(readIndex, readIndex + 1) && dst.offer(frame, timeNs)) {
+                    droppedCount++;
+                }
+            }
+        }
+
+        /**
+         * @return count of dropped frames
+         */
+        private int clear() {
+            while (true) {
+                final long readIndex = mReadIndex.get();
+                final long writeIndex = mWriteIndex.get();
+                if (readIndex >= writeIndex) {
+                    return 0;
+                }
+                if (mReadIndex.compareAndSet(readIndex, writeIndex)) {
+                    return (int) (writeIndex - readIndex);
+                }
+            }
+        }
+
+        private int size() {
+            final long readIndex = mReadIndex.get();
+            final long size = mWriteIndex.get() - readIndex;
+            return (int) Math.max(0, Math.min(size, mCapacity));
+        }
+    }
+}
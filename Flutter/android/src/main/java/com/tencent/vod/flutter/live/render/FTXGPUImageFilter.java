@@ -54,9 +54,15 @@ public class FTXGPUImageFilter {
     }
 
     public FTXGPUImageFilter(boolean flip) {
+        this(NO_FILTER_VERTEX_SHADER, flip ? NO_FILTER_FRAGMENT_SHADER_FLIP : NO_FILTER_FRAGMENT_SHADER);
+    }
+
+    /**
+     * For sub filters, shaders must keep the attribute and sampler names of {@link #NO_FILTER_VERTEX_SHADER}.
+     */
+    protected FTXGPUImageFilter(String vertexShader, String fragmentShader) {
         mRunOnDraw = new LinkedList<>();
-        mProgram = new FTXProgram(NO_FILTER_VERTEX_SHADER,
-                flip ? NO_FILTER_FRAGMENT_SHADER_FLIP : NO_FILTER_FRAGMENT_SHADER);
+        mProgram = new FTXProgram(vertexShader, fragmentShader);
     }
 
     public final void init() {
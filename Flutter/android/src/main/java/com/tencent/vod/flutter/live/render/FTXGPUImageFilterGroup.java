@@ -0,0 +1,180 @@
+package com.tencent.vod.flutter.live.render;
+
+import android.opengl.GLES20;
+
+import com.tencent.vod.flutter.live.egl.OpenGlUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A chain of {@link FTXGPUImageFilter} drawn by ping-pong between two pooled frame buffers. Input is a 2D texture,
+ * output is the texture of the last frame buffer, which is valid until next {@link #process}.
+ * <p>
+ * CPU time of every filter is always recorded. Call {@link #setProfileEnabled} to wait for GPU after each filter,
+ * then the time is the real GPU cost, but it stalls the pipeline, so only for debug.
+ * <p>
+ * All methods except getters must be called on GL thread.
+ */
+public class FTXGPUImageFilterGroup {
+
+    // read by stats getters on other threads
+    private final List<FilterEntry> mFilters = new CopyOnWriteArrayList<>();
+    private final FTXFrameBufferPool mFrameBufferPool = new FTXFrameBufferPool();
+    private final FTXFrameBufferPool.FrameBuffer[] mPingPongBuffers = new FTXFrameBufferPool.FrameBuffer[2];
+    private final FloatBuffer mCubeBuffer;
+    private final FloatBuffer mTextureBuffer;
+    private int mOutputWidth = 0;
+    private int mOutputHeight = 0;
+    private volatile boolean mIsProfileEnabled = false;
+
+    private static class FilterEntry {
+        private final FTXGPUImageFilter filter;
+        private volatile long totalCostNs = 0;
+        private volatile long drawCount = 0;
+
+        private FilterEntry(FTXGPUImageFilter filter) {
+            this.filter = filter;
+        }
+    }
+
+    public FTXGPUImageFilterGroup() {
+        mCubeBuffer = ByteBuffer.allocateDirect(OpenGlUtils.CUBE.length * 4)
+                .order(ByteOrder.nativeOrder()).asFloatBuffer();
+        mCubeBuffer.put(OpenGlUtils.CUBE).position(0);
+        mTextureBuffer = ByteBuffer.allocateDirect(OpenGlUtils.TEXTURE.length * 4)
+                .order(ByteOrder.nativeOrder()).asFloatBuffer();
+        mTextureBuffer.put(OpenGlUtils.TEXTURE).position(0);
+    }
+
+    public void addFilter(FTXGPUImageFilter filter) {
+        if (null != filter) {
+            mFilters.add(new FilterEntry(filter));
+            if (mOutputWidth > 0 && mOutputHeight > 0) {
+                filter.onOutputSizeChanged(mOutputWidth, mOutputHeight);
+            }
+        }
+    }
+
+    public void removeFilter(FTXGPUImageFilter filter) {
+        for (int i = 0; i < mFilters.size(); i++) {
+            if (mFilters.get(i).filter == filter) {
+                mFilters.remove(i);
+                if (filter.isInitialized()) {
+                    filter.destroy();
+                }
+                return;
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return mFilters.isEmpty();
+    }
+
+    public void setProfileEnabled(boolean enable) {
+        mIsProfileEnabled = enable;
+    }
+
+    /**
+     * Draw the input through all filters.
+     *
+     * @return texture id of result, or the input texture if there is no filter
+     */
+    public int process(int textureId, int outputWidth, int outputHeight) {
+        if (mFilters.isEmpty() || outputWidth <= 0 || outputHeight <= 0) {
+            return textureId;
+        }
+        if (mOutputWidth != outputWidth || mOutputHeight != outputHeight) {
+            onOutputSizeChanged(outputWidth, outputHeight);
+        }
+        int inputTexture = textureId;
+        for (int i = 0; i < mFilters.size(); i++) {
+            final FilterEntry entry = mFilters.get(i);
+            if (!entry.filter.isInitialized()) {
+                entry.filter.init();
+                entry.filter.onOutputSizeChanged(outputWidth, outputHeight);
+            }
+            final FTXFrameBufferPool.FrameBuffer target = mPingPongBuffers[i % 2];
+            final long startNs = System.nanoTime();
+            target.bind();
+            entry.filter.onDraw(inputTexture, mCubeBuffer, mTextureBuffer);
+            if (mIsProfileEnabled) {
+                GLES20.glFinish();
+            }
+            entry.totalCostNs += System.nanoTime() - startNs;
+            entry.drawCount++;
+            inputTexture = target.textureId;
+        }
+        GLES20.glBindFramebuffer(GLES20.GL_FRAMEBUFFER, 0);
+        return inputTexture;
+    }
+
+    private void onOutputSizeChanged(int width, int height) {
+        mOutputWidth = width;
+        mOutputHeight = height;
+        for (int i = 0; i < mPingPongBuffers.length; i++) {
+            mFrameBufferPool.recycle(mPingPongBuffers[i]);
+            mPingPongBuffers[i] = mFrameBufferPool.obtain(width, height);
+        }
+        for (FilterEntry entry : mFilters) {
+            entry.filter.onOutputSizeChanged(width, height);
+        }
+    }
+
+    public int getFilterCount() {
+        return mFilters.size();
+    }
+
+    /**
+     * Average cost of filter at index, in microseconds.
+     */
+    public long getFilterCostUs(int index) {
+        final FilterEntry entry;
+        try {
+            entry = mFilters.get(index);
+        } catch (IndexOutOfBoundsException e) {
+            return 0;
+        }
+        final long count = entry.drawCount;
+        return count > 0 ? entry.totalCostNs / count / 1000 : 0;
+    }
+
+    /**
+     * Average cost of whole chain, in microseconds.
+     */
+    public long getTotalCostUs() {
+        long cost = 0;
+        for (int i = 0; i < mFilters.size(); i++) {
+            cost += getFilterCostUs(i);
+        }
+        return cost;
+    }
+
+    /**
+     * Release GL objects of the current context but keep the filters, they are initialized again on the next
+     * {@link #process} in a new context.
+     */
+    public void releaseGLResources() {
+        for (FilterEntry entry : mFilters) {
+            if (entry.filter.isInitialized()) {
+                entry.filter.destroy();
+            }
+        }
+        for (int i = 0; i < mPingPongBuffers.length; i++) {
+            mFrameBufferPool.recycle(mPingPongBuffers[i]);
+            mPingPongBuffers[i] = null;
+        }
+        mFrameBufferPool.destroy();
+        mOutputWidth = 0;
+        mOutputHeight = 0;
+    }
+
+    public void destroy() {
+        releaseGLResources();
+        mFilters.clear();
+    }
+}
@@ -0,0 +1,75 @@
+package com.tencent.vod.flutter.live.render;
+
+import android.opengl.GLES20;
+
+/**
+ * Cheap unsharp mask with 5 taps. Drawn at a larger output size it also works as a sharpened upscale, which keeps
+ * perceived quality when streaming a lower bitrate rung.
+ */
+public class FTXSharpenFilter extends FTXGPUImageFilter {
+
+    public static final String SHARPEN_FRAGMENT_SHADER = ""
+            + "precision mediump float;\n"
+            + "varying highp vec2 textureCoordinate;\n"
+            + " \n"
+            + "uniform sampler2D inputImageTexture;\n"
+            + "uniform highp vec2 texelSize;\n"
+            + "uniform float sharpness;\n"
+            + " \n"
+            + "void main()\n"
+            + "{\n"
+            + "    vec4 color = texture2D(inputImageTexture, textureCoordinate);\n"
+            + "    vec3 around = texture2D(inputImageTexture, textureCoordinate + vec2(texelSize.x, 0.0)).rgb\n"
+            + "            + texture2D(inputImageTexture, textureCoordinate - vec2(texelSize.x, 0.0)).rgb\n"
+            + "            + texture2D(inputImageTexture, textureCoordinate + vec2(0.0, texelSize.y)).rgb\n"
+            + "            + texture2D(inputImageTexture, textureCoordinate - vec2(0.0, texelSize.y)).rgb;\n"
+            + "    vec3 sharpened = color.rgb * (1.0 + 4.0 * sharpness) - around * sharpness;\n"
+            + "    gl_FragColor = vec4(clamp(sharpened, 0.0, 1.0), color.a);\n"
+            + "}";
+
+    private int mGLUniformTexelSize;
+    private int mGLUniformSharpness;
+    private float mTexelWidth = 0;
+    private float mTexelHeight = 0;
+    private volatile float mSharpness;
+
+    /**
+     * @param sharpness 0 ~ 1, 0 means no sharpen
+     */
+    public FTXSharpenFilter(float sharpness) {
+        super(NO_FILTER_VERTEX_SHADER, SHARPEN_FRAGMENT_SHADER);
+        setSharpness(sharpness);
+    }
+
+    public void setSharpness(float sharpness) {
+        mSharpness = Math.max(0, Math.min(sharpness, 1));
+    }
+
+    public float getSharpness() {
+        return mSharpness;
+    }
+
+    @Override
+    protected void onInit() {
+        super.onInit();
+        mGLUniformTexelSize = GLES20.glGetUniformLocation(mProgram.getProgramId(), "texelSize");
+        mGLUniformSharpness = GLES20.glGetUniformLocation(mProgram.getProgramId(), "sharpness");
+    }
+
+    /**
+     * Texel size is taken from output size, so the taps are in output pixels when upscaling.
+     */
+    @Override
+    public void onOutputSizeChanged(int width, int height) {
+        if (width > 0 && height > 0) {
+            mTexelWidth = 1.0f / width;
+            mTexelHeight = 1.0f / height;
+        }
+    }
+
+    @Override
+    protected void beforeDrawArrays(int textureId) {
+        GLES20.glUniform2f(mGLUniformTexelSize, mTexelWidth, mTexelHeight);
+        GLES20.glUniform1f(mGLUniformSharpness, mSharpness);
+    }
+}
@@ -6,6 +6,7 @@ import android.opengl.GLES20;
 import android.os.Handler;
 import android.os.HandlerThread;
 import android.os.Message;
+import android.os.SystemClock;
 import android.util.Pair;
 import android.view.Surface;
 import android.widget.ImageView;
@@ -14,6 +15,7 @@ import androidx.annotation.NonNull;
 
 import com.tencent.liteav.base.util.LiteavLog;
 import com.tencent.live2.V2TXLiveDef;
+import com.tencent.vod.flutter.common.FTXRenderStats;
 import com.tencent.vod.flutter.live.egl.EGL10Helper;
 import com.tencent.vod.flutter.live.egl.EGL14Helper;
 import com.tencent.vod.flutter.live.egl.EGLHelper;
@@ -22,35 +24,28 @@ import com.tencent.vod.flutter.live.egl.OpenGlUtils;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.FloatBuffer;
-import java.util.ArrayDeque;
-import java.util.Queue;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 public class FTXV2LiveRender {
 
     private static final String TAG = "FTXV2LiveRender";
-    private static final long WAIT_FRAME_DURATION_MILL = 2000;
     private static final AtomicLong mRenderId = new AtomicLong();
     private static final int WHAT_DRAW_FRAME = 0x01;
-    private static final int WHAT_UN_INIT = 0x02;
     private static final int WHAT_DESTROY = 0x03;
     private static final int WHAT_STOP = 0x04;
-    private static final int WHAT_OFFER_FRAME = 0x05;
     private static final int WHAT_START_DRAW = 0x06;
 
     private Surface mSurface;
-    private ExecutorService mRenderService = Executors.newFixedThreadPool(1);
-    private final Queue<V2TXLiveDef.V2TXLiveVideoFrame> mDataPool = new ArrayDeque<>();
-    private final Lock mDrawLock = new ReentrantLock();
-    private final Condition mDrawCondition = mDrawLock.newCondition();
+    // bounded, keep latest frame by default, so a stalled GL side can not pile up frames
+    private final FTXFrameMailbox<V2TXLiveDef.V2TXLiveVideoFrame> mDataPool = new FTXFrameMailbox<>();
+    // a draw message is in render loop, frames offered before it is handled need no extra message
+    private final AtomicBoolean mIsDrawScheduled = new AtomicBoolean(false);
+    private volatile long mDrawnFrameCount = 0;
+    private final FTXRenderStats mStats = new FTXRenderStats();
+    private volatile long mLastFrameLatencyUs = 0;
+    private volatile long mMaxFrameLatencyUs = 0;
+    private volatile long mTotalFrameLatencyUs = 0;
     private volatile boolean mIsInDrawing = false;
     private boolean mIsDestroyed = false;
     private final FloatBuffer mCubeBuffer;
@@ -62,13 +57,16 @@ public class FTXV2LiveRender {
     private FTXSize mLastOutputFTXSize = new FTXSize();
 
     private FTXGPUImageFilter mImageFilter;
+    // post-processing before the final draw, only touched on render loop
+    private final FTXGPUImageFilterGroup mFilterGroup = new FTXGPUImageFilterGroup();
+    private FTXSharpenFilter mSharpenFilter;
     /**
      * @noinspection rawtypes
      */
     private EGLHelper mEglHelper;
+    // the only render loop, all GL work runs on it
     private final HandlerThread mOptHandlerThread = new HandlerThread(TAG + mRenderId.getAndIncrement());
     private final Handler mOptHandler;
-    private Future<?> mDrawServiceFuture;
 
     public FTXV2LiveRender(SurfaceTexture surfaceTexture) {
         mCubeBuffer = ByteBuffer.allocateDirect(OpenGlUtils.CUBE.length * 4)
@@ -86,44 +84,18 @@ public class FTXV2LiveRender {
             @Override
             public void handleMessage(@NonNull Message msg) {
                 switch (msg.what) {
-                    case WHAT_DRAW_FRAME: {
-                        if (mIsDestroyed || !mIsInDrawing) {
-                            break;
-                        }
-                        V2TXLiveDef.V2TXLiveVideoFrame videoFrame = (V2TXLiveDef.V2TXLiveVideoFrame) msg.obj;
-                        onDrawFrame(videoFrame);
-                    }
-                    break;
-                    case WHAT_UN_INIT:
-                        unInitEGL();
+                    case WHAT_DRAW_FRAME:
+                        drawPendingFrame();
                         break;
                     case WHAT_STOP:
-                        try {
-                            stopInner();
-                            if (null != mDrawServiceFuture) {
-                                mDrawServiceFuture.get();
-                            }
-                            unInitEGL();
-                        } catch (ExecutionException | InterruptedException e) {
-                            LiteavLog.e(TAG, "stop render service error:" + e);
-                        }
+                        stopInner();
+                        unInitEGL();
                         break;
                     case WHAT_DESTROY:
                         destroyInner();
                         break;
-                    case WHAT_OFFER_FRAME: {
-                        if (mIsDestroyed) {
-                            break;
-                        }
-                        V2TXLiveDef.V2TXLiveVideoFrame videoFrame = (V2TXLiveDef.V2TXLiveVideoFrame) msg.obj;
-                        mDrawLock.lock();
-                        mDataPool.offer(videoFrame);
-                        mDrawCondition.signalAll();
-                        mDrawLock.unlock();
-                    }
-                    break;
                     case WHAT_START_DRAW:
-                        startDrawInner();
+                        mIsInDrawing = true;
                         break;
                     default:
                         LiteavLog.e(TAG, "un hit handler msg, what:" + msg.what);
@@ -133,61 +105,50 @@ public class FTXV2LiveRender {
         };
     }
 
+    /**
+     * Called on frame provider thread. The frame is put in mailbox and render loop is woken up only if it is idle,
+     * sendEmptyMessage takes message from the system pool, so nothing is allocated per frame.
+     */
     public void updateFrame(V2TXLiveDef.V2TXLiveVideoFrame videoFrame) {
         if (mIsInDrawing) {
-            Message message = new Message();
-            message.what = WHAT_OFFER_FRAME;
-            message.obj = videoFrame;
-            mOptHandler.sendMessage(message);
+            mDataPool.offer(videoFrame);
+            if (mIsDrawScheduled.compareAndSet(false, true)) {
+                mOptHandler.sendEmptyMessage(WHAT_DRAW_FRAME);
+            }
         }
     }
 
-    private void startDrawInner() {
-        if (null == mRenderService || mRenderService.isShutdown()) {
-            LiteavLog.e(TAG, "render service is already shutdown, please reCreated it");
+    private void drawPendingFrame() {
+        mIsDrawScheduled.set(false);
+        if (mIsDestroyed || !mIsInDrawing) {
+            mDataPool.clear();
             return;
         }
-        mIsInDrawing = true;
-        mDrawServiceFuture = mRenderService.submit(new Runnable() {
-            @Override
-            public void run() {
-                while (mIsInDrawing) {
-                    try {
-                        mDrawLock.lock();
-                        V2TXLiveDef.V2TXLiveVideoFrame videoFrame = mDataPool.poll();
-                        while (null == videoFrame) {
-                            boolean waitResult = mDrawCondition.await(WAIT_FRAME_DURATION_MILL, TimeUnit.MILLISECONDS);
-                            if (!mIsInDrawing) {
-                                LiteavLog.w(TAG, "render thread is interrupted by set drawing status");
-                                return;
-                            }
-                            if (!waitResult) {
-                                LiteavLog.w(TAG, "poll a null frame, please ensure "
-                                        + "frame provider is working! wait time:"
-                                        + WAIT_FRAME_DURATION_MILL);
-                            } else {
-                                videoFrame = mDataPool.poll();
-                            }
-                        }
-                        Message message = new Message();
-                        message.what = WHAT_DRAW_FRAME;
-                        message.obj = videoFrame;
-                        mOptHandler.sendMessage(message);
-                    } catch (InterruptedException e) {
-                        LiteavLog.w(TAG, "render service is interrupted:" + e);
-                    } finally {
-                        mDrawLock.unlock();
-                    }
-                }
-            }
-        });
+        V2TXLiveDef.V2TXLiveVideoFrame videoFrame = mDataPool.poll();
+        if (null == videoFrame) {
+            return;
+        }
+        if (onDrawFrame(videoFrame)) {
+            updateLatency(SystemClock.elapsedRealtimeNanos() - mDataPool.getLastPollOfferTimeNs());
+        }
+        // frames with keep N policy, or offered while drawing
+        if (!mDataPool.isEmpty() && mIsDrawScheduled.compareAndSet(false, true)) {
+            mOptHandler.sendEmptyMessage(WHAT_DRAW_FRAME);
+        }
+    }
+
+    private void updateLatency(long latencyNs) {
+        final long latencyUs = latencyNs / 1000;
+        mLastFrameLatencyUs = latencyUs;
+        mMaxFrameLatencyUs = Math.max(mMaxFrameLatencyUs, latencyUs);
+        mTotalFrameLatencyUs += latencyUs;
     }
 
     public void startDraw() {
         mOptHandler.sendEmptyMessage(WHAT_START_DRAW);
     }
 
-    private synchronized void onDrawFrame(V2TXLiveDef.V2TXLiveVideoFrame videoFrame) {
+    private boolean onDrawFrame(V2TXLiveDef.V2TXLiveVideoFrame videoFrame) {
         V2TXLiveDef.V2TXLiveTexture txLiveTexture = videoFrame.texture;
         final int textureId = txLiveTexture.textureId;
 
@@ -200,7 +161,7 @@ public class FTXV2LiveRender {
 
         if (mEglHelper == null) {
             LiteavLog.e(TAG, "unSupport eglContext!pls check your params");
-            return;
+            return false;
         }
 
         if (mLastInputFTXSize.width != videoFrame.width
@@ -225,12 +186,25 @@ public class FTXV2LiveRender {
         }
 
         mEglHelper.makeCurrent();
+        final long startNs = System.nanoTime();
+        final int drawTextureId = mFilterGroup.process(textureId, videoFrame.width, videoFrame.height);
         GLES20.glViewport(0, 0, mSurfaceFTXSize.width, mSurfaceFTXSize.height);
         GLES20.glBindFramebuffer(GLES20.GL_FRAMEBUFFER, 0);
         GLES20.glClearColor(0, 0, 0, 1.0f);
         GLES20.glClear(GLES20.GL_DEPTH_BUFFER_BIT | GLES20.GL_COLOR_BUFFER_BIT);
-        mImageFilter.onDraw(textureId, mCubeBuffer, mTextureBuffer);
-        mEglHelper.swapBuffers();
+        mImageFilter.onDraw(drawTextureId, mCubeBuffer, mTextureBuffer);
+        final long drawEndNs = System.nanoTime();
+        mStats.drawTime.record(drawEndNs - startNs);
+        if (!mEglHelper.swapBuffers()) {
+            // helpers of EGL10 and EGL14 do not share error getters, a failed swap is counted instead
+            mStats.addEglError(0);
+        }
+        mStats.swapTime.record(System.nanoTime() - drawEndNs);
+        mStats.addPresentedFrame();
+        // frames dropped by frame queue, synced on render loop only
+        mStats.addDroppedFrames(mDataPool.getDroppedCount() - mStats.getDroppedFrameCount());
+        mDrawnFrameCount++;
+        return true;
     }
 
     private void initEGL(Object eglContext) {
@@ -253,6 +227,11 @@ public class FTXV2LiveRender {
 
     private void unInitEGL() {
         LiteavLog.w(TAG, "start unInitEGL");
+        if (null != mEglHelper) {
+            mEglHelper.makeCurrent();
+        }
+        // filters are kept, and initialized again on the first draw with the next EGL context
+        mFilterGroup.releaseGLResources();
         if (mImageFilter != null) {
             mImageFilter.destroy();
             mImageFilter = null;
@@ -266,30 +245,19 @@ public class FTXV2LiveRender {
 
     private void stopInner() {
         LiteavLog.w(TAG, "start stop live render");
-        mDrawLock.lock();
         mIsInDrawing = false;
+        mOptHandler.removeMessages(WHAT_DRAW_FRAME);
+        mIsDrawScheduled.set(false);
         mDataPool.clear();
-        mDrawCondition.signalAll();
-        mDrawLock.unlock();
     }
 
     private void destroyInner() {
-        try {
-            stopInner();
-            mIsDestroyed = true;
-            mRenderService.shutdown();
-            if (mDrawServiceFuture != null) {
-                mDrawServiceFuture.get();
-                unInitEGL();
-            }
-        } catch (Exception e) {
-            LiteavLog.e(TAG, "render service wait error:" + e);
-            mRenderService.shutdownNow();
-        } finally {
-            mRenderService = null;
-            mOptHandlerThread.quitSafely();
-            mDataPool.clear();
-        }
+        stopInner();
+        mIsDestroyed = true;
+        unInitEGL();
+        mFilterGroup.destroy();
+        mSharpenFilter = null;
+        mOptHandlerThread.quitSafely();
     }
 
     public void stopRender() {
@@ -304,4 +272,87 @@ public class FTXV2LiveRender {
         return mIsInDrawing;
     }
 
+    /**
+     * Set how many frames can wait for drawing, older frames are dropped.
+     *
+     * @param policy {@link FTXFrameMailbox#POLICY_KEEP_LATEST} or {@link FTXFrameMailbox#POLICY_KEEP_N}
+     * @param keepCount max waiting frames for {@link FTXFrameMailbox#POLICY_KEEP_N}
+     */
+    public void setFrameDropPolicy(int policy, int keepCount) {
+        mDataPool.setPolicy(policy, keepCount);
+    }
+
+    public long getOfferedFrameCount() {
+        return mDataPool.getOfferedCount();
+    }
+
+    public long getDrawnFrameCount() {
+        return mDrawnFrameCount;
+    }
+
+    public long getDroppedFrameCount() {
+        return mDataPool.getDroppedCount();
+    }
+
+    /**
+     * Timing histograms and counters of this render. Frames come as textures, so there is no latch time.
+     */
+    public FTXRenderStats getRenderStats() {
+        return mStats;
+    }
+
+    public int getQueueHighWaterMark() {
+        return mDataPool.getHighWaterMark();
+    }
+
+    /**
+     * Sharpen frames before drawing, 0 disables the filter.
+     *
+     * @param sharpness 0 ~ 1
+     */
+    public void setSharpness(final float sharpness) {
+        mOptHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                if (sharpness <= 0) {
+                    if (null != mSharpenFilter) {
+                        if (null != mEglHelper) {
+                            mEglHelper.makeCurrent();
+                        }
+                        mFilterGroup.removeFilter(mSharpenFilter);
+                        mSharpenFilter = null;
+                    }
+                } else if (null == mSharpenFilter) {
+                    mSharpenFilter = new FTXSharpenFilter(sharpness);
+                    mFilterGroup.addFilter(mSharpenFilter);
+                } else {
+                    mSharpenFilter.setSharpness(sharpness);
+                }
+            }
+        });
+    }
+
+    /**
+     * Average cost of post-processing filters per frame, in microseconds.
+     */
+    public long getFilterCostUs() {
+        return mFilterGroup.getTotalCostUs();
+    }
+
+    /**
+     * Time from a frame handed to {@link #updateFrame} to its swap, in microseconds.
+     */
+    public long getLastFrameLatencyUs() {
+        return mLastFrameLatencyUs;
+    }
+
+    public long getMaxFrameLatencyUs() {
+        return mMaxFrameLatencyUs;
+    }
+
+    public long getAvgFrameLatencyUs() {
+        final long drawnCount = mDrawnFrameCount;
+        return drawnCount > 0 ? mTotalFrameLatencyUs / drawnCount : 0;
+    }
+
 }
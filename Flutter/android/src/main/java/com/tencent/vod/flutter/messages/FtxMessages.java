@@ -2973,17 +2973,27 @@ public class FtxMessages {
       this.httpHeader = setterArg;
     }
 
+    private @Nullable Long priority;
+
+    public @Nullable Long getPriority() {
+      return priority;
+    }
+
+    public void setPriority(@Nullable Long setterArg) {
+      this.priority = setterArg;
+    }
+
     @Override
     public boolean equals(Object o) {
       if (this == o) { return true; }
       if (o == null || getClass() != o.getClass()) { return false; }
       PreLoadInfoMsg that = (PreLoadInfoMsg) o;
-      return Objects.equals(appId, that.appId) && Objects.equals(fileId, that.fileId) && Objects.equals(pSign, that.pSign) && Objects.equals(playUrl, that.playUrl) && Objects.equals(preloadSizeMB, that.preloadSizeMB) && Objects.equals(preferredResolution, that.preferredResolution) && Objects.equals(tmpPreloadTaskId, that.tmpPreloadTaskId) && Objects.equals(httpHeader, that.httpHeader);
+      return Objects.equals(appId, that.appId) && Objects.equals(fileId, that.fileId) && Objects.equals(pSign, that.pSign) && Objects.equals(playUrl, that.playUrl) && Objects.equals(preloadSizeMB, that.preloadSizeMB) && Objects.equals(preferredResolution, that.preferredResolution) && Objects.equals(tmpPreloadTaskId, that.tmpPreloadTaskId) && Objects.equals(httpHeader, that.httpHeader) && Objects.equals(priority, that.priority);
     }
 
     @Override
     public int hashCode() {
-      return Objects.hash(appId, fileId, pSign, playUrl, preloadSizeMB, preferredResolution, tmpPreloadTaskId, httpHeader);
+      return Objects.hash(appId, fileId, pSign, playUrl, preloadSizeMB, preferredResolution, tmpPreloadTaskId, httpHeader, priority);
     }
 
     public static final class Builder {
@@ -3052,6 +3062,14 @@ public class FtxMessages {
         return this;
       }
 
+      private @Nullable Long priority;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPriority(@Nullable Long setterArg) {
+        this.priority = setterArg;
+        return this;
+      }
+
       public @NonNull PreLoadInfoMsg build() {
         PreLoadInfoMsg pigeonReturn = new PreLoadInfoMsg();
         pigeonReturn.setAppId(appId);
@@ -3062,13 +3080,14 @@ public class FtxMessages {
         pigeonReturn.setPreferredResolution(preferredResolution);
         pigeonReturn.setTmpPreloadTaskId(tmpPreloadTaskId);
         pigeonReturn.setHttpHeader(httpHeader);
+        pigeonReturn.setPriority(priority);
         return pigeonReturn;
       }
     }
 
     @NonNull
     ArrayList<Object> toList() {
-      ArrayList<Object> toListResult = new ArrayList<>(8);
+      ArrayList<Object> toListResult = new ArrayList<>(9);
       toListResult.add(appId);
       toListResult.add(fileId);
       toListResult.add(pSign);
@@ -3077,6 +3096,7 @@ public class FtxMessages {
       toListResult.add(preferredResolution);
       toListResult.add(tmpPreloadTaskId);
       toListResult.add(httpHeader);
+      toListResult.add(priority);
       return toListResult;
     }
 
@@ -3098,6 +3118,8 @@ public class FtxMessages {
       pigeonResult.setTmpPreloadTaskId((Long) tmpPreloadTaskId);
       Object httpHeader = pigeonVar_list.get(7);
       pigeonResult.setHttpHeader((Map<String, String>) httpHeader);
+      Object priority = pigeonVar_list.get(8);
+      pigeonResult.setPriority((Long) priority);
       return pigeonResult;
     }
   }
@@ -3735,1207 +3757,3133 @@ public class FtxMessages {
     }
   }
 
-  private static class PigeonCodec extends StandardMessageCodec {
-    public static final PigeonCodec INSTANCE = new PigeonCodec();
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class CaptureFramePlayerMsg {
+    private @Nullable Long playerId;
 
-    private PigeonCodec() {}
+    public @Nullable Long getPlayerId() {
+      return playerId;
+    }
+
+    public void setPlayerId(@Nullable Long setterArg) {
+      this.playerId = setterArg;
+    }
+
+    private @Nullable Long maxWidth;
+
+    public @Nullable Long getMaxWidth() {
+      return maxWidth;
+    }
+
+    public void setMaxWidth(@Nullable Long setterArg) {
+      this.maxWidth = setterArg;
+    }
+
+    private @Nullable Long maxHeight;
+
+    public @Nullable Long getMaxHeight() {
+      return maxHeight;
+    }
+
+    public void setMaxHeight(@Nullable Long setterArg) {
+      this.maxHeight = setterArg;
+    }
+
+    private @Nullable Long format;
+
+    public @Nullable Long getFormat() {
+      return format;
+    }
+
+    public void setFormat(@Nullable Long setterArg) {
+      this.format = setterArg;
+    }
 
     @Override
-    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
-      switch (type) {
-        case (byte) 129:
-          return PlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 130:
-          return LicenseMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 131:
-          return TXPlayInfoParamsPlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 132:
-          return TXPlayerDrmMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 133:
-          return PipParamsPlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 134:
-          return StringListPlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 135:
-          return BoolPlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 136:
-          return StringPlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 137:
-          return DoublePlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 138:
-          return IntPlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 139:
-          return FTXVodPlayConfigPlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 140:
-          return FTXLivePlayConfigPlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 141:
-          return TXVodDownloadMediaMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 142:
-          return TXDownloadListMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 143:
-          return UInt8ListMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 144:
-          return ListMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 145:
-          return BoolMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 146:
-          return IntMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 147:
-          return StringMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 148:
-          return CachePathMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 149:
-          return DoubleMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 150:
-          return PreLoadMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 151:
-          return PreLoadInfoMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 152:
-          return MapMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 153:
-          return SubTitlePlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 154:
-          return SubTitleRenderModelPlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 155:
-          return StringOptionPlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
-        default:
-          return super.readValueOfType(type, buffer);
-      }
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      CaptureFramePlayerMsg that = (CaptureFramePlayerMsg) o;
+      return Objects.equals(playerId, that.playerId) && Objects.equals(maxWidth, that.maxWidth) && Objects.equals(maxHeight, that.maxHeight) && Objects.equals(format, that.format);
     }
 
     @Override
-    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
-      if (value instanceof PlayerMsg) {
-        stream.write(129);
-        writeValue(stream, ((PlayerMsg) value).toList());
-      } else if (value instanceof LicenseMsg) {
-        stream.write(130);
-        writeValue(stream, ((LicenseMsg) value).toList());
-      } else if (value instanceof TXPlayInfoParamsPlayerMsg) {
-        stream.write(131);
-        writeValue(stream, ((TXPlayInfoParamsPlayerMsg) value).toList());
-      } else if (value instanceof TXPlayerDrmMsg) {
-        stream.write(132);
-        writeValue(stream, ((TXPlayerDrmMsg) value).toList());
-      } else if (value instanceof PipParamsPlayerMsg) {
-        stream.write(133);
-        writeValue(stream, ((PipParamsPlayerMsg) value).toList());
-      } else if (value instanceof StringListPlayerMsg) {
-        stream.write(134);
-        writeValue(stream, ((StringListPlayerMsg) value).toList());
-      } else if (value instanceof BoolPlayerMsg) {
-        stream.write(135);
-        writeValue(stream, ((BoolPlayerMsg) value).toList());
-      } else if (value instanceof StringPlayerMsg) {
-        stream.write(136);
-        writeValue(stream, ((StringPlayerMsg) value).toList());
-      } else if (value instanceof DoublePlayerMsg) {
-        stream.write(137);
-        writeValue(stream, ((DoublePlayerMsg) value).toList());
-      } else if (value instanceof IntPlayerMsg) {
-        stream.write(138);
-        writeValue(stream, ((IntPlayerMsg) value).toList());
-      } else if (value instanceof FTXVodPlayConfigPlayerMsg) {
-        stream.write(139);
-        writeValue(stream, ((FTXVodPlayConfigPlayerMsg) value).toList());
-      } else if (value instanceof FTXLivePlayConfigPlayerMsg) {
-        stream.write(140);
-        writeValue(stream, ((FTXLivePlayConfigPlayerMsg) value).toList());
-      } else if (value instanceof TXVodDownloadMediaMsg) {
-        stream.write(141);
-        writeValue(stream, ((TXVodDownloadMediaMsg) value).toList());
-      } else if (value instanceof TXDownloadListMsg) {
-        stream.write(142);
-        writeValue(stream, ((TXDownloadListMsg) value).toList());
-      } else if (value instanceof UInt8ListMsg) {
-        stream.write(143);
-        writeValue(stream, ((UInt8ListMsg) value).toList());
-      } else if (value instanceof ListMsg) {
-        stream.write(144);
-        writeValue(stream, ((ListMsg) value).toList());
-      } else if (value instanceof BoolMsg) {
-        stream.write(145);
-        writeValue(stream, ((BoolMsg) value).toList());
-      } else if (value instanceof IntMsg) {
-        stream.write(146);
-        writeValue(stream, ((IntMsg) value).toList());
-      } else if (value instanceof StringMsg) {
-        stream.write(147);
-        writeValue(stream, ((StringMsg) value).toList());
-      } else if (value instanceof CachePathMsg) {
-        stream.write(148);
-        writeValue(stream, ((CachePathMsg) value).toList());
-      } else if (value instanceof DoubleMsg) {
-        stream.write(149);
-        writeValue(stream, ((DoubleMsg) value).toList());
-      } else if (value instanceof PreLoadMsg) {
-        stream.write(150);
-        writeValue(stream, ((PreLoadMsg) value).toList());
-      } else if (value instanceof PreLoadInfoMsg) {
-        stream.write(151);
-        writeValue(stream, ((PreLoadInfoMsg) value).toList());
-      } else if (value instanceof MapMsg) {
-        stream.write(152);
-        writeValue(stream, ((MapMsg) value).toList());
-      } else if (value instanceof SubTitlePlayerMsg) {
-        stream.write(153);
-        writeValue(stream, ((SubTitlePlayerMsg) value).toList());
-      } else if (value instanceof SubTitleRenderModelPlayerMsg) {
-        stream.write(154);
-        writeValue(stream, ((SubTitleRenderModelPlayerMsg) value).toList());
-      } else if (value instanceof StringOptionPlayerMsg) {
-        stream.write(155);
-        writeValue(stream, ((StringOptionPlayerMsg) value).toList());
-      } else {
-        super.writeValue(stream, value);
-      }
+    public int hashCode() {
+      return Objects.hash(playerId, maxWidth, maxHeight, format);
     }
-  }
 
+    public static final class Builder {
 
-  /** Asynchronous error handling return type for non-nullable API method returns. */
-  public interface Result<T> {
-    /** Success case callback method for handling returns. */
-    void success(@NonNull T result);
+      private @Nullable Long playerId;
 
-    /** Failure case callback method for handling errors. */
-    void error(@NonNull Throwable error);
-  }
-  /** Asynchronous error handling return type for nullable API method returns. */
-  public interface NullableResult<T> {
-    /** Success case callback method for handling returns. */
-    void success(@Nullable T result);
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPlayerId(@Nullable Long setterArg) {
+        this.playerId = setterArg;
+        return this;
+      }
 
-    /** Failure case callback method for handling errors. */
-    void error(@NonNull Throwable error);
-  }
-  /** Asynchronous error handling return type for void API method returns. */
-  public interface VoidResult {
-    /** Success case callback method for handling returns. */
-    void success();
+      private @Nullable Long maxWidth;
 
-    /** Failure case callback method for handling errors. */
-    void error(@NonNull Throwable error);
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxWidth(@Nullable Long setterArg) {
+        this.maxWidth = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxHeight;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxHeight(@Nullable Long setterArg) {
+        this.maxHeight = setterArg;
+        return this;
+      }
+
+      private @Nullable Long format;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setFormat(@Nullable Long setterArg) {
+        this.format = setterArg;
+        return this;
+      }
+
+      public @NonNull CaptureFramePlayerMsg build() {
+        CaptureFramePlayerMsg pigeonReturn = new CaptureFramePlayerMsg();
+        pigeonReturn.setPlayerId(playerId);
+        pigeonReturn.setMaxWidth(maxWidth);
+        pigeonReturn.setMaxHeight(maxHeight);
+        pigeonReturn.setFormat(format);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(4);
+      toListResult.add(playerId);
+      toListResult.add(maxWidth);
+      toListResult.add(maxHeight);
+      toListResult.add(format);
+      return toListResult;
+    }
+
+    static @NonNull CaptureFramePlayerMsg fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      CaptureFramePlayerMsg pigeonResult = new CaptureFramePlayerMsg();
+      Object playerId = pigeonVar_list.get(0);
+      pigeonResult.setPlayerId((Long) playerId);
+      Object maxWidth = pigeonVar_list.get(1);
+      pigeonResult.setMaxWidth((Long) maxWidth);
+      Object maxHeight = pigeonVar_list.get(2);
+      pigeonResult.setMaxHeight((Long) maxHeight);
+      Object format = pigeonVar_list.get(3);
+      pigeonResult.setFormat((Long) format);
+      return pigeonResult;
+    }
   }
-  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface TXFlutterSuperPlayerPluginAPI {
 
-    @NonNull 
-    StringMsg getPlatformVersion();
-    /** 创建点播播放器 */
-    @NonNull 
-    PlayerMsg createVodPlayer(@NonNull Boolean onlyAudio);
-    /** 创建直播播放器 */
-    @NonNull 
-    PlayerMsg createLivePlayer(@NonNull Boolean onlyAudio);
-    /** 开关log输出 */
-    void setConsoleEnabled(@NonNull BoolMsg enabled);
-    /** 释放播放器资源 */
-    void releasePlayer(@NonNull PlayerMsg playerId);
-    /**
-     * 设置播放引擎的最大缓存大小。设置后会根据设定值自动清理Cache目录的文件
-     * @param size 最大缓存大小（单位：MB)
-     */
-    void setGlobalMaxCacheSize(@NonNull IntMsg size);
-    /**
-     * 在短视频播放场景中，视频文件的本地缓存是很刚需的一个特性，对于普通用户而言，一个已经看过的视频再次观看时，不应该再消耗一次流量。
-     *  @格式支持：SDK 支持 HLS(m3u8) 和 MP4 两种常见点播格式的缓存功能。
-     *  @开启时机：SDK 并不默认开启缓存功能，对于用户回看率不高的场景，也并不推荐您开启此功能。
-     *  @开启方式：全局生效，在使用播放器开启。开启此功能需要配置两个参数：本地缓存目录及缓存大小。
-     *
-     * 该缓存路径默认设置到app沙盒目录下，postfixPath只需要传递相对缓存目录即可，不需要传递整个绝对路径。
-     * e.g. postfixPath = 'testCache'
-     * Android 平台：视频将会缓存到sdcard的Android/data/your-pkg-name/files/testCache 目录。
-     * iOS 平台：视频将会缓存到沙盒的Documents/testCache 目录。
-     * @param postfixPath 缓存目录
-     * @return true 设置成功 false 设置失败
-     */
-    @NonNull 
-    BoolMsg setGlobalCacheFolderPath(@NonNull StringMsg postfixPath);
-    /** 设置播放器资源缓存目录绝对路径，该方法会与 setGlobalCacheFolderPath(String postfixPath) 相互覆盖，调用其中一个即可 */
-    @NonNull 
-    BoolMsg setGlobalCacheFolderCustomPath(@NonNull CachePathMsg cacheMsg);
-    /** 设置全局license */
-    void setGlobalLicense(@NonNull LicenseMsg licenseMsg);
-    /** 设置log输出级别 [TXLogLevel] */
-    void setLogLevel(@NonNull IntMsg logLevel);
-    /** 获取依赖Native端的 LiteAVSDK 的版本 */
-    @NonNull 
-    StringMsg getLiteAVSDKVersion();
-    /**
-     *
-     * 设置 liteav SDK 接入的环境。
-     * 腾讯云在全球各地区部署的环境，按照各地区政策法规要求，需要接入不同地区接入点。
-     *
-     * @param envConfig 需要接入的环境，SDK 默认接入的环境是：默认正式环境。
-     * @return 0：成功；其他：错误
-     * @note 目标市场为中国大陆的客户请不要调用此接口，如果目标市场为海外用户，请通过技术支持联系我们，了解 env_config 的配置方法，以确保 App 遵守 GDPR 标准。
-     *
-     */
-    @NonNull 
-    IntMsg setGlobalEnv(@NonNull StringMsg envConfig);
-    /**
-     *
-     * 开始监听设备旋转方向，开启之后，如果设备自动旋转打开，播放器会自动根据当前设备方向来旋转视频方向。
-     * <h1>该接口目前只适用安卓端，IOS端会自动开启该能力</h1>
-     * 在调用该接口前，请务必向用户告知隐私风险。
-     * 如有需要，请确认是否有获取旋转sensor的权限。
-     * @return true : 开启成功
-     *         false : 开启失败，如开启过早，还未等到上下文初始化、获取sensor失败等原因
-     */
-    @NonNull 
-    BoolMsg startVideoOrientationService();
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class PreloadPriorityMsg {
+    private @Nullable Long tmpPreloadTaskId;
 
-    void setUserId(@NonNull StringMsg msg);
+    public @Nullable Long getTmpPreloadTaskId() {
+      return tmpPreloadTaskId;
+    }
 
-    void setLicenseFlexibleValid(@NonNull BoolMsg msg);
+    public void setTmpPreloadTaskId(@Nullable Long setterArg) {
+      this.tmpPreloadTaskId = setterArg;
+    }
 
-    void setDrmProvisionEnv(@NonNull Long env);
+    private @Nullable Long priority;
 
-    /** The codec used by TXFlutterSuperPlayerPluginAPI. */
-    static @NonNull MessageCodec<Object> getCodec() {
-      return PigeonCodec.INSTANCE;
+    public @Nullable Long getPriority() {
+      return priority;
     }
-    /**Sets up an instance of `TXFlutterSuperPlayerPluginAPI` to handle messages through the `binaryMessenger`. */
-    static void setUp(@NonNull BinaryMessenger binaryMessenger, @Nullable TXFlutterSuperPlayerPluginAPI api) {
-      setUp(binaryMessenger, "", api);
+
+    public void setPriority(@Nullable Long setterArg) {
+      this.priority = setterArg;
     }
-    static void setUp(@NonNull BinaryMessenger binaryMessenger, @NonNull String messageChannelSuffix, @Nullable TXFlutterSuperPlayerPluginAPI api) {
-      messageChannelSuffix = messageChannelSuffix.isEmpty() ? "" : "." + messageChannelSuffix;
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.getPlatformVersion" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                try {
-                  StringMsg output = api.getPlatformVersion();
-                  wrapped.add(0, output);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      PreloadPriorityMsg that = (PreloadPriorityMsg) o;
+      return Objects.equals(tmpPreloadTaskId, that.tmpPreloadTaskId) && Objects.equals(priority, that.priority);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(tmpPreloadTaskId, priority);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long tmpPreloadTaskId;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setTmpPreloadTaskId(@Nullable Long setterArg) {
+        this.tmpPreloadTaskId = setterArg;
+        return this;
       }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.createVodPlayer" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                Boolean onlyAudioArg = (Boolean) args.get(0);
-                try {
-                  PlayerMsg output = api.createVodPlayer(onlyAudioArg);
-                  wrapped.add(0, output);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+
+      private @Nullable Long priority;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPriority(@Nullable Long setterArg) {
+        this.priority = setterArg;
+        return this;
       }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.createLivePlayer" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                Boolean onlyAudioArg = (Boolean) args.get(0);
-                try {
-                  PlayerMsg output = api.createLivePlayer(onlyAudioArg);
-                  wrapped.add(0, output);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+
+      public @NonNull PreloadPriorityMsg build() {
+        PreloadPriorityMsg pigeonReturn = new PreloadPriorityMsg();
+        pigeonReturn.setTmpPreloadTaskId(tmpPreloadTaskId);
+        pigeonReturn.setPriority(priority);
+        return pigeonReturn;
       }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.setConsoleEnabled" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                BoolMsg enabledArg = (BoolMsg) args.get(0);
-                try {
-                  api.setConsoleEnabled(enabledArg);
-                  wrapped.add(0, null);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(2);
+      toListResult.add(tmpPreloadTaskId);
+      toListResult.add(priority);
+      return toListResult;
+    }
+
+    static @NonNull PreloadPriorityMsg fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      PreloadPriorityMsg pigeonResult = new PreloadPriorityMsg();
+      Object tmpPreloadTaskId = pigeonVar_list.get(0);
+      pigeonResult.setTmpPreloadTaskId((Long) tmpPreloadTaskId);
+      Object priority = pigeonVar_list.get(1);
+      pigeonResult.setPriority((Long) priority);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class PreloadSchedulerConfigMsg {
+    private @Nullable Long maxConcurrentCount;
+
+    public @Nullable Long getMaxConcurrentCount() {
+      return maxConcurrentCount;
+    }
+
+    public void setMaxConcurrentCount(@Nullable Long setterArg) {
+      this.maxConcurrentCount = setterArg;
+    }
+
+    private @Nullable Double maxInflightMB;
+
+    public @Nullable Double getMaxInflightMB() {
+      return maxInflightMB;
+    }
+
+    public void setMaxInflightMB(@Nullable Double setterArg) {
+      this.maxInflightMB = setterArg;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      PreloadSchedulerConfigMsg that = (PreloadSchedulerConfigMsg) o;
+      return Objects.equals(maxConcurrentCount, that.maxConcurrentCount) && Objects.equals(maxInflightMB, that.maxInflightMB);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(maxConcurrentCount, maxInflightMB);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long maxConcurrentCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxConcurrentCount(@Nullable Long setterArg) {
+        this.maxConcurrentCount = setterArg;
+        return this;
       }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.releasePlayer" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                PlayerMsg playerIdArg = (PlayerMsg) args.get(0);
-                try {
-                  api.releasePlayer(playerIdArg);
-                  wrapped.add(0, null);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+
+      private @Nullable Double maxInflightMB;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxInflightMB(@Nullable Double setterArg) {
+        this.maxInflightMB = setterArg;
+        return this;
       }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.setGlobalMaxCacheSize" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                IntMsg sizeArg = (IntMsg) args.get(0);
-                try {
-                  api.setGlobalMaxCacheSize(sizeArg);
-                  wrapped.add(0, null);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+
+      public @NonNull PreloadSchedulerConfigMsg build() {
+        PreloadSchedulerConfigMsg pigeonReturn = new PreloadSchedulerConfigMsg();
+        pigeonReturn.setMaxConcurrentCount(maxConcurrentCount);
+        pigeonReturn.setMaxInflightMB(maxInflightMB);
+        return pigeonReturn;
       }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.setGlobalCacheFolderPath" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                StringMsg postfixPathArg = (StringMsg) args.get(0);
-                try {
-                  BoolMsg output = api.setGlobalCacheFolderPath(postfixPathArg);
-                  wrapped.add(0, output);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(2);
+      toListResult.add(maxConcurrentCount);
+      toListResult.add(maxInflightMB);
+      return toListResult;
+    }
+
+    static @NonNull PreloadSchedulerConfigMsg fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      PreloadSchedulerConfigMsg pigeonResult = new PreloadSchedulerConfigMsg();
+      Object maxConcurrentCount = pigeonVar_list.get(0);
+      pigeonResult.setMaxConcurrentCount((Long) maxConcurrentCount);
+      Object maxInflightMB = pigeonVar_list.get(1);
+      pigeonResult.setMaxInflightMB((Double) maxInflightMB);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class FeedPreloadListMsg {
+    private @Nullable List<PreLoadInfoMsg> items;
+
+    public @Nullable List<PreLoadInfoMsg> getItems() {
+      return items;
+    }
+
+    public void setItems(@Nullable List<PreLoadInfoMsg> setterArg) {
+      this.items = setterArg;
+    }
+
+    private @Nullable Long maxPreloadCount;
+
+    public @Nullable Long getMaxPreloadCount() {
+      return maxPreloadCount;
+    }
+
+    public void setMaxPreloadCount(@Nullable Long setterArg) {
+      this.maxPreloadCount = setterArg;
+    }
+
+    private @Nullable Double nextItemMB;
+
+    public @Nullable Double getNextItemMB() {
+      return nextItemMB;
+    }
+
+    public void setNextItemMB(@Nullable Double setterArg) {
+      this.nextItemMB = setterArg;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      FeedPreloadListMsg that = (FeedPreloadListMsg) o;
+      return Objects.equals(items, that.items) && Objects.equals(maxPreloadCount, that.maxPreloadCount) && Objects.equals(nextItemMB, that.nextItemMB);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(items, maxPreloadCount, nextItemMB);
+    }
+
+    public static final class Builder {
+
+      private @Nullable List<PreLoadInfoMsg> items;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setItems(@Nullable List<PreLoadInfoMsg> setterArg) {
+        this.items = setterArg;
+        return this;
       }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.setGlobalCacheFolderCustomPath" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                CachePathMsg cacheMsgArg = (CachePathMsg) args.get(0);
-                try {
-                  BoolMsg output = api.setGlobalCacheFolderCustomPath(cacheMsgArg);
-                  wrapped.add(0, output);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+
+      private @Nullable Long maxPreloadCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxPreloadCount(@Nullable Long setterArg) {
+        this.maxPreloadCount = setterArg;
+        return this;
       }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.setGlobalLicense" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                LicenseMsg licenseMsgArg = (LicenseMsg) args.get(0);
-                try {
-                  api.setGlobalLicense(licenseMsgArg);
-                  wrapped.add(0, null);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+
+      private @Nullable Double nextItemMB;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setNextItemMB(@Nullable Double setterArg) {
+        this.nextItemMB = setterArg;
+        return this;
       }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.setLogLevel" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                IntMsg logLevelArg = (IntMsg) args.get(0);
-                try {
-                  api.setLogLevel(logLevelArg);
-                  wrapped.add(0, null);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+
+      public @NonNull FeedPreloadListMsg build() {
+        FeedPreloadListMsg pigeonReturn = new FeedPreloadListMsg();
+        pigeonReturn.setItems(items);
+        pigeonReturn.setMaxPreloadCount(maxPreloadCount);
+        pigeonReturn.setNextItemMB(nextItemMB);
+        return pigeonReturn;
       }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.getLiteAVSDKVersion" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                try {
-                  StringMsg output = api.getLiteAVSDKVersion();
-                  wrapped.add(0, output);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(3);
+      toListResult.add(items);
+      toListResult.add(maxPreloadCount);
+      toListResult.add(nextItemMB);
+      return toListResult;
+    }
+
+    static @NonNull FeedPreloadListMsg fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      FeedPreloadListMsg pigeonResult = new FeedPreloadListMsg();
+      Object items = pigeonVar_list.get(0);
+      pigeonResult.setItems((List<PreLoadInfoMsg>) items);
+      Object maxPreloadCount = pigeonVar_list.get(1);
+      pigeonResult.setMaxPreloadCount((Long) maxPreloadCount);
+      Object nextItemMB = pigeonVar_list.get(2);
+      pigeonResult.setNextItemMB((Double) nextItemMB);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class FeedPreloadCursorMsg {
+    private @Nullable Long index;
+
+    public @Nullable Long getIndex() {
+      return index;
+    }
+
+    public void setIndex(@Nullable Long setterArg) {
+      this.index = setterArg;
+    }
+
+    private @Nullable Double velocity;
+
+    public @Nullable Double getVelocity() {
+      return velocity;
+    }
+
+    public void setVelocity(@Nullable Double setterArg) {
+      this.velocity = setterArg;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      FeedPreloadCursorMsg that = (FeedPreloadCursorMsg) o;
+      return Objects.equals(index, that.index) && Objects.equals(velocity, that.velocity);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(index, velocity);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long index;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setIndex(@Nullable Long setterArg) {
+        this.index = setterArg;
+        return this;
       }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.setGlobalEnv" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                StringMsg envConfigArg = (StringMsg) args.get(0);
-                try {
-                  IntMsg output = api.setGlobalEnv(envConfigArg);
-                  wrapped.add(0, output);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+
+      private @Nullable Double velocity;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setVelocity(@Nullable Double setterArg) {
+        this.velocity = setterArg;
+        return this;
       }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.startVideoOrientationService" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                try {
-                  BoolMsg output = api.startVideoOrientationService();
-                  wrapped.add(0, output);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+
+      public @NonNull FeedPreloadCursorMsg build() {
+        FeedPreloadCursorMsg pigeonReturn = new FeedPreloadCursorMsg();
+        pigeonReturn.setIndex(index);
+        pigeonReturn.setVelocity(velocity);
+        return pigeonReturn;
       }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.setUserId" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                StringMsg msgArg = (StringMsg) args.get(0);
-                try {
-                  api.setUserId(msgArg);
-                  wrapped.add(0, null);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(2);
+      toListResult.add(index);
+      toListResult.add(velocity);
+      return toListResult;
+    }
+
+    static @NonNull FeedPreloadCursorMsg fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      FeedPreloadCursorMsg pigeonResult = new FeedPreloadCursorMsg();
+      Object index = pigeonVar_list.get(0);
+      pigeonResult.setIndex((Long) index);
+      Object velocity = pigeonVar_list.get(1);
+      pigeonResult.setVelocity((Double) velocity);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class DownloadEventConfigMsg {
+    private @Nullable Long minIntervalMs;
+
+    public @Nullable Long getMinIntervalMs() {
+      return minIntervalMs;
+    }
+
+    public void setMinIntervalMs(@Nullable Long setterArg) {
+      this.minIntervalMs = setterArg;
+    }
+
+    private @Nullable Double minProgressDelta;
+
+    public @Nullable Double getMinProgressDelta() {
+      return minProgressDelta;
+    }
+
+    public void setMinProgressDelta(@Nullable Double setterArg) {
+      this.minProgressDelta = setterArg;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      DownloadEventConfigMsg that = (DownloadEventConfigMsg) o;
+      return Objects.equals(minIntervalMs, that.minIntervalMs) && Objects.equals(minProgressDelta, that.minProgressDelta);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(minIntervalMs, minProgressDelta);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long minIntervalMs;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMinIntervalMs(@Nullable Long setterArg) {
+        this.minIntervalMs = setterArg;
+        return this;
       }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.setLicenseFlexibleValid" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                BoolMsg msgArg = (BoolMsg) args.get(0);
-                try {
-                  api.setLicenseFlexibleValid(msgArg);
-                  wrapped.add(0, null);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+
+      private @Nullable Double minProgressDelta;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMinProgressDelta(@Nullable Double setterArg) {
+        this.minProgressDelta = setterArg;
+        return this;
       }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.setDrmProvisionEnv" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                Long envArg = (Long) args.get(0);
-                try {
-                  api.setDrmProvisionEnv(envArg);
-                  wrapped.add(0, null);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+
+      public @NonNull DownloadEventConfigMsg build() {
+        DownloadEventConfigMsg pigeonReturn = new DownloadEventConfigMsg();
+        pigeonReturn.setMinIntervalMs(minIntervalMs);
+        pigeonReturn.setMinProgressDelta(minProgressDelta);
+        return pigeonReturn;
       }
     }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(2);
+      toListResult.add(minIntervalMs);
+      toListResult.add(minProgressDelta);
+      return toListResult;
+    }
+
+    static @NonNull DownloadEventConfigMsg fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      DownloadEventConfigMsg pigeonResult = new DownloadEventConfigMsg();
+      Object minIntervalMs = pigeonVar_list.get(0);
+      pigeonResult.setMinIntervalMs((Long) minIntervalMs);
+      Object minProgressDelta = pigeonVar_list.get(1);
+      pigeonResult.setMinProgressDelta((Double) minProgressDelta);
+      return pigeonResult;
+    }
   }
-  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface TXFlutterNativeAPI {
-    /** 修改当前界面亮度 */
-    void setBrightness(@NonNull DoubleMsg brightness);
-    /** 恢复当前界面亮度 */
-    void restorePageBrightness();
-    /** 获得当前界面亮度 0.0 ~ 1.0 */
-    @NonNull 
-    DoubleMsg getBrightness();
-    /** 获取系统界面亮度，IOS系统与界面亮度一致，安卓可能会有差异 */
-    @NonNull 
-    DoubleMsg getSysBrightness();
-    /** 设置当前系统音量，0.0 ~ 1.0 */
-    void setSystemVolume(@NonNull DoubleMsg volume);
-    /** 获得当前系统音量，范围：0.0 ~ 1.0 */
-    @NonNull 
-    DoubleMsg getSystemVolume();
-    /** 释放音频焦点，只用于安卓端 */
-    void abandonAudioFocus();
-    /** 请求获得音频焦点，只用于安卓端 */
-    void requestAudioFocus();
-    /**
-     * 当前设备是否支持画中画模式
-     * @return [TXVodPlayEvent]
-     *  0 可开启画中画模式
-     *  -101  android版本过低
-     *  -102  画中画权限关闭/设备不支持画中画
-     *  -103  当前界面已销毁
-     */
-    @NonNull 
-    IntMsg isDeviceSupportPip();
-    /**
-     *
-     * register or unregister system brightness
-     *
-     */
-    void registerSysBrightness(@NonNull BoolMsg isRegister);
 
-    /** The codec used by TXFlutterNativeAPI. */
-    static @NonNull MessageCodec<Object> getCodec() {
-      return PigeonCodec.INSTANCE;
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class DownloadListQueryMsg {
+    private @Nullable String userName;
+
+    public @Nullable String getUserName() {
+      return userName;
     }
-    /**Sets up an instance of `TXFlutterNativeAPI` to handle messages through the `binaryMessenger`. */
-    static void setUp(@NonNull BinaryMessenger binaryMessenger, @Nullable TXFlutterNativeAPI api) {
-      setUp(binaryMessenger, "", api);
+
+    public void setUserName(@Nullable String setterArg) {
+      this.userName = setterArg;
     }
-    static void setUp(@NonNull BinaryMessenger binaryMessenger, @NonNull String messageChannelSuffix, @Nullable TXFlutterNativeAPI api) {
-      messageChannelSuffix = messageChannelSuffix.isEmpty() ? "" : "." + messageChannelSuffix;
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterNativeAPI.setBrightness" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                DoubleMsg brightnessArg = (DoubleMsg) args.get(0);
-                try {
-                  api.setBrightness(brightnessArg);
-                  wrapped.add(0, null);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+
+    private @Nullable Long downloadState;
+
+    public @Nullable Long getDownloadState() {
+      return downloadState;
+    }
+
+    public void setDownloadState(@Nullable Long setterArg) {
+      this.downloadState = setterArg;
+    }
+
+    private @Nullable Long offset;
+
+    public @Nullable Long getOffset() {
+      return offset;
+    }
+
+    public void setOffset(@Nullable Long setterArg) {
+      this.offset = setterArg;
+    }
+
+    private @Nullable Long limit;
+
+    public @Nullable Long getLimit() {
+      return limit;
+    }
+
+    public void setLimit(@Nullable Long setterArg) {
+      this.limit = setterArg;
+    }
+
+    private @Nullable Long sinceVersion;
+
+    public @Nullable Long getSinceVersion() {
+      return sinceVersion;
+    }
+
+    public void setSinceVersion(@Nullable Long setterArg) {
+      this.sinceVersion = setterArg;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      DownloadListQueryMsg that = (DownloadListQueryMsg) o;
+      return Objects.equals(userName, that.userName) && Objects.equals(downloadState, that.downloadState) && Objects.equals(offset, that.offset) && Objects.equals(limit, that.limit) && Objects.equals(sinceVersion, that.sinceVersion);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(userName, downloadState, offset, limit, sinceVersion);
+    }
+
+    public static final class Builder {
+
+      private @Nullable String userName;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setUserName(@Nullable String setterArg) {
+        this.userName = setterArg;
+        return this;
       }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterNativeAPI.restorePageBrightness" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                try {
-                  api.restorePageBrightness();
-                  wrapped.add(0, null);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+
+      private @Nullable Long downloadState;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setDownloadState(@Nullable Long setterArg) {
+        this.downloadState = setterArg;
+        return this;
       }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterNativeAPI.getBrightness" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                try {
-                  DoubleMsg output = api.getBrightness();
-                  wrapped.add(0, output);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+
+      private @Nullable Long offset;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setOffset(@Nullable Long setterArg) {
+        this.offset = setterArg;
+        return this;
       }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterNativeAPI.getSysBrightness" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                try {
-                  DoubleMsg output = api.getSysBrightness();
-                  wrapped.add(0, output);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+
+      private @Nullable Long limit;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setLimit(@Nullable Long setterArg) {
+        this.limit = setterArg;
+        return this;
       }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterNativeAPI.setSystemVolume" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                DoubleMsg volumeArg = (DoubleMsg) args.get(0);
-                try {
-                  api.setSystemVolume(volumeArg);
-                  wrapped.add(0, null);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+
+      private @Nullable Long sinceVersion;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSinceVersion(@Nullable Long setterArg) {
+        this.sinceVersion = setterArg;
+        return this;
       }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterNativeAPI.getSystemVolume" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                try {
-                  DoubleMsg output = api.getSystemVolume();
-                  wrapped.add(0, output);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+
+      public @NonNull DownloadListQueryMsg build() {
+        DownloadListQueryMsg pigeonReturn = new DownloadListQueryMsg();
+        pigeonReturn.setUserName(userName);
+        pigeonReturn.setDownloadState(downloadState);
+        pigeonReturn.setOffset(offset);
+        pigeonReturn.setLimit(limit);
+        pigeonReturn.setSinceVersion(sinceVersion);
+        return pigeonReturn;
       }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterNativeAPI.abandonAudioFocus" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                try {
-                  api.abandonAudioFocus();
-                  wrapped.add(0, null);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(5);
+      toListResult.add(userName);
+      toListResult.add(downloadState);
+      toListResult.add(offset);
+      toListResult.add(limit);
+      toListResult.add(sinceVersion);
+      return toListResult;
+    }
+
+    static @NonNull DownloadListQueryMsg fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      DownloadListQueryMsg pigeonResult = new DownloadListQueryMsg();
+      Object userName = pigeonVar_list.get(0);
+      pigeonResult.setUserName((String) userName);
+      Object downloadState = pigeonVar_list.get(1);
+      pigeonResult.setDownloadState((Long) downloadState);
+      Object offset = pigeonVar_list.get(2);
+      pigeonResult.setOffset((Long) offset);
+      Object limit = pigeonVar_list.get(3);
+      pigeonResult.setLimit((Long) limit);
+      Object sinceVersion = pigeonVar_list.get(4);
+      pigeonResult.setSinceVersion((Long) sinceVersion);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class DownloadListPageMsg {
+    private @Nullable List<TXVodDownloadMediaMsg> infoList;
+
+    public @Nullable List<TXVodDownloadMediaMsg> getInfoList() {
+      return infoList;
+    }
+
+    public void setInfoList(@Nullable List<TXVodDownloadMediaMsg> setterArg) {
+      this.infoList = setterArg;
+    }
+
+    private @Nullable List<TXVodDownloadMediaMsg> removedList;
+
+    public @Nullable List<TXVodDownloadMediaMsg> getRemovedList() {
+      return removedList;
+    }
+
+    public void setRemovedList(@Nullable List<TXVodDownloadMediaMsg> setterArg) {
+      this.removedList = setterArg;
+    }
+
+    private @Nullable Long totalCount;
+
+    public @Nullable Long getTotalCount() {
+      return totalCount;
+    }
+
+    public void setTotalCount(@Nullable Long setterArg) {
+      this.totalCount = setterArg;
+    }
+
+    private @Nullable Long version;
+
+    public @Nullable Long getVersion() {
+      return version;
+    }
+
+    public void setVersion(@Nullable Long setterArg) {
+      this.version = setterArg;
+    }
+
+    private @Nullable Boolean isFullSyncRequired;
+
+    public @Nullable Boolean getIsFullSyncRequired() {
+      return isFullSyncRequired;
+    }
+
+    public void setIsFullSyncRequired(@Nullable Boolean setterArg) {
+      this.isFullSyncRequired = setterArg;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      DownloadListPageMsg that = (DownloadListPageMsg) o;
+      return Objects.equals(infoList, that.infoList) && Objects.equals(removedList, that.removedList) && Objects.equals(totalCount, that.totalCount) && Objects.equals(version, that.version) && Objects.equals(isFullSyncRequired, that.isFullSyncRequired);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(infoList, removedList, totalCount, version, isFullSyncRequired);
+    }
+
+    public static final class Builder {
+
+      private @Nullable List<TXVodDownloadMediaMsg> infoList;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setInfoList(@Nullable List<TXVodDownloadMediaMsg> setterArg) {
+        this.infoList = setterArg;
+        return this;
       }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterNativeAPI.requestAudioFocus" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                try {
-                  api.requestAudioFocus();
-                  wrapped.add(0, null);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+
+      private @Nullable List<TXVodDownloadMediaMsg> removedList;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setRemovedList(@Nullable List<TXVodDownloadMediaMsg> setterArg) {
+        this.removedList = setterArg;
+        return this;
       }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterNativeAPI.isDeviceSupportPip" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                try {
-                  IntMsg output = api.isDeviceSupportPip();
-                  wrapped.add(0, output);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+
+      private @Nullable Long totalCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setTotalCount(@Nullable Long setterArg) {
+        this.totalCount = setterArg;
+        return this;
       }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterNativeAPI.registerSysBrightness" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                BoolMsg isRegisterArg = (BoolMsg) args.get(0);
-                try {
-                  api.registerSysBrightness(isRegisterArg);
-                  wrapped.add(0, null);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
+
+      private @Nullable Long version;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setVersion(@Nullable Long setterArg) {
+        this.version = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean isFullSyncRequired;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setIsFullSyncRequired(@Nullable Boolean setterArg) {
+        this.isFullSyncRequired = setterArg;
+        return this;
+      }
+
+      public @NonNull DownloadListPageMsg build() {
+        DownloadListPageMsg pigeonReturn = new DownloadListPageMsg();
+        pigeonReturn.setInfoList(infoList);
+        pigeonReturn.setRemovedList(removedList);
+        pigeonReturn.setTotalCount(totalCount);
+        pigeonReturn.setVersion(version);
+        pigeonReturn.setIsFullSyncRequired(isFullSyncRequired);
+        return pigeonReturn;
       }
     }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(5);
+      toListResult.add(infoList);
+      toListResult.add(removedList);
+      toListResult.add(totalCount);
+      toListResult.add(version);
+      toListResult.add(isFullSyncRequired);
+      return toListResult;
+    }
+
+    static @NonNull DownloadListPageMsg fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      DownloadListPageMsg pigeonResult = new DownloadListPageMsg();
+      Object infoList = pigeonVar_list.get(0);
+      pigeonResult.setInfoList((List<TXVodDownloadMediaMsg>) infoList);
+      Object removedList = pigeonVar_list.get(1);
+      pigeonResult.setRemovedList((List<TXVodDownloadMediaMsg>) removedList);
+      Object totalCount = pigeonVar_list.get(2);
+      pigeonResult.setTotalCount((Long) totalCount);
+      Object version = pigeonVar_list.get(3);
+      pigeonResult.setVersion((Long) version);
+      Object isFullSyncRequired = pigeonVar_list.get(4);
+      pigeonResult.setIsFullSyncRequired((Boolean) isFullSyncRequired);
+      return pigeonResult;
+    }
   }
-  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface TXFlutterVodPlayerApi {
-    /**
-     * 播放器初始化，创建共享纹理、初始化播放器
-     *
-     * To initialize the player, you would need to create a shared texture and initialize the player.
-     * @param onlyAudio 是否是纯音频模式 if pure audio mode
-     */
-    @NonNull 
-    IntMsg initialize(@NonNull BoolPlayerMsg onlyAudio);
-    /**
-     * 通过url开始播放视频
-     * 10.7版本开始，startPlay变更为startVodPlay，需要通过 {@link SuperPlayerPlugin#setGlobalLicense} 设置 Licence 后方可成功播放，
-     * 否则将播放失败（黑屏），全局仅设置一次即可。直播 Licence、短视频 Licence 和视频播放 Licence 均可使用，若您暂未获取上述 Licence ，
-     * 可[快速免费申请测试版 Licence](https://cloud.tencent.com/act/event/License) 以正常播放，正式版 License 需[购买]
-     * (https://cloud.tencent.com/document/product/881/74588#.E8.B4.AD.E4.B9.B0.E5.B9.B6.E6.96.B0.E5.BB.BA.E6.AD.A3.E5.BC.8F.E7.89.88-license)。
-     *
-     * Starting from version 10.7, the method `startPlay` has been changed to `startVodPlay` for playing videos via a URL.
-     * To play videos successfully, it is necessary to set the license by using the method `SuperPlayerPlugin#setGlobalLicense`.
-     * Failure to set the license will result in video playback failure (a black screen).
-     * Live streaming, short video, and video playback licenses can all be used. If you do not have any of the above licenses,
-     * you can apply for a free trial license to play videos normally[Quickly apply for a free trial version Licence]
-     * (https://cloud.tencent.com/act/event/License).Official licenses can be purchased
-     * (https://cloud.tencent.com/document/product/881/74588#.E8.B4.AD.E4.B9.B0.E5.B9.B6.E6.96.B0.E5.BB.BA.E6.AD.A3.E5.BC.8F.E7.89.88-license).
-     * @param url : 视频播放地址 video playback address
-     * return 是否播放成功 if play successfully
-     */
-    @NonNull 
-    BoolMsg startVodPlay(@NonNull StringPlayerMsg url);
-    /**
-     * 通过fileId播放视频
-     * 10.7版本开始，startPlayWithParams变更为startVodPlayWithParams，需要通过 {@link SuperPlayerPlugin#setGlobalLicense} 设置 Licence 后方可成功播放，
-     * 否则将播放失败（黑屏），全局仅设置一次即可。直播 Licence、短视频 Licence 和视频播放 Licence 均可使用，若您暂未获取上述 Licence ，
-     * 可[快速免费申请测试版 Licence](https://cloud.tencent.com/act/event/License) 以正常播放，正式版 License 需[购买]
-     * (https://cloud.tencent.com/document/product/881/74588#.E8.B4.AD.E4.B9.B0.E5.B9.B6.E6.96.B0.E5.BB.BA.E6.AD.A3.E5.BC.8F.E7.89.88-license)。
-     *
-     * Starting from version 10.7, the method "startPlayWithParams" has been changed to "startVodPlayWithParams" for playing videos using fileId.
-     * To play the video successfully, you need to set the Licence using "SuperPlayerPlugin#setGlobalLicense" method before playing the video.
-     * If you do not set the Licence, the video will not play (black screen). The Licence for live streaming,
-     * short video, and video playback can all be used. If you have not obtained the Licence, you can apply for a free trial version [here]
-     * (https://cloud.tencent.com/act/event/License) for normal playback. To use the official version, you need to [purchase]
-     * (https://cloud.tencent.com/document/product/881/74588#.E8.B4.AD.E4.B9.B0.E5.B9.B6.E6.96.B0.E5.BB.BA.E6.AD.A3.E5.BC.8F.E7.89.88-license).
-     * @params : see[TXPlayInfoParams]
-     * return 是否播放成功  if play successful
-     */
-    void startVodPlayWithParams(@NonNull TXPlayInfoParamsPlayerMsg params);
-    /**
-     * 播放 DRM 加密视频
-     *
-     * Playing DRM-encrypted video.
-     */
-    @NonNull 
-    IntMsg startPlayDrm(@NonNull TXPlayerDrmMsg params);
-    /**
-     * 设置是否自动播放
-     *
-     * set autoplay
-     */
-    void setAutoPlay(@NonNull BoolPlayerMsg isAutoPlay);
-    /**
-     * 停止播放
-     *
-     * Stop playback
-     * return 是否停止成功 if stop successful
-     */
-    @NonNull 
-    BoolMsg stop(@NonNull BoolPlayerMsg isNeedClear);
-    /**
-     * 视频是否处于正在播放中
-     *
-     * Is the video currently playing
-     */
-    @NonNull 
-    BoolMsg isPlaying(@NonNull PlayerMsg playerMsg);
-    /**
-     * 视频暂停，必须在播放器开始播放的时候调用
-     *
-     * pause video, it must be called when the player starts playing
-     */
-    void pause(@NonNull PlayerMsg playerMsg);
-    /**
-     * 继续播放，在暂停的时候调用
-     *
-     * resume playback, it should be called when the video is paused
-     */
-    void resume(@NonNull PlayerMsg playerMsg);
-    /**
-     * 设置是否静音
-     *
-     * Set whether to mute or not
-     */
-    void setMute(@NonNull BoolPlayerMsg mute);
-    /**
-     * 设置是否循环播放
-     *
-     * Set whether to loop playback or not
-     */
-    void setLoop(@NonNull BoolPlayerMsg loop);
-    /**
-     * 将视频播放进度定位到指定的进度进行播放
-     *
-     * Set the video playback progress to a specific time and start playing.
-     * progress 要定位的视频时间，单位 秒 The video playback time to be located, in seconds
-     */
-    void seek(@NonNull DoublePlayerMsg progress);
-    /**
-     * 跳转到视频流指定PDT时间点, 可实现视频快进,快退,进度条跳转等功能
-     * 单位毫秒(ms)
-     * 播放器高级版 11.6 版本开始支持
-     *
-     * Jump to the specified PDT time point of the video stream, which can realize video fast forward, fast rewind, progress bar jump and other functions.
-     * Unit millisecond (ms)
-     * Player Premium version 11.6 starts to support
-     */
-    void seekToPdtTime(@NonNull IntPlayerMsg pdtTimeMs);
-    /**
-     * 设置播放速率，默认速率 1
-     *
-     * Set the playback speed, with a default speed of 1.
-     */
-    void setRate(@NonNull DoublePlayerMsg rate);
-    /**
-     * 获得播放视频解析出来的码率信息
-     *
-     * get the bitrate information extracted from playing a video
-     * return List<Map>
-     * Bitrate：index 码率序号，
-     *         width 码率对应视频宽度，
-     *         height 码率对应视频高度,
-     *         bitrate 码率值
-     *
-     * Bitrate：index:bitrate index，
-     *         width:the video with of this bitrate，
-     *         height:the video height of this bitrate,
-     *         bitrate:bitrate value
-     */
-    @NonNull 
-    ListMsg getSupportedBitrate(@NonNull PlayerMsg playerMsg);
-    /**
-     * 获得当前设置的码率序号
-     *
-     * Get the index of the current bitrate setting
-     */
-    @NonNull 
-    IntMsg getBitrateIndex(@NonNull PlayerMsg playerMsg);
-    /**
-     * 设置码率序号
-     *
-     * Set the index of the bitrate setting.
-     */
-    void setBitrateIndex(@NonNull IntPlayerMsg index);
-    /**
-     * 设置视频播放开始时间，单位 秒
-     *
-     * Set the start time of the video playback, in seconds.
-     */
-    void setStartTime(@NonNull DoublePlayerMsg startTime);
-    /**
-     * 设置视频声音 0~100
-     *
-     * Set the volume of the video, ranging from 0 to 100.
-     */
-    void setAudioPlayOutVolume(@NonNull IntPlayerMsg volume);
-    /**
-     * 请求获得音频焦点
-     *
-     * Request audio focus.
-     */
-    @NonNull 
-    BoolMsg setRequestAudioFocus(@NonNull BoolPlayerMsg focus);
-    /**
-     * 设置播放器配置
-     *
-     * Set player configuration
-     * config @see [FTXVodPlayConfig]
-     */
-    void setConfig(@NonNull FTXVodPlayConfigPlayerMsg config);
-    /**
-     * 获得当前已经播放的时间，单位 秒
-     *
-     * Get the current playback time, in seconds.
-     */
-    @NonNull 
-    DoubleMsg getCurrentPlaybackTime(@NonNull PlayerMsg playerMsg);
-    /**
-     * 获得当前视频已缓存的时间
-     *
-     * Get the current amount of video that has been buffered.
-     */
-    @NonNull 
-    DoubleMsg getBufferDuration(@NonNull PlayerMsg playerMsg);
-    /**
-     * 获得当前视频的可播放时间
-     *
-     * Get the current playable duration of the video.
-     */
-    @NonNull 
-    DoubleMsg getPlayableDuration(@NonNull PlayerMsg playerMsg);
-    /**
-     * 获得当前播放视频的宽度
-     *
-     * Get the width of the currently playing video.
-     */
-    @NonNull 
-    IntMsg getWidth(@NonNull PlayerMsg playerMsg);
-    /**
-     * 获得当前播放视频的高度
-     *
-     * Get the height of the currently playing video.
-     */
-    @NonNull 
-    IntMsg getHeight(@NonNull PlayerMsg playerMsg);
-    /**
-     * 设置播放视频的token
-     *
-     * Set the token for playing the video.
-     */
-    void setToken(@NonNull StringPlayerMsg token);
-    /**
-     * 当前播放的视频是否循环播放
-     *
-     * Is the currently playing video set to loop
-     */
-    @NonNull 
-    BoolMsg isLoop(@NonNull PlayerMsg playerMsg);
-    /**
-     * 开启/关闭硬件编码
-     *
-     * Enable/Disable hardware encoding.
-     */
-    @NonNull 
-    BoolMsg enableHardwareDecode(@NonNull BoolPlayerMsg enable);
-    /**
-     * 进入画中画模式，进入画中画模式，需要适配画中画模式的界面，安卓只支持7.0以上机型
-     * <h1>
-     * 由于android系统限制，传递的图标大小不得超过1M，否则无法显示
-     * </h1>
-     * @param backIcon playIcon pauseIcon forwardIcon 为播放后退、播放、暂停、前进的图标，如果赋值的话，将会使用传递的图标，否则
-     * 使用系统默认图标，只支持flutter本地资源图片，传递的时候，与flutter使用图片资源一致，例如： images/back_icon.png
-     */
-    @NonNull 
-    IntMsg enterPictureInPictureMode(@NonNull PipParamsPlayerMsg pipParamsMsg);
-    /**
-     * 退出画中画，如果该播放器处于画中画模式
-     *
-     * Exit picture-in-picture mode if the video player is in picture-in-picture mode.
-     */
-    void exitPictureInPictureMode(@NonNull PlayerMsg playerMsg);
 
-    void initImageSprite(@NonNull StringListPlayerMsg spriteInfo);
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class DownloadSchedulerConfigMsg {
+    private @Nullable Long maxConcurrentCount;
 
-    @NonNull 
-    UInt8ListMsg getImageSprite(@NonNull DoublePlayerMsg time);
-    /**
-     * 获取总时长
-     *
-     * To get the total duration
-     */
-    @NonNull 
-    DoubleMsg getDuration(@NonNull PlayerMsg playerMsg);
+    public @Nullable Long getMaxConcurrentCount() {
+      return maxConcurrentCount;
+    }
 
-    void addSubtitleSource(@NonNull SubTitlePlayerMsg playerMsg);
+    public void setMaxConcurrentCount(@Nullable Long setterArg) {
+      this.maxConcurrentCount = setterArg;
+    }
 
-    @NonNull 
-    ListMsg getSubtitleTrackInfo(@NonNull PlayerMsg playerMsg);
+    private @Nullable Long maxRateKBps;
 
-    @NonNull 
-    ListMsg getAudioTrackInfo(@NonNull PlayerMsg playerMsg);
+    public @Nullable Long getMaxRateKBps() {
+      return maxRateKBps;
+    }
 
-    void selectTrack(@NonNull IntPlayerMsg playerMsg);
+    public void setMaxRateKBps(@Nullable Long setterArg) {
+      this.maxRateKBps = setterArg;
+    }
 
-    void deselectTrack(@NonNull IntPlayerMsg playerMsg);
+    private @Nullable Boolean yieldToPlayback;
 
-    void setSubtitleStyle(@NonNull SubTitleRenderModelPlayerMsg playerMsg);
+    public @Nullable Boolean getYieldToPlayback() {
+      return yieldToPlayback;
+    }
 
-    void setStringOption(@NonNull StringOptionPlayerMsg playerMsg);
+    public void setYieldToPlayback(@Nullable Boolean setterArg) {
+      this.yieldToPlayback = setterArg;
+    }
 
-    void setPlayerView(@NonNull Long renderViewId);
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      DownloadSchedulerConfigMsg that = (DownloadSchedulerConfigMsg) o;
+      return Objects.equals(maxConcurrentCount, that.maxConcurrentCount) && Objects.equals(maxRateKBps, that.maxRateKBps) && Objects.equals(yieldToPlayback, that.yieldToPlayback);
+    }
 
-    void setRenderMode(@NonNull Long renderMode);
+    @Override
+    public int hashCode() {
+      return Objects.hash(maxConcurrentCount, maxRateKBps, yieldToPlayback);
+    }
 
-    void reDraw();
+    public static final class Builder {
 
-    /** The codec used by TXFlutterVodPlayerApi. */
-    static @NonNull MessageCodec<Object> getCodec() {
-      return PigeonCodec.INSTANCE;
+      private @Nullable Long maxConcurrentCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxConcurrentCount(@Nullable Long setterArg) {
+        this.maxConcurrentCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxRateKBps;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxRateKBps(@Nullable Long setterArg) {
+        this.maxRateKBps = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean yieldToPlayback;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setYieldToPlayback(@Nullable Boolean setterArg) {
+        this.yieldToPlayback = setterArg;
+        return this;
+      }
+
+      public @NonNull DownloadSchedulerConfigMsg build() {
+        DownloadSchedulerConfigMsg pigeonReturn = new DownloadSchedulerConfigMsg();
+        pigeonReturn.setMaxConcurrentCount(maxConcurrentCount);
+        pigeonReturn.setMaxRateKBps(maxRateKBps);
+        pigeonReturn.setYieldToPlayback(yieldToPlayback);
+        return pigeonReturn;
+      }
     }
-    /**Sets up an instance of `TXFlutterVodPlayerApi` to handle messages through the `binaryMessenger`. */
-    static void setUp(@NonNull BinaryMessenger binaryMessenger, @Nullable TXFlutterVodPlayerApi api) {
-      setUp(binaryMessenger, "", api);
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(3);
+      toListResult.add(maxConcurrentCount);
+      toListResult.add(maxRateKBps);
+      toListResult.add(yieldToPlayback);
+      return toListResult;
     }
-    static void setUp(@NonNull BinaryMessenger binaryMessenger, @NonNull String messageChannelSuffix, @Nullable TXFlutterVodPlayerApi api) {
-      messageChannelSuffix = messageChannelSuffix.isEmpty() ? "" : "." + messageChannelSuffix;
+
+    static @NonNull DownloadSchedulerConfigMsg fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      DownloadSchedulerConfigMsg pigeonResult = new DownloadSchedulerConfigMsg();
+      Object maxConcurrentCount = pigeonVar_list.get(0);
+      pigeonResult.setMaxConcurrentCount((Long) maxConcurrentCount);
+      Object maxRateKBps = pigeonVar_list.get(1);
+      pigeonResult.setMaxRateKBps((Long) maxRateKBps);
+      Object yieldToPlayback = pigeonVar_list.get(2);
+      pigeonResult.setYieldToPlayback((Boolean) yieldToPlayback);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class DownloadQuotaMsg {
+    private @Nullable Long globalLimitBytes;
+
+    public @Nullable Long getGlobalLimitBytes() {
+      return globalLimitBytes;
+    }
+
+    public void setGlobalLimitBytes(@Nullable Long setterArg) {
+      this.globalLimitBytes = setterArg;
+    }
+
+    private @Nullable Long userLimitBytes;
+
+    public @Nullable Long getUserLimitBytes() {
+      return userLimitBytes;
+    }
+
+    public void setUserLimitBytes(@Nullable Long setterArg) {
+      this.userLimitBytes = setterArg;
+    }
+
+    private @Nullable Map<String, String> userLimits;
+
+    public @Nullable Map<String, String> getUserLimits() {
+      return userLimits;
+    }
+
+    public void setUserLimits(@Nullable Map<String, String> setterArg) {
+      this.userLimits = setterArg;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      DownloadQuotaMsg that = (DownloadQuotaMsg) o;
+      return Objects.equals(globalLimitBytes, that.globalLimitBytes) && Objects.equals(userLimitBytes, that.userLimitBytes) && Objects.equals(userLimits, that.userLimits);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(globalLimitBytes, userLimitBytes, userLimits);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long globalLimitBytes;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setGlobalLimitBytes(@Nullable Long setterArg) {
+        this.globalLimitBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long userLimitBytes;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setUserLimitBytes(@Nullable Long setterArg) {
+        this.userLimitBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Map<String, String> userLimits;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setUserLimits(@Nullable Map<String, String> setterArg) {
+        this.userLimits = setterArg;
+        return this;
+      }
+
+      public @NonNull DownloadQuotaMsg build() {
+        DownloadQuotaMsg pigeonReturn = new DownloadQuotaMsg();
+        pigeonReturn.setGlobalLimitBytes(globalLimitBytes);
+        pigeonReturn.setUserLimitBytes(userLimitBytes);
+        pigeonReturn.setUserLimits(userLimits);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(3);
+      toListResult.add(globalLimitBytes);
+      toListResult.add(userLimitBytes);
+      toListResult.add(userLimits);
+      return toListResult;
+    }
+
+    static @NonNull DownloadQuotaMsg fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      DownloadQuotaMsg pigeonResult = new DownloadQuotaMsg();
+      Object globalLimitBytes = pigeonVar_list.get(0);
+      pigeonResult.setGlobalLimitBytes((Long) globalLimitBytes);
+      Object userLimitBytes = pigeonVar_list.get(1);
+      pigeonResult.setUserLimitBytes((Long) userLimitBytes);
+      Object userLimits = pigeonVar_list.get(2);
+      pigeonResult.setUserLimits((Map<String, String>) userLimits);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class DownloadBatchMsg {
+    private @Nullable Long batchId;
+
+    public @Nullable Long getBatchId() {
+      return batchId;
+    }
+
+    public void setBatchId(@Nullable Long setterArg) {
+      this.batchId = setterArg;
+    }
+
+    private @Nullable List<TXVodDownloadMediaMsg> infoList;
+
+    public @Nullable List<TXVodDownloadMediaMsg> getInfoList() {
+      return infoList;
+    }
+
+    public void setInfoList(@Nullable List<TXVodDownloadMediaMsg> setterArg) {
+      this.infoList = setterArg;
+    }
+
+    private @Nullable Long priority;
+
+    public @Nullable Long getPriority() {
+      return priority;
+    }
+
+    public void setPriority(@Nullable Long setterArg) {
+      this.priority = setterArg;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      DownloadBatchMsg that = (DownloadBatchMsg) o;
+      return Objects.equals(batchId, that.batchId) && Objects.equals(infoList, that.infoList) && Objects.equals(priority, that.priority);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(batchId, infoList, priority);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long batchId;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setBatchId(@Nullable Long setterArg) {
+        this.batchId = setterArg;
+        return this;
+      }
+
+      private @Nullable List<TXVodDownloadMediaMsg> infoList;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setInfoList(@Nullable List<TXVodDownloadMediaMsg> setterArg) {
+        this.infoList = setterArg;
+        return this;
+      }
+
+      private @Nullable Long priority;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPriority(@Nullable Long setterArg) {
+        this.priority = setterArg;
+        return this;
+      }
+
+      public @NonNull DownloadBatchMsg build() {
+        DownloadBatchMsg pigeonReturn = new DownloadBatchMsg();
+        pigeonReturn.setBatchId(batchId);
+        pigeonReturn.setInfoList(infoList);
+        pigeonReturn.setPriority(priority);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(3);
+      toListResult.add(batchId);
+      toListResult.add(infoList);
+      toListResult.add(priority);
+      return toListResult;
+    }
+
+    static @NonNull DownloadBatchMsg fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      DownloadBatchMsg pigeonResult = new DownloadBatchMsg();
+      Object batchId = pigeonVar_list.get(0);
+      pigeonResult.setBatchId((Long) batchId);
+      Object infoList = pigeonVar_list.get(1);
+      pigeonResult.setInfoList((List<TXVodDownloadMediaMsg>) infoList);
+      Object priority = pigeonVar_list.get(2);
+      pigeonResult.setPriority((Long) priority);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class DownloadBatchResultMsg {
+    private @Nullable Long batchId;
+
+    public @Nullable Long getBatchId() {
+      return batchId;
+    }
+
+    public void setBatchId(@Nullable Long setterArg) {
+      this.batchId = setterArg;
+    }
+
+    private @Nullable List<Object> results;
+
+    public @Nullable List<Object> getResults() {
+      return results;
+    }
+
+    public void setResults(@Nullable List<Object> setterArg) {
+      this.results = setterArg;
+    }
+
+    private @Nullable Long successCount;
+
+    public @Nullable Long getSuccessCount() {
+      return successCount;
+    }
+
+    public void setSuccessCount(@Nullable Long setterArg) {
+      this.successCount = setterArg;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      DownloadBatchResultMsg that = (DownloadBatchResultMsg) o;
+      return Objects.equals(batchId, that.batchId) && Objects.equals(results, that.results) && Objects.equals(successCount, that.successCount);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(batchId, results, successCount);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long batchId;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setBatchId(@Nullable Long setterArg) {
+        this.batchId = setterArg;
+        return this;
+      }
+
+      private @Nullable List<Object> results;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setResults(@Nullable List<Object> setterArg) {
+        this.results = setterArg;
+        return this;
+      }
+
+      private @Nullable Long successCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSuccessCount(@Nullable Long setterArg) {
+        this.successCount = setterArg;
+        return this;
+      }
+
+      public @NonNull DownloadBatchResultMsg build() {
+        DownloadBatchResultMsg pigeonReturn = new DownloadBatchResultMsg();
+        pigeonReturn.setBatchId(batchId);
+        pigeonReturn.setResults(results);
+        pigeonReturn.setSuccessCount(successCount);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(3);
+      toListResult.add(batchId);
+      toListResult.add(results);
+      toListResult.add(successCount);
+      return toListResult;
+    }
+
+    static @NonNull DownloadBatchResultMsg fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      DownloadBatchResultMsg pigeonResult = new DownloadBatchResultMsg();
+      Object batchId = pigeonVar_list.get(0);
+      pigeonResult.setBatchId((Long) batchId);
+      Object results = pigeonVar_list.get(1);
+      pigeonResult.setResults((List<Object>) results);
+      Object successCount = pigeonVar_list.get(2);
+      pigeonResult.setSuccessCount((Long) successCount);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class DownloadPriorityMsg {
+    private @Nullable TXVodDownloadMediaMsg mediaInfo;
+
+    public @Nullable TXVodDownloadMediaMsg getMediaInfo() {
+      return mediaInfo;
+    }
+
+    public void setMediaInfo(@Nullable TXVodDownloadMediaMsg setterArg) {
+      this.mediaInfo = setterArg;
+    }
+
+    private @Nullable Long priority;
+
+    public @Nullable Long getPriority() {
+      return priority;
+    }
+
+    public void setPriority(@Nullable Long setterArg) {
+      this.priority = setterArg;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      DownloadPriorityMsg that = (DownloadPriorityMsg) o;
+      return Objects.equals(mediaInfo, that.mediaInfo) && Objects.equals(priority, that.priority);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(mediaInfo, priority);
+    }
+
+    public static final class Builder {
+
+      private @Nullable TXVodDownloadMediaMsg mediaInfo;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMediaInfo(@Nullable TXVodDownloadMediaMsg setterArg) {
+        this.mediaInfo = setterArg;
+        return this;
+      }
+
+      private @Nullable Long priority;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPriority(@Nullable Long setterArg) {
+        this.priority = setterArg;
+        return this;
+      }
+
+      public @NonNull DownloadPriorityMsg build() {
+        DownloadPriorityMsg pigeonReturn = new DownloadPriorityMsg();
+        pigeonReturn.setMediaInfo(mediaInfo);
+        pigeonReturn.setPriority(priority);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(2);
+      toListResult.add(mediaInfo);
+      toListResult.add(priority);
+      return toListResult;
+    }
+
+    static @NonNull DownloadPriorityMsg fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      DownloadPriorityMsg pigeonResult = new DownloadPriorityMsg();
+      Object mediaInfo = pigeonVar_list.get(0);
+      pigeonResult.setMediaInfo((TXVodDownloadMediaMsg) mediaInfo);
+      Object priority = pigeonVar_list.get(1);
+      pigeonResult.setPriority((Long) priority);
+      return pigeonResult;
+    }
+  }
+
+  private static class PigeonCodec extends StandardMessageCodec {
+    public static final PigeonCodec INSTANCE = new PigeonCodec();
+
+    private PigeonCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 129:
+          return PlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 130:
+          return LicenseMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 131:
+          return TXPlayInfoParamsPlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 132:
+          return TXPlayerDrmMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 133:
+          return PipParamsPlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 134:
+          return StringListPlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 135:
+          return BoolPlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 136:
+          return StringPlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 137:
+          return DoublePlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 138:
+          return IntPlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 139:
+          return FTXVodPlayConfigPlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 140:
+          return FTXLivePlayConfigPlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 141:
+          return TXVodDownloadMediaMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 142:
+          return TXDownloadListMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 143:
+          return UInt8ListMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 144:
+          return ListMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 145:
+          return BoolMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 146:
+          return IntMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 147:
+          return StringMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 148:
+          return CachePathMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 149:
+          return DoubleMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 150:
+          return PreLoadMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 151:
+          return PreLoadInfoMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 152:
+          return MapMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 153:
+          return SubTitlePlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 154:
+          return SubTitleRenderModelPlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 155:
+          return StringOptionPlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 156:
+          return CaptureFramePlayerMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 157:
+          return PreloadPriorityMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 158:
+          return PreloadSchedulerConfigMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 159:
+          return FeedPreloadListMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 160:
+          return FeedPreloadCursorMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 161:
+          return DownloadEventConfigMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 162:
+          return DownloadListQueryMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 163:
+          return DownloadListPageMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 164:
+          return DownloadSchedulerConfigMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 165:
+          return DownloadQuotaMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 166:
+          return DownloadBatchMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 167:
+          return DownloadBatchResultMsg.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 168:
+          return DownloadPriorityMsg.fromList((ArrayList<Object>) readValue(buffer));
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+      if (value instanceof PlayerMsg) {
+        stream.write(129);
+        writeValue(stream, ((PlayerMsg) value).toList());
+      } else if (value instanceof LicenseMsg) {
+        stream.write(130);
+        writeValue(stream, ((LicenseMsg) value).toList());
+      } else if (value instanceof TXPlayInfoParamsPlayerMsg) {
+        stream.write(131);
+        writeValue(stream, ((TXPlayInfoParamsPlayerMsg) value).toList());
+      } else if (value instanceof TXPlayerDrmMsg) {
+        stream.write(132);
+        writeValue(stream, ((TXPlayerDrmMsg) value).toList());
+      } else if (value instanceof PipParamsPlayerMsg) {
+        stream.write(133);
+        writeValue(stream, ((PipParamsPlayerMsg) value).toList());
+      } else if (value instanceof StringListPlayerMsg) {
+        stream.write(134);
+        writeValue(stream, ((StringListPlayerMsg) value).toList());
+      } else if (value instanceof BoolPlayerMsg) {
+        stream.write(135);
+        writeValue(stream, ((BoolPlayerMsg) value).toList());
+      } else if (value instanceof StringPlayerMsg) {
+        stream.write(136);
+        writeValue(stream, ((StringPlayerMsg) value).toList());
+      } else if (value instanceof DoublePlayerMsg) {
+        stream.write(137);
+        writeValue(stream, ((DoublePlayerMsg) value).toList());
+      } else if (value instanceof IntPlayerMsg) {
+        stream.write(138);
+        writeValue(stream, ((IntPlayerMsg) value).toList());
+      } else if (value instanceof FTXVodPlayConfigPlayerMsg) {
+        stream.write(139);
+        writeValue(stream, ((FTXVodPlayConfigPlayerMsg) value).toList());
+      } else if (value instanceof FTXLivePlayConfigPlayerMsg) {
+        stream.write(140);
+        writeValue(stream, ((FTXLivePlayConfigPlayerMsg) value).toList());
+      } else if (value instanceof TXVodDownloadMediaMsg) {
+        stream.write(141);
+        writeValue(stream, ((TXVodDownloadMediaMsg) value).toList());
+      } else if (value instanceof TXDownloadListMsg) {
+        stream.write(142);
+        writeValue(stream, ((TXDownloadListMsg) value).toList());
+      } else if (value instanceof UInt8ListMsg) {
+        stream.write(143);
+        writeValue(stream, ((UInt8ListMsg) value).toList());
+      } else if (value instanceof ListMsg) {
+        stream.write(144);
+        writeValue(stream, ((ListMsg) value).toList());
+      } else if (value instanceof BoolMsg) {
+        stream.write(145);
+        writeValue(stream, ((BoolMsg) value).toList());
+      } else if (value instanceof IntMsg) {
+        stream.write(146);
+        writeValue(stream, ((IntMsg) value).toList());
+      } else if (value instanceof StringMsg) {
+        stream.write(147);
+        writeValue(stream, ((StringMsg) value).toList());
+      } else if (value instanceof CachePathMsg) {
+        stream.write(148);
+        writeValue(stream, ((CachePathMsg) value).toList());
+      } else if (value instanceof DoubleMsg) {
+        stream.write(149);
+        writeValue(stream, ((DoubleMsg) value).toList());
+      } else if (value instanceof PreLoadMsg) {
+        stream.write(150);
+        writeValue(stream, ((PreLoadMsg) value).toList());
+      } else if (value instanceof PreLoadInfoMsg) {
+        stream.write(151);
+        writeValue(stream, ((PreLoadInfoMsg) value).toList());
+      } else if (value instanceof MapMsg) {
+        stream.write(152);
+        writeValue(stream, ((MapMsg) value).toList());
+      } else if (value instanceof SubTitlePlayerMsg) {
+        stream.write(153);
+        writeValue(stream, ((SubTitlePlayerMsg) value).toList());
+      } else if (value instanceof SubTitleRenderModelPlayerMsg) {
+        stream.write(154);
+        writeValue(stream, ((SubTitleRenderModelPlayerMsg) value).toList());
+      } else if (value instanceof StringOptionPlayerMsg) {
+        stream.write(155);
+        writeValue(stream, ((StringOptionPlayerMsg) value).toList());
+      } else if (value instanceof CaptureFramePlayerMsg) {
+        stream.write(156);
+        writeValue(stream, ((CaptureFramePlayerMsg) value).toList());
+      } else if (value instanceof PreloadPriorityMsg) {
+        stream.write(157);
+        writeValue(stream, ((PreloadPriorityMsg) value).toList());
+      } else if (value instanceof PreloadSchedulerConfigMsg) {
+        stream.write(158);
+        writeValue(stream, ((PreloadSchedulerConfigMsg) value).toList());
+      } else if (value instanceof FeedPreloadListMsg) {
+        stream.write(159);
+        writeValue(stream, ((FeedPreloadListMsg) value).toList());
+      } else if (value instanceof FeedPreloadCursorMsg) {
+        stream.write(160);
+        writeValue(stream, ((FeedPreloadCursorMsg) value).toList());
+      } else if (value instanceof DownloadEventConfigMsg) {
+        stream.write(161);
+        writeValue(stream, ((DownloadEventConfigMsg) value).toList());
+      } else if (value instanceof DownloadListQueryMsg) {
+        stream.write(162);
+        writeValue(stream, ((DownloadListQueryMsg) value).toList());
+      } else if (value instanceof DownloadListPageMsg) {
+        stream.write(163);
+        writeValue(stream, ((DownloadListPageMsg) value).toList());
+      } else if (value instanceof DownloadSchedulerConfigMsg) {
+        stream.write(164);
+        writeValue(stream, ((DownloadSchedulerConfigMsg) value).toList());
+      } else if (value instanceof DownloadQuotaMsg) {
+        stream.write(165);
+        writeValue(stream, ((DownloadQuotaMsg) value).toList());
+      } else if (value instanceof DownloadBatchMsg) {
+        stream.write(166);
+        writeValue(stream, ((DownloadBatchMsg) value).toList());
+      } else if (value instanceof DownloadBatchResultMsg) {
+        stream.write(167);
+        writeValue(stream, ((DownloadBatchResultMsg) value).toList());
+      } else if (value instanceof DownloadPriorityMsg) {
+        stream.write(168);
+        writeValue(stream, ((DownloadPriorityMsg) value).toList());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
+
+  /** Asynchronous error handling return type for non-nullable API method returns. */
+  public interface Result<T> {
+    /** Success case callback method for handling returns. */
+    void success(@NonNull T result);
+
+    /** Failure case callback method for handling errors. */
+    void error(@NonNull Throwable error);
+  }
+  /** Asynchronous error handling return type for nullable API method returns. */
+  public interface NullableResult<T> {
+    /** Success case callback method for handling returns. */
+    void success(@Nullable T result);
+
+    /** Failure case callback method for handling errors. */
+    void error(@NonNull Throwable error);
+  }
+  /** Asynchronous error handling return type for void API method returns. */
+  public interface VoidResult {
+    /** Success case callback method for handling returns. */
+    void success();
+
+    /** Failure case callback method for handling errors. */
+    void error(@NonNull Throwable error);
+  }
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface TXFlutterSuperPlayerPluginAPI {
+
+    @NonNull 
+    StringMsg getPlatformVersion();
+    /** 创建点播播放器 */
+    @NonNull 
+    PlayerMsg createVodPlayer(@NonNull Boolean onlyAudio);
+    /** 创建直播播放器 */
+    @NonNull 
+    PlayerMsg createLivePlayer(@NonNull Boolean onlyAudio);
+    /** 开关log输出 */
+    void setConsoleEnabled(@NonNull BoolMsg enabled);
+    /** 释放播放器资源 */
+    void releasePlayer(@NonNull PlayerMsg playerId);
+    /**
+     * 设置播放引擎的最大缓存大小。设置后会根据设定值自动清理Cache目录的文件
+     * @param size 最大缓存大小（单位：MB)
+     */
+    void setGlobalMaxCacheSize(@NonNull IntMsg size);
+    /**
+     * 在短视频播放场景中，视频文件的本地缓存是很刚需的一个特性，对于普通用户而言，一个已经看过的视频再次观看时，不应该再消耗一次流量。
+     *  @格式支持：SDK 支持 HLS(m3u8) 和 MP4 两种常见点播格式的缓存功能。
+     *  @开启时机：SDK 并不默认开启缓存功能，对于用户回看率不高的场景，也并不推荐您开启此功能。
+     *  @开启方式：全局生效，在使用播放器开启。开启此功能需要配置两个参数：本地缓存目录及缓存大小。
+     *
+     * 该缓存路径默认设置到app沙盒目录下，postfixPath只需要传递相对缓存目录即可，不需要传递整个绝对路径。
+     * e.g. postfixPath = 'testCache'
+     * Android 平台：视频将会缓存到sdcard的Android/data/your-pkg-name/files/testCache 目录。
+     * iOS 平台：视频将会缓存到沙盒的Documents/testCache 目录。
+     * @param postfixPath 缓存目录
+     * @return true 设置成功 false 设置失败
+     */
+    @NonNull 
+    BoolMsg setGlobalCacheFolderPath(@NonNull StringMsg postfixPath);
+    /** 设置播放器资源缓存目录绝对路径，该方法会与 setGlobalCacheFolderPath(String postfixPath) 相互覆盖，调用其中一个即可 */
+    @NonNull 
+    BoolMsg setGlobalCacheFolderCustomPath(@NonNull CachePathMsg cacheMsg);
+    /** 设置全局license */
+    void setGlobalLicense(@NonNull LicenseMsg licenseMsg);
+    /** 设置log输出级别 [TXLogLevel] */
+    void setLogLevel(@NonNull IntMsg logLevel);
+    /** 获取依赖Native端的 LiteAVSDK 的版本 */
+    @NonNull 
+    StringMsg getLiteAVSDKVersion();
+    /**
+     *
+     * 设置 liteav SDK 接入的环境。
+     * 腾讯云在全球各地区部署的环境，按照各地区政策法规要求，需要接入不同地区接入点。
+     *
+     * @param envConfig 需要接入的环境，SDK 默认接入的环境是：默认正式环境。
+     * @return 0：成功；其他：错误
+     * @note 目标市场为中国大陆的客户请不要调用此接口，如果目标市场为海外用户，请通过技术支持联系我们，了解 env_config 的配置方法，以确保 App 遵守 GDPR 标准。
+     *
+     */
+    @NonNull 
+    IntMsg setGlobalEnv(@NonNull StringMsg envConfig);
+    /**
+     *
+     * 开始监听设备旋转方向，开启之后，如果设备自动旋转打开，播放器会自动根据当前设备方向来旋转视频方向。
+     * <h1>该接口目前只适用安卓端，IOS端会自动开启该能力</h1>
+     * 在调用该接口前，请务必向用户告知隐私风险。
+     * 如有需要，请确认是否有获取旋转sensor的权限。
+     * @return true : 开启成功
+     *         false : 开启失败，如开启过早，还未等到上下文初始化、获取sensor失败等原因
+     */
+    @NonNull 
+    BoolMsg startVideoOrientationService();
+
+    void setUserId(@NonNull StringMsg msg);
+
+    void setLicenseFlexibleValid(@NonNull BoolMsg msg);
+
+    void setDrmProvisionEnv(@NonNull Long env);
+
+    /** The codec used by TXFlutterSuperPlayerPluginAPI. */
+    static @NonNull MessageCodec<Object> getCodec() {
+      return PigeonCodec.INSTANCE;
+    }
+    /**Sets up an instance of `TXFlutterSuperPlayerPluginAPI` to handle messages through the `binaryMessenger`. */
+    static void setUp(@NonNull BinaryMessenger binaryMessenger, @Nullable TXFlutterSuperPlayerPluginAPI api) {
+      setUp(binaryMessenger, "", api);
+    }
+    static void setUp(@NonNull BinaryMessenger binaryMessenger, @NonNull String messageChannelSuffix, @Nullable TXFlutterSuperPlayerPluginAPI api) {
+      messageChannelSuffix = messageChannelSuffix.isEmpty() ? "" : "." + messageChannelSuffix;
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.getPlatformVersion" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  StringMsg output = api.getPlatformVersion();
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.createVodPlayer" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Boolean onlyAudioArg = (Boolean) args.get(0);
+                try {
+                  PlayerMsg output = api.createVodPlayer(onlyAudioArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.createLivePlayer" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Boolean onlyAudioArg = (Boolean) args.get(0);
+                try {
+                  PlayerMsg output = api.createLivePlayer(onlyAudioArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.setConsoleEnabled" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                BoolMsg enabledArg = (BoolMsg) args.get(0);
+                try {
+                  api.setConsoleEnabled(enabledArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.releasePlayer" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PlayerMsg playerIdArg = (PlayerMsg) args.get(0);
+                try {
+                  api.releasePlayer(playerIdArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.setGlobalMaxCacheSize" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                IntMsg sizeArg = (IntMsg) args.get(0);
+                try {
+                  api.setGlobalMaxCacheSize(sizeArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.setGlobalCacheFolderPath" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                StringMsg postfixPathArg = (StringMsg) args.get(0);
+                try {
+                  BoolMsg output = api.setGlobalCacheFolderPath(postfixPathArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.setGlobalCacheFolderCustomPath" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                CachePathMsg cacheMsgArg = (CachePathMsg) args.get(0);
+                try {
+                  BoolMsg output = api.setGlobalCacheFolderCustomPath(cacheMsgArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.setGlobalLicense" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                LicenseMsg licenseMsgArg = (LicenseMsg) args.get(0);
+                try {
+                  api.setGlobalLicense(licenseMsgArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.setLogLevel" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                IntMsg logLevelArg = (IntMsg) args.get(0);
+                try {
+                  api.setLogLevel(logLevelArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.getLiteAVSDKVersion" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  StringMsg output = api.getLiteAVSDKVersion();
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.setGlobalEnv" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                StringMsg envConfigArg = (StringMsg) args.get(0);
+                try {
+                  IntMsg output = api.setGlobalEnv(envConfigArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.startVideoOrientationService" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  BoolMsg output = api.startVideoOrientationService();
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.setUserId" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                StringMsg msgArg = (StringMsg) args.get(0);
+                try {
+                  api.setUserId(msgArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.setLicenseFlexibleValid" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                BoolMsg msgArg = (BoolMsg) args.get(0);
+                try {
+                  api.setLicenseFlexibleValid(msgArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterSuperPlayerPluginAPI.setDrmProvisionEnv" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long envArg = (Long) args.get(0);
+                try {
+                  api.setDrmProvisionEnv(envArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface TXFlutterNativeAPI {
+    /** 修改当前界面亮度 */
+    void setBrightness(@NonNull DoubleMsg brightness);
+    /** 恢复当前界面亮度 */
+    void restorePageBrightness();
+    /** 获得当前界面亮度 0.0 ~ 1.0 */
+    @NonNull 
+    DoubleMsg getBrightness();
+    /** 获取系统界面亮度，IOS系统与界面亮度一致，安卓可能会有差异 */
+    @NonNull 
+    DoubleMsg getSysBrightness();
+    /** 设置当前系统音量，0.0 ~ 1.0 */
+    void setSystemVolume(@NonNull DoubleMsg volume);
+    /** 获得当前系统音量，范围：0.0 ~ 1.0 */
+    @NonNull 
+    DoubleMsg getSystemVolume();
+    /** 释放音频焦点，只用于安卓端 */
+    void abandonAudioFocus();
+    /** 请求获得音频焦点，只用于安卓端 */
+    void requestAudioFocus();
+    /**
+     * 当前设备是否支持画中画模式
+     * @return [TXVodPlayEvent]
+     *  0 可开启画中画模式
+     *  -101  android版本过低
+     *  -102  画中画权限关闭/设备不支持画中画
+     *  -103  当前界面已销毁
+     */
+    @NonNull 
+    IntMsg isDeviceSupportPip();
+    /**
+     *
+     * register or unregister system brightness
+     *
+     */
+    void registerSysBrightness(@NonNull BoolMsg isRegister);
+
+    /** The codec used by TXFlutterNativeAPI. */
+    static @NonNull MessageCodec<Object> getCodec() {
+      return PigeonCodec.INSTANCE;
+    }
+    /**Sets up an instance of `TXFlutterNativeAPI` to handle messages through the `binaryMessenger`. */
+    static void setUp(@NonNull BinaryMessenger binaryMessenger, @Nullable TXFlutterNativeAPI api) {
+      setUp(binaryMessenger, "", api);
+    }
+    static void setUp(@NonNull BinaryMessenger binaryMessenger, @NonNull String messageChannelSuffix, @Nullable TXFlutterNativeAPI api) {
+      messageChannelSuffix = messageChannelSuffix.isEmpty() ? "" : "." + messageChannelSuffix;
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterNativeAPI.setBrightness" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                DoubleMsg brightnessArg = (DoubleMsg) args.get(0);
+                try {
+                  api.setBrightness(brightnessArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterNativeAPI.restorePageBrightness" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  api.restorePageBrightness();
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterNativeAPI.getBrightness" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  DoubleMsg output = api.getBrightness();
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterNativeAPI.getSysBrightness" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  DoubleMsg output = api.getSysBrightness();
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterNativeAPI.setSystemVolume" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                DoubleMsg volumeArg = (DoubleMsg) args.get(0);
+                try {
+                  api.setSystemVolume(volumeArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterNativeAPI.getSystemVolume" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  DoubleMsg output = api.getSystemVolume();
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterNativeAPI.abandonAudioFocus" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  api.abandonAudioFocus();
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterNativeAPI.requestAudioFocus" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  api.requestAudioFocus();
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterNativeAPI.isDeviceSupportPip" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  IntMsg output = api.isDeviceSupportPip();
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterNativeAPI.registerSysBrightness" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                BoolMsg isRegisterArg = (BoolMsg) args.get(0);
+                try {
+                  api.registerSysBrightness(isRegisterArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface TXFlutterVodPlayerApi {
+    /**
+     * 播放器初始化，创建共享纹理、初始化播放器
+     *
+     * To initialize the player, you would need to create a shared texture and initialize the player.
+     * @param onlyAudio 是否是纯音频模式 if pure audio mode
+     */
+    @NonNull 
+    IntMsg initialize(@NonNull BoolPlayerMsg onlyAudio);
+    /**
+     * 通过url开始播放视频
+     * 10.7版本开始，startPlay变更为startVodPlay，需要通过 {@link SuperPlayerPlugin#setGlobalLicense} 设置 Licence 后方可成功播放，
+     * 否则将播放失败（黑屏），全局仅设置一次即可。直播 Licence、短视频 Licence 和视频播放 Licence 均可使用，若您暂未获取上述 Licence ，
+     * 可[快速免费申请测试版 Licence](https://cloud.tencent.com/act/event/License) 以正常播放，正式版 License 需[购买]
+     * (https://cloud.tencent.com/document/product/881/74588#.E8.B4.AD.E4.B9.B0.E5.B9.B6.E6.96.B0.E5.BB.BA.E6.AD.A3.E5.BC.8F.E7.89.88-license)。
+     *
+     * Starting from version 10.7, the method `startPlay` has been changed to `startVodPlay` for playing videos via a URL.
+     * To play videos successfully, it is necessary to set the license by using the method `SuperPlayerPlugin#setGlobalLicense`.
+     * Failure to set the license will result in video playback failure (a black screen).
+     * Live streaming, short video, and video playback licenses can all be used. If you do not have any of the above licenses,
+     * you can apply for a free trial license to play videos normally[Quickly apply for a free trial version Licence]
+     * (https://cloud.tencent.com/act/event/License).Official licenses can be purchased
+     * (https://cloud.tencent.com/document/product/881/74588#.E8.B4.AD.E4.B9.B0.E5.B9.B6.E6.96.B0.E5.BB.BA.E6.AD.A3.E5.BC.8F.E7.89.88-license).
+     * @param url : 视频播放地址 video playback address
+     * return 是否播放成功 if play successfully
+     */
+    @NonNull 
+    BoolMsg startVodPlay(@NonNull StringPlayerMsg url);
+    /**
+     * 通过fileId播放视频
+     * 10.7版本开始，startPlayWithParams变更为startVodPlayWithParams，需要通过 {@link SuperPlayerPlugin#setGlobalLicense} 设置 Licence 后方可成功播放，
+     * 否则将播放失败（黑屏），全局仅设置一次即可。直播 Licence、短视频 Licence 和视频播放 Licence 均可使用，若您暂未获取上述 Licence ，
+     * 可[快速免费申请测试版 Licence](https://cloud.tencent.com/act/event/License) 以正常播放，正式版 License 需[购买]
+     * (https://cloud.tencent.com/document/product/881/74588#.E8.B4.AD.E4.B9.B0.E5.B9.B6.E6.96.B0.E5.BB.BA.E6.AD.A3.E5.BC.8F.E7.89.88-license)。
+     *
+     * Starting from version 10.7, the method "startPlayWithParams" has been changed to "startVodPlayWithParams" for playing videos using fileId.
+     * To play the video successfully, you need to set the Licence using "SuperPlayerPlugin#setGlobalLicense" method before playing the video.
+     * If you do not set the Licence, the video will not play (black screen). The Licence for live streaming,
+     * short video, and video playback can all be used. If you have not obtained the Licence, you can apply for a free trial version [here]
+     * (https://cloud.tencent.com/act/event/License) for normal playback. To use the official version, you need to [purchase]
+     * (https://cloud.tencent.com/document/product/881/74588#.E8.B4.AD.E4.B9.B0.E5.B9.B6.E6.96.B0.E5.BB.BA.E6.AD.A3.E5.BC.8F.E7.89.88-license).
+     * @params : see[TXPlayInfoParams]
+     * return 是否播放成功  if play successful
+     */
+    void startVodPlayWithParams(@NonNull TXPlayInfoParamsPlayerMsg params);
+    /**
+     * 播放 DRM 加密视频
+     *
+     * Playing DRM-encrypted video.
+     */
+    @NonNull 
+    IntMsg startPlayDrm(@NonNull TXPlayerDrmMsg params);
+    /**
+     * 设置是否自动播放
+     *
+     * set autoplay
+     */
+    void setAutoPlay(@NonNull BoolPlayerMsg isAutoPlay);
+    /**
+     * 停止播放
+     *
+     * Stop playback
+     * return 是否停止成功 if stop successful
+     */
+    @NonNull 
+    BoolMsg stop(@NonNull BoolPlayerMsg isNeedClear);
+    /**
+     * 视频是否处于正在播放中
+     *
+     * Is the video currently playing
+     */
+    @NonNull 
+    BoolMsg isPlaying(@NonNull PlayerMsg playerMsg);
+    /**
+     * 视频暂停，必须在播放器开始播放的时候调用
+     *
+     * pause video, it must be called when the player starts playing
+     */
+    void pause(@NonNull PlayerMsg playerMsg);
+    /**
+     * 继续播放，在暂停的时候调用
+     *
+     * resume playback, it should be called when the video is paused
+     */
+    void resume(@NonNull PlayerMsg playerMsg);
+    /**
+     * 设置是否静音
+     *
+     * Set whether to mute or not
+     */
+    void setMute(@NonNull BoolPlayerMsg mute);
+    /**
+     * 设置是否循环播放
+     *
+     * Set whether to loop playback or not
+     */
+    void setLoop(@NonNull BoolPlayerMsg loop);
+    /**
+     * 将视频播放进度定位到指定的进度进行播放
+     *
+     * Set the video playback progress to a specific time and start playing.
+     * progress 要定位的视频时间，单位 秒 The video playback time to be located, in seconds
+     */
+    void seek(@NonNull DoublePlayerMsg progress);
+    /**
+     * 跳转到视频流指定PDT时间点, 可实现视频快进,快退,进度条跳转等功能
+     * 单位毫秒(ms)
+     * 播放器高级版 11.6 版本开始支持
+     *
+     * Jump to the specified PDT time point of the video stream, which can realize video fast forward, fast rewind, progress bar jump and other functions.
+     * Unit millisecond (ms)
+     * Player Premium version 11.6 starts to support
+     */
+    void seekToPdtTime(@NonNull IntPlayerMsg pdtTimeMs);
+    /**
+     * 设置播放速率，默认速率 1
+     *
+     * Set the playback speed, with a default speed of 1.
+     */
+    void setRate(@NonNull DoublePlayerMsg rate);
+    /**
+     * 获得播放视频解析出来的码率信息
+     *
+     * get the bitrate information extracted from playing a video
+     * return List<Map>
+     * Bitrate：index 码率序号，
+     *         width 码率对应视频宽度，
+     *         height 码率对应视频高度,
+     *         bitrate 码率值
+     *
+     * Bitrate：index:bitrate index，
+     *         width:the video with of this bitrate，
+     *         height:the video height of this bitrate,
+     *         bitrate:bitrate value
+     */
+    @NonNull 
+    ListMsg getSupportedBitrate(@NonNull PlayerMsg playerMsg);
+    /**
+     * 获得当前设置的码率序号
+     *
+     * Get the index of the current bitrate setting
+     */
+    @NonNull 
+    IntMsg getBitrateIndex(@NonNull PlayerMsg playerMsg);
+    /**
+     * 设置码率序号
+     *
+     * Set the index of the bitrate setting.
+     */
+    void setBitrateIndex(@NonNull IntPlayerMsg index);
+    /**
+     * 设置视频播放开始时间，单位 秒
+     *
+     * Set the start time of the video playback, in seconds.
+     */
+    void setStartTime(@NonNull DoublePlayerMsg startTime);
+    /**
+     * 设置视频声音 0~100
+     *
+     * Set the volume of the video, ranging from 0 to 100.
+     */
+    void setAudioPlayOutVolume(@NonNull IntPlayerMsg volume);
+    /**
+     * 请求获得音频焦点
+     *
+     * Request audio focus.
+     */
+    @NonNull 
+    BoolMsg setRequestAudioFocus(@NonNull BoolPlayerMsg focus);
+    /**
+     * 设置播放器配置
+     *
+     * Set player configuration
+     * config @see [FTXVodPlayConfig]
+     */
+    void setConfig(@NonNull FTXVodPlayConfigPlayerMsg config);
+    /**
+     * 获得当前已经播放的时间，单位 秒
+     *
+     * Get the current playback time, in seconds.
+     */
+    @NonNull 
+    DoubleMsg getCurrentPlaybackTime(@NonNull PlayerMsg playerMsg);
+    /**
+     * 获得当前视频已缓存的时间
+     *
+     * Get the current amount of video that has been buffered.
+     */
+    @NonNull 
+    DoubleMsg getBufferDuration(@NonNull PlayerMsg playerMsg);
+    /**
+     * 获得当前视频的可播放时间
+     *
+     * Get the current playable duration of the video.
+     */
+    @NonNull 
+    DoubleMsg getPlayableDuration(@NonNull PlayerMsg playerMsg);
+    /**
+     * 获得当前播放视频的宽度
+     *
+     * Get the width of the currently playing video.
+     */
+    @NonNull 
+    IntMsg getWidth(@NonNull PlayerMsg playerMsg);
+    /**
+     * 获得当前播放视频的高度
+     *
+     * Get the height of the currently playing video.
+     */
+    @NonNull 
+    IntMsg getHeight(@NonNull PlayerMsg playerMsg);
+    /**
+     * 设置播放视频的token
+     *
+     * Set the token for playing the video.
+     */
+    void setToken(@NonNull StringPlayerMsg token);
+    /**
+     * 当前播放的视频是否循环播放
+     *
+     * Is the currently playing video set to loop
+     */
+    @NonNull 
+    BoolMsg isLoop(@NonNull PlayerMsg playerMsg);
+    /**
+     * 开启/关闭硬件编码
+     *
+     * Enable/Disable hardware encoding.
+     */
+    @NonNull 
+    BoolMsg enableHardwareDecode(@NonNull BoolPlayerMsg enable);
+    /**
+     * 进入画中画模式，进入画中画模式，需要适配画中画模式的界面，安卓只支持7.0以上机型
+     * <h1>
+     * 由于android系统限制，传递的图标大小不得超过1M，否则无法显示
+     * </h1>
+     * @param backIcon playIcon pauseIcon forwardIcon 为播放后退、播放、暂停、前进的图标，如果赋值的话，将会使用传递的图标，否则
+     * 使用系统默认图标，只支持flutter本地资源图片，传递的时候，与flutter使用图片资源一致，例如： images/back_icon.png
+     */
+    @NonNull 
+    IntMsg enterPictureInPictureMode(@NonNull PipParamsPlayerMsg pipParamsMsg);
+    /**
+     * 退出画中画，如果该播放器处于画中画模式
+     *
+     * Exit picture-in-picture mode if the video player is in picture-in-picture mode.
+     */
+    void exitPictureInPictureMode(@NonNull PlayerMsg playerMsg);
+
+    void initImageSprite(@NonNull StringListPlayerMsg spriteInfo);
+
+    @NonNull 
+    UInt8ListMsg getImageSprite(@NonNull DoublePlayerMsg time);
+    /**
+     * 获取总时长
+     *
+     * To get the total duration
+     */
+    @NonNull 
+    DoubleMsg getDuration(@NonNull PlayerMsg playerMsg);
+
+    void addSubtitleSource(@NonNull SubTitlePlayerMsg playerMsg);
+
+    @NonNull 
+    ListMsg getSubtitleTrackInfo(@NonNull PlayerMsg playerMsg);
+
+    @NonNull 
+    ListMsg getAudioTrackInfo(@NonNull PlayerMsg playerMsg);
+
+    void selectTrack(@NonNull IntPlayerMsg playerMsg);
+
+    void deselectTrack(@NonNull IntPlayerMsg playerMsg);
+
+    void setSubtitleStyle(@NonNull SubTitleRenderModelPlayerMsg playerMsg);
+
+    void setStringOption(@NonNull StringOptionPlayerMsg playerMsg);
+
+    void setPlayerView(@NonNull Long renderViewId);
+
+    void setRenderMode(@NonNull Long renderMode);
+
+    void reDraw();
+
+    /**
+     * 直接使用 Flutter 纹理渲染，解码画面直接输出到 Flutter Texture，不经过 PlatformView 和 GL 拷贝，仅 Android 有效
+     *
+     * Render directly to a Flutter texture, decoded frames go to the Flutter Texture without PlatformView and GL copy.
+     * Only valid on Android.
+     * return textureId, -1 if disabled
+     */
+    @NonNull 
+    IntMsg enableTextureRender(@NonNull BoolPlayerMsg enable);
+
+    /**
+     * 获取当前渲染视图的渲染统计，包括 updateTexImage、绘制、交换缓冲区耗时分布，上屏帧数、丢帧数和 EGL 错误，仅 Android 有效
+     *
+     * Get render statistics of current render view, including time histograms of updateTexImage, draw and swap,
+     * frames presented and dropped, and EGL errors. Only valid on Android.
+     */
+    @NonNull 
+    MapMsg getRenderStats(@NonNull PlayerMsg playerMsg);
+
+    /**
+     * 镜像渲染到另一个渲染视图，与主视图共用同一路解码，每个视图使用自己的渲染模式，仅 Android 有效
+     *
+     * Mirror the decoded video to another render view. The view shares the decoder of the main view and has its own
+     * render mode. Only valid on Android.
+     */
+    void addMirrorView(@NonNull Long renderViewId, @NonNull Long renderMode);
+
+    /**
+     * 移除镜像渲染视图，仅 Android 有效
+     *
+     * Stop mirroring to the render view. Only valid on Android.
+     */
+    void removeMirrorView(@NonNull Long renderViewId);
+
+    /**
+     * 异步截取当前视频帧，在 GPU 上缩放到 maxWidth x maxHeight 以内，不阻塞渲染线程，仅 Android 有效
+     *
+     * Capture the current video frame asynchronously, scaled on GPU to fit in maxWidth x maxHeight, without
+     * blocking the render thread. format: 0 JPEG, 1 PNG, 2 raw RGBA. Only valid on Android.
+     */
+    void captureFrame(@NonNull CaptureFramePlayerMsg msg, @NonNull Result<UInt8ListMsg> result);
+
+    /** The codec used by TXFlutterVodPlayerApi. */
+    static @NonNull MessageCodec<Object> getCodec() {
+      return PigeonCodec.INSTANCE;
+    }
+    /**Sets up an instance of `TXFlutterVodPlayerApi` to handle messages through the `binaryMessenger`. */
+    static void setUp(@NonNull BinaryMessenger binaryMessenger, @Nullable TXFlutterVodPlayerApi api) {
+      setUp(binaryMessenger, "", api);
+    }
+    static void setUp(@NonNull BinaryMessenger binaryMessenger, @NonNull String messageChannelSuffix, @Nullable TXFlutterVodPlayerApi api) {
+      messageChannelSuffix = messageChannelSuffix.isEmpty() ? "" : "." + messageChannelSuffix;
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.initialize" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                BoolPlayerMsg onlyAudioArg = (BoolPlayerMsg) args.get(0);
+                try {
+                  IntMsg output = api.initialize(onlyAudioArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.startVodPlay" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                StringPlayerMsg urlArg = (StringPlayerMsg) args.get(0);
+                try {
+                  BoolMsg output = api.startVodPlay(urlArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.startVodPlayWithParams" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                TXPlayInfoParamsPlayerMsg paramsArg = (TXPlayInfoParamsPlayerMsg) args.get(0);
+                try {
+                  api.startVodPlayWithParams(paramsArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.startPlayDrm" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                TXPlayerDrmMsg paramsArg = (TXPlayerDrmMsg) args.get(0);
+                try {
+                  IntMsg output = api.startPlayDrm(paramsArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setAutoPlay" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                BoolPlayerMsg isAutoPlayArg = (BoolPlayerMsg) args.get(0);
+                try {
+                  api.setAutoPlay(isAutoPlayArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.stop" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                BoolPlayerMsg isNeedClearArg = (BoolPlayerMsg) args.get(0);
+                try {
+                  BoolMsg output = api.stop(isNeedClearArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.isPlaying" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
+                try {
+                  BoolMsg output = api.isPlaying(playerMsgArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.pause" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
+                try {
+                  api.pause(playerMsgArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.resume" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
+                try {
+                  api.resume(playerMsgArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setMute" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                BoolPlayerMsg muteArg = (BoolPlayerMsg) args.get(0);
+                try {
+                  api.setMute(muteArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setLoop" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                BoolPlayerMsg loopArg = (BoolPlayerMsg) args.get(0);
+                try {
+                  api.setLoop(loopArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.seek" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                DoublePlayerMsg progressArg = (DoublePlayerMsg) args.get(0);
+                try {
+                  api.seek(progressArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.seekToPdtTime" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                IntPlayerMsg pdtTimeMsArg = (IntPlayerMsg) args.get(0);
+                try {
+                  api.seekToPdtTime(pdtTimeMsArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setRate" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                DoublePlayerMsg rateArg = (DoublePlayerMsg) args.get(0);
+                try {
+                  api.setRate(rateArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.getSupportedBitrate" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
+                try {
+                  ListMsg output = api.getSupportedBitrate(playerMsgArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.getBitrateIndex" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
+                try {
+                  IntMsg output = api.getBitrateIndex(playerMsgArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setBitrateIndex" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                IntPlayerMsg indexArg = (IntPlayerMsg) args.get(0);
+                try {
+                  api.setBitrateIndex(indexArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setStartTime" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                DoublePlayerMsg startTimeArg = (DoublePlayerMsg) args.get(0);
+                try {
+                  api.setStartTime(startTimeArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setAudioPlayOutVolume" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                IntPlayerMsg volumeArg = (IntPlayerMsg) args.get(0);
+                try {
+                  api.setAudioPlayOutVolume(volumeArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setRequestAudioFocus" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                BoolPlayerMsg focusArg = (BoolPlayerMsg) args.get(0);
+                try {
+                  BoolMsg output = api.setRequestAudioFocus(focusArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setConfig" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                FTXVodPlayConfigPlayerMsg configArg = (FTXVodPlayConfigPlayerMsg) args.get(0);
+                try {
+                  api.setConfig(configArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.getCurrentPlaybackTime" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
+                try {
+                  DoubleMsg output = api.getCurrentPlaybackTime(playerMsgArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.initialize" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.getBufferDuration" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                BoolPlayerMsg onlyAudioArg = (BoolPlayerMsg) args.get(0);
+                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
                 try {
-                  IntMsg output = api.initialize(onlyAudioArg);
+                  DoubleMsg output = api.getBufferDuration(playerMsgArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -4950,15 +6898,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.startVodPlay" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.getPlayableDuration" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                StringPlayerMsg urlArg = (StringPlayerMsg) args.get(0);
+                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
                 try {
-                  BoolMsg output = api.startVodPlay(urlArg);
+                  DoubleMsg output = api.getPlayableDuration(playerMsgArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -4973,16 +6921,16 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.startVodPlayWithParams" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.getWidth" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                TXPlayInfoParamsPlayerMsg paramsArg = (TXPlayInfoParamsPlayerMsg) args.get(0);
+                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
                 try {
-                  api.startVodPlayWithParams(paramsArg);
-                  wrapped.add(0, null);
+                  IntMsg output = api.getWidth(playerMsgArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -4996,15 +6944,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.startPlayDrm" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.getHeight" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                TXPlayerDrmMsg paramsArg = (TXPlayerDrmMsg) args.get(0);
+                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
                 try {
-                  IntMsg output = api.startPlayDrm(paramsArg);
+                  IntMsg output = api.getHeight(playerMsgArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -5019,15 +6967,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setAutoPlay" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setToken" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                BoolPlayerMsg isAutoPlayArg = (BoolPlayerMsg) args.get(0);
+                StringPlayerMsg tokenArg = (StringPlayerMsg) args.get(0);
                 try {
-                  api.setAutoPlay(isAutoPlayArg);
+                  api.setToken(tokenArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -5042,15 +6990,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.stop" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.isLoop" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                BoolPlayerMsg isNeedClearArg = (BoolPlayerMsg) args.get(0);
+                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
                 try {
-                  BoolMsg output = api.stop(isNeedClearArg);
+                  BoolMsg output = api.isLoop(playerMsgArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -5065,15 +7013,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.isPlaying" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.enableHardwareDecode" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
+                BoolPlayerMsg enableArg = (BoolPlayerMsg) args.get(0);
                 try {
-                  BoolMsg output = api.isPlaying(playerMsgArg);
+                  BoolMsg output = api.enableHardwareDecode(enableArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -5088,7 +7036,30 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.pause" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.enterPictureInPictureMode" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PipParamsPlayerMsg pipParamsMsgArg = (PipParamsPlayerMsg) args.get(0);
+                try {
+                  IntMsg output = api.enterPictureInPictureMode(pipParamsMsgArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.exitPictureInPictureMode" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -5096,7 +7067,7 @@ public class FtxMessages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
                 try {
-                  api.pause(playerMsgArg);
+                  api.exitPictureInPictureMode(playerMsgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -5111,7 +7082,53 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.resume" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.initImageSprite" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                StringListPlayerMsg spriteInfoArg = (StringListPlayerMsg) args.get(0);
+                try {
+                  api.initImageSprite(spriteInfoArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.getImageSprite" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                DoublePlayerMsg timeArg = (DoublePlayerMsg) args.get(0);
+                try {
+                  UInt8ListMsg output = api.getImageSprite(timeArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.getDuration" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -5119,7 +7136,30 @@ public class FtxMessages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
                 try {
-                  api.resume(playerMsgArg);
+                  DoubleMsg output = api.getDuration(playerMsgArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.addSubtitleSource" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                SubTitlePlayerMsg playerMsgArg = (SubTitlePlayerMsg) args.get(0);
+                try {
+                  api.addSubtitleSource(playerMsgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -5134,15 +7174,61 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setMute" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.getSubtitleTrackInfo" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                BoolPlayerMsg muteArg = (BoolPlayerMsg) args.get(0);
+                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
                 try {
-                  api.setMute(muteArg);
+                  ListMsg output = api.getSubtitleTrackInfo(playerMsgArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.getAudioTrackInfo" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
+                try {
+                  ListMsg output = api.getAudioTrackInfo(playerMsgArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.selectTrack" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                IntPlayerMsg playerMsgArg = (IntPlayerMsg) args.get(0);
+                try {
+                  api.selectTrack(playerMsgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -5157,15 +7243,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setLoop" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.deselectTrack" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                BoolPlayerMsg loopArg = (BoolPlayerMsg) args.get(0);
+                IntPlayerMsg playerMsgArg = (IntPlayerMsg) args.get(0);
                 try {
-                  api.setLoop(loopArg);
+                  api.deselectTrack(playerMsgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -5180,15 +7266,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.seek" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setSubtitleStyle" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                DoublePlayerMsg progressArg = (DoublePlayerMsg) args.get(0);
+                SubTitleRenderModelPlayerMsg playerMsgArg = (SubTitleRenderModelPlayerMsg) args.get(0);
                 try {
-                  api.seek(progressArg);
+                  api.setSubtitleStyle(playerMsgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -5203,15 +7289,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.seekToPdtTime" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setStringOption" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                IntPlayerMsg pdtTimeMsArg = (IntPlayerMsg) args.get(0);
+                StringOptionPlayerMsg playerMsgArg = (StringOptionPlayerMsg) args.get(0);
                 try {
-                  api.seekToPdtTime(pdtTimeMsArg);
+                  api.setStringOption(playerMsgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -5226,15 +7312,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setRate" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setPlayerView" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                DoublePlayerMsg rateArg = (DoublePlayerMsg) args.get(0);
+                Long renderViewIdArg = (Long) args.get(0);
                 try {
-                  api.setRate(rateArg);
+                  api.setPlayerView(renderViewIdArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -5249,16 +7335,37 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.getSupportedBitrate" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setRenderMode" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
+                Long renderModeArg = (Long) args.get(0);
+                try {
+                  api.setRenderMode(renderModeArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.reDraw" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
                 try {
-                  ListMsg output = api.getSupportedBitrate(playerMsgArg);
-                  wrapped.add(0, output);
+                  api.reDraw();
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -5272,15 +7379,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.getBitrateIndex" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.enableTextureRender" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
+                BoolPlayerMsg enableArg = (BoolPlayerMsg) args.get(0);
                 try {
-                  IntMsg output = api.getBitrateIndex(playerMsgArg);
+                  IntMsg output = api.enableTextureRender(enableArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -5295,16 +7402,16 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setBitrateIndex" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.getRenderStats" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                IntPlayerMsg indexArg = (IntPlayerMsg) args.get(0);
+                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
                 try {
-                  api.setBitrateIndex(indexArg);
-                  wrapped.add(0, null);
+                  MapMsg output = api.getRenderStats(playerMsgArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -5318,15 +7425,16 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setStartTime" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.addMirrorView" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                DoublePlayerMsg startTimeArg = (DoublePlayerMsg) args.get(0);
+                Long renderViewIdArg = (Long) args.get(0);
+                Long renderModeArg = (Long) args.get(1);
                 try {
-                  api.setStartTime(startTimeArg);
+                  api.addMirrorView(renderViewIdArg, renderModeArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -5341,15 +7449,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setAudioPlayOutVolume" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.removeMirrorView" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                IntPlayerMsg volumeArg = (IntPlayerMsg) args.get(0);
+                Long renderViewIdArg = (Long) args.get(0);
                 try {
-                  api.setAudioPlayOutVolume(volumeArg);
+                  api.removeMirrorView(renderViewIdArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -5364,39 +7472,149 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setRequestAudioFocus" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.captureFrame" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                BoolPlayerMsg focusArg = (BoolPlayerMsg) args.get(0);
-                try {
-                  BoolMsg output = api.setRequestAudioFocus(focusArg);
-                  wrapped.add(0, output);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
+                CaptureFramePlayerMsg msgArg = (CaptureFramePlayerMsg) args.get(0);
+                Result<UInt8ListMsg> resultCallback =
+                    new Result<UInt8ListMsg>() {
+                      public void success(UInt8ListMsg result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.captureFrame(msgArg, resultCallback);
               });
         } else {
           channel.setMessageHandler(null);
         }
       }
+    }
+  }
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface TXFlutterLivePlayerApi {
+    /**
+     * 播放器初始化，创建共享纹理、初始化播放器
+     * @param onlyAudio 是否是纯音频模式
+     */
+    @NonNull 
+    IntMsg initialize(@NonNull BoolPlayerMsg onlyAudio);
+    /**
+     *
+     * 当设置[LivePlayer] 类型播放器时
+     * 10.7版本开始，startPlay变更为startLivePlay，需要通过 {@link SuperPlayerPlugin#setGlobalLicense} 设置 Licence 后方可成功播放，
+     * 否则将播放失败（黑屏），全局仅设置一次即可。直播 Licence、短视频 Licence 和视频播放 Licence 均可使用，若您暂未获取上述 Licence ，
+     * 可[快速免费申请测试版 Licence](https://cloud.tencent.com/act/event/License) 以正常播放，正式版 License 需[购买]
+     * (https://cloud.tencent.com/document/product/881/74588#.E8.B4.AD.E4.B9.B0.E5.B9.B6.E6.96.B0.E5.BB.BA.E6.AD.A3.E5.BC.8F.E7.89.88-license)。
+     */
+    @NonNull 
+    BoolMsg startLivePlay(@NonNull StringPlayerMsg playerMsg);
+    /**
+     * 停止播放
+     * return 是否停止成功
+     */
+    @NonNull 
+    BoolMsg stop(@NonNull BoolPlayerMsg isNeedClear);
+    /** 视频是否处于正在播放中 */
+    @NonNull 
+    BoolMsg isPlaying(@NonNull PlayerMsg playerMsg);
+    /** 视频暂停，必须在播放器开始播放的时候调用 */
+    void pause(@NonNull PlayerMsg playerMsg);
+    /** 继续播放，在暂停的时候调用 */
+    void resume(@NonNull PlayerMsg playerMsg);
+    /** 设置直播模式，see TXPlayerLiveMode */
+    void setLiveMode(@NonNull IntPlayerMsg mode);
+    /** 设置视频声音 0~100 */
+    void setVolume(@NonNull IntPlayerMsg volume);
+    /** 设置是否静音 */
+    void setMute(@NonNull BoolPlayerMsg mute);
+    /** 切换播放流 */
+    @NonNull 
+    IntMsg switchStream(@NonNull StringPlayerMsg url);
+    /** 设置appId */
+    void setAppID(@NonNull StringPlayerMsg appId);
+    /**
+     * 设置播放器配置
+     * config @see [FTXLivePlayConfig]
+     */
+    void setConfig(@NonNull FTXLivePlayConfigPlayerMsg config);
+    /** 开启/关闭硬件编码 */
+    @NonNull 
+    BoolMsg enableHardwareDecode(@NonNull BoolPlayerMsg enable);
+    /**
+     * 进入画中画模式，进入画中画模式，需要适配画中画模式的界面，安卓只支持7.0以上机型
+     * <h1>
+     * 由于android系统限制，传递的图标大小不得超过1M，否则无法显示
+     * </h1>
+     * @param backIcon playIcon pauseIcon forwardIcon 为播放后退、播放、暂停、前进的图标，仅适用于android，如果赋值的话，将会使用传递的图标，否则
+     * 使用系统默认图标，只支持flutter本地资源图片，传递的时候，与flutter使用图片资源一致，例如： images/back_icon.png
+     */
+    @NonNull 
+    IntMsg enterPictureInPictureMode(@NonNull PipParamsPlayerMsg pipParamsMsg);
+    /** 退出画中画，如果该播放器处于画中画模式 */
+    void exitPictureInPictureMode(@NonNull PlayerMsg playerMsg);
+
+    @NonNull 
+    Long enableReceiveSeiMessage(@NonNull PlayerMsg playerMsg, @NonNull Boolean isEnabled, @NonNull Long payloadType);
+
+    void showDebugView(@NonNull PlayerMsg playerMsg, @NonNull Boolean isShow);
+
+    @NonNull 
+    Long setProperty(@NonNull PlayerMsg playerMsg, @NonNull String key, @NonNull Object value);
+
+    @NonNull 
+    ListMsg getSupportedBitrate(@NonNull PlayerMsg playerMsg);
+
+    @NonNull 
+    Long setCacheParams(@NonNull PlayerMsg playerMsg, @NonNull Double minTime, @NonNull Double maxTime);
+
+    @NonNull 
+    Long enablePictureInPicture(@NonNull BoolPlayerMsg msg);
+
+    void setPlayerView(@NonNull Long renderViewId);
+
+    void setRenderMode(@NonNull Long renderMode);
+
+    /**
+     * 异步截取下一帧直播画面，解码后的 I420 数据在 CPU 上转换为 RGBA，并缩放到 maxWidth x maxHeight 以内，仅 Android 有效
+     *
+     * Capture the next live video frame asynchronously. The decoded I420 frame is converted to RGBA on CPU and
+     * scaled to fit in maxWidth x maxHeight. format: 0 JPEG, 1 PNG, 2 raw RGBA. Only valid on Android.
+     */
+    void captureFrame(@NonNull CaptureFramePlayerMsg msg, @NonNull Result<UInt8ListMsg> result);
+
+    /** The codec used by TXFlutterLivePlayerApi. */
+    static @NonNull MessageCodec<Object> getCodec() {
+      return PigeonCodec.INSTANCE;
+    }
+    /**Sets up an instance of `TXFlutterLivePlayerApi` to handle messages through the `binaryMessenger`. */
+    static void setUp(@NonNull BinaryMessenger binaryMessenger, @Nullable TXFlutterLivePlayerApi api) {
+      setUp(binaryMessenger, "", api);
+    }
+    static void setUp(@NonNull BinaryMessenger binaryMessenger, @NonNull String messageChannelSuffix, @Nullable TXFlutterLivePlayerApi api) {
+      messageChannelSuffix = messageChannelSuffix.isEmpty() ? "" : "." + messageChannelSuffix;
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setConfig" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.initialize" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                FTXVodPlayConfigPlayerMsg configArg = (FTXVodPlayConfigPlayerMsg) args.get(0);
+                BoolPlayerMsg onlyAudioArg = (BoolPlayerMsg) args.get(0);
                 try {
-                  api.setConfig(configArg);
-                  wrapped.add(0, null);
+                  IntMsg output = api.initialize(onlyAudioArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -5410,15 +7628,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.getCurrentPlaybackTime" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.startLivePlay" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
+                StringPlayerMsg playerMsgArg = (StringPlayerMsg) args.get(0);
                 try {
-                  DoubleMsg output = api.getCurrentPlaybackTime(playerMsgArg);
+                  BoolMsg output = api.startLivePlay(playerMsgArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -5433,15 +7651,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.getBufferDuration" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.stop" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
+                BoolPlayerMsg isNeedClearArg = (BoolPlayerMsg) args.get(0);
                 try {
-                  DoubleMsg output = api.getBufferDuration(playerMsgArg);
+                  BoolMsg output = api.stop(isNeedClearArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -5456,7 +7674,7 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.getPlayableDuration" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.isPlaying" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -5464,7 +7682,7 @@ public class FtxMessages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
                 try {
-                  DoubleMsg output = api.getPlayableDuration(playerMsgArg);
+                  BoolMsg output = api.isPlaying(playerMsgArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -5479,7 +7697,7 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.getWidth" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.pause" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -5487,8 +7705,8 @@ public class FtxMessages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
                 try {
-                  IntMsg output = api.getWidth(playerMsgArg);
-                  wrapped.add(0, output);
+                  api.pause(playerMsgArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -5502,7 +7720,7 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.getHeight" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.resume" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -5510,8 +7728,8 @@ public class FtxMessages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
                 try {
-                  IntMsg output = api.getHeight(playerMsgArg);
-                  wrapped.add(0, output);
+                  api.resume(playerMsgArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -5525,15 +7743,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setToken" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.setLiveMode" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                StringPlayerMsg tokenArg = (StringPlayerMsg) args.get(0);
+                IntPlayerMsg modeArg = (IntPlayerMsg) args.get(0);
                 try {
-                  api.setToken(tokenArg);
+                  api.setLiveMode(modeArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -5548,16 +7766,16 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.isLoop" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.setVolume" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
+                IntPlayerMsg volumeArg = (IntPlayerMsg) args.get(0);
                 try {
-                  BoolMsg output = api.isLoop(playerMsgArg);
-                  wrapped.add(0, output);
+                  api.setVolume(volumeArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -5571,16 +7789,16 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.enableHardwareDecode" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.setMute" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                BoolPlayerMsg enableArg = (BoolPlayerMsg) args.get(0);
+                BoolPlayerMsg muteArg = (BoolPlayerMsg) args.get(0);
                 try {
-                  BoolMsg output = api.enableHardwareDecode(enableArg);
-                  wrapped.add(0, output);
+                  api.setMute(muteArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -5594,15 +7812,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.enterPictureInPictureMode" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.switchStream" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                PipParamsPlayerMsg pipParamsMsgArg = (PipParamsPlayerMsg) args.get(0);
+                StringPlayerMsg urlArg = (StringPlayerMsg) args.get(0);
                 try {
-                  IntMsg output = api.enterPictureInPictureMode(pipParamsMsgArg);
+                  IntMsg output = api.switchStream(urlArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -5617,15 +7835,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.exitPictureInPictureMode" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.setAppID" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
+                StringPlayerMsg appIdArg = (StringPlayerMsg) args.get(0);
                 try {
-                  api.exitPictureInPictureMode(playerMsgArg);
+                  api.setAppID(appIdArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -5640,15 +7858,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.initImageSprite" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.setConfig" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                StringListPlayerMsg spriteInfoArg = (StringListPlayerMsg) args.get(0);
+                FTXLivePlayConfigPlayerMsg configArg = (FTXLivePlayConfigPlayerMsg) args.get(0);
                 try {
-                  api.initImageSprite(spriteInfoArg);
+                  api.setConfig(configArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -5663,15 +7881,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.getImageSprite" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.enableHardwareDecode" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                DoublePlayerMsg timeArg = (DoublePlayerMsg) args.get(0);
+                BoolPlayerMsg enableArg = (BoolPlayerMsg) args.get(0);
                 try {
-                  UInt8ListMsg output = api.getImageSprite(timeArg);
+                  BoolMsg output = api.enableHardwareDecode(enableArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -5686,15 +7904,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.getDuration" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.enterPictureInPictureMode" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
+                PipParamsPlayerMsg pipParamsMsgArg = (PipParamsPlayerMsg) args.get(0);
                 try {
-                  DoubleMsg output = api.getDuration(playerMsgArg);
+                  IntMsg output = api.enterPictureInPictureMode(pipParamsMsgArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -5709,15 +7927,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.addSubtitleSource" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.exitPictureInPictureMode" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                SubTitlePlayerMsg playerMsgArg = (SubTitlePlayerMsg) args.get(0);
+                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
                 try {
-                  api.addSubtitleSource(playerMsgArg);
+                  api.exitPictureInPictureMode(playerMsgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -5732,15 +7950,17 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.getSubtitleTrackInfo" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.enableReceiveSeiMessage" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
+                Boolean isEnabledArg = (Boolean) args.get(1);
+                Long payloadTypeArg = (Long) args.get(2);
                 try {
-                  ListMsg output = api.getSubtitleTrackInfo(playerMsgArg);
+                  Long output = api.enableReceiveSeiMessage(playerMsgArg, isEnabledArg, payloadTypeArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -5755,16 +7975,17 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.getAudioTrackInfo" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.showDebugView" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
+                Boolean isShowArg = (Boolean) args.get(1);
                 try {
-                  ListMsg output = api.getAudioTrackInfo(playerMsgArg);
-                  wrapped.add(0, output);
+                  api.showDebugView(playerMsgArg, isShowArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -5778,16 +7999,18 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.selectTrack" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.setProperty" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                IntPlayerMsg playerMsgArg = (IntPlayerMsg) args.get(0);
+                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
+                String keyArg = (String) args.get(1);
+                Object valueArg = args.get(2);
                 try {
-                  api.selectTrack(playerMsgArg);
-                  wrapped.add(0, null);
+                  Long output = api.setProperty(playerMsgArg, keyArg, valueArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -5801,16 +8024,16 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.deselectTrack" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.getSupportedBitrate" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                IntPlayerMsg playerMsgArg = (IntPlayerMsg) args.get(0);
+                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
                 try {
-                  api.deselectTrack(playerMsgArg);
-                  wrapped.add(0, null);
+                  ListMsg output = api.getSupportedBitrate(playerMsgArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -5824,16 +8047,18 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setSubtitleStyle" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.setCacheParams" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                SubTitleRenderModelPlayerMsg playerMsgArg = (SubTitleRenderModelPlayerMsg) args.get(0);
+                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
+                Double minTimeArg = (Double) args.get(1);
+                Double maxTimeArg = (Double) args.get(2);
                 try {
-                  api.setSubtitleStyle(playerMsgArg);
-                  wrapped.add(0, null);
+                  Long output = api.setCacheParams(playerMsgArg, minTimeArg, maxTimeArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -5847,16 +8072,16 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setStringOption" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.enablePictureInPicture" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                StringOptionPlayerMsg playerMsgArg = (StringOptionPlayerMsg) args.get(0);
+                BoolPlayerMsg msgArg = (BoolPlayerMsg) args.get(0);
                 try {
-                  api.setStringOption(playerMsgArg);
-                  wrapped.add(0, null);
+                  Long output = api.enablePictureInPicture(msgArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -5870,7 +8095,7 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setPlayerView" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.setPlayerView" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -5893,7 +8118,7 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.setRenderMode" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.setRenderMode" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -5916,19 +8141,27 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.reDraw" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.captureFrame" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
-                try {
-                  api.reDraw();
-                  wrapped.add(0, null);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                CaptureFramePlayerMsg msgArg = (CaptureFramePlayerMsg) args.get(0);
+                Result<UInt8ListMsg> resultCallback =
+                    new Result<UInt8ListMsg>() {
+                      public void success(UInt8ListMsg result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.captureFrame(msgArg, resultCallback);
               });
         } else {
           channel.setMessageHandler(null);
@@ -5937,157 +8170,235 @@ public class FtxMessages {
     }
   }
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface TXFlutterLivePlayerApi {
+  public interface TXFlutterDownloadApi {
     /**
-     * 播放器初始化，创建共享纹理、初始化播放器
-     * @param onlyAudio 是否是纯音频模式
+     * 启动预下载。
+     * playUrl: 要预下载的url
+     * preloadSizeMB: 预下载的大小（单位：MB）
+     * preferredResolution 期望分辨率，long类型，值为高x宽。可参考如720*1080。不支持多分辨率或不需指定时，传-1。
+     * 返回值：任务ID，可用这个任务ID停止预下载 [stopPreload]
      */
     @NonNull 
-    IntMsg initialize(@NonNull BoolPlayerMsg onlyAudio);
+    IntMsg startPreLoad(@NonNull PreLoadMsg msg);
+
+    void startPreLoadByParams(@NonNull PreLoadInfoMsg msg);
     /**
-     *
-     * 当设置[LivePlayer] 类型播放器时
-     * 10.7版本开始，startPlay变更为startLivePlay，需要通过 {@link SuperPlayerPlugin#setGlobalLicense} 设置 Licence 后方可成功播放，
-     * 否则将播放失败（黑屏），全局仅设置一次即可。直播 Licence、短视频 Licence 和视频播放 Licence 均可使用，若您暂未获取上述 Licence ，
-     * 可[快速免费申请测试版 Licence](https://cloud.tencent.com/act/event/License) 以正常播放，正式版 License 需[购买]
-     * (https://cloud.tencent.com/document/product/881/74588#.E8.B4.AD.E4.B9.B0.E5.B9.B6.E6.96.B0.E5.BB.BA.E6.AD.A3.E5.BC.8F.E7.89.88-license)。
+     * 停止预下载。
+     * taskId： 任务id
      */
-    @NonNull 
-    BoolMsg startLivePlay(@NonNull StringPlayerMsg playerMsg);
+    void stopPreLoad(@NonNull IntMsg msg);
     /**
-     * 停止播放
-     * return 是否停止成功
+     * 开始下载
+     * videoDownloadModel: 下载构造体
+     */
+    void startDownload(@NonNull TXVodDownloadMediaMsg msg);
+    /**
+     * 继续下载，与开始下载接口有区别，该接口会寻找对应的缓存，复用之前的缓存来续点下载，
+     * 而开始下载接口会启动一个全新的下载
+     * videoDownloadModel: 下载构造体
+     */
+    void resumeDownload(@NonNull TXVodDownloadMediaMsg msg);
+    /**
+     * 停止下载
+     * videoDownloadModel: 下载构造体
      */
+    void stopDownload(@NonNull TXVodDownloadMediaMsg msg);
+    /** 设置下载请求头 */
+    void setDownloadHeaders(@NonNull MapMsg headers);
+    /** 获取所有视频下载列表 */
     @NonNull 
-    BoolMsg stop(@NonNull BoolPlayerMsg isNeedClear);
-    /** 视频是否处于正在播放中 */
+    TXDownloadListMsg getDownloadList();
+    /** 获得指定视频的下载信息 */
     @NonNull 
-    BoolMsg isPlaying(@NonNull PlayerMsg playerMsg);
-    /** 视频暂停，必须在播放器开始播放的时候调用 */
-    void pause(@NonNull PlayerMsg playerMsg);
-    /** 继续播放，在暂停的时候调用 */
-    void resume(@NonNull PlayerMsg playerMsg);
-    /** 设置直播模式，see TXPlayerLiveMode */
-    void setLiveMode(@NonNull IntPlayerMsg mode);
-    /** 设置视频声音 0~100 */
-    void setVolume(@NonNull IntPlayerMsg volume);
-    /** 设置是否静音 */
-    void setMute(@NonNull BoolPlayerMsg mute);
-    /** 切换播放流 */
+    TXVodDownloadMediaMsg getDownloadInfo(@NonNull TXVodDownloadMediaMsg msg);
+    /** 删除下载任务 */
     @NonNull 
-    IntMsg switchStream(@NonNull StringPlayerMsg url);
-    /** 设置appId */
-    void setAppID(@NonNull StringPlayerMsg appId);
+    BoolMsg deleteDownloadMediaInfo(@NonNull TXVodDownloadMediaMsg msg);
+
     /**
-     * 设置播放器配置
-     * config @see [FTXLivePlayConfig]
+     * 修改排队中预下载任务的优先级，值越小越先开始，例如与当前播放位置的距离，仅 Android 有效
+     *
+     * Change priority of a queued preload, smaller value starts first, e.g. distance from the current feed index.
+     * Only valid on Android.
      */
-    void setConfig(@NonNull FTXLivePlayConfigPlayerMsg config);
-    /** 开启/关闭硬件编码 */
-    @NonNull 
-    BoolMsg enableHardwareDecode(@NonNull BoolPlayerMsg enable);
+    void setPreloadPriority(@NonNull PreloadPriorityMsg msg);
+
     /**
-     * 进入画中画模式，进入画中画模式，需要适配画中画模式的界面，安卓只支持7.0以上机型
-     * <h1>
-     * 由于android系统限制，传递的图标大小不得超过1M，否则无法显示
-     * </h1>
-     * @param backIcon playIcon pauseIcon forwardIcon 为播放后退、播放、暂停、前进的图标，仅适用于android，如果赋值的话，将会使用传递的图标，否则
-     * 使用系统默认图标，只支持flutter本地资源图片，传递的时候，与flutter使用图片资源一致，例如： images/back_icon.png
+     * 取消 startPreLoadByParams 启动的预下载，排队中的任务直接移除，已开始的任务会被停止，仅 Android 有效
+     *
+     * Cancel a preload started by startPreLoadByParams with its tmpPreloadTaskId. A queued preload is removed,
+     * a started one is stopped. Only valid on Android.
      */
-    @NonNull 
-    IntMsg enterPictureInPictureMode(@NonNull PipParamsPlayerMsg pipParamsMsg);
-    /** 退出画中画，如果该播放器处于画中画模式 */
-    void exitPictureInPictureMode(@NonNull PlayerMsg playerMsg);
+    void cancelPreload(@NonNull IntMsg msg);
+
+    /**
+     * 设置预下载调度参数：同时进行的预下载数量和进行中预下载的总大小上限，仅 Android 有效
+     *
+     * Set max count of concurrent preloads and max total size of preloads in flight. Only valid on Android.
+     */
+    void setPreloadSchedulerConfig(@NonNull PreloadSchedulerConfigMsg msg);
 
+    /**
+     * 获取预下载调度统计，包括排队数量和排队耗时，仅 Android 有效
+     *
+     * Get preload scheduler metrics, including queue depth and wait time. Only valid on Android.
+     */
     @NonNull 
-    Long enableReceiveSeiMessage(@NonNull PlayerMsg playerMsg, @NonNull Boolean isEnabled, @NonNull Long payloadType);
+    MapMsg getPreloadMetrics();
 
-    void showDebugView(@NonNull PlayerMsg playerMsg, @NonNull Boolean isShow);
+    /**
+     * 设置信息流的有序列表，之后只需上报当前位置，由原生决定预下载哪些条目及各自大小，仅 Android 有效
+     *
+     * Set the ordered items of a feed once, then only the current index is reported and native decides which
+     * items to preload and how much of each. Only valid on Android.
+     */
+    void setFeedPreloadList(@NonNull FeedPreloadListMsg msg);
 
-    @NonNull 
-    Long setProperty(@NonNull PlayerMsg playerMsg, @NonNull String key, @NonNull Object value);
+    /**
+     * 上报信息流当前位置和滑动速度（条/秒，向后为正），仅 Android 有效
+     *
+     * Report current index of the feed and scroll velocity in items per second, positive towards later items.
+     * Only valid on Android.
+     */
+    void updateFeedPreloadCursor(@NonNull FeedPreloadCursorMsg msg);
 
-    @NonNull 
-    ListMsg getSupportedBitrate(@NonNull PlayerMsg playerMsg);
+    /**
+     * 停止信息流预下载，取消其启动的所有预下载，仅 Android 有效
+     *
+     * Stop feed preloading and cancel all preloads started by it. Only valid on Android.
+     */
+    void stopFeedPreload();
 
+    /**
+     * 获取信息流预下载统计，包括播放时的命中率，仅 Android 有效
+     *
+     * Get feed preload metrics, including hit rate when items are played. Only valid on Android.
+     */
     @NonNull 
-    Long setCacheParams(@NonNull PlayerMsg playerMsg, @NonNull Double minTime, @NonNull Double maxTime);
+    MapMsg getFeedPreloadMetrics();
+
+    /**
+     * 设置下载进度事件节流：每个任务两次进度事件的最小间隔和最小进度变化，仅发送变化的字段，开始、停止、完成和失败事件总是立即发送，仅 Android 有效
+     *
+     * Throttle download progress events per task by min interval and min progress change, only changed fields
+     * are sent. Start, stop, finish and error events are always sent at once. Only valid on Android.
+     */
+    void setDownloadEventConfig(@NonNull DownloadEventConfigMsg msg);
+
+    /**
+     * 分页获取下载列表，可按用户名和下载状态过滤，返回当前版本号，仅 Android 有效
+     *
+     * Get a page of the download list, filtered by userName and downloadState, with the current version.
+     * Only valid on Android.
+     */
+    void getDownloadListPage(@NonNull DownloadListQueryMsg msg, @NonNull Result<DownloadListPageMsg> result);
+
+    /**
+     * 获取 sinceVersion 之后变化和删除的下载，版本过旧时 isFullSyncRequired 为 true，需重新分页获取，仅 Android 有效
+     *
+     * Get downloads changed or removed after sinceVersion. If the version is too old isFullSyncRequired is true
+     * and the list must be read again by pages. Only valid on Android.
+     */
+    void getDownloadListDelta(@NonNull DownloadListQueryMsg msg, @NonNull Result<DownloadListPageMsg> result);
+
+    /**
+     * 设置离线下载调度：最大同时下载数、总速率上限（KB/s，0 为不限制）以及播放缓冲时是否暂停下载，仅 Android 有效
+     *
+     * Set the offline download scheduler: max running downloads, total rate cap in KB/s (0 for no limit) and
+     * whether downloads pause while a player is buffering. Only valid on Android.
+     */
+    void setDownloadSchedulerConfig(@NonNull DownloadSchedulerConfigMsg msg);
+
+    /**
+     * 修改排队或下载中任务的优先级，数值越小越先下载，仅 Android 有效
+     *
+     * Change priority of a queued or running download, smaller value downloads first. Only valid on Android.
+     */
+    void setDownloadPriority(@NonNull DownloadPriorityMsg msg);
 
+    /**
+     * 获取离线下载调度状态，仅 Android 有效
+     *
+     * Get state of the offline download scheduler. Only valid on Android.
+     */
     @NonNull 
-    Long enablePictureInPicture(@NonNull BoolPlayerMsg msg);
+    MapMsg getDownloadSchedulerMetrics();
 
-    void setPlayerView(@NonNull Long renderViewId);
+    /**
+     * 从磁盘快照获取下载列表，冷启动时无需等待 SDK 枚举下载即可展示，快照会在后台与 SDK 列表同步，仅 Android 有效
+     *
+     * Get the download list from the on-disk snapshot, so it can be shown at cold start without waiting for the
+     * SDK to list downloads. The snapshot is reconciled with the SDK list in background. Only valid on Android.
+     */
+    void getDownloadListSnapshot(@NonNull Result<TXDownloadListMsg> result);
 
-    void setRenderMode(@NonNull Long renderMode);
+    /**
+     * 设置离线下载磁盘配额：全局和每个用户的字节上限，0 为不限制。超出时自动删除最久未观看的下载，仅 Android 有效
+     *
+     * Set disk quota of offline downloads: global and per-user byte limits, 0 for no limit. Over a limit the least
+     * recently watched downloads are deleted. Only valid on Android.
+     */
+    void setDownloadQuota(@NonNull DownloadQuotaMsg msg);
 
-    /** The codec used by TXFlutterLivePlayerApi. */
+    /**
+     * 获取离线下载磁盘占用和淘汰统计，仅 Android 有效
+     *
+     * Get disk usage of offline downloads and eviction counts. Only valid on Android.
+     */
+    void getDownloadUsage(@NonNull Result<MapMsg> result);
+
+    /**
+     * 在工作线程批量开始下载，通过 batchId 回调进度，返回每个下载是否成功开始，仅 Android 有效
+     *
+     * Start downloads in a batch on a worker thread, progress is reported by batchId. Returns whether each
+     * download is started. Only valid on Android.
+     */
+    void startDownloadBatch(@NonNull DownloadBatchMsg msg, @NonNull Result<DownloadBatchResultMsg> result);
+
+    /**
+     * 在工作线程批量删除下载，通过 batchId 回调进度，返回每个下载是否删除成功，仅 Android 有效
+     *
+     * Delete downloads in a batch on a worker thread, progress is reported by batchId. Returns whether each
+     * download is deleted. Only valid on Android.
+     */
+    void deleteDownloadBatch(@NonNull DownloadBatchMsg msg, @NonNull Result<DownloadBatchResultMsg> result);
+
+    /**
+     * 按优先级开始下载，数值越小越先下载，仅 Android 有效
+     *
+     * Start a download with priority, smaller value downloads first. Only valid on Android.
+     */
+    void startDownloadWithPriority(@NonNull DownloadPriorityMsg msg);
+
+    /**
+     * 按优先级继续下载，数值越小越先下载，仅 Android 有效
+     *
+     * Resume a download with priority, smaller value downloads first. Only valid on Android.
+     */
+    void resumeDownloadWithPriority(@NonNull DownloadPriorityMsg msg);
+
+    /** The codec used by TXFlutterDownloadApi. */
     static @NonNull MessageCodec<Object> getCodec() {
       return PigeonCodec.INSTANCE;
     }
-    /**Sets up an instance of `TXFlutterLivePlayerApi` to handle messages through the `binaryMessenger`. */
-    static void setUp(@NonNull BinaryMessenger binaryMessenger, @Nullable TXFlutterLivePlayerApi api) {
+    /**Sets up an instance of `TXFlutterDownloadApi` to handle messages through the `binaryMessenger`. */
+    static void setUp(@NonNull BinaryMessenger binaryMessenger, @Nullable TXFlutterDownloadApi api) {
       setUp(binaryMessenger, "", api);
     }
-    static void setUp(@NonNull BinaryMessenger binaryMessenger, @NonNull String messageChannelSuffix, @Nullable TXFlutterLivePlayerApi api) {
+    static void setUp(@NonNull BinaryMessenger binaryMessenger, @NonNull String messageChannelSuffix, @Nullable TXFlutterDownloadApi api) {
       messageChannelSuffix = messageChannelSuffix.isEmpty() ? "" : "." + messageChannelSuffix;
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.initialize" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                BoolPlayerMsg onlyAudioArg = (BoolPlayerMsg) args.get(0);
-                try {
-                  IntMsg output = api.initialize(onlyAudioArg);
-                  wrapped.add(0, output);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
-      }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.startLivePlay" + messageChannelSuffix, getCodec());
-        if (api != null) {
-          channel.setMessageHandler(
-              (message, reply) -> {
-                ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                StringPlayerMsg playerMsgArg = (StringPlayerMsg) args.get(0);
-                try {
-                  BoolMsg output = api.startLivePlay(playerMsgArg);
-                  wrapped.add(0, output);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
-              });
-        } else {
-          channel.setMessageHandler(null);
-        }
-      }
-      {
-        BasicMessageChannel<Object> channel =
-            new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.stop" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.startPreLoad" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                BoolPlayerMsg isNeedClearArg = (BoolPlayerMsg) args.get(0);
+                PreLoadMsg msgArg = (PreLoadMsg) args.get(0);
                 try {
-                  BoolMsg output = api.stop(isNeedClearArg);
+                  IntMsg output = api.startPreLoad(msgArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -6102,16 +8413,16 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.isPlaying" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.startPreLoadByParams" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
+                PreLoadInfoMsg msgArg = (PreLoadInfoMsg) args.get(0);
                 try {
-                  BoolMsg output = api.isPlaying(playerMsgArg);
-                  wrapped.add(0, output);
+                  api.startPreLoadByParams(msgArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -6125,15 +8436,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.pause" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.stopPreLoad" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
+                IntMsg msgArg = (IntMsg) args.get(0);
                 try {
-                  api.pause(playerMsgArg);
+                  api.stopPreLoad(msgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -6148,15 +8459,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.resume" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.startDownload" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
+                TXVodDownloadMediaMsg msgArg = (TXVodDownloadMediaMsg) args.get(0);
                 try {
-                  api.resume(playerMsgArg);
+                  api.startDownload(msgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -6171,15 +8482,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.setLiveMode" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.resumeDownload" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                IntPlayerMsg modeArg = (IntPlayerMsg) args.get(0);
+                TXVodDownloadMediaMsg msgArg = (TXVodDownloadMediaMsg) args.get(0);
                 try {
-                  api.setLiveMode(modeArg);
+                  api.resumeDownload(msgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -6194,15 +8505,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.setVolume" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.stopDownload" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                IntPlayerMsg volumeArg = (IntPlayerMsg) args.get(0);
+                TXVodDownloadMediaMsg msgArg = (TXVodDownloadMediaMsg) args.get(0);
                 try {
-                  api.setVolume(volumeArg);
+                  api.stopDownload(msgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -6217,15 +8528,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.setMute" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.setDownloadHeaders" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                BoolPlayerMsg muteArg = (BoolPlayerMsg) args.get(0);
+                MapMsg headersArg = (MapMsg) args.get(0);
                 try {
-                  api.setMute(muteArg);
+                  api.setDownloadHeaders(headersArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -6240,15 +8551,13 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.switchStream" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.getDownloadList" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                StringPlayerMsg urlArg = (StringPlayerMsg) args.get(0);
                 try {
-                  IntMsg output = api.switchStream(urlArg);
+                  TXDownloadListMsg output = api.getDownloadList();
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -6263,16 +8572,16 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.setAppID" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.getDownloadInfo" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                StringPlayerMsg appIdArg = (StringPlayerMsg) args.get(0);
+                TXVodDownloadMediaMsg msgArg = (TXVodDownloadMediaMsg) args.get(0);
                 try {
-                  api.setAppID(appIdArg);
-                  wrapped.add(0, null);
+                  TXVodDownloadMediaMsg output = api.getDownloadInfo(msgArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -6286,16 +8595,16 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.setConfig" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.deleteDownloadMediaInfo" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                FTXLivePlayConfigPlayerMsg configArg = (FTXLivePlayConfigPlayerMsg) args.get(0);
+                TXVodDownloadMediaMsg msgArg = (TXVodDownloadMediaMsg) args.get(0);
                 try {
-                  api.setConfig(configArg);
-                  wrapped.add(0, null);
+                  BoolMsg output = api.deleteDownloadMediaInfo(msgArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -6309,16 +8618,16 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.enableHardwareDecode" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.setPreloadPriority" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                BoolPlayerMsg enableArg = (BoolPlayerMsg) args.get(0);
+                PreloadPriorityMsg msgArg = (PreloadPriorityMsg) args.get(0);
                 try {
-                  BoolMsg output = api.enableHardwareDecode(enableArg);
-                  wrapped.add(0, output);
+                  api.setPreloadPriority(msgArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -6332,16 +8641,16 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.enterPictureInPictureMode" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.cancelPreload" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                PipParamsPlayerMsg pipParamsMsgArg = (PipParamsPlayerMsg) args.get(0);
+                IntMsg msgArg = (IntMsg) args.get(0);
                 try {
-                  IntMsg output = api.enterPictureInPictureMode(pipParamsMsgArg);
-                  wrapped.add(0, output);
+                  api.cancelPreload(msgArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -6355,15 +8664,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.exitPictureInPictureMode" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.setPreloadSchedulerConfig" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
+                PreloadSchedulerConfigMsg msgArg = (PreloadSchedulerConfigMsg) args.get(0);
                 try {
-                  api.exitPictureInPictureMode(playerMsgArg);
+                  api.setPreloadSchedulerConfig(msgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -6378,17 +8687,13 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.enableReceiveSeiMessage" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.getPreloadMetrics" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
-                Boolean isEnabledArg = (Boolean) args.get(1);
-                Long payloadTypeArg = (Long) args.get(2);
                 try {
-                  Long output = api.enableReceiveSeiMessage(playerMsgArg, isEnabledArg, payloadTypeArg);
+                  MapMsg output = api.getPreloadMetrics();
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -6403,16 +8708,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.showDebugView" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.setFeedPreloadList" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
-                Boolean isShowArg = (Boolean) args.get(1);
+                FeedPreloadListMsg msgArg = (FeedPreloadListMsg) args.get(0);
                 try {
-                  api.showDebugView(playerMsgArg, isShowArg);
+                  api.setFeedPreloadList(msgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -6427,18 +8731,16 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.setProperty" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.updateFeedPreloadCursor" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
-                String keyArg = (String) args.get(1);
-                Object valueArg = args.get(2);
+                FeedPreloadCursorMsg msgArg = (FeedPreloadCursorMsg) args.get(0);
                 try {
-                  Long output = api.setProperty(playerMsgArg, keyArg, valueArg);
-                  wrapped.add(0, output);
+                  api.updateFeedPreloadCursor(msgArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -6452,16 +8754,14 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.getSupportedBitrate" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.stopFeedPreload" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
                 try {
-                  ListMsg output = api.getSupportedBitrate(playerMsgArg);
-                  wrapped.add(0, output);
+                  api.stopFeedPreload();
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -6475,17 +8775,13 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.setCacheParams" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.getFeedPreloadMetrics" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                PlayerMsg playerMsgArg = (PlayerMsg) args.get(0);
-                Double minTimeArg = (Double) args.get(1);
-                Double maxTimeArg = (Double) args.get(2);
                 try {
-                  Long output = api.setCacheParams(playerMsgArg, minTimeArg, maxTimeArg);
+                  MapMsg output = api.getFeedPreloadMetrics();
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -6500,16 +8796,16 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.enablePictureInPicture" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.setDownloadEventConfig" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                BoolPlayerMsg msgArg = (BoolPlayerMsg) args.get(0);
+                DownloadEventConfigMsg msgArg = (DownloadEventConfigMsg) args.get(0);
                 try {
-                  Long output = api.enablePictureInPicture(msgArg);
-                  wrapped.add(0, output);
+                  api.setDownloadEventConfig(msgArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -6523,21 +8819,27 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.setPlayerView" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.getDownloadListPage" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                Long renderViewIdArg = (Long) args.get(0);
-                try {
-                  api.setPlayerView(renderViewIdArg);
-                  wrapped.add(0, null);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
+                DownloadListQueryMsg msgArg = (DownloadListQueryMsg) args.get(0);
+                Result<DownloadListPageMsg> resultCallback =
+                    new Result<DownloadListPageMsg>() {
+                      public void success(DownloadListPageMsg result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.getDownloadListPage(msgArg, resultCallback);
               });
         } else {
           channel.setMessageHandler(null);
@@ -6546,97 +8848,45 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.setRenderMode" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.getDownloadListDelta" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                Long renderModeArg = (Long) args.get(0);
-                try {
-                  api.setRenderMode(renderModeArg);
-                  wrapped.add(0, null);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
+                DownloadListQueryMsg msgArg = (DownloadListQueryMsg) args.get(0);
+                Result<DownloadListPageMsg> resultCallback =
+                    new Result<DownloadListPageMsg>() {
+                      public void success(DownloadListPageMsg result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.getDownloadListDelta(msgArg, resultCallback);
               });
         } else {
           channel.setMessageHandler(null);
         }
       }
-    }
-  }
-  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface TXFlutterDownloadApi {
-    /**
-     * 启动预下载。
-     * playUrl: 要预下载的url
-     * preloadSizeMB: 预下载的大小（单位：MB）
-     * preferredResolution 期望分辨率，long类型，值为高x宽。可参考如720*1080。不支持多分辨率或不需指定时，传-1。
-     * 返回值：任务ID，可用这个任务ID停止预下载 [stopPreload]
-     */
-    @NonNull 
-    IntMsg startPreLoad(@NonNull PreLoadMsg msg);
-
-    void startPreLoadByParams(@NonNull PreLoadInfoMsg msg);
-    /**
-     * 停止预下载。
-     * taskId： 任务id
-     */
-    void stopPreLoad(@NonNull IntMsg msg);
-    /**
-     * 开始下载
-     * videoDownloadModel: 下载构造体
-     */
-    void startDownload(@NonNull TXVodDownloadMediaMsg msg);
-    /**
-     * 继续下载，与开始下载接口有区别，该接口会寻找对应的缓存，复用之前的缓存来续点下载，
-     * 而开始下载接口会启动一个全新的下载
-     * videoDownloadModel: 下载构造体
-     */
-    void resumeDownload(@NonNull TXVodDownloadMediaMsg msg);
-    /**
-     * 停止下载
-     * videoDownloadModel: 下载构造体
-     */
-    void stopDownload(@NonNull TXVodDownloadMediaMsg msg);
-    /** 设置下载请求头 */
-    void setDownloadHeaders(@NonNull MapMsg headers);
-    /** 获取所有视频下载列表 */
-    @NonNull 
-    TXDownloadListMsg getDownloadList();
-    /** 获得指定视频的下载信息 */
-    @NonNull 
-    TXVodDownloadMediaMsg getDownloadInfo(@NonNull TXVodDownloadMediaMsg msg);
-    /** 删除下载任务 */
-    @NonNull 
-    BoolMsg deleteDownloadMediaInfo(@NonNull TXVodDownloadMediaMsg msg);
-
-    /** The codec used by TXFlutterDownloadApi. */
-    static @NonNull MessageCodec<Object> getCodec() {
-      return PigeonCodec.INSTANCE;
-    }
-    /**Sets up an instance of `TXFlutterDownloadApi` to handle messages through the `binaryMessenger`. */
-    static void setUp(@NonNull BinaryMessenger binaryMessenger, @Nullable TXFlutterDownloadApi api) {
-      setUp(binaryMessenger, "", api);
-    }
-    static void setUp(@NonNull BinaryMessenger binaryMessenger, @NonNull String messageChannelSuffix, @Nullable TXFlutterDownloadApi api) {
-      messageChannelSuffix = messageChannelSuffix.isEmpty() ? "" : "." + messageChannelSuffix;
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.startPreLoad" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.setDownloadSchedulerConfig" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                PreLoadMsg msgArg = (PreLoadMsg) args.get(0);
+                DownloadSchedulerConfigMsg msgArg = (DownloadSchedulerConfigMsg) args.get(0);
                 try {
-                  IntMsg output = api.startPreLoad(msgArg);
-                  wrapped.add(0, output);
+                  api.setDownloadSchedulerConfig(msgArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -6650,15 +8900,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.startPreLoadByParams" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.setDownloadPriority" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                PreLoadInfoMsg msgArg = (PreLoadInfoMsg) args.get(0);
+                DownloadPriorityMsg msgArg = (DownloadPriorityMsg) args.get(0);
                 try {
-                  api.startPreLoadByParams(msgArg);
+                  api.setDownloadPriority(msgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -6673,16 +8923,14 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.stopPreLoad" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.getDownloadSchedulerMetrics" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                IntMsg msgArg = (IntMsg) args.get(0);
                 try {
-                  api.stopPreLoad(msgArg);
-                  wrapped.add(0, null);
+                  MapMsg output = api.getDownloadSchedulerMetrics();
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -6696,21 +8944,25 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.startDownload" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.getDownloadListSnapshot" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                TXVodDownloadMediaMsg msgArg = (TXVodDownloadMediaMsg) args.get(0);
-                try {
-                  api.startDownload(msgArg);
-                  wrapped.add(0, null);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
+                Result<TXDownloadListMsg> resultCallback =
+                    new Result<TXDownloadListMsg>() {
+                      public void success(TXDownloadListMsg result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.getDownloadListSnapshot(resultCallback);
               });
         } else {
           channel.setMessageHandler(null);
@@ -6719,15 +8971,15 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.resumeDownload" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.setDownloadQuota" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                TXVodDownloadMediaMsg msgArg = (TXVodDownloadMediaMsg) args.get(0);
+                DownloadQuotaMsg msgArg = (DownloadQuotaMsg) args.get(0);
                 try {
-                  api.resumeDownload(msgArg);
+                  api.setDownloadQuota(msgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -6742,21 +8994,25 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.stopDownload" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.getDownloadUsage" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                TXVodDownloadMediaMsg msgArg = (TXVodDownloadMediaMsg) args.get(0);
-                try {
-                  api.stopDownload(msgArg);
-                  wrapped.add(0, null);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
+                Result<MapMsg> resultCallback =
+                    new Result<MapMsg>() {
+                      public void success(MapMsg result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.getDownloadUsage(resultCallback);
               });
         } else {
           channel.setMessageHandler(null);
@@ -6765,21 +9021,27 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.setDownloadHeaders" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.startDownloadBatch" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                MapMsg headersArg = (MapMsg) args.get(0);
-                try {
-                  api.setDownloadHeaders(headersArg);
-                  wrapped.add(0, null);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
+                DownloadBatchMsg msgArg = (DownloadBatchMsg) args.get(0);
+                Result<DownloadBatchResultMsg> resultCallback =
+                    new Result<DownloadBatchResultMsg>() {
+                      public void success(DownloadBatchResultMsg result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.startDownloadBatch(msgArg, resultCallback);
               });
         } else {
           channel.setMessageHandler(null);
@@ -6788,19 +9050,27 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.getDownloadList" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.deleteDownloadBatch" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
-                try {
-                  TXDownloadListMsg output = api.getDownloadList();
-                  wrapped.add(0, output);
-                }
- catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                DownloadBatchMsg msgArg = (DownloadBatchMsg) args.get(0);
+                Result<DownloadBatchResultMsg> resultCallback =
+                    new Result<DownloadBatchResultMsg>() {
+                      public void success(DownloadBatchResultMsg result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.deleteDownloadBatch(msgArg, resultCallback);
               });
         } else {
           channel.setMessageHandler(null);
@@ -6809,16 +9079,16 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.getDownloadInfo" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.startDownloadWithPriority" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                TXVodDownloadMediaMsg msgArg = (TXVodDownloadMediaMsg) args.get(0);
+                DownloadPriorityMsg msgArg = (DownloadPriorityMsg) args.get(0);
                 try {
-                  TXVodDownloadMediaMsg output = api.getDownloadInfo(msgArg);
-                  wrapped.add(0, output);
+                  api.startDownloadWithPriority(msgArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -6832,16 +9102,16 @@ public class FtxMessages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.deleteDownloadMediaInfo" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.super_player.TXFlutterDownloadApi.resumeDownloadWithPriority" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                TXVodDownloadMediaMsg msgArg = (TXVodDownloadMediaMsg) args.get(0);
+                DownloadPriorityMsg msgArg = (DownloadPriorityMsg) args.get(0);
                 try {
-                  BoolMsg output = api.deleteDownloadMediaInfo(msgArg);
-                  wrapped.add(0, output);
+                  api.resumeDownloadWithPriority(msgArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
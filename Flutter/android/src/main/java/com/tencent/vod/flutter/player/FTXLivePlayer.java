@@ -23,22 +23,27 @@ import com.tencent.vod.flutter.common.FTXPlayerConstants;
 import com.tencent.vod.flutter.messages.FtxMessages;
 import com.tencent.vod.flutter.messages.FtxMessages.BoolMsg;
 import com.tencent.vod.flutter.messages.FtxMessages.BoolPlayerMsg;
+import com.tencent.vod.flutter.messages.FtxMessages.CaptureFramePlayerMsg;
 import com.tencent.vod.flutter.messages.FtxMessages.FTXLivePlayConfigPlayerMsg;
 import com.tencent.vod.flutter.messages.FtxMessages.IntMsg;
 import com.tencent.vod.flutter.messages.FtxMessages.IntPlayerMsg;
 import com.tencent.vod.flutter.messages.FtxMessages.PipParamsPlayerMsg;
 import com.tencent.vod.flutter.messages.FtxMessages.PlayerMsg;
+import com.tencent.vod.flutter.messages.FtxMessages.Result;
 import com.tencent.vod.flutter.messages.FtxMessages.StringPlayerMsg;
 import com.tencent.vod.flutter.messages.FtxMessages.TXFlutterLivePlayerApi;
+import com.tencent.vod.flutter.messages.FtxMessages.UInt8ListMsg;
 import com.tencent.vod.flutter.model.TXPipResult;
 import com.tencent.vod.flutter.model.TXPlayerHolder;
 import com.tencent.vod.flutter.player.render.FTXLivePlayerRenderHost;
+import com.tencent.vod.flutter.player.render.gl.FTXFrameCapture;
 import com.tencent.vod.flutter.tools.FTXV2LiveTools;
 import com.tencent.vod.flutter.tools.TXCommonUtil;
 import com.tencent.vod.flutter.tools.TXFlutterEngineHolder;
 import com.tencent.vod.flutter.ui.render.FTXRenderView;
 import com.tencent.vod.flutter.ui.render.FTXRenderViewFactory;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -57,6 +62,8 @@ public class FTXLivePlayer extends FTXLivePlayerRenderHost implements TXFlutterL
 
     private V2TXLivePlayer mLivePlayer;
     private static final int Uninitialized = -101;
+    // fail frame captures if no frame is decoded in time, e.g. paused or not playing
+    private static final long CAPTURE_TIMEOUT_MS = 1000;
 
     private final FTXPIPManager mPipManager;
     private boolean mNeedPipResume = false;
@@ -70,6 +77,15 @@ public class FTXLivePlayer extends FTXLivePlayerRenderHost implements TXFlutterL
     private int mCurrentVideoWidth = 0;
     private int mCurrentVideoHeight = 0;
     private long mCurrentRenderMode = FTXPlayerConstants.FTXRenderMode.ADJUST_RESOLUTION;
+    // captures waiting for the next decoded frame, added on main thread and taken on SDK thread
+    private final List<FrameCaptureRequest> mCaptureRequests = new ArrayList<>();
+    private final Runnable mCaptureTimeoutTask = new Runnable() {
+        @Override
+        public void run() {
+            LiteavLog.w(TAG, "no frame decoded for capture in " + CAPTURE_TIMEOUT_MS + "ms");
+            failFrameCaptures();
+        }
+    };
 
     private final FTXPIPManager.PipCallback pipCallback = new FTXPIPManager.PipCallback() {
         @Override
@@ -133,6 +149,7 @@ public class FTXLivePlayer extends FTXLivePlayerRenderHost implements TXFlutterL
 
     @Override
     public void destroy() {
+        failFrameCaptures();
         if (mLivePlayer != null) {
             stopPlay(true);
             setRenderView(null);
@@ -180,6 +197,7 @@ public class FTXLivePlayer extends FTXLivePlayerRenderHost implements TXFlutterL
             mIsPaused = false;
             result =  mLivePlayer.stopPlay();
         }
+        failFrameCaptures();
         mUIHandler.removeCallbacksAndMessages(null);
         mCurrentVideoWidth = 0;
         mCurrentVideoHeight = 0;
@@ -478,6 +496,122 @@ public class FTXLivePlayer extends FTXLivePlayerRenderHost implements TXFlutterL
         }
     }
 
+    @Override
+    public void captureFrame(@NonNull CaptureFramePlayerMsg msg, @NonNull Result<UInt8ListMsg> result) {
+        if (null == mLivePlayer) {
+            result.success(new UInt8ListMsg());
+            return;
+        }
+        final FrameCaptureRequest request = new FrameCaptureRequest(
+                null != msg.getMaxWidth() ? msg.getMaxWidth().intValue() : 0,
+                null != msg.getMaxHeight() ? msg.getMaxHeight().intValue() : 0,
+                null != msg.getFormat() ? msg.getFormat().intValue() : FTXFrameCapture.FORMAT_JPEG, result);
+        final boolean isFirst;
+        synchronized (mCaptureRequests) {
+            isFirst = mCaptureRequests.isEmpty();
+            mCaptureRequests.add(request);
+        }
+        if (isFirst) {
+            // decoded frames are only copied out while someone is waiting for them
+            final int ret = mLivePlayer.enableObserveVideoFrame(true,
+                    V2TXLiveDef.V2TXLivePixelFormat.V2TXLivePixelFormatI420,
+                    V2TXLiveDef.V2TXLiveBufferType.V2TXLiveBufferTypeByteBuffer);
+            if (ret != 0) {
+                LiteavLog.e(TAG, "enableObserveVideoFrame failed:" + ret);
+                failFrameCaptures();
+                return;
+            }
+            mUIHandler.postDelayed(mCaptureTimeoutTask, CAPTURE_TIMEOUT_MS);
+        }
+    }
+
+    /**
+     * Called on SDK thread with a decoded frame, the frame buffer is only valid during the call.
+     */
+    private void onObservedVideoFrame(V2TXLiveDef.V2TXLiveVideoFrame videoFrame) {
+        final List<FrameCaptureRequest> requests = takeFrameCaptures();
+        if (requests.isEmpty()) {
+            return;
+        }
+        mUIHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                mUIHandler.removeCallbacks(mCaptureTimeoutTask);
+                stopObserveVideoFrameIfIdle();
+            }
+        });
+        ByteBuffer rgba = null;
+        final int width = videoFrame.width;
+        final int height = videoFrame.height;
+        try {
+            final ByteBuffer yuv = null != videoFrame.buffer ? videoFrame.buffer
+                    : (null != videoFrame.data ? ByteBuffer.wrap(videoFrame.data) : null);
+            if (videoFrame.pixelFormat == V2TXLiveDef.V2TXLivePixelFormat.V2TXLivePixelFormatI420 && null != yuv) {
+                rgba = FTXV2LiveTools.yuv420ToRGBA8888(yuv, width, height);
+            } else {
+                LiteavLog.e(TAG, "unexpected frame for capture, format:" + videoFrame.pixelFormat);
+            }
+        } catch (IllegalArgumentException e) {
+            LiteavLog.e(TAG, "convert frame for capture error:" + e);
+        }
+        for (final FrameCaptureRequest request : requests) {
+            final FTXFrameCapture.Callback callback = new FTXFrameCapture.Callback() {
+                @Override
+                public void onCaptured(final byte[] data) {
+                    mUIHandler.post(new Runnable() {
+                        @Override
+                        public void run() {
+                            UInt8ListMsg dataMsg = new UInt8ListMsg();
+                            dataMsg.setValue(data);
+                            request.result.success(dataMsg);
+                        }
+                    });
+                }
+            };
+            if (null != rgba) {
+                FTXFrameCapture.encodeAsync(rgba, width, height, request.maxWidth, request.maxHeight,
+                        request.format, callback);
+            } else {
+                FTXFrameCapture.fail(callback);
+            }
+        }
+    }
+
+    private List<FrameCaptureRequest> takeFrameCaptures() {
+        synchronized (mCaptureRequests) {
+            final List<FrameCaptureRequest> requests = new ArrayList<>(mCaptureRequests);
+            mCaptureRequests.clear();
+            return requests;
+        }
+    }
+
+    /**
+     * Called on main thread.
+     */
+    private void failFrameCaptures() {
+        mUIHandler.removeCallbacks(mCaptureTimeoutTask);
+        for (FrameCaptureRequest request : takeFrameCaptures()) {
+            request.result.success(new UInt8ListMsg());
+        }
+        stopObserveVideoFrameIfIdle();
+    }
+
+    /**
+     * Called on main thread, where captures are requested, so a new request can't be missed.
+     */
+    private void stopObserveVideoFrameIfIdle() {
+        synchronized (mCaptureRequests) {
+            if (!mCaptureRequests.isEmpty()) {
+                return;
+            }
+        }
+        if (null != mLivePlayer) {
+            mLivePlayer.enableObserveVideoFrame(false,
+                    V2TXLiveDef.V2TXLivePixelFormat.V2TXLivePixelFormatI420,
+                    V2TXLiveDef.V2TXLiveBufferType.V2TXLiveBufferTypeByteBuffer);
+        }
+    }
+
     private void applyRenderMode() {
         if (null != mLivePlayer) {
             if (mCurrentRenderMode == FTXPlayerConstants.FTXRenderMode.ADJUST_RESOLUTION) {
@@ -532,6 +666,7 @@ public class FTXLivePlayer extends FTXLivePlayerRenderHost implements TXFlutterL
         @Override
         public void onRenderVideoFrame(V2TXLivePlayer player, V2TXLiveDef.V2TXLiveVideoFrame videoFrame) {
             super.onRenderVideoFrame(player, videoFrame);
+            mLivePlayer.onObservedVideoFrame(videoFrame);
         }
 
         @Override
@@ -698,4 +833,18 @@ public class FTXLivePlayer extends FTXLivePlayerRenderHost implements TXFlutterL
             LiteavLog.e(TAG, "callback message error:" + error);
         }
     }
+
+    private static class FrameCaptureRequest {
+        private final int maxWidth;
+        private final int maxHeight;
+        private final int format;
+        private final Result<UInt8ListMsg> result;
+
+        private FrameCaptureRequest(int maxWidth, int maxHeight, int format, Result<UInt8ListMsg> result) {
+            this.maxWidth = maxWidth;
+            this.maxHeight = maxHeight;
+            this.format = format;
+            this.result = result;
+        }
+    }
 }
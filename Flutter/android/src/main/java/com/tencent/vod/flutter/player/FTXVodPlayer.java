@@ -26,18 +26,26 @@ import com.tencent.rtmp.ui.TXCloudVideoView;
 import com.tencent.vod.flutter.FTXEvent;
 import com.tencent.vod.flutter.FTXPIPManager;
 import com.tencent.vod.flutter.FTXTransformation;
+import com.tencent.vod.flutter.common.FTXBufferingMonitor;
 import com.tencent.vod.flutter.common.FTXPlayerConstants;
+import com.tencent.vod.flutter.common.FTXRenderStats;
+import com.tencent.vod.flutter.download.FTXDownloadQuota;
+import com.tencent.vod.flutter.download.FTXFeedPreloader;
+import com.tencent.vod.flutter.download.FTXPreloadGroup;
 import com.tencent.vod.flutter.messages.FtxMessages;
 import com.tencent.vod.flutter.messages.FtxMessages.BoolMsg;
 import com.tencent.vod.flutter.messages.FtxMessages.BoolPlayerMsg;
+import com.tencent.vod.flutter.messages.FtxMessages.CaptureFramePlayerMsg;
 import com.tencent.vod.flutter.messages.FtxMessages.DoubleMsg;
 import com.tencent.vod.flutter.messages.FtxMessages.DoublePlayerMsg;
 import com.tencent.vod.flutter.messages.FtxMessages.FTXVodPlayConfigPlayerMsg;
 import com.tencent.vod.flutter.messages.FtxMessages.IntMsg;
 import com.tencent.vod.flutter.messages.FtxMessages.IntPlayerMsg;
 import com.tencent.vod.flutter.messages.FtxMessages.ListMsg;
+import com.tencent.vod.flutter.messages.FtxMessages.MapMsg;
 import com.tencent.vod.flutter.messages.FtxMessages.PipParamsPlayerMsg;
 import com.tencent.vod.flutter.messages.FtxMessages.PlayerMsg;
+import com.tencent.vod.flutter.messages.FtxMessages.Result;
 import com.tencent.vod.flutter.messages.FtxMessages.StringListPlayerMsg;
 import com.tencent.vod.flutter.messages.FtxMessages.StringPlayerMsg;
 import com.tencent.vod.flutter.messages.FtxMessages.TXPlayInfoParamsPlayerMsg;
@@ -45,9 +53,12 @@ import com.tencent.vod.flutter.messages.FtxMessages.UInt8ListMsg;
 import com.tencent.vod.flutter.model.TXPipResult;
 import com.tencent.vod.flutter.model.TXPlayerHolder;
 import com.tencent.vod.flutter.player.render.FTXVodPlayerRenderHost;
+import com.tencent.vod.flutter.player.render.gl.FTXEGLRender;
+import com.tencent.vod.flutter.player.render.gl.FTXFrameCapture;
 import com.tencent.vod.flutter.tools.FTXVersionAdapter;
 import com.tencent.vod.flutter.tools.TXCommonUtil;
 import com.tencent.vod.flutter.tools.TXFlutterEngineHolder;
+import com.tencent.vod.flutter.ui.render.FTXRenderCarrier;
 import com.tencent.vod.flutter.ui.render.FTXRenderView;
 import com.tencent.vod.flutter.ui.render.FTXRenderViewFactory;
 
@@ -84,6 +95,8 @@ public class FTXVodPlayer extends FTXVodPlayerRenderHost implements ITXVodPlayLi
     private final FTXRenderViewFactory mRenderViewFactory;
     private final Handler mUIHandler = new Handler(Looper.getMainLooper());
     private long mCurrentRenderMode = FTXPlayerConstants.FTXRenderMode.FULL_FILL_CONTAINER;
+    private int mRenderMaxFps = 0;
+    private float mRenderSharpness = 0;
     private final FTXPIPManager.PipCallback mPipCallback = new FTXPIPManager.PipCallback() {
         @Override
         public void onPipResult(TXPipResult result) {
@@ -152,6 +165,8 @@ public class FTXVodPlayer extends FTXVodPlayerRenderHost implements ITXVodPlayLi
             mVodPlayer.setPlayerView((TXCloudVideoView) null);
             mVodPlayer = null;
         }
+        releaseTextureRender();
+        releaseMirrorViews();
         mCurRenderView = null;
         TXFlutterEngineHolder.getInstance().removeAppLifeListener(mAppLifeListener);
         releaseTXImageSprite();
@@ -205,6 +220,7 @@ public class FTXVodPlayer extends FTXVodPlayerRenderHost implements ITXVodPlayLi
             default:
                 break;
         }
+        updateBufferingState(event);
         if (event != TXVodConstants.VOD_PLAY_EVT_PLAY_PROGRESS) {
             LiteavLog.i(TAG, "onPlayEvent:" + event + "," + bundle.getString(TXLiveConstants.EVT_DESCRIPTION));
         }
@@ -226,8 +242,27 @@ public class FTXVodPlayer extends FTXVodPlayerRenderHost implements ITXVodPlayLi
         }
     }
 
+    private void updateBufferingState(int event) {
+        if (event == TXLiveConstants.PLAY_EVT_PLAY_LOADING) {
+            FTXBufferingMonitor.getInstance().setBuffering(getPlayerId(), true);
+        } else if (event == TXLiveConstants.PLAY_EVT_VOD_LOADING_END || event == TXLiveConstants.PLAY_EVT_PLAY_BEGIN
+                || event == TXLiveConstants.PLAY_EVT_PLAY_END || event < 0) {
+            FTXBufferingMonitor.getInstance().setBuffering(getPlayerId(), false);
+        }
+    }
+
     @Override
     public void onNetStatus(TXVodPlayer txVodPlayer, Bundle bundle) {
+        if (!isPlayerPlaying()) {
+            // paused while loading, e.g. by picture-in-picture, no loading end will come
+            FTXBufferingMonitor.getInstance().setBuffering(getPlayerId(), false);
+        }
+        final FTXRenderCarrier carrier = mRenderCarrier;
+        if (null != carrier && null != bundle) {
+            bundle.putLong(FTXEvent.TUINetConst.NET_STATUS_RENDER_PRESENTED_FRAMES, carrier.getPresentedFrameCount());
+            bundle.putLong(FTXEvent.TUINetConst.NET_STATUS_RENDER_DROPPED_FRAMES, carrier.getDroppedFrameCount());
+            bundle.putLong(FTXEvent.TUINetConst.NET_STATUS_RENDER_FILTER_COST_US, carrier.getFilterCostUs());
+        }
         mUIHandler.post(new Runnable() {
             @Override
             public void run() {
@@ -259,11 +294,54 @@ public class FTXVodPlayer extends FTXVodPlayerRenderHost implements ITXVodPlayLi
 
     @Override
     public void reDraw() {
-        if (mCurRenderView != null) {
-            mCurRenderView.getRenderView().reDrawVod();
+        if (mRenderCarrier != null) {
+            mRenderCarrier.reDrawVod();
         }
     }
 
+    @NonNull
+    @Override
+    public IntMsg enableTextureRender(@NonNull BoolPlayerMsg enable) {
+        boolean isEnable = null != enable.getValue() && enable.getValue();
+        return TXCommonUtil.intMsgWith(enableTextureRender(mFlutterPluginBinding.getTextureRegistry(), isEnable));
+    }
+
+    @NonNull
+    @Override
+    public MapMsg getRenderStats(@NonNull PlayerMsg playerMsg) {
+        final FTXRenderCarrier carrier = mRenderCarrier;
+        final FTXRenderStats stats = null != carrier ? carrier.getRenderStats() : null;
+        MapMsg mapMsg = new MapMsg();
+        mapMsg.setMap(null != stats ? stats.toMap() : new HashMap<String, String>());
+        return mapMsg;
+    }
+
+    @Override
+    public void captureFrame(@NonNull CaptureFramePlayerMsg msg, @NonNull final Result<UInt8ListMsg> result) {
+        final FTXRenderCarrier carrier = mRenderCarrier;
+        final FTXEGLRender render = null != carrier ? carrier.getEGLRender() : null;
+        if (null == render) {
+            result.success(new UInt8ListMsg());
+            return;
+        }
+        final int maxWidth = null != msg.getMaxWidth() ? msg.getMaxWidth().intValue() : 0;
+        final int maxHeight = null != msg.getMaxHeight() ? msg.getMaxHeight().intValue() : 0;
+        final int format = null != msg.getFormat() ? msg.getFormat().intValue() : FTXFrameCapture.FORMAT_JPEG;
+        render.captureFrame(maxWidth, maxHeight, format, new FTXFrameCapture.Callback() {
+            @Override
+            public void onCaptured(final byte[] data) {
+                mUIHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        UInt8ListMsg dataMsg = new UInt8ListMsg();
+                        dataMsg.setValue(data);
+                        result.success(dataMsg);
+                    }
+                });
+            }
+        });
+    }
+
     protected long init(boolean onlyAudio) {
         if (mVodPlayer == null) {
             mVodPlayer = new TXVodPlayer(mFlutterPluginBinding.getApplicationContext());
@@ -307,6 +385,8 @@ public class FTXVodPlayer extends FTXVodPlayerRenderHost implements ITXVodPlayLi
 
     int startPlayerVodPlay(String url) {
         if (mVodPlayer != null) {
+            FTXFeedPreloader.getInstance().onPlay(FTXPreloadGroup.mediaIdOf(url, 0, null));
+            FTXDownloadQuota.getInstance().onPlay(getPlayerId(), url);
             return mVodPlayer.startVodPlay(url);
         }
         return Uninitialized;
@@ -314,6 +394,8 @@ public class FTXVodPlayer extends FTXVodPlayerRenderHost implements ITXVodPlayLi
 
     void startPlayerVodPlayWithParams(int appId, String fileId, String psign) {
         if (mVodPlayer != null) {
+            FTXFeedPreloader.getInstance().onPlay(FTXPreloadGroup.mediaIdOf(null, appId, fileId));
+            FTXDownloadQuota.getInstance().onStop(getPlayerId());
             TXPlayInfoParams playInfoParams = new TXPlayInfoParams(appId, fileId, psign);
             mVodPlayer.startVodPlay(playInfoParams);
         }
@@ -325,6 +407,8 @@ public class FTXVodPlayer extends FTXVodPlayerRenderHost implements ITXVodPlayLi
             result = mVodPlayer.stopPlay(isNeedClearLastImg);
         }
         mUIHandler.removeCallbacksAndMessages(null);
+        FTXBufferingMonitor.getInstance().setBuffering(getPlayerId(), false);
+        FTXDownloadQuota.getInstance().onStop(getPlayerId());
         mPipManager.exitPipByPlayerId(getPlayerId());
         releaseTXImageSprite();
         mHardwareDecodeFail = false;
@@ -346,6 +430,8 @@ public class FTXVodPlayer extends FTXVodPlayerRenderHost implements ITXVodPlayLi
     void playerPause() {
         if (mVodPlayer != null) {
             mVodPlayer.pause();
+            // a paused player does not need bandwidth, no loading end comes until it is resumed
+            FTXBufferingMonitor.getInstance().setBuffering(getPlayerId(), false);
             if (mPipManager.isInPipMode()) {
                 mPipManager.notifyCurrentPipPlayerPlayState(getPlayerId(), isPlayerPlaying());
             }
@@ -860,6 +946,10 @@ public class FTXVodPlayer extends FTXVodPlayerRenderHost implements ITXVodPlayLi
                     mVodPlayer.setStringOption(TXVodConstants.VOD_KEY_BACKUP_URL, value);
                 } else if (TextUtils.equals("VOD_KEY_VIDEO_CODEC_TYPE", key)) {
                     mVodPlayer.setStringOption(TXVodConstants.VOD_KEY_MIMETYPE, value);
+                } else if (TextUtils.equals(FTXPlayerConstants.FTXPlayerOptionKey.RENDER_MAX_FPS, key)) {
+                    setRenderMaxFps(value);
+                } else if (TextUtils.equals(FTXPlayerConstants.FTXPlayerOptionKey.RENDER_SHARPNESS, key)) {
+                    setRenderSharpness(value);
                 } else {
                     mVodPlayer.setStringOption(key, value);
                 }
@@ -878,6 +968,24 @@ public class FTXVodPlayer extends FTXVodPlayerRenderHost implements ITXVodPlayLi
         setUpPlayerView(renderView);
     }
 
+    @Override
+    public void addMirrorView(@NonNull Long renderViewId, @NonNull Long renderMode) {
+        FTXRenderView renderView = mRenderViewFactory.findViewById(renderViewId.intValue());
+        if (null == renderView) {
+            LiteavLog.e(TAG, "addMirrorView can not find renderView by id:" + renderViewId);
+            return;
+        }
+        addMirrorView(renderView, renderMode);
+    }
+
+    @Override
+    public void removeMirrorView(@NonNull Long renderViewId) {
+        FTXRenderView renderView = mRenderViewFactory.findViewById(renderViewId.intValue());
+        if (null != renderView) {
+            removeMirrorView(renderView);
+        }
+    }
+
     @Override
     public void setRenderMode(@NonNull Long renderMode) {
         if (mCurrentRenderMode != renderMode) {
@@ -891,6 +999,48 @@ public class FTXVodPlayer extends FTXVodPlayerRenderHost implements ITXVodPlayLi
         return mCurrentRenderMode;
     }
 
+    private void setRenderMaxFps(Object value) {
+        int maxFps = 0;
+        if (value instanceof Number) {
+            maxFps = ((Number) value).intValue();
+        } else if (value instanceof String) {
+            try {
+                maxFps = Integer.parseInt((String) value);
+            } catch (NumberFormatException e) {
+                LiteavLog.e(TAG, "setRenderMaxFps met an invalid value:" + value);
+                return;
+            }
+        }
+        mRenderMaxFps = Math.max(maxFps, 0);
+        updateTextureRenderMaxFps(mRenderMaxFps);
+    }
+
+    @Override
+    public int getPlayerRenderMaxFps() {
+        return mRenderMaxFps;
+    }
+
+    private void setRenderSharpness(Object value) {
+        float sharpness = 0;
+        if (value instanceof Number) {
+            sharpness = ((Number) value).floatValue();
+        } else if (value instanceof String) {
+            try {
+                sharpness = Float.parseFloat((String) value);
+            } catch (NumberFormatException e) {
+                LiteavLog.e(TAG, "setRenderSharpness met an invalid value:" + value);
+                return;
+            }
+        }
+        mRenderSharpness = Math.max(0, Math.min(sharpness, 1));
+        updateTextureRenderSharpness(mRenderSharpness);
+    }
+
+    @Override
+    public float getPlayerRenderSharpness() {
+        return mRenderSharpness;
+    }
+
     @Override
     public int getVideoWidth() {
         if (null != mVodPlayer) {
@@ -18,4 +18,14 @@ public interface FTXPlayerRenderSurfaceHost {
 
     int getVideoHeight();
 
+    /**
+     * Max presented fps of player's render target, 0 means no limit.
+     */
+    int getPlayerRenderMaxFps();
+
+    /**
+     * Sharpness of player's render target, 0 ~ 1, 0 means disabled.
+     */
+    float getPlayerRenderSharpness();
+
 }
@@ -7,9 +7,15 @@ import android.view.Surface;
 import com.tencent.liteav.base.util.LiteavLog;
 import com.tencent.rtmp.TXVodPlayer;
 import com.tencent.vod.flutter.player.FTXBasePlayer;
+import com.tencent.vod.flutter.ui.render.FTXFlutterTextureCarrier;
 import com.tencent.vod.flutter.ui.render.FTXRenderCarrier;
 import com.tencent.vod.flutter.ui.render.FTXRenderView;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.flutter.view.TextureRegistry;
+
 public abstract class FTXVodPlayerRenderHost extends FTXBasePlayer implements FTXPlayerRenderHost
         , FTXPlayerRenderSurfaceHost {
 
@@ -17,11 +23,16 @@ public abstract class FTXVodPlayerRenderHost extends FTXBasePlayer implements FT
 
     protected FTXRenderCarrier mRenderCarrier;
     protected FTXRenderView mCurRenderView;
+    // not null if player renders to flutter texture directly, render view is ignored then
+    private FTXFlutterTextureCarrier mTextureCarrier;
+    // views showing the frames of mRenderCarrier without their own decoder, value is render mode
+    private final Map<FTXRenderView, Long> mMirrorViews = new LinkedHashMap<>();
 
     @Override
     public void setUpPlayerView(FTXRenderView renderView) {
         if (null != renderView) {
             LiteavLog.i(TAG, "start setUpPlayerView:" + renderView.getViewId() + ", player:" + hashCode());
+            removeMirrorView(renderView);
             mCurRenderView = renderView;
             renderView.setPlayer(this);
         } else {
@@ -33,10 +44,16 @@ public abstract class FTXVodPlayerRenderHost extends FTXBasePlayer implements FT
 
     @Override
     public void setRenderView(FTXRenderCarrier textureView) {
+        if (null != mTextureCarrier && textureView != mTextureCarrier) {
+            LiteavLog.w(TAG, "player is rendering to flutter texture, ignore carrier:" + textureView
+                    + ", player:" + hashCode());
+            return;
+        }
         if (null != textureView) {
             LiteavLog.i(TAG, "start bind Player:" + textureView + ", player:" + hashCode());
             textureView.bindPlayer(this);
             mRenderCarrier = textureView;
+            updateMirrorSource();
         } else {
             LiteavLog.i(TAG, "setRenderView met a null textureView, player:" + hashCode());
             removeRenderView();
@@ -64,6 +81,87 @@ public abstract class FTXVodPlayerRenderHost extends FTXBasePlayer implements FT
             vodPlayer.setSurface(null);
         }
         mRenderCarrier = null;
+        updateMirrorSource();
+    }
+
+    /**
+     * Show frames of this player on another render view too, the view shares the decoder of main render view.
+     */
+    protected void addMirrorView(FTXRenderView renderView, long renderMode) {
+        if (null == renderView || renderView == mCurRenderView) {
+            LiteavLog.w(TAG, "addMirrorView met an invalid view:" + renderView + ", player:" + hashCode());
+            return;
+        }
+        LiteavLog.i(TAG, "addMirrorView:" + renderView.getViewId() + ", player:" + hashCode());
+        mMirrorViews.put(renderView, renderMode);
+        bindMirror(renderView, renderMode);
+    }
+
+    protected void removeMirrorView(FTXRenderView renderView) {
+        final Long renderMode = mMirrorViews.remove(renderView);
+        if (null != renderMode) {
+            LiteavLog.i(TAG, "removeMirrorView:" + renderView.getViewId() + ", player:" + hashCode());
+            final FTXRenderCarrier carrier = renderView.getRenderView();
+            if (null != carrier) {
+                carrier.setMirrorSource(null, renderMode);
+            }
+        }
+    }
+
+    protected void releaseMirrorViews() {
+        for (FTXRenderView renderView : mMirrorViews.keySet().toArray(new FTXRenderView[0])) {
+            removeMirrorView(renderView);
+        }
+    }
+
+    /**
+     * Main carrier is changed, mirrors follow the new one.
+     */
+    private void updateMirrorSource() {
+        for (Map.Entry<FTXRenderView, Long> entry : mMirrorViews.entrySet()) {
+            bindMirror(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void bindMirror(FTXRenderView renderView, long renderMode) {
+        final FTXRenderCarrier carrier = renderView.getRenderView();
+        if (null != carrier && carrier != mRenderCarrier) {
+            carrier.setMirrorSource(mRenderCarrier, renderMode);
+        }
+    }
+
+    /**
+     * Switch between flutter texture and render view.
+     *
+     * @return textureId of flutter texture, -1 if disabled
+     */
+    protected long enableTextureRender(TextureRegistry textureRegistry, boolean enable) {
+        if (enable) {
+            if (null == mTextureCarrier) {
+                mTextureCarrier = new FTXFlutterTextureCarrier(textureRegistry);
+                removeRenderView();
+                setRenderView(mTextureCarrier);
+            }
+            return mTextureCarrier.getTextureId();
+        }
+        if (null != mTextureCarrier) {
+            releaseTextureRender();
+            if (null != mCurRenderView) {
+                mCurRenderView.setPlayer(this);
+            }
+        }
+        return -1;
+    }
+
+    protected void releaseTextureRender() {
+        if (null != mTextureCarrier) {
+            final FTXFlutterTextureCarrier textureCarrier = mTextureCarrier;
+            mTextureCarrier = null;
+            if (mRenderCarrier == textureCarrier) {
+                removeRenderView();
+            }
+            textureCarrier.destroyRender();
+        }
     }
 
     protected void updateTextureRenderMode(long renderMode) {
@@ -72,6 +170,18 @@ public abstract class FTXVodPlayerRenderHost extends FTXBasePlayer implements FT
         }
     }
 
+    protected void updateTextureRenderMaxFps(int maxFps) {
+        if (null != mRenderCarrier) {
+            mRenderCarrier.updateRenderMaxFps(maxFps);
+        }
+    }
+
+    protected void updateTextureRenderSharpness(float sharpness) {
+        if (null != mRenderCarrier) {
+            mRenderCarrier.updateRenderSharpness(sharpness);
+        }
+    }
+
     protected void notifyTextureResolution(int videoWidth, int videoHeight) {
         if (null != mRenderCarrier) {
             mRenderCarrier.notifyVideoResolutionChanged(videoWidth, videoHeight);
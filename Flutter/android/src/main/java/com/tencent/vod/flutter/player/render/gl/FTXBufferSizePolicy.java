@@ -0,0 +1,93 @@
+package com.tencent.vod.flutter.player.render.gl;
+
+/**
+ * Picks the default buffer size of decoder SurfaceTexture from view size, display density and video size.
+ * <p>
+ * Buffer is video size scaled by a few fixed levels, so a view resized by animation only crosses a level now and
+ * then instead of reallocating on every layout. Growing is applied at once to keep quality, shrinking only when
+ * the view is clearly below the next level. Not thread safe, use it on render thread.
+ */
+public class FTXBufferSizePolicy {
+
+    private static final float[] SCALE_LEVELS = {1f / 8, 1f / 6, 1f / 4, 1f / 3, 1f / 2, 2f / 3, 1f};
+    // shrink to a level only if the needed scale is this much below it
+    private static final float SHRINK_HYSTERESIS = 0.8f;
+    // pixels above 2x density are hardly visible in a moving video
+    private static final float MAX_EFFECTIVE_DENSITY = 2.0f;
+    private static final int ALIGNMENT = 16;
+
+    private float mDensity = MAX_EFFECTIVE_DENSITY;
+    private int mLevel = SCALE_LEVELS.length - 1;
+    private int mWidth = 0;
+    private int mHeight = 0;
+
+    public void setDensity(float density) {
+        if (density > 0) {
+            mDensity = density;
+        }
+    }
+
+    /**
+     * @param viewWidth  max width of views showing the buffer, in pixels
+     * @param viewHeight max height of views showing the buffer, in pixels
+     * @param videoWidth 0 or less if unknown
+     * @return true if buffer size should be changed
+     */
+    public boolean update(int viewWidth, int viewHeight, int videoWidth, int videoHeight) {
+        if (viewWidth <= 0 || viewHeight <= 0) {
+            return false;
+        }
+        final float densityScale = Math.min(1, MAX_EFFECTIVE_DENSITY / mDensity);
+        final float effectiveWidth = viewWidth * densityScale;
+        final float effectiveHeight = viewHeight * densityScale;
+        final int width;
+        final int height;
+        if (videoWidth <= 0 || videoHeight <= 0) {
+            // nothing to scale from, follow the view
+            width = align(effectiveWidth);
+            height = align(effectiveHeight);
+        } else {
+            // cover the view in both directions, it suits all render modes
+            final float needScale = Math.max(effectiveWidth / videoWidth, effectiveHeight / videoHeight);
+            mLevel = pickLevel(needScale);
+            width = align(videoWidth * SCALE_LEVELS[mLevel]);
+            height = align(videoHeight * SCALE_LEVELS[mLevel]);
+        }
+        if (width == mWidth && height == mHeight) {
+            return false;
+        }
+        mWidth = width;
+        mHeight = height;
+        return true;
+    }
+
+    private int pickLevel(float needScale) {
+        int level = SCALE_LEVELS.length - 1;
+        for (int i = 0; i < SCALE_LEVELS.length; i++) {
+            if (SCALE_LEVELS[i] >= needScale) {
+                level = i;
+                break;
+            }
+        }
+        if (level >= mLevel) {
+            return level;
+        }
+        if (needScale > SCALE_LEVELS[level] * SHRINK_HYSTERESIS) {
+            // close to the level border, keep one level of margin
+            level++;
+        }
+        return Math.min(level, mLevel);
+    }
+
+    private static int align(float size) {
+        return Math.max(ALIGNMENT, Math.round(size / ALIGNMENT) * ALIGNMENT);
+    }
+
+    public int getWidth() {
+        return mWidth;
+    }
+
+    public int getHeight() {
+        return mHeight;
+    }
+}
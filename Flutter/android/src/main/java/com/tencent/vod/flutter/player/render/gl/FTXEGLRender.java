@@ -2,156 +2,399 @@ package com.tencent.vod.flutter.player.render.gl;
 
 import android.graphics.SurfaceTexture;
 import android.opengl.EGL14;
-import android.opengl.EGLConfig;
-import android.opengl.EGLContext;
-import android.opengl.EGLDisplay;
 import android.opengl.EGLSurface;
-import android.os.Handler;
-import android.os.HandlerThread;
+import android.os.Build;
+import android.view.Choreographer;
 import android.view.Surface;
 
 import com.tencent.liteav.base.util.LiteavLog;
 import com.tencent.vod.flutter.common.FTXPlayerConstants;
-
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
-
+import com.tencent.vod.flutter.common.FTXRenderStats;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Render target on {@link FTXGLRenderService}. It copies the decoder SurfaceTexture to the view surface,
+ * all GL work runs on the render thread acquired from the service.
+ * <p>
+ * Decoded frames are not drawn as they arrive. They are counted, and on the next vsync the newest one is latched
+ * and presented while the stale ones are dropped without a draw or swap. An optional fps cap skips vsyncs. When to
+ * latch and present is decided by {@link FTXFramePacer}.
+ * <p>
+ * The same frame can also be drawn to mirror surfaces of other views, see {@link #addMirror}, so one decoder feeds
+ * several views.
+ */
 public class FTXEGLRender implements SurfaceTexture.OnFrameAvailableListener {
 
     private static final String TAG = "FTXEGLRender";
 
-    private static final long FRAME_WAIT_TIME = 5000;
-    private static final int FPS_DEFAULT = 30;
-    // min refresh count for obtain new img
-    private static final int RE_DRAW_COUNT = 50;
+    // follow display refresh rate
+    private static final int FPS_UNLIMITED = 0;
 
     private SurfaceTexture mSurfaceTexture;
     private FTXTextureRender mTextureRender;
     private Surface mInputSurface;
 
-    private EGLDisplay mEGLDisplay = EGL14.EGL_NO_DISPLAY;
-    private EGLContext mEGLContext = EGL14.EGL_NO_CONTEXT;
-    private EGLContext mEGLContextEncoder = EGL14.EGL_NO_CONTEXT;
-    private EGLSurface mEGLSurface = EGL14.EGL_NO_SURFACE;
     private EGLSurface mEGLSurfaceEncoder = EGL14.EGL_NO_SURFACE;
-
-    private EGLContext mEGLSavedContext = EGL14.EGL_NO_CONTEXT;
-    private EGLDisplay mEGLSavedDisplay = EGL14.EGL_NO_DISPLAY;
-    private EGLSurface mEGLSaveReadSurface = EGL14.EGL_NO_SURFACE;
-    private EGLSurface mEGLSaveDrawSurface = EGL14.EGL_NO_SURFACE;
+    private FTXGLRenderThread mRenderThread;
 
     private int mWidth;
     private int mHeight;
-    private boolean mStart = false;
-    private final Lock mLock = new ReentrantLock();
-    private final Condition mCondition = mLock.newCondition();
-    private long mPreTime = 0;
-    private long mCurrentTime;
+    private volatile boolean mStart = false;
+    // view surface can be seen, frames are still latched when invisible so that decoder never blocks
+    private volatile boolean mIsVisible = true;
+    // visibility when frames were latched last time, only touched on render thread
+    private boolean mIsLatchVisible = true;
     private long mRenderMode = FTXPlayerConstants.FTXRenderMode.FULL_FILL_CONTAINER;
     private int mViewWidth;
     private int mViewHeight;
-    private int mFps;
-    private float frameInterval = 0;
-    private HandlerThread mDrawHandlerThread = new HandlerThread(TAG);
-    private Handler mDrawHandler = null;
+    // size given in constructor is only a guess for projection, buffer is sized after real video size is known
+    private volatile boolean mIsVideoSizeKnown = false;
+    private final FTXBufferSizePolicy mBufferSizePolicy = new FTXBufferSizePolicy();
+    private volatile int mFps;
+    private volatile float mSharpness = 0;
     private boolean isReleased = false;
 
+    private boolean mIsVsyncScheduled = false;
+    private final FTXRenderStats mStats = new FTXRenderStats();
+    private volatile long mSwapCount = 0;
+    private final Runnable mRedrawTimeoutTask = new Runnable() {
+        @Override
+        public void run() {
+            if (mPacer.isRedrawDirty()) {
+                LiteavLog.i(TAG, "no new frame after redraw request, draw current texture");
+            }
+            if (mStart && null != mRenderThread && null != mTextureRender) {
+                mPacer.onRedrawTimeout();
+            } else {
+                mPacer.clearRedraw();
+            }
+        }
+    };
+    private final FTXFramePacer mPacer = new FTXFramePacer(new FTXFramePacer.Target() {
+        @Override
+        public boolean latchFrames(int frameCount) {
+            return latchFramesInner(frameCount);
+        }
+
+        @Override
+        public boolean presentFrame() {
+            return presentFrameInner();
+        }
+
+        @Override
+        public void postRedrawTimeout(long delayMs) {
+            if (null != mRenderThread) {
+                mRenderThread.getHandler().postDelayed(mRedrawTimeoutTask, delayMs);
+            }
+        }
+
+        @Override
+        public void cancelRedrawTimeout() {
+            if (null != mRenderThread) {
+                mRenderThread.getHandler().removeCallbacks(mRedrawTimeoutTask);
+            }
+        }
+    });
+    // extra view surfaces drawn with the frame of this render, GL objects only touched on render thread
+    private final List<MirrorTarget> mMirrors = new CopyOnWriteArrayList<>();
+    private FTXFrameCapture mFrameCapture;
+    private final Choreographer.FrameCallback mVsyncCallback = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            onVsync(frameTimeNanos);
+        }
+    };
+
     public FTXEGLRender(int width, int height) {
-        this(width, height, FPS_DEFAULT);
+        this(width, height, FPS_UNLIMITED);
     }
 
     public FTXEGLRender(int width, int height, int fps) {
         mWidth = width;
         mHeight = height;
-        this.mFps = fps;
-        frameInterval = (float) 1000 / fps - (float) ((float) 1000 / fps * 0.15);
-        LiteavLog.i(TAG, "initFPs fps: " + fps + "video_interval: " + frameInterval);
+        setMaxFps(fps);
+    }
+
+    /**
+     * Display density of views, pixels above 2x density are not allocated for decoder buffers.
+     */
+    public void setDisplayDensity(final float density) {
+        runOnRenderThread(new Runnable() {
+            @Override
+            public void run() {
+                mBufferSizePolicy.setDensity(density);
+                updateBufferSize();
+            }
+        });
+    }
+
+    /**
+     * Cap the presented frame rate of this target, e.g. 15 for muted thumbnails. 0 or less means no cap.
+     */
+    public void setMaxFps(int fps) {
+        mFps = Math.max(fps, FPS_UNLIMITED);
+        // allow 15% jitter of vsync timestamps, or a 30fps cap on 60Hz display will drop to 20fps
+        final float frameInterval = mFps > 0 ? (float) 1000 / mFps - (float) ((float) 1000 / mFps * 0.15) : 0;
+        mPacer.setFrameInterval(frameInterval);
+        LiteavLog.i(TAG, "initFPs fps: " + mFps + "video_interval: " + frameInterval);
+    }
+
+    public int getMaxFps() {
+        return mFps;
+    }
+
+    /**
+     * Sharpen video before presenting, 0 ~ 1, 0 disables the filter.
+     */
+    public void setSharpness(final float sharpness) {
+        mSharpness = sharpness;
+        runOnRenderThread(new Runnable() {
+            @Override
+            public void run() {
+                if (null != mTextureRender && null != mRenderThread && mRenderThread.makeCurrent(mEGLSurfaceEncoder)) {
+                    mTextureRender.setSharpness(sharpness);
+                }
+            }
+        });
+    }
+
+    public float getSharpness() {
+        return mSharpness;
+    }
+
+    /**
+     * Average cost of post-processing filters per frame, in microseconds.
+     */
+    public long getFilterCostUs() {
+        final FTXTextureRender textureRender = mTextureRender;
+        return null != textureRender ? textureRender.getFilterCostUs() : 0;
+    }
+
+    /**
+     * Frames drawn and swapped to the view surface.
+     */
+    public long getPresentedFrameCount() {
+        return mStats.getPresentedFrameCount();
+    }
+
+    /**
+     * Total eglSwapBuffers calls on the view surface, including clear.
+     */
+    public long getSwapCount() {
+        return mSwapCount;
+    }
+
+    /**
+     * Frames latched from decoder but never presented, because a newer frame arrived in the same vsync.
+     */
+    public long getDroppedFrameCount() {
+        return mStats.getDroppedFrameCount();
+    }
+
+    /**
+     * Timing histograms and counters of this render target.
+     */
+    public FTXRenderStats getRenderStats() {
+        return mStats;
+    }
+
+    /**
+     * Capture the current video frame asynchronously, scaled on GPU to fit in maxWidth x maxHeight.
+     *
+     * @param maxWidth  0 or less to use the video width
+     * @param maxHeight 0 or less to use the video height
+     * @param format    one of FTXFrameCapture.FORMAT_*
+     * @param callback  called on a worker thread, with null if there is no frame or capture failed
+     */
+    public void captureFrame(final int maxWidth, final int maxHeight, final int format,
+                             final FTXFrameCapture.Callback callback) {
+        final FTXGLRenderThread renderThread = mRenderThread;
+        if (null == renderThread) {
+            FTXFrameCapture.fail(callback);
+            return;
+        }
+        renderThread.post(new Runnable() {
+            @Override
+            public void run() {
+                if (mRenderThread != renderThread || null == mTextureRender
+                        || !mPacer.hasFrame() || !mRenderThread.makeIdleCurrent()) {
+                    FTXFrameCapture.fail(callback);
+                    return;
+                }
+                final int videoWidth = mTextureRender.getVideoWidth();
+                final int videoHeight = mTextureRender.getVideoHeight();
+                if (videoWidth <= 0 || videoHeight <= 0) {
+                    FTXFrameCapture.fail(callback);
+                    return;
+                }
+                float scale = 1;
+                if (maxWidth > 0) {
+                    scale = Math.min(scale, (float) maxWidth / videoWidth);
+                }
+                if (maxHeight > 0) {
+                    scale = Math.min(scale, (float) maxHeight / videoHeight);
+                }
+                if (null == mFrameCapture) {
+                    mFrameCapture = new FTXFrameCapture(mRenderThread);
+                }
+                mFrameCapture.capture(mTextureRender, Math.max(1, Math.round(videoWidth * scale)),
+                        Math.max(1, Math.round(videoHeight * scale)), format, callback);
+            }
+        });
     }
 
     @Override
     public void onFrameAvailable(SurfaceTexture surfaceTexture) {
         /*
         onFrameAvailable 默认在主线程回调，导致使用 onFrameAvailable 触发的渲染动作，会受到主线程其他操作的影响，导致渲染产生延迟。
-        一般情况下会晚两到五帧左右，尤其表现在起播的时候，首帧事件已经来临，但是画面延迟了一点（播放过程中不受影响，因为渲染的虽然晚了，但是画面拉取的仍然是当前最新的画面）
-        。或者暂停状态下 seek，seek 之后画面改变，纹理上的画面仍然是 seek 之前或者上一次 seek 的画面。
-        所以这里使用独立线程主动拉取画面进行渲染，但是一直拉取画面，会导致发热情况严重，所以默认有 60帧率的限制。所以这块播放器默认帧率为 60帧。
+        所以这里将回调指定到共享渲染线程上，只记录新帧，由渲染线程的 vsync 回调统一上屏。
          */
-        if (mStart) {
-            mDrawHandler.post(new Runnable() {
-                @Override
-                public void run() {
-                    mLock.lock();
-                    startDrawSurface();
-                    mLock.unlock();
-                }
-            });
+        mPacer.onFrameAvailable();
+        final FTXGLRenderThread renderThread = mRenderThread;
+        if (mStart && null != renderThread) {
+            if (renderThread.isCurrentThread()) {
+                scheduleVsync();
+            } else {
+                renderThread.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        scheduleVsync();
+                    }
+                });
+            }
         }
     }
 
-    private synchronized void startDrawSurface() {
+    private void scheduleVsync() {
+        if (!mIsVsyncScheduled && mStart) {
+            mIsVsyncScheduled = true;
+            Choreographer.getInstance().postFrameCallback(mVsyncCallback);
+        }
+    }
+
+    private void onVsync(long frameTimeNanos) {
+        mIsVsyncScheduled = false;
+        if (!mStart) {
+            return;
+        }
+        if (mPacer.onVsync(frameTimeNanos / 1000000)) {
+            // fps cap, keep the frame pending for a later vsync
+            scheduleVsync();
+        }
+    }
+
+    /**
+     * Latch the newest decoded frame and present it.
+     *
+     * @return true if a frame is swapped to view surface
+     */
+    private boolean startDrawSurface() {
+        if (!mStart || null == mRenderThread || null == mTextureRender) {
+            LiteavLog.e(TAG, "end....... ");
+            return false;
+        }
+        return mPacer.draw();
+    }
+
+    private boolean latchFramesInner(int frameCount) {
+        if (!mStart || null == mRenderThread || null == mTextureRender) {
+            return false;
+        }
+        final boolean isVisible = mIsVisible;
+        mIsLatchVisible = isVisible;
+        if (!(isVisible ? mRenderThread.makeCurrent(mEGLSurfaceEncoder) : mRenderThread.makeIdleCurrent())) {
+            LiteavLog.e(TAG, "makeCurrent error");
+            return false;
+        }
         try {
-            if (!mStart) {
-                LiteavLog.e(TAG, "end....... ");
-                return;
+            // every updateTexImage consumes one queued buffer, only the last one will be drawn
+            final long startNs = System.nanoTime();
+            for (int i = 0; i < frameCount; i++) {
+                mSurfaceTexture.updateTexImage();
             }
-            saveCurrentEglEnvironment();
-            if (!makeCurrent(1)) {
-                LiteavLog.e(TAG, "makeCurrent error");
-                return;
+            if (frameCount > 1) {
+                mStats.addDroppedFrames(frameCount - 1);
+            } else if (frameCount == 0) {
+                // redraw request without a new frame
+                mSurfaceTexture.updateTexImage();
             }
+            mStats.latchTime.record(System.nanoTime() - startNs);
+            return true;
+        } catch (Exception e) {
+            LiteavLog.e(TAG, "latch frames error: " + e);
+        }
+        return false;
+    }
 
-            mCurrentTime = System.currentTimeMillis();
-            drawImage();
-            swapBuffers();
-            mPreTime = mCurrentTime;
-            mSurfaceTexture.updateTexImage();
+    private boolean presentFrameInner() {
+        final boolean isVisible = mIsLatchVisible;
+        try {
+            // view surface is made current by latchFramesInner if it is visible
+            if (isVisible) {
+                final long startNs = System.nanoTime();
+                drawImage();
+                final long endNs = System.nanoTime();
+                mStats.drawTime.record(endNs - startNs);
+                swapBuffers();
+                mStats.swapTime.record(System.nanoTime() - endNs);
+                mStats.addPresentedFrame();
+            }
+            drawMirrors();
+            return isVisible;
         } catch (Exception e) {
             LiteavLog.e(TAG, "startDrawSurface error: " + e);
-        } finally {
-            restoreEglEnvironment();
         }
+        return false;
     }
 
     public void drawImage() {
         mTextureRender.drawFrame();
     }
 
-    public boolean initOpengl(Surface surface, boolean needClearOld) {
+    public boolean initOpengl(final Surface surface, final boolean needClearOld) {
         LiteavLog.i(TAG, "initOpengl " + (null == surface ? "null" : ""));
         isReleased = false;
-        boolean bRet = true;
-        do {
-            saveCurrentEglEnvironment();
-            if (!eglSetup(surface)) {
-                LiteavLog.e(TAG, "eglSetup error");
-                bRet = false;
-                break;
+        if (null == mRenderThread) {
+            mRenderThread = FTXGLRenderService.getInstance().acquire();
+        }
+        final boolean[] result = new boolean[]{false};
+        mRenderThread.runSync(new Runnable() {
+            @Override
+            public void run() {
+                result[0] = initOpenglInner(surface, needClearOld);
             }
+        });
+        return result[0];
+    }
 
-            if (!makeCurrent(1)) {
-                LiteavLog.e(TAG, "makeCurrent error");
-                bRet = false;
-                break;
-            }
-        } while (false);
+    public boolean initOpengl(Surface surface) {
+        return initOpengl(surface, true);
+    }
 
-        if (!bRet) {
-            releaseEgl();
-            restoreEglEnvironment();
-            return bRet;
+    private boolean initOpenglInner(Surface surface, boolean needClearOld) {
+        if (mEGLSurfaceEncoder != EGL14.EGL_NO_SURFACE) {
+            releaseGlResource();
+        }
+        mEGLSurfaceEncoder = mRenderThread.createWindowSurface(surface);
+        checkEglError("eglCreateWindowSurface");
+        if (mEGLSurfaceEncoder == EGL14.EGL_NO_SURFACE) {
+            LiteavLog.e(TAG, "surface was null");
+            return false;
+        }
+        if (!mRenderThread.makeCurrent(mEGLSurfaceEncoder)) {
+            LiteavLog.e(TAG, "makeCurrent error");
+            releaseGlResource();
+            return false;
         }
-
         setup(needClearOld);
-
-        restoreEglEnvironment();
+        for (MirrorTarget target : mMirrors) {
+            attachMirror(target);
+        }
         return true;
     }
 
-    public boolean initOpengl(Surface surface) {
-        return initOpengl(surface, true);
-    }
-
     /**
      * Creates interconnected instances of TextureRender, SurfaceTexture, and Surface.
      */
@@ -159,236 +402,220 @@ public class FTXEGLRender implements SurfaceTexture.OnFrameAvailableListener {
         mTextureRender = new FTXTextureRender(mViewWidth, mViewHeight);
         mTextureRender.surfaceCreated();
         mTextureRender.updateSizeAndRenderMode(mWidth, mHeight, mRenderMode);
+        mTextureRender.setSharpness(mSharpness);
         LiteavLog.d(TAG, "textureID=" + mTextureRender.getTextureID());
         if (null == mInputSurface || needClearOld) {
+            if (null != mInputSurface) {
+                mInputSurface.release();
+                mSurfaceTexture.release();
+            }
             mSurfaceTexture = new SurfaceTexture(mTextureRender.getTextureID());
             // vide size for soft encode surface
-            mSurfaceTexture.setDefaultBufferSize(mViewWidth, mViewHeight);
-            mSurfaceTexture.setOnFrameAvailableListener(this);
+            if (mBufferSizePolicy.getWidth() > 0 && mBufferSizePolicy.getHeight() > 0) {
+                mSurfaceTexture.setDefaultBufferSize(mBufferSizePolicy.getWidth(), mBufferSizePolicy.getHeight());
+            } else {
+                updateBufferSize();
+            }
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+                mSurfaceTexture.setOnFrameAvailableListener(this, mRenderThread.getHandler());
+            } else {
+                mSurfaceTexture.setOnFrameAvailableListener(this);
+            }
             mInputSurface = new Surface(mSurfaceTexture);
         }
     }
 
-    public void updateSizeAndRenderMode(int width, int height, long renderMode) {
+    public void updateSizeAndRenderMode(final int width, final int height, final long renderMode) {
         mWidth = width;
         mHeight = height;
         mRenderMode = renderMode;
-        if (null != mTextureRender) {
-            mTextureRender.updateSizeAndRenderMode(width, height, renderMode);
-        } else {
-            LiteavLog.w(TAG, "mTextureRender is null");
-        }
+        mIsVideoSizeKnown = width > 0 && height > 0;
+        runOnRenderThread(new Runnable() {
+            @Override
+            public void run() {
+                updateBufferSize();
+                if (null != mTextureRender) {
+                    mTextureRender.updateSizeAndRenderMode(width, height, renderMode);
+                } else {
+                    LiteavLog.w(TAG, "mTextureRender is null");
+                }
+                for (MirrorTarget target : mMirrors) {
+                    if (null != target.mTextureRender) {
+                        target.mTextureRender.updateSizeAndRenderMode(width, height, target.mRenderMode);
+                    }
+                }
+            }
+        });
     }
 
-    public void setViewPortSize(int width, int height) {
+    public void setViewPortSize(final int width, final int height) {
         mViewWidth = width;
         mViewHeight = height;
-        if (null != mSurfaceTexture) {
-            mSurfaceTexture.setDefaultBufferSize(width, height);
-        }
-        if (null != mTextureRender) {
-            mTextureRender.setViewPortSize(width, height);
-        }
+        runOnRenderThread(new Runnable() {
+            @Override
+            public void run() {
+                updateBufferSize();
+                if (null != mTextureRender) {
+                    mTextureRender.setViewPortSize(width, height);
+                }
+            }
+        });
     }
 
-    private boolean eglSetup(Surface surface) {
-        mEGLDisplay = EGL14.eglGetDisplay(EGL14.EGL_DEFAULT_DISPLAY);
-        if (mEGLDisplay == EGL14.EGL_NO_DISPLAY) {
-            LiteavLog.e(TAG, "unable to get EGL10 display");
-            return false;
-        }
-
-        int[] version = new int[2];
-        if (!EGL14.eglInitialize(mEGLDisplay, version, 0, version, 1)) {
-            LiteavLog.e(TAG, "unable to initialize EGL10");
-            return false;
-        }
-
-        // Configure EGL for pbuffer and OpenGL ES 2.0, 24-bit RGB.
-        int[] attribList = new int[]{
-                EGL14.EGL_RED_SIZE, 8,
-                EGL14.EGL_GREEN_SIZE, 8,
-                EGL14.EGL_BLUE_SIZE, 8,
-                EGL14.EGL_ALPHA_SIZE, 8,
-                EGL14.EGL_DEPTH_SIZE, 8,
-                EGL14.EGL_STENCIL_SIZE, 8,
-                EGL14.EGL_RENDERABLE_TYPE, 4,
-                EGL14.EGL_NONE
-        };
-
-        int[] numEglConfigs = new int[1];
-        EGLConfig[] eglConfigs = new EGLConfig[1];
-        if (!EGL14.eglChooseConfig(mEGLDisplay, attribList, 0, eglConfigs, 0,
-                eglConfigs.length, numEglConfigs, 0)) {
-            LiteavLog.e(TAG, "eglChooseConfig error");
-            return false;
+    /**
+     * Size decoder buffer for the largest view showing it, including mirrors. Called on render thread.
+     */
+    private void updateBufferSize() {
+        int viewWidth = mViewWidth;
+        int viewHeight = mViewHeight;
+        for (MirrorTarget target : mMirrors) {
+            viewWidth = Math.max(viewWidth, target.mViewWidth);
+            viewHeight = Math.max(viewHeight, target.mViewHeight);
         }
-        // Configure context for OpenGL ES 2.0.
-        //6、创建 EglContext
-        int[] attrib_list = new int[]{
-                EGL14.EGL_CONTEXT_CLIENT_VERSION, 2,
-                EGL14.EGL_NONE
-        };
-
-        mEGLContextEncoder = EGL14.eglCreateContext(mEGLDisplay, eglConfigs[0], EGL14.EGL_NO_CONTEXT,
-                attrib_list, 0);
-        checkEglError("eglCreateContext");
-        if (mEGLContextEncoder == EGL14.EGL_NO_CONTEXT) {
-            LiteavLog.e(TAG, "null context2");
-            return false;
+        final boolean changed = mIsVideoSizeKnown
+                ? mBufferSizePolicy.update(viewWidth, viewHeight, mWidth, mHeight)
+                : mBufferSizePolicy.update(viewWidth, viewHeight, 0, 0);
+        final SurfaceTexture surfaceTexture = mSurfaceTexture;
+        if (changed && null != surfaceTexture) {
+            LiteavLog.i(TAG, "updateBufferSize:" + mBufferSizePolicy.getWidth() + "x" + mBufferSizePolicy.getHeight()
+                    + ", view:" + viewWidth + "x" + viewHeight + ", video:" + mWidth + "x" + mHeight);
+            surfaceTexture.setDefaultBufferSize(mBufferSizePolicy.getWidth(), mBufferSizePolicy.getHeight());
         }
+    }
 
-        int[] surfaceAttribs2 = {
-                EGL14.EGL_NONE
-        };
-        mEGLSurfaceEncoder = EGL14.eglCreateWindowSurface(mEGLDisplay, eglConfigs[0], surface,
-                surfaceAttribs2, 0);   //creates an EGL window surface and returns its handle
-        checkEglError("eglCreateWindowSurface");
-
-        if (mEGLSurfaceEncoder == EGL14.EGL_NO_SURFACE) {
-            LiteavLog.e(TAG, "surface was null");
-            return false;
+    private void runOnRenderThread(Runnable runnable) {
+        final FTXGLRenderThread renderThread = mRenderThread;
+        if (null == renderThread || renderThread.isCurrentThread()) {
+            runnable.run();
+        } else {
+            renderThread.post(runnable);
         }
-        return true;
     }
 
     private boolean checkEglError(String msg) {
         int error = 0;
         if ((error = EGL14.eglGetError()) != EGL14.EGL_SUCCESS) {
             LiteavLog.e(TAG, "checkEglError: " + msg + "error: " + error);
+            mStats.addEglError(error);
             return false;
         }
 
         return true;
     }
 
-    public boolean makeCurrent(int index) {
-        if (index == 0) {
-            if (!EGL14.eglMakeCurrent(mEGLDisplay, mEGLSurface, mEGLSurface, mEGLContext)) {
-                LiteavLog.e(TAG, "eglMakeCurrent failed");
-                return false;
-            }
-        } else {
-            if (!EGL14.eglMakeCurrent(mEGLDisplay, mEGLSurfaceEncoder, mEGLSurfaceEncoder, mEGLContextEncoder)) {
-                LiteavLog.e(TAG, "eglMakeCurrent failed");
-                return false;
-            }
-        }
-
-        return true;
-    }
-
     public boolean swapBuffers() {
-        boolean result = EGL14.eglSwapBuffers(mEGLDisplay, mEGLSurfaceEncoder);
+        boolean result = mRenderThread.swapBuffers(mEGLSurfaceEncoder);
+        mSwapCount++;
         checkEglError("eglSwapBuffers");
         return result;
     }
 
-    private void saveCurrentEglEnvironment() {
-        mEGLSavedContext = EGL14.eglGetCurrentContext();
-        mEGLSavedDisplay = EGL14.eglGetCurrentDisplay();
-        mEGLSaveDrawSurface = EGL14.eglGetCurrentSurface(EGL14.EGL_DRAW);
-        mEGLSaveReadSurface = EGL14.eglGetCurrentSurface(EGL14.EGL_READ);
-    }
-
-    private void restoreEglEnvironment() {
-        if (mEGLSavedDisplay != EGL14.EGL_NO_DISPLAY && mEGLSavedContext != EGL14.EGL_NO_CONTEXT
-                && !mEGLSavedContext.equals(mEGLContextEncoder)) {
-            if (!EGL14.eglMakeCurrent(mEGLSavedDisplay, mEGLSaveDrawSurface, mEGLSaveReadSurface, mEGLSavedContext)) {
-                LiteavLog.e(TAG, "restoreEglEnvironment eglMakeCurrent: error");
-            }
-
-        } else if (mEGLDisplay != EGL14.EGL_NO_DISPLAY) {
-            if (!EGL14.eglMakeCurrent(mEGLDisplay, EGL14.EGL_NO_SURFACE, EGL14.EGL_NO_SURFACE, EGL14.EGL_NO_CONTEXT)) {
-                LiteavLog.e(TAG, "eglMakeCurrent unbind: error");
-            }
-        }
-
-        mEGLSavedDisplay = EGL14.EGL_NO_DISPLAY;
-        mEGLSaveDrawSurface = EGL14.EGL_NO_SURFACE;
-        mEGLSaveReadSurface = EGL14.EGL_NO_SURFACE;
-        mEGLSavedContext = EGL14.EGL_NO_CONTEXT;
-    }
-
-    private void releaseEgl() {
-        if (mEGLDisplay != EGL14.EGL_NO_DISPLAY) {
-            EGL14.eglMakeCurrent(mEGLDisplay, EGL14.EGL_NO_SURFACE,
-                    EGL14.EGL_NO_SURFACE,
-                    EGL14.EGL_NO_CONTEXT);
+    private void releaseGlResource() {
+        // mirrors draw the texture of this render, release them first
+        for (MirrorTarget target : mMirrors) {
+            detachMirror(target);
         }
-        if (mEGLSurfaceEncoder != EGL14.EGL_NO_SURFACE) {
-            EGL14.eglDestroySurface(mEGLDisplay, mEGLSurfaceEncoder);
+        if (null != mFrameCapture) {
+            mRenderThread.makeIdleCurrent();
+            mFrameCapture.release();
+            mFrameCapture = null;
         }
-        if (mEGLContextEncoder != EGL14.EGL_NO_CONTEXT) {
-            EGL14.eglDestroyContext(mEGLDisplay, mEGLContextEncoder);
+        if (null != mTextureRender) {
+            mRenderThread.makeIdleCurrent();
+            mTextureRender.deleteTexture();
+            mTextureRender = null;
         }
-
-        EGL14.eglTerminate(mEGLDisplay);
-
-        mEGLDisplay = EGL14.EGL_NO_DISPLAY;
+        mPacer.onTextureReleased();
+        mRenderThread.destroySurface(mEGLSurfaceEncoder);
         mEGLSurfaceEncoder = EGL14.EGL_NO_SURFACE;
-        mEGLContextEncoder = EGL14.EGL_NO_CONTEXT;
     }
 
     private void eglUninstall(boolean needReleaseDecodeSurface) {
-        if (!makeCurrent(1)) {
-            LiteavLog.e(TAG, "makeCurrent error");
-            return;
+        if (mIsVsyncScheduled) {
+            Choreographer.getInstance().removeFrameCallback(mVsyncCallback);
+            mIsVsyncScheduled = false;
         }
-        if (mTextureRender != null) {
-            mTextureRender.deleteTexture();
-        }
-        releaseEgl();
-
+        mPacer.reset();
+        releaseGlResource();
         if (needReleaseDecodeSurface && mInputSurface != null) {
             mInputSurface.release();
+            mSurfaceTexture.release();
+            mInputSurface = null;
+            mSurfaceTexture = null;
         }
     }
 
     public void startRender() {
         LiteavLog.i(TAG, "called start render");
-        if (mDrawHandlerThread.isAlive()) {
-            LiteavLog.e(TAG, "old draw thread is alive, stop first");
-            mDrawHandlerThread.quitSafely();
-        }
-        mDrawHandlerThread = new HandlerThread(TAG);
-        mDrawHandlerThread.start();
-        mDrawHandler = new Handler(mDrawHandlerThread.getLooper());
         mStart = true;
     }
 
+    /**
+     * Request one redraw, e.g. after seek. The frame delivered after this call is presented exactly once,
+     * if no frame arrives in {@link FTXFramePacer#RE_DRAW_TIMEOUT_MS}, the current texture is drawn instead.
+     */
     public void refreshRender() {
-        if (null != mDrawHandler) {
-            mDrawHandler.post(new Runnable() {
+        final FTXGLRenderThread renderThread = mRenderThread;
+        if (null != renderThread) {
+            renderThread.post(new Runnable() {
                 @Override
                 public void run() {
-                    mLock.lock();
-                    for (int i = 0; i < RE_DRAW_COUNT; i++) {
-                        startDrawSurface();
+                    if (mRenderThread != renderThread) {
+                        return;
                     }
-                    mLock.unlock();
+                    mPacer.requestRedraw();
                 }
             });
         }
     }
 
-    public synchronized void resumeRender() {
-        mLock.lock();
+    public void resumeRender() {
         mStart = true;
-        mLock.unlock();
+        runOnRenderThread(new Runnable() {
+            @Override
+            public void run() {
+                if (mPacer.hasPendingFrames()) {
+                    scheduleVsync();
+                }
+            }
+        });
     }
 
-    public synchronized void pauseRender() {
-        mLock.lock();
+    public void pauseRender() {
         mStart = false;
-        mLock.unlock();
+    }
+
+    /**
+     * Follow visibility of view. Invisible render only latches decoded frames, without drawing and swapping.
+     * Latest frame is drawn at once when it becomes visible again.
+     */
+    public void setVisible(final boolean visible) {
+        if (mIsVisible == visible) {
+            return;
+        }
+        mIsVisible = visible;
+        LiteavLog.i(TAG, "setVisible:" + visible);
+        if (visible) {
+            runOnRenderThread(new Runnable() {
+                @Override
+                public void run() {
+                    if (mStart && null != mTextureRender && mIsVisible && mPacer.canDraw()) {
+                        startDrawSurface();
+                    }
+                }
+            });
+        }
+    }
+
+    public boolean isVisible() {
+        return mIsVisible;
     }
 
     public synchronized void stopRender() {
         stopRender(true);
     }
 
-    public synchronized void stopRender(boolean isCompleteRelease) {
+    public synchronized void stopRender(final boolean isCompleteRelease) {
         if (isReleased) {
             LiteavLog.i(TAG, "stopRender return, already released");
             return;
@@ -396,14 +623,16 @@ public class FTXEGLRender implements SurfaceTexture.OnFrameAvailableListener {
         LiteavLog.i(TAG, "stopRender");
         // unLock render thread
         mStart = false;
-        saveCurrentEglEnvironment();
-        boolean contextCompare = mEGLContextEncoder.equals(mEGLSavedContext);
-        eglUninstall(isCompleteRelease);
-        mDrawHandlerThread.quitSafely();
-
-        if (!contextCompare) {
-            LiteavLog.d(TAG, "restoreEglEnvironment");
-            restoreEglEnvironment();
+        final FTXGLRenderThread renderThread = mRenderThread;
+        if (null != renderThread) {
+            renderThread.runSync(new Runnable() {
+                @Override
+                public void run() {
+                    eglUninstall(isCompleteRelease);
+                }
+            });
+            mRenderThread = null;
+            FTXGLRenderService.getInstance().release(renderThread);
         }
         isReleased = true;
     }
@@ -413,8 +642,225 @@ public class FTXEGLRender implements SurfaceTexture.OnFrameAvailableListener {
     }
 
     public void clearSurfaceIfCan() {
-        if (null != mTextureRender) {
-            mTextureRender.cleanDrawCache();
+        runOnRenderThread(new Runnable() {
+            @Override
+            public void run() {
+                clearSurfaceInner();
+            }
+        });
+    }
+
+    /**
+     * Whether this render is connected to a view surface, then the view surface can only be cleared by
+     * {@link #clearSurface()}.
+     */
+    public boolean isAttached() {
+        return !isReleased && null != mRenderThread;
+    }
+
+    /**
+     * Clear the view surface and drop decoded frames not presented yet, EGL surface and decoder surface are kept.
+     *
+     * @return false if clear failed
+     */
+    public boolean clearSurface() {
+        final FTXGLRenderThread renderThread = mRenderThread;
+        if (null == renderThread) {
+            return false;
+        }
+        final boolean[] result = new boolean[]{false};
+        renderThread.runSync(new Runnable() {
+            @Override
+            public void run() {
+                result[0] = clearSurfaceInner();
+            }
+        });
+        return result[0];
+    }
+
+    private boolean clearSurfaceInner() {
+        if (null == mTextureRender || null == mRenderThread || !mRenderThread.makeCurrent(mEGLSurfaceEncoder)) {
+            return false;
+        }
+        try {
+            // consume queued frames, or they will be shown before next new frame. Nothing can be redrawn or
+            // captured until a new frame
+            final int pendingFrames = mPacer.dropFrames();
+            for (int i = 0; i < pendingFrames; i++) {
+                mSurfaceTexture.updateTexImage();
+            }
+        } catch (Exception e) {
+            LiteavLog.e(TAG, "clearSurface drop frames error: " + e);
+        }
+        for (MirrorTarget target : mMirrors) {
+            if (null != target.mTextureRender && mRenderThread.makeCurrent(target.mEGLSurface)) {
+                target.mTextureRender.cleanDrawCache();
+                mRenderThread.swapBuffers(target.mEGLSurface);
+            }
+        }
+        if (!mRenderThread.makeCurrent(mEGLSurfaceEncoder)) {
+            return false;
+        }
+        mTextureRender.cleanDrawCache();
+        return swapBuffers();
+    }
+
+    /**
+     * Draw frames of this render to another view surface too, with its own render mode and viewport.
+     * The surface must not be rendered by anyone else until {@link #removeMirror} returns.
+     *
+     * @return handle to update or remove the mirror
+     */
+    public MirrorTarget addMirror(Surface surface, long renderMode) {
+        final MirrorTarget target = new MirrorTarget(surface, renderMode);
+        mMirrors.add(target);
+        runOnRenderThread(new Runnable() {
+            @Override
+            public void run() {
+                attachMirror(target);
+            }
+        });
+        LiteavLog.i(TAG, "addMirror:" + surface + ", mirror count:" + mMirrors.size());
+        return target;
+    }
+
+    public void updateMirror(final MirrorTarget target, final int viewWidth, final int viewHeight,
+                             final long renderMode) {
+        if (null == target) {
+            return;
+        }
+        target.mViewWidth = viewWidth;
+        target.mViewHeight = viewHeight;
+        target.mRenderMode = renderMode;
+        runOnRenderThread(new Runnable() {
+            @Override
+            public void run() {
+                updateBufferSize();
+                if (null != target.mTextureRender) {
+                    target.mTextureRender.setViewPortSize(viewWidth, viewHeight);
+                    target.mTextureRender.updateSizeAndRenderMode(mWidth, mHeight, renderMode);
+                }
+            }
+        });
+    }
+
+    /**
+     * Stop drawing to the mirror surface, its EGL surface is destroyed before return.
+     */
+    public void removeMirror(final MirrorTarget target) {
+        if (null == target || !mMirrors.remove(target)) {
+            return;
+        }
+        final FTXGLRenderThread renderThread = mRenderThread;
+        final Runnable detachTask = new Runnable() {
+            @Override
+            public void run() {
+                detachMirror(target);
+            }
+        };
+        if (null == renderThread || renderThread.isCurrentThread()) {
+            detachTask.run();
+        } else {
+            renderThread.runSync(detachTask);
+        }
+        LiteavLog.i(TAG, "removeMirror:" + target.mSurface + ", mirror count:" + mMirrors.size());
+    }
+
+    public int getMirrorCount() {
+        return mMirrors.size();
+    }
+
+    private void attachMirror(MirrorTarget target) {
+        if (null == mRenderThread || null == mTextureRender || target.mEGLSurface != EGL14.EGL_NO_SURFACE
+                || !mMirrors.contains(target)) {
+            return;
+        }
+        if (null == target.mSurface || !target.mSurface.isValid()) {
+            LiteavLog.w(TAG, "attachMirror met an invalid surface:" + target.mSurface);
+            return;
+        }
+        target.mEGLSurface = mRenderThread.createWindowSurface(target.mSurface);
+        checkEglError("eglCreateWindowSurface mirror");
+        if (target.mEGLSurface == EGL14.EGL_NO_SURFACE || !mRenderThread.makeCurrent(target.mEGLSurface)) {
+            LiteavLog.e(TAG, "attachMirror failed, surface:" + target.mSurface);
+            detachMirror(target);
+            return;
+        }
+        // same thread means same context, the decoder texture can be sampled directly
+        target.mTextureRender = new FTXTextureRender(target.mViewWidth, target.mViewHeight);
+        target.mTextureRender.surfaceCreated(mTextureRender.getTextureID());
+        target.mTextureRender.updateSizeAndRenderMode(mWidth, mHeight, target.mRenderMode);
+    }
+
+    private void detachMirror(MirrorTarget target) {
+        if (null == mRenderThread) {
+            return;
+        }
+        if (null != target.mTextureRender) {
+            if (mRenderThread.makeCurrent(target.mEGLSurface)) {
+                target.mTextureRender.deleteTexture();
+            }
+            target.mTextureRender = null;
+        }
+        if (target.mEGLSurface != EGL14.EGL_NO_SURFACE) {
+            mRenderThread.makeIdleCurrent();
+            mRenderThread.destroySurface(target.mEGLSurface);
+            target.mEGLSurface = EGL14.EGL_NO_SURFACE;
+        }
+    }
+
+    private void drawMirrors() {
+        for (MirrorTarget target : mMirrors) {
+            if (target.mIsVisible) {
+                drawMirror(target);
+            }
+        }
+    }
+
+    private void drawMirror(MirrorTarget target) {
+        if (null != target.mTextureRender && mRenderThread.makeCurrent(target.mEGLSurface)) {
+            target.mTextureRender.drawFrame();
+            if (!mRenderThread.swapBuffers(target.mEGLSurface)) {
+                checkEglError("eglSwapBuffers mirror");
+            }
+        }
+    }
+
+    /**
+     * Same as {@link #setVisible(boolean)}, for a mirror surface.
+     */
+    public void setMirrorVisible(final MirrorTarget target, final boolean visible) {
+        if (null == target || target.mIsVisible == visible) {
+            return;
+        }
+        target.mIsVisible = visible;
+        if (visible) {
+            runOnRenderThread(new Runnable() {
+                @Override
+                public void run() {
+                    if (mStart && mPacer.hasFrame() && mMirrors.contains(target)) {
+                        drawMirror(target);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * A view surface mirrored from this render.
+     */
+    public static class MirrorTarget {
+        private final Surface mSurface;
+        private volatile int mViewWidth = 0;
+        private volatile int mViewHeight = 0;
+        private volatile long mRenderMode;
+        private volatile boolean mIsVisible = true;
+        private EGLSurface mEGLSurface = EGL14.EGL_NO_SURFACE;
+        private FTXTextureRender mTextureRender;
+
+        private MirrorTarget(Surface surface, long renderMode) {
+            mSurface = surface;
+            mRenderMode = renderMode;
         }
     }
 
@@ -0,0 +1,343 @@
+package com.tencent.vod.flutter.player.render.gl;
+
+import android.graphics.Bitmap;
+import android.opengl.EGL14;
+import android.opengl.GLES20;
+import android.opengl.GLES30;
+
+import com.tencent.liteav.base.util.LiteavLog;
+import com.tencent.vod.flutter.live.render.FTXFrameBufferPool;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Captures the current video frame of a {@link FTXTextureRender} without stalling the render thread.
+ * <p>
+ * The frame is scaled on GPU into a frame buffer, then read into one of two pixel buffer objects. The read is
+ * finished by GPU in background, a fence is polled on later render loops and the pixels are copied out only when
+ * it is signaled. Flip and encoding run on a worker thread. On GLES 2 devices there is no PBO, a blocking
+ * glReadPixels of the scaled frame is used instead.
+ * <p>
+ * All methods must be called on the render thread.
+ */
+public class FTXFrameCapture {
+
+    private static final String TAG = "FTXFrameCapture";
+
+    public static final int FORMAT_JPEG = 0;
+    public static final int FORMAT_PNG = 1;
+    public static final int FORMAT_RGBA = 2;
+
+    private static final int PBO_COUNT = 2;
+    private static final long POLL_INTERVAL_MS = 5;
+    private static final int JPEG_QUALITY = 90;
+    private static final ExecutorService ENCODE_EXECUTOR = Executors.newSingleThreadExecutor();
+
+    public interface Callback {
+        /**
+         * Called on a worker thread.
+         *
+         * @param data null if capture failed
+         */
+        void onCaptured(byte[] data);
+    }
+
+    private final FTXGLRenderThread mRenderThread;
+    private final boolean mIsPboSupported;
+    private final FTXFrameBufferPool mFrameBufferPool = new FTXFrameBufferPool();
+    private final int[] mPbos = new int[PBO_COUNT];
+    private final int[] mPboSizes = new int[PBO_COUNT];
+    private final Readback[] mReadbacks = new Readback[PBO_COUNT];
+    private boolean mIsPollScheduled = false;
+    private boolean mIsReleased = false;
+    private final Runnable mPollTask = new Runnable() {
+        @Override
+        public void run() {
+            mIsPollScheduled = false;
+            poll();
+        }
+    };
+
+    private static class Readback {
+        private final int width;
+        private final int height;
+        private final int format;
+        private final Callback callback;
+        private long fence;
+
+        private Readback(int width, int height, int format, Callback callback) {
+            this.width = width;
+            this.height = height;
+            this.format = format;
+            this.callback = callback;
+        }
+    }
+
+    public FTXFrameCapture(FTXGLRenderThread renderThread) {
+        mRenderThread = renderThread;
+        mIsPboSupported = FTXGLRenderService.getInstance().getClientVersion() >= 3;
+    }
+
+    /**
+     * Capture the frame last latched by the render. GL context must be current.
+     *
+     * @param width  output width, scaled on GPU
+     * @param height output height, scaled on GPU
+     */
+    public void capture(FTXTextureRender render, int width, int height, int format, Callback callback) {
+        if (mIsReleased || null == render || width <= 0 || height <= 0) {
+            fail(callback);
+            return;
+        }
+        final int slot = findFreeSlot();
+        if (mIsPboSupported && slot < 0) {
+            LiteavLog.w(TAG, "capture is busy, two captures are in flight");
+            fail(callback);
+            return;
+        }
+        final FTXFrameBufferPool.FrameBuffer frameBuffer = mFrameBufferPool.obtain(width, height);
+        frameBuffer.bind();
+        render.drawVideoFrame(width, height);
+        final Readback readback = new Readback(width, height, format, callback);
+        if (!mIsPboSupported) {
+            final ByteBuffer pixels = ByteBuffer.allocateDirect(width * height * 4).order(ByteOrder.nativeOrder());
+            GLES20.glReadPixels(0, 0, width, height, GLES20.GL_RGBA, GLES20.GL_UNSIGNED_BYTE, pixels);
+            GLES20.glBindFramebuffer(GLES20.GL_FRAMEBUFFER, 0);
+            mFrameBufferPool.recycle(frameBuffer);
+            deliver(readback, pixels);
+            return;
+        }
+        final int size = width * height * 4;
+        if (mPbos[slot] == 0) {
+            final int[] pbo = new int[1];
+            GLES20.glGenBuffers(1, pbo, 0);
+            mPbos[slot] = pbo[0];
+        }
+        GLES20.glBindBuffer(GLES30.GL_PIXEL_PACK_BUFFER, mPbos[slot]);
+        if (mPboSizes[slot] != size) {
+            GLES20.glBufferData(GLES30.GL_PIXEL_PACK_BUFFER, size, null, GLES30.GL_STREAM_READ);
+            mPboSizes[slot] = size;
+        }
+        // returns at once, GPU copies into PBO in background
+        GLES30.glReadPixels(0, 0, width, height, GLES20.GL_RGBA, GLES20.GL_UNSIGNED_BYTE, 0);
+        GLES20.glBindBuffer(GLES30.GL_PIXEL_PACK_BUFFER, 0);
+        GLES20.glBindFramebuffer(GLES20.GL_FRAMEBUFFER, 0);
+        mFrameBufferPool.recycle(frameBuffer);
+        readback.fence = GLES30.glFenceSync(GLES30.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+        GLES20.glFlush();
+        mReadbacks[slot] = readback;
+        schedulePoll();
+    }
+
+    private int findFreeSlot() {
+        for (int i = 0; i < PBO_COUNT; i++) {
+            if (null == mReadbacks[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void schedulePoll() {
+        if (!mIsPollScheduled) {
+            mIsPollScheduled = true;
+            mRenderThread.getHandler().postDelayed(mPollTask, POLL_INTERVAL_MS);
+        }
+    }
+
+    private void poll() {
+        if (mIsReleased) {
+            return;
+        }
+        if (EGL14.eglGetCurrentContext() == EGL14.EGL_NO_CONTEXT) {
+            mRenderThread.makeIdleCurrent();
+        }
+        boolean hasPending = false;
+        for (int i = 0; i < PBO_COUNT; i++) {
+            final Readback readback = mReadbacks[i];
+            if (null == readback) {
+                continue;
+            }
+            // zero timeout, never wait for GPU here
+            final int status = GLES30.glClientWaitSync(readback.fence, 0, 0);
+            if (status == GLES30.GL_TIMEOUT_EXPIRED) {
+                hasPending = true;
+                continue;
+            }
+            GLES30.glDeleteSync(readback.fence);
+            mReadbacks[i] = null;
+            if (status == GLES30.GL_WAIT_FAILED) {
+                LiteavLog.e(TAG, "wait capture fence failed");
+                fail(readback.callback);
+                continue;
+            }
+            deliver(readback, mapPixels(i, readback));
+        }
+        if (hasPending) {
+            schedulePoll();
+        }
+    }
+
+    private ByteBuffer mapPixels(int slot, Readback readback) {
+        final int size = readback.width * readback.height * 4;
+        GLES20.glBindBuffer(GLES30.GL_PIXEL_PACK_BUFFER, mPbos[slot]);
+        final ByteBuffer mapped = (ByteBuffer) GLES30.glMapBufferRange(GLES30.GL_PIXEL_PACK_BUFFER, 0, size,
+                GLES30.GL_MAP_READ_BIT);
+        ByteBuffer pixels = null;
+        if (null != mapped) {
+            // only a memcpy on render thread, the rest is done by worker
+            pixels = ByteBuffer.allocateDirect(size).order(ByteOrder.nativeOrder());
+            pixels.put(mapped);
+            pixels.rewind();
+            GLES30.glUnmapBuffer(GLES30.GL_PIXEL_PACK_BUFFER);
+        } else {
+            LiteavLog.e(TAG, "glMapBufferRange failed:" + GLES20.glGetError());
+        }
+        GLES20.glBindBuffer(GLES30.GL_PIXEL_PACK_BUFFER, 0);
+        return pixels;
+    }
+
+    private void deliver(final Readback readback, final ByteBuffer pixels) {
+        if (null == pixels) {
+            fail(readback.callback);
+            return;
+        }
+        ENCODE_EXECUTOR.execute(new Runnable() {
+            @Override
+            public void run() {
+                readback.callback.onCaptured(encode(readback, pixels));
+            }
+        });
+    }
+
+    /**
+     * Report a failed capture on the worker thread, like a successful one.
+     */
+    public static void fail(final Callback callback) {
+        ENCODE_EXECUTOR.execute(new Runnable() {
+            @Override
+            public void run() {
+                callback.onCaptured(null);
+            }
+        });
+    }
+
+    /**
+     * Scale and encode a frame converted to RGBA on CPU, e.g. a live frame from YUV, on the worker thread.
+     *
+     * @param rgba      tightly packed rows from top to bottom, from position 0, must not be changed by caller after
+     * @param maxWidth  0 or less to keep the width
+     * @param maxHeight 0 or less to keep the height
+     * @param format    one of FORMAT_*
+     */
+    public static void encodeAsync(final ByteBuffer rgba, final int width, final int height, final int maxWidth,
+                                   final int maxHeight, final int format, final Callback callback) {
+        ENCODE_EXECUTOR.execute(new Runnable() {
+            @Override
+            public void run() {
+                callback.onCaptured(encodeScaled(rgba, width, height, maxWidth, maxHeight, format));
+            }
+        });
+    }
+
+    private static byte[] encode(Readback readback, ByteBuffer pixels) {
+        final int rowSize = readback.width * 4;
+        // GL rows are bottom up
+        final byte[] rgba = new byte[rowSize * readback.height];
+        for (int row = 0; row < readback.height; row++) {
+            pixels.position((readback.height - 1 - row) * rowSize);
+            pixels.get(rgba, row * rowSize, rowSize);
+        }
+        if (readback.format == FORMAT_RGBA) {
+            return rgba;
+        }
+        Bitmap bitmap = null;
+        try {
+            bitmap = Bitmap.createBitmap(readback.width, readback.height, Bitmap.Config.ARGB_8888);
+            bitmap.copyPixelsFromBuffer(ByteBuffer.wrap(rgba));
+            return compress(bitmap, readback.format);
+        } catch (Exception e) {
+            LiteavLog.e(TAG, "encode capture error:" + e);
+            return null;
+        } finally {
+            if (null != bitmap) {
+                bitmap.recycle();
+            }
+        }
+    }
+
+    private static byte[] encodeScaled(ByteBuffer rgba, int width, int height, int maxWidth, int maxHeight,
+                                       int format) {
+        float scale = 1;
+        if (maxWidth > 0) {
+            scale = Math.min(scale, (float) maxWidth / width);
+        }
+        if (maxHeight > 0) {
+            scale = Math.min(scale, (float) maxHeight / height);
+        }
+        Bitmap bitmap = null;
+        Bitmap scaledBitmap = null;
+        try {
+            bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+            rgba.position(0);
+            bitmap.copyPixelsFromBuffer(rgba);
+            if (scale < 1) {
+                scaledBitmap = Bitmap.createScaledBitmap(bitmap, Math.max(1, Math.round(width * scale)),
+                        Math.max(1, Math.round(height * scale)), true);
+            }
+            return compress(null != scaledBitmap ? scaledBitmap : bitmap, format);
+        } catch (Exception e) {
+            LiteavLog.e(TAG, "encode frame error:" + e);
+            return null;
+        } finally {
+            if (null != scaledBitmap && scaledBitmap != bitmap) {
+                scaledBitmap.recycle();
+            }
+            if (null != bitmap) {
+                bitmap.recycle();
+            }
+        }
+    }
+
+    private static byte[] compress(Bitmap bitmap, int format) {
+        if (format == FORMAT_RGBA) {
+            final ByteBuffer pixels = ByteBuffer.allocate(bitmap.getByteCount());
+            bitmap.copyPixelsToBuffer(pixels);
+            return pixels.array();
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        if (format == FORMAT_PNG) {
+            bitmap.compress(Bitmap.CompressFormat.PNG, 100, outputStream);
+        } else {
+            bitmap.compress(Bitmap.CompressFormat.JPEG, JPEG_QUALITY, outputStream);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Release GL objects, captures in flight are failed. GL context must be current.
+     */
+    public void release() {
+        mIsReleased = true;
+        mRenderThread.getHandler().removeCallbacks(mPollTask);
+        mIsPollScheduled = false;
+        for (int i = 0; i < PBO_COUNT; i++) {
+            final Readback readback = mReadbacks[i];
+            if (null != readback) {
+                GLES30.glDeleteSync(readback.fence);
+                fail(readback.callback);
+                mReadbacks[i] = null;
+            }
+            if (mPbos[i] != 0) {
+                GLES20.glDeleteBuffers(1, mPbos, i);
+                mPbos[i] = 0;
+                mPboSizes[i] = 0;
+            }
+        }
+        mFrameBufferPool.destroy();
+    }
+}
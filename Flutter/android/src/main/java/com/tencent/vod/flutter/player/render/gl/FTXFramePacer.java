@@ -0,0 +1,189 @@
+package com.tencent.vod.flutter.player.render.gl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides when {@link FTXEGLRender} latches and presents decoder frames, without touching GL itself.
+ * <p>
+ * Frames are counted as they arrive and presented on vsync, stale ones are latched without a draw. An fps cap
+ * skips vsyncs. A redraw request, e.g. after seek, presents the next frame once regardless of the cap, and if no
+ * frame arrives in time the current texture is presented once instead. Frame counting is thread safe, everything
+ * else must run on render thread.
+ */
+public class FTXFramePacer {
+
+    // redraw current texture if no new frame arrives after a redraw request, e.g. seek on a paused player
+    public static final long RE_DRAW_TIMEOUT_MS = 200;
+
+    /**
+     * GL side of the pacer, called on render thread.
+     */
+    public interface Target {
+        /**
+         * Latch decoder frames into the texture, only the last one is kept.
+         *
+         * @param frameCount frames queued since last latch, 0 to latch nothing new and keep current texture
+         * @return false if nothing is latched, e.g. EGL error
+         */
+        boolean latchFrames(int frameCount);
+
+        /**
+         * Draw the latched texture.
+         *
+         * @return true if it is swapped to view surface, false if view is invisible or swap failed
+         */
+        boolean presentFrame();
+
+        void postRedrawTimeout(long delayMs);
+
+        void cancelRedrawTimeout();
+    }
+
+    private final Target mTarget;
+    private final AtomicInteger mPendingFrames = new AtomicInteger(0);
+    private final AtomicLong mAvailableFrames = new AtomicLong(0);
+    private volatile float mFrameIntervalMs = 0;
+    private long mPreTimeMs = 0;
+    // a frame is latched into texture since last clear, without it the texture must not be drawn or captured
+    private boolean mHasFrame = false;
+    // a redraw is requested, next frame should be presented regardless of fps cap
+    private boolean mIsRedrawDirty = false;
+    private long mRedrawAfterFrame = 0;
+
+    public FTXFramePacer(Target target) {
+        mTarget = target;
+    }
+
+    /**
+     * @param frameIntervalMs min interval between presented frames, 0 or less means no cap
+     */
+    public void setFrameInterval(float frameIntervalMs) {
+        mFrameIntervalMs = frameIntervalMs;
+    }
+
+    /**
+     * A decoder frame is queued, can be called on any thread.
+     */
+    public void onFrameAvailable() {
+        mAvailableFrames.incrementAndGet();
+        mPendingFrames.incrementAndGet();
+    }
+
+    public boolean hasPendingFrames() {
+        return mPendingFrames.get() > 0;
+    }
+
+    public boolean hasFrame() {
+        return mHasFrame;
+    }
+
+    /**
+     * Whether {@link #draw()} has anything to draw, a new frame or one latched since last clear.
+     */
+    public boolean canDraw() {
+        return mHasFrame || mPendingFrames.get() > 0;
+    }
+
+    /**
+     * @return true if the frame is held back by fps cap, and another vsync is needed
+     */
+    public boolean onVsync(long frameTimeMs) {
+        if (mPendingFrames.get() <= 0) {
+            return false;
+        }
+        final float frameIntervalMs = mFrameIntervalMs;
+        if (!mIsRedrawDirty && frameIntervalMs > 0 && frameTimeMs - mPreTimeMs < frameIntervalMs) {
+            return true;
+        }
+        if (draw()) {
+            mPreTimeMs = frameTimeMs;
+        }
+        return false;
+    }
+
+    /**
+     * Latch the newest frame and present it.
+     *
+     * @return true if a frame is swapped to view surface
+     */
+    public boolean draw() {
+        if (!canDraw()) {
+            // redraw request without any frame since last clear, keep the surface cleared
+            return false;
+        }
+        final long availableFrames = mAvailableFrames.get();
+        final int pendingFrames = mPendingFrames.getAndSet(0);
+        if (!mTarget.latchFrames(pendingFrames)) {
+            mPendingFrames.addAndGet(pendingFrames);
+            return false;
+        }
+        mHasFrame = true;
+        if (!mTarget.presentFrame()) {
+            return false;
+        }
+        if (availableFrames > mRedrawAfterFrame) {
+            // the frame delivered after redraw request is on screen
+            clearRedraw();
+        }
+        return true;
+    }
+
+    /**
+     * Present the frame delivered after this call exactly once, see {@link #RE_DRAW_TIMEOUT_MS}.
+     */
+    public void requestRedraw() {
+        mIsRedrawDirty = true;
+        mRedrawAfterFrame = mAvailableFrames.get();
+        mTarget.cancelRedrawTimeout();
+        mTarget.postRedrawTimeout(RE_DRAW_TIMEOUT_MS);
+    }
+
+    public boolean isRedrawDirty() {
+        return mIsRedrawDirty;
+    }
+
+    /**
+     * No new frame arrived after redraw request, draw current texture.
+     */
+    public void onRedrawTimeout() {
+        if (mIsRedrawDirty) {
+            draw();
+            clearRedraw();
+        }
+    }
+
+    public void clearRedraw() {
+        if (mIsRedrawDirty) {
+            mIsRedrawDirty = false;
+            mTarget.cancelRedrawTimeout();
+        }
+    }
+
+    /**
+     * Forget queued frames, they are latched by caller. Nothing is drawn until a new frame arrives.
+     *
+     * @return frames queued since last latch
+     */
+    public int dropFrames() {
+        mHasFrame = false;
+        clearRedraw();
+        return mPendingFrames.getAndSet(0);
+    }
+
+    /**
+     * The texture is released, nothing is latched in it anymore.
+     */
+    public void onTextureReleased() {
+        mHasFrame = false;
+    }
+
+    /**
+     * Decoder surface is detached, queued frames will never be latched.
+     */
+    public void reset() {
+        mPendingFrames.set(0);
+        mHasFrame = false;
+        clearRedraw();
+    }
+}
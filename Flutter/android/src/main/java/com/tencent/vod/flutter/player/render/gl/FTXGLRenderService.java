@@ -0,0 +1,247 @@
+// Copyright (c) 2022 Tencent. All rights reserved.
+
+package com.tencent.vod.flutter.player.render.gl;
+
+import android.opengl.EGL14;
+import android.opengl.EGLConfig;
+import android.opengl.EGLContext;
+import android.opengl.EGLDisplay;
+import android.opengl.EGLExt;
+import android.opengl.EGLSurface;
+import android.view.Surface;
+
+import com.tencent.liteav.base.util.LiteavLog;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Shared render service for all {@link FTXEGLRender} targets.
+ * <p>
+ * Render targets are spread over at most {@link #MAX_THREAD_COUNT} render threads. Each thread owns one EGLContext
+ * taken from a pool, and all pooled contexts are created in the same share group, so every target only needs its
+ * own window surface and texture. The EGL display is initialized once and never terminated, because the default
+ * display is shared with other EGL users in the process.
+ * <p>
+ * 所有 {@link FTXEGLRender} 共用的渲染服务，渲染目标分摊到少量渲染线程上，每个线程持有一个从池中获取的共享 EGLContext。
+ */
+public class FTXGLRenderService {
+
+    private static final String TAG = "FTXGLRenderService";
+
+    private static final int MAX_THREAD_COUNT = 2;
+    // targets on one thread before another thread is started
+    private static final int TARGETS_PER_THREAD = 4;
+
+    private static final int[] CONFIG_ATTRIBUTES = new int[]{
+            EGL14.EGL_RED_SIZE, 8,
+            EGL14.EGL_GREEN_SIZE, 8,
+            EGL14.EGL_BLUE_SIZE, 8,
+            EGL14.EGL_ALPHA_SIZE, 8,
+            EGL14.EGL_RENDERABLE_TYPE, EGL14.EGL_OPENGL_ES2_BIT,
+            EGL14.EGL_SURFACE_TYPE, EGL14.EGL_WINDOW_BIT | EGL14.EGL_PBUFFER_BIT,
+            EGL14.EGL_NONE
+    };
+    // ES3 is preferred for async pixel readback, all shaders are still ES2
+    private static final int[] CONFIG_ATTRIBUTES_ES3 = new int[]{
+            EGL14.EGL_RED_SIZE, 8,
+            EGL14.EGL_GREEN_SIZE, 8,
+            EGL14.EGL_BLUE_SIZE, 8,
+            EGL14.EGL_ALPHA_SIZE, 8,
+            EGL14.EGL_RENDERABLE_TYPE, EGLExt.EGL_OPENGL_ES3_BIT_KHR,
+            EGL14.EGL_SURFACE_TYPE, EGL14.EGL_WINDOW_BIT | EGL14.EGL_PBUFFER_BIT,
+            EGL14.EGL_NONE
+    };
+
+    private static final class SingletonInstance {
+        private static final FTXGLRenderService instance = new FTXGLRenderService();
+    }
+
+    private final List<FTXGLRenderThread> mThreads = new ArrayList<>();
+    private final Deque<EGLContext> mIdleContexts = new ArrayDeque<>();
+    private EGLDisplay mEGLDisplay = EGL14.EGL_NO_DISPLAY;
+    private EGLConfig mEGLConfig;
+    private int mClientVersion = 2;
+    private EGLContext mShareContext = EGL14.EGL_NO_CONTEXT;
+    private int mContextCount = 0;
+    private int mThreadIndex = 0;
+
+    public static FTXGLRenderService getInstance() {
+        return SingletonInstance.instance;
+    }
+
+    private FTXGLRenderService() {
+    }
+
+    /**
+     * Acquire a render thread for a new render target, must be paired with {@link #release}.
+     */
+    public synchronized FTXGLRenderThread acquire() {
+        FTXGLRenderThread target = null;
+        for (FTXGLRenderThread thread : mThreads) {
+            if (null == target || thread.mTargetCount < target.mTargetCount) {
+                target = thread;
+            }
+        }
+        if (null == target || (target.mTargetCount >= TARGETS_PER_THREAD && mThreads.size() < MAX_THREAD_COUNT)) {
+            target = new FTXGLRenderThread(this, "FTXGLRender-" + mThreadIndex++);
+            mThreads.add(target);
+        }
+        target.mTargetCount++;
+        LiteavLog.i(TAG, "acquire render thread:" + target.getName() + ", " + dumpState());
+        return target;
+    }
+
+    public synchronized void release(FTXGLRenderThread thread) {
+        if (null == thread || !mThreads.contains(thread)) {
+            return;
+        }
+        thread.mTargetCount--;
+        if (thread.mTargetCount <= 0) {
+            mThreads.remove(thread);
+            thread.quit();
+        }
+        LiteavLog.i(TAG, "release render thread:" + thread.getName() + ", " + dumpState());
+    }
+
+    /**
+     * Number of live render threads.
+     */
+    public synchronized int getThreadCount() {
+        return mThreads.size();
+    }
+
+    /**
+     * Number of EGLContexts created by this service, including idle ones kept in pool.
+     */
+    public synchronized int getContextCount() {
+        return mContextCount;
+    }
+
+    public synchronized int getTargetCount() {
+        int count = 0;
+        for (FTXGLRenderThread thread : mThreads) {
+            count += thread.mTargetCount;
+        }
+        return count;
+    }
+
+    private String dumpState() {
+        int targets = 0;
+        for (FTXGLRenderThread thread : mThreads) {
+            targets += thread.mTargetCount;
+        }
+        return "threads:" + mThreads.size() + ", contexts:" + mContextCount + ", targets:" + targets;
+    }
+
+    synchronized EGLDisplay getDisplay() {
+        ensureDisplay();
+        return mEGLDisplay;
+    }
+
+    synchronized EGLContext obtainContext() {
+        if (!ensureDisplay()) {
+            return EGL14.EGL_NO_CONTEXT;
+        }
+        EGLContext context = mIdleContexts.poll();
+        if (null != context) {
+            return context;
+        }
+        int[] contextAttribs = new int[]{
+                EGL14.EGL_CONTEXT_CLIENT_VERSION, mClientVersion,
+                EGL14.EGL_NONE
+        };
+        context = EGL14.eglCreateContext(mEGLDisplay, mEGLConfig, mShareContext, contextAttribs, 0);
+        if (context == EGL14.EGL_NO_CONTEXT) {
+            LiteavLog.e(TAG, "eglCreateContext failed, error:" + EGL14.eglGetError());
+            return context;
+        }
+        if (mShareContext == EGL14.EGL_NO_CONTEXT) {
+            mShareContext = context;
+        }
+        mContextCount++;
+        return context;
+    }
+
+    /**
+     * Contexts are kept for the next render thread instead of being destroyed. Live threads never exceed
+     * {@link #MAX_THREAD_COUNT}, so neither does the pool.
+     */
+    synchronized void recycleContext(EGLContext context) {
+        if (context != EGL14.EGL_NO_CONTEXT) {
+            mIdleContexts.offer(context);
+        }
+    }
+
+    synchronized EGLSurface createIdleSurface() {
+        if (!ensureDisplay()) {
+            return EGL14.EGL_NO_SURFACE;
+        }
+        int[] pbufferAttribs = new int[]{
+                EGL14.EGL_WIDTH, 1,
+                EGL14.EGL_HEIGHT, 1,
+                EGL14.EGL_NONE
+        };
+        EGLSurface surface = EGL14.eglCreatePbufferSurface(mEGLDisplay, mEGLConfig, pbufferAttribs, 0);
+        if (surface == EGL14.EGL_NO_SURFACE) {
+            LiteavLog.e(TAG, "eglCreatePbufferSurface failed, error:" + EGL14.eglGetError());
+        }
+        return surface;
+    }
+
+    synchronized EGLSurface createWindowSurface(Surface surface) {
+        if (!ensureDisplay() || null == surface) {
+            return EGL14.EGL_NO_SURFACE;
+        }
+        int[] surfaceAttribs = new int[]{
+                EGL14.EGL_NONE
+        };
+        EGLSurface eglSurface = EGL14.eglCreateWindowSurface(mEGLDisplay, mEGLConfig, surface, surfaceAttribs, 0);
+        if (eglSurface == EGL14.EGL_NO_SURFACE) {
+            LiteavLog.e(TAG, "eglCreateWindowSurface failed, error:" + EGL14.eglGetError());
+        }
+        return eglSurface;
+    }
+
+    private boolean ensureDisplay() {
+        if (mEGLDisplay != EGL14.EGL_NO_DISPLAY && null != mEGLConfig) {
+            return true;
+        }
+        mEGLDisplay = EGL14.eglGetDisplay(EGL14.EGL_DEFAULT_DISPLAY);
+        if (mEGLDisplay == EGL14.EGL_NO_DISPLAY) {
+            LiteavLog.e(TAG, "unable to get EGL14 display");
+            return false;
+        }
+        int[] version = new int[2];
+        if (!EGL14.eglInitialize(mEGLDisplay, version, 0, version, 1)) {
+            LiteavLog.e(TAG, "unable to initialize EGL14");
+            mEGLDisplay = EGL14.EGL_NO_DISPLAY;
+            return false;
+        }
+        EGLConfig[] configs = new EGLConfig[1];
+        int[] numConfigs = new int[1];
+        if (EGL14.eglChooseConfig(mEGLDisplay, CONFIG_ATTRIBUTES_ES3, 0, configs, 0, configs.length,
+                numConfigs, 0) && numConfigs[0] > 0) {
+            mClientVersion = 3;
+        } else if (EGL14.eglChooseConfig(mEGLDisplay, CONFIG_ATTRIBUTES, 0, configs, 0, configs.length,
+                numConfigs, 0) && numConfigs[0] > 0) {
+            mClientVersion = 2;
+        } else {
+            LiteavLog.e(TAG, "eglChooseConfig error");
+            return false;
+        }
+        mEGLConfig = configs[0];
+        LiteavLog.i(TAG, "egl config chosen, client version:" + mClientVersion);
+        return true;
+    }
+
+    /**
+     * GLES major version of all render contexts, 3 if supported by device, otherwise 2.
+     */
+    public synchronized int getClientVersion() {
+        ensureDisplay();
+        return mClientVersion;
+    }
+}
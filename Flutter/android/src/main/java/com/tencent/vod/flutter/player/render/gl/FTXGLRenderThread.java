@@ -0,0 +1,164 @@
+// Copyright (c) 2022 Tencent. All rights reserved.
+
+package com.tencent.vod.flutter.player.render.gl;
+
+import android.opengl.EGL14;
+import android.opengl.EGLContext;
+import android.opengl.EGLDisplay;
+import android.opengl.EGLSurface;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.view.Surface;
+
+import com.tencent.liteav.base.util.LiteavLog;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A render thread owned by {@link FTXGLRenderService}. It holds one pooled EGLContext which is shared by
+ * every render target scheduled on it, and a 1x1 pbuffer used to keep the context current when a target
+ * has no window surface (e.g. while releasing its texture).
+ * <p>
+ * All methods except {@link #post}, {@link #runSync} and {@link #getHandler} must be called on this thread.
+ */
+public class FTXGLRenderThread {
+
+    private static final String TAG = "FTXGLRenderThread";
+    private static final long SYNC_WAIT_TIME_MS = 3000;
+
+    private final FTXGLRenderService mService;
+    private final HandlerThread mHandlerThread;
+    private final Handler mHandler;
+    private EGLDisplay mEGLDisplay = EGL14.EGL_NO_DISPLAY;
+    private EGLContext mEGLContext = EGL14.EGL_NO_CONTEXT;
+    private EGLSurface mIdleSurface = EGL14.EGL_NO_SURFACE;
+    // guarded by FTXGLRenderService
+    int mTargetCount = 0;
+
+    FTXGLRenderThread(FTXGLRenderService service, String name) {
+        mService = service;
+        mHandlerThread = new HandlerThread(name);
+        mHandlerThread.start();
+        mHandler = new Handler(mHandlerThread.getLooper());
+        // posted rather than waited, the service lock is held by the caller
+        mHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                mEGLDisplay = mService.getDisplay();
+                mEGLContext = mService.obtainContext();
+                mIdleSurface = mService.createIdleSurface();
+                makeIdleCurrent();
+            }
+        });
+    }
+
+    public Handler getHandler() {
+        return mHandler;
+    }
+
+    public boolean isCurrentThread() {
+        return Looper.myLooper() == mHandlerThread.getLooper();
+    }
+
+    public void post(Runnable runnable) {
+        mHandler.post(runnable);
+    }
+
+    /**
+     * Run task on render thread and wait for it. Runs inline if already called on render thread.
+     *
+     * @return false if the task was not finished in time
+     */
+    public boolean runSync(final Runnable runnable) {
+        if (isCurrentThread()) {
+            runnable.run();
+            return true;
+        }
+        final CountDownLatch latch = new CountDownLatch(1);
+        boolean posted = mHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    runnable.run();
+                } finally {
+                    latch.countDown();
+                }
+            }
+        });
+        if (!posted) {
+            LiteavLog.e(TAG, "runSync failed, render thread is quit:" + mHandlerThread.getName());
+            return false;
+        }
+        try {
+            if (!latch.await(SYNC_WAIT_TIME_MS, TimeUnit.MILLISECONDS)) {
+                LiteavLog.e(TAG, "runSync timeout, render thread:" + mHandlerThread.getName());
+                return false;
+            }
+        } catch (InterruptedException e) {
+            LiteavLog.e(TAG, "runSync interrupted:" + e);
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+
+    public EGLSurface createWindowSurface(Surface surface) {
+        return mService.createWindowSurface(surface);
+    }
+
+    public void destroySurface(EGLSurface eglSurface) {
+        if (eglSurface != EGL14.EGL_NO_SURFACE) {
+            if (eglSurface.equals(EGL14.eglGetCurrentSurface(EGL14.EGL_DRAW))) {
+                makeIdleCurrent();
+            }
+            EGL14.eglDestroySurface(mEGLDisplay, eglSurface);
+        }
+    }
+
+    public boolean makeCurrent(EGLSurface eglSurface) {
+        if (eglSurface == EGL14.EGL_NO_SURFACE) {
+            return makeIdleCurrent();
+        }
+        if (!EGL14.eglMakeCurrent(mEGLDisplay, eglSurface, eglSurface, mEGLContext)) {
+            LiteavLog.e(TAG, "eglMakeCurrent failed, error:" + EGL14.eglGetError());
+            return false;
+        }
+        return true;
+    }
+
+    public boolean makeIdleCurrent() {
+        if (!EGL14.eglMakeCurrent(mEGLDisplay, mIdleSurface, mIdleSurface, mEGLContext)) {
+            LiteavLog.e(TAG, "eglMakeCurrent idle failed, error:" + EGL14.eglGetError());
+            return false;
+        }
+        return true;
+    }
+
+    public boolean swapBuffers(EGLSurface eglSurface) {
+        return EGL14.eglSwapBuffers(mEGLDisplay, eglSurface);
+    }
+
+    void quit() {
+        mHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                EGL14.eglMakeCurrent(mEGLDisplay, EGL14.EGL_NO_SURFACE, EGL14.EGL_NO_SURFACE,
+                        EGL14.EGL_NO_CONTEXT);
+                if (mIdleSurface != EGL14.EGL_NO_SURFACE) {
+                    EGL14.eglDestroySurface(mEGLDisplay, mIdleSurface);
+                    mIdleSurface = EGL14.EGL_NO_SURFACE;
+                }
+                mService.recycleContext(mEGLContext);
+                mEGLContext = EGL14.EGL_NO_CONTEXT;
+                EGL14.eglReleaseThread();
+            }
+        });
+        mHandlerThread.quitSafely();
+    }
+
+    public String getName() {
+        return mHandlerThread.getName();
+    }
+}
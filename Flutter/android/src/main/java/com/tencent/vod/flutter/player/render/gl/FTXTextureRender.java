@@ -6,6 +6,11 @@ import android.opengl.Matrix;
 
 import com.tencent.liteav.base.util.LiteavLog;
 import com.tencent.vod.flutter.common.FTXPlayerConstants;
+import com.tencent.vod.flutter.live.egl.OpenGlUtils;
+import com.tencent.vod.flutter.live.render.FTXFrameBufferPool;
+import com.tencent.vod.flutter.live.render.FTXGPUImageFilter;
+import com.tencent.vod.flutter.live.render.FTXGPUImageFilterGroup;
+import com.tencent.vod.flutter.live.render.FTXSharpenFilter;
 
 import java.nio.FloatBuffer;
 
@@ -32,6 +37,9 @@ public class FTXTextureRender {
             TXGlUtilVideo.createFloatBuffer(FULL_RECTANGLE_COORDS);
     private static final FloatBuffer FULL_RECTANGLE_TEX_BUF =
             TXGlUtilVideo.createFloatBuffer(FULL_RECTANGLE_TEX_COORDS);
+    private static final FloatBuffer FILTER_TEX_BUF = TXGlUtilVideo.createFloatBuffer(OpenGlUtils.TEXTURE);
+    // filters draw at most at 2x video size, for upscaling to a larger view
+    private static final float MAX_FILTER_SCALE = 2;
 
     private static final String VERTEX_SHADER =
             "uniform mat4 uMVPMatrix;\n" +
@@ -55,6 +63,7 @@ public class FTXTextureRender {
 
     private final float[] mSTMatrix = new float[16];
     private final float[] projectionMatrix = new float[16];
+    private final float[] mIdentityMatrix = new float[16];
 
     private int mProgram;
     private int muMVPMatrixHandle;
@@ -64,12 +73,26 @@ public class FTXTextureRender {
     private int mVideoWidth;
     private int mVideoHeight;
     private final int[] textureID = new int[1];
+    // false if the external texture belongs to another render in the same context
+    private boolean mIsTextureOwner = true;
     private long mRenderMode = FTXPlayerConstants.FTXRenderMode.FULL_FILL_CONTAINER;
     int mPortWidth;
     int mPortHeight;
 
+    // post-processing, created when the first filter is enabled
+    private FTXGPUImageFilterGroup mFilterGroup;
+    private FTXSharpenFilter mSharpenFilter;
+    private FTXFrameBufferPool mFrameBufferPool;
+    private FTXFrameBufferPool.FrameBuffer mSourceBuffer;
+    private FTXGPUImageFilter mOutputFilter;
+    // output rect of the filter result, same as projectionMatrix does to the full rect
+    private final FloatBuffer mOutputCubeBuf = TXGlUtilVideo.createFloatBuffer(OpenGlUtils.CUBE);
+    private float mOutputScaleX = 1;
+    private float mOutputScaleY = 1;
+
     public FTXTextureRender(int width, int height) {
         Matrix.setIdentityM(mSTMatrix, 0);
+        Matrix.setIdentityM(mIdentityMatrix, 0);
         mPortWidth = width;
         mPortHeight = height;
     }
@@ -78,6 +101,21 @@ public class FTXTextureRender {
      * Initializes GL state.  Call this after the EGL surface has been created and made current.
      */
     public void surfaceCreated() {
+        createProgram();
+        textureID[0] = initTex();
+    }
+
+    /**
+     * Initializes GL state to draw an external texture created by another render in the same context.
+     * The texture is not deleted by this render.
+     */
+    public void surfaceCreated(int sharedTextureId) {
+        createProgram();
+        textureID[0] = sharedTextureId;
+        mIsTextureOwner = false;
+    }
+
+    private void createProgram() {
         mProgram = TXGlUtilVideo.createProgram(VERTEX_SHADER, FRAGMENT_SHADER);
         if (mProgram == 0) {
             throw new RuntimeException("failed creating program");
@@ -87,8 +125,6 @@ public class FTXTextureRender {
         maTextureHandle = GLES20.glGetAttribLocation(mProgram, "aTextureCoord");
         muMVPMatrixHandle = GLES20.glGetUniformLocation(mProgram, "uMVPMatrix");
         muSTMatrixHandle = GLES20.glGetUniformLocation(mProgram, "uSTMatrix");
-
-        textureID[0] = initTex();
     }
 
     public int getTextureID() {
@@ -96,8 +132,11 @@ public class FTXTextureRender {
     }
 
     public void deleteTexture() {
+        releaseFilters();
         GLES20.glDeleteProgram(mProgram);
-        GLES20.glDeleteTextures(1, textureID, 0);
+        if (mIsTextureOwner) {
+            GLES20.glDeleteTextures(1, textureID, 0);
+        }
     }
 
     /**
@@ -147,6 +186,8 @@ public class FTXTextureRender {
                 right = 1f;
                 bottom = -1f / heightRadio;
                 top = 1f / heightRadio;
+                mOutputScaleX = 1f;
+                mOutputScaleY = heightRadio;
                 LiteavLog.i(TAG, "heightRadio:" + heightRadio + ",mWidth:" + mVideoWidth
                         + ",mHeight:" + mVideoHeight + ",viewWidth:" + mPortWidth + "，viewHeight:"
                         + mPortHeight + ",hashCode:" + hashCode());
@@ -155,6 +196,8 @@ public class FTXTextureRender {
                 final float widthRadio = viewShouldWidth / mPortWidth;
                 left = -1f / widthRadio;
                 right = 1f / widthRadio;
+                mOutputScaleX = widthRadio;
+                mOutputScaleY = 1f;
                 bottom = -1f;
                 top = 1f;
                 LiteavLog.i(TAG, "widthRadio:" + widthRadio + ",mWidth:" + mVideoWidth
@@ -162,6 +205,7 @@ public class FTXTextureRender {
                         + mPortHeight + ",hashCode:" + hashCode());
             }
             Matrix.orthoM(projectionMatrix, 0, left, right, bottom, top, -1f, 1f);
+            updateOutputCube();
         } else {
             LiteavLog.w(TAG, "updateSizeAndRenderMode failed, size maybe zero, mWidth:" + mVideoWidth
                     + ",mHeight:" + mVideoHeight + ",viewWidth:" + mPortWidth + "，viewHeight:"
@@ -177,6 +221,79 @@ public class FTXTextureRender {
         updateSizeAndRenderMode(mVideoWidth, mVideoHeight, mRenderMode);
     }
 
+    private void updateOutputCube() {
+        final float[] cube = new float[OpenGlUtils.CUBE.length];
+        for (int i = 0; i < cube.length; i += 2) {
+            cube[i] = OpenGlUtils.CUBE[i] * mOutputScaleX;
+            cube[i + 1] = OpenGlUtils.CUBE[i + 1] * mOutputScaleY;
+        }
+        mOutputCubeBuf.put(cube).position(0);
+    }
+
+    /**
+     * Sharpen video before drawing, 0 disables the filter. Must be called on GL thread.
+     *
+     * @param sharpness 0 ~ 1
+     */
+    public void setSharpness(float sharpness) {
+        if (sharpness <= 0) {
+            if (null != mSharpenFilter) {
+                mFilterGroup.removeFilter(mSharpenFilter);
+                mSharpenFilter = null;
+                if (mFilterGroup.isEmpty()) {
+                    releaseFilters();
+                }
+            }
+            return;
+        }
+        if (null == mSharpenFilter) {
+            if (null == mFilterGroup) {
+                mFilterGroup = new FTXGPUImageFilterGroup();
+                mFrameBufferPool = new FTXFrameBufferPool();
+                mOutputFilter = new FTXGPUImageFilter(false);
+                // decoded frame is scaled into frame buffer before filters
+                setOESTextureFilter(GLES20.GL_LINEAR);
+            }
+            mSharpenFilter = new FTXSharpenFilter(sharpness);
+            mFilterGroup.addFilter(mSharpenFilter);
+        } else {
+            mSharpenFilter.setSharpness(sharpness);
+        }
+    }
+
+    /**
+     * Average cost of post-processing filters per frame, in microseconds.
+     */
+    public long getFilterCostUs() {
+        final FTXGPUImageFilterGroup filterGroup = mFilterGroup;
+        return null != filterGroup ? filterGroup.getTotalCostUs() : 0;
+    }
+
+    private void setOESTextureFilter(int filter) {
+        GLES20.glActiveTexture(GLES20.GL_TEXTURE0);
+        GLES20.glBindTexture(GLES11Ext.GL_TEXTURE_EXTERNAL_OES, textureID[0]);
+        GLES20.glTexParameteri(GLES11Ext.GL_TEXTURE_EXTERNAL_OES, GLES20.GL_TEXTURE_MIN_FILTER, filter);
+        GLES20.glTexParameteri(GLES11Ext.GL_TEXTURE_EXTERNAL_OES, GLES20.GL_TEXTURE_MAG_FILTER, filter);
+    }
+
+    private void releaseFilters() {
+        if (null == mFilterGroup) {
+            return;
+        }
+        mFilterGroup.destroy();
+        mFilterGroup = null;
+        mSharpenFilter = null;
+        if (null != mOutputFilter && mOutputFilter.isInitialized()) {
+            mOutputFilter.destroy();
+        }
+        mOutputFilter = null;
+        mFrameBufferPool.recycle(mSourceBuffer);
+        mSourceBuffer = null;
+        mFrameBufferPool.destroy();
+        mFrameBufferPool = null;
+        setOESTextureFilter(GLES20.GL_NEAREST);
+    }
+
     public void cleanDrawCache() {
         GLES20.glViewport(0, 0, mPortWidth, mPortHeight);
         GLES20.glClear(GLES20.GL_COLOR_BUFFER_BIT);
@@ -186,9 +303,59 @@ public class FTXTextureRender {
      * Draws the external texture in SurfaceTexture onto the current EGL surface.
      */
     public void drawFrame() {
+        if (null != mFilterGroup && !mFilterGroup.isEmpty() && mVideoWidth > 0 && mVideoHeight > 0) {
+            drawFrameWithFilters();
+            return;
+        }
         cleanDrawCache();
+        drawOESTexture(projectionMatrix);
+    }
+
+    /**
+     * Draw decoded frame to a frame buffer, run filters, then draw the result onto the current EGL surface.
+     */
+    private void drawFrameWithFilters() {
+        final float scale = Math.max(1, Math.min(MAX_FILTER_SCALE,
+                Math.max((float) mPortWidth / mVideoWidth, (float) mPortHeight / mVideoHeight)));
+        final int width = Math.round(mVideoWidth * scale);
+        final int height = Math.round(mVideoHeight * scale);
+        if (null == mSourceBuffer || mSourceBuffer.width != width || mSourceBuffer.height != height) {
+            mFrameBufferPool.recycle(mSourceBuffer);
+            mSourceBuffer = mFrameBufferPool.obtain(width, height);
+        }
+        mSourceBuffer.bind();
+        drawOESTexture(mIdentityMatrix);
+        final int resultTexture = mFilterGroup.process(mSourceBuffer.textureId, width, height);
+        GLES20.glBindFramebuffer(GLES20.GL_FRAMEBUFFER, 0);
+        cleanDrawCache();
+        if (!mOutputFilter.isInitialized()) {
+            mOutputFilter.init();
+        }
+        mOutputFilter.onDraw(resultTexture, mOutputCubeBuf, FILTER_TEX_BUF);
+    }
+
+    /**
+     * Draw the whole video frame without render mode and filters to the bound frame buffer, used by capture.
+     */
+    public void drawVideoFrame(int width, int height) {
+        GLES20.glViewport(0, 0, width, height);
+        drawOESTexture(mIdentityMatrix);
+    }
+
+    public int getVideoWidth() {
+        return mVideoWidth;
+    }
+
+    public int getVideoHeight() {
+        return mVideoHeight;
+    }
+
+    private void drawOESTexture(float[] mvpMatrix) {
         // video frame
         GLES20.glUseProgram(mProgram);
+        // filters may rebind texture unit 0
+        GLES20.glActiveTexture(GLES20.GL_TEXTURE0);
+        GLES20.glBindTexture(GLES11Ext.GL_TEXTURE_EXTERNAL_OES, textureID[0]);
         // Enable the "aPosition" vertex attribute.
         GLES20.glEnableVertexAttribArray(maPositionHandle);
         // Connect vertexBuffer to "aPosition".
@@ -199,7 +366,7 @@ public class FTXTextureRender {
         // Connect texBuffer to "aTextureCoord".
         GLES20.glVertexAttribPointer(maTextureHandle, 4,
                 GLES20.GL_FLOAT, false, 4 * FLOAT_SIZE_BYTES, FULL_RECTANGLE_TEX_BUF);
-        GLES20.glUniformMatrix4fv(muMVPMatrixHandle, 1, false, projectionMatrix, 0);
+        GLES20.glUniformMatrix4fv(muMVPMatrixHandle, 1, false, mvpMatrix, 0);
         GLES20.glUniformMatrix4fv(muSTMatrixHandle, 1, false, mSTMatrix, 0);
         // Draw the rect.
         GLES20.glDrawArrays(GLES20.GL_TRIANGLE_STRIP, 0, 4);
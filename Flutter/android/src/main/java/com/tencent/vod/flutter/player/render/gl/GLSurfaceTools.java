@@ -1,50 +1,67 @@
 package com.tencent.vod.flutter.player.render.gl;
 
 import android.opengl.EGL14;
-import android.opengl.EGLConfig;
 import android.opengl.EGLContext;
 import android.opengl.EGLDisplay;
 import android.opengl.EGLSurface;
 import android.opengl.GLES20;
 import android.view.Surface;
 
+import com.tencent.liteav.base.util.LiteavLog;
 
+/**
+ * Paint a surface black. One EGLContext taken from {@link FTXGLRenderService} is kept for all clears, so each clear
+ * only creates and destroys a window surface. The display is shared, it is never terminated here.
+ */
 public class GLSurfaceTools {
 
-    public void clearSurface(Surface surface) {
-        EGLDisplay display = EGL14.eglGetDisplay(EGL14.EGL_DEFAULT_DISPLAY);
-        int[] version = new int[2];
-        EGL14.eglInitialize(display, version, 0, version, 1);
-        int[] attribList = {
-                EGL14.EGL_RED_SIZE, 8,
-                EGL14.EGL_GREEN_SIZE, 8,
-                EGL14.EGL_BLUE_SIZE, 8,
-                EGL14.EGL_ALPHA_SIZE, 8,
-                EGL14.EGL_RENDERABLE_TYPE, EGL14.EGL_OPENGL_ES2_BIT,
-                EGL14.EGL_NONE, 0,
-                EGL14.EGL_NONE
-        };
-        EGLConfig[] configs = new EGLConfig[1];
-        int[] numConfigs = new int[1];
-        EGL14.eglChooseConfig(display, attribList, 0, configs, 0, configs.length, numConfigs, 0);
+    private static final String TAG = "GLSurfaceTools";
 
-        EGLConfig config = configs[0];
-        EGLContext context = EGL14.eglCreateContext(display, config, EGL14.EGL_NO_CONTEXT, new int[]{
-                EGL14.EGL_CONTEXT_CLIENT_VERSION, 2,
-                EGL14.EGL_NONE
-        }, 0);
-        EGLSurface eglSurface = EGL14.eglCreateWindowSurface(display, config, surface,
-                new int[]{
-                        EGL14.EGL_NONE
-                }, 0);
-        EGL14.eglMakeCurrent(display, eglSurface, eglSurface, context);
-        GLES20.glClearColor(0, 0, 0, 1);
-        GLES20.glClear(GLES20.GL_COLOR_BUFFER_BIT);
-        EGL14.eglSwapBuffers(display, eglSurface);
-        EGL14.eglDestroySurface(display, eglSurface);
-        EGL14.eglMakeCurrent(display, EGL14.EGL_NO_SURFACE, EGL14.EGL_NO_SURFACE, EGL14.EGL_NO_CONTEXT);
-        EGL14.eglDestroyContext(display, context);
-        EGL14.eglTerminate(display);
+    private static final Object CLEAR_LOCK = new Object();
+    // guarded by CLEAR_LOCK
+    private static EGLContext sClearContext = EGL14.EGL_NO_CONTEXT;
+
+    /**
+     * @return false if surface can not be connected, e.g. it is used by another producer
+     */
+    public boolean clearSurface(Surface surface) {
+        if (null == surface || !surface.isValid()) {
+            return false;
+        }
+        final FTXGLRenderService service = FTXGLRenderService.getInstance();
+        synchronized (CLEAR_LOCK) {
+            if (sClearContext == EGL14.EGL_NO_CONTEXT) {
+                sClearContext = service.obtainContext();
+                if (sClearContext == EGL14.EGL_NO_CONTEXT) {
+                    LiteavLog.e(TAG, "clearSurface failed, no context");
+                    return false;
+                }
+            }
+            final EGLDisplay display = service.getDisplay();
+            final EGLSurface eglSurface = service.createWindowSurface(surface);
+            if (eglSurface == EGL14.EGL_NO_SURFACE) {
+                return false;
+            }
+            // the caller may be a thread with its own context, restore it after clear
+            final EGLContext preContext = EGL14.eglGetCurrentContext();
+            final EGLSurface preDrawSurface = EGL14.eglGetCurrentSurface(EGL14.EGL_DRAW);
+            final EGLSurface preReadSurface = EGL14.eglGetCurrentSurface(EGL14.EGL_READ);
+            boolean result = false;
+            if (EGL14.eglMakeCurrent(display, eglSurface, eglSurface, sClearContext)) {
+                GLES20.glClearColor(0, 0, 0, 1);
+                GLES20.glClear(GLES20.GL_COLOR_BUFFER_BIT);
+                result = EGL14.eglSwapBuffers(display, eglSurface);
+            } else {
+                LiteavLog.e(TAG, "clearSurface makeCurrent failed, error:" + EGL14.eglGetError());
+            }
+            if (preContext != EGL14.EGL_NO_CONTEXT) {
+                EGL14.eglMakeCurrent(display, preDrawSurface, preReadSurface, preContext);
+            } else {
+                EGL14.eglMakeCurrent(display, EGL14.EGL_NO_SURFACE, EGL14.EGL_NO_SURFACE, EGL14.EGL_NO_CONTEXT);
+            }
+            EGL14.eglDestroySurface(display, eglSurface);
+            return result;
+        }
     }
 
 }
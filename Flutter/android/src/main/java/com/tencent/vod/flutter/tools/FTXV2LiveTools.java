@@ -1,15 +1,10 @@
 package com.tencent.vod.flutter.tools;
 
-import android.graphics.Bitmap;
-import android.graphics.ImageFormat;
-import android.graphics.Rect;
-import android.graphics.YuvImage;
 import android.os.Bundle;
 
 import com.tencent.live2.V2TXLiveDef;
 import com.tencent.vod.flutter.FTXEvent;
 
-import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 
 public class FTXV2LiveTools {
@@ -28,20 +23,24 @@ public class FTXV2LiveTools {
         return rotationCode;
     }
 
-    public static ByteBuffer yuv420ToARGB8888(ByteBuffer yuv420Buffer, int width, int height) {
-        // 将YUV420格式的ByteBuffer转换为byte数组
-        byte[] yuv420Bytes = new byte[yuv420Buffer.remaining()];
-        yuv420Buffer.get(yuv420Bytes);
-
-        // 将YUV420格式的byte数组转换为Bitmap
-        YuvImage yuvImage = new YuvImage(yuv420Bytes, ImageFormat.YUV_420_888, width, height, null);
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        Rect rect = new Rect(0, 0, width, height);
-        yuvImage.compressToJpeg(rect, 100, outputStream);
-        byte[] argbBytes = outputStream.toByteArray();
+    /**
+     * Convert an I420 frame to bytes R G B A, the memory layout of Bitmap.Config.ARGB_8888, so the buffer can be
+     * copied to a Bitmap directly.
+     * <p>
+     * 将 I420 数据转换为 RGBA 字节序的像素，即 Bitmap.Config.ARGB_8888 的内存布局
+     */
+    public static ByteBuffer yuv420ToRGBA8888(ByteBuffer yuv420Buffer, int width, int height) {
+        ByteBuffer rgbaBuffer = ByteBuffer.allocateDirect(FTXYuvConverter.getRgbSize(width, height));
+        yuv420ToRGBA8888(yuv420Buffer, width, height, rgbaBuffer);
+        return rgbaBuffer;
+    }
 
-        // 将ARGB8888格式的byte数组转换为ByteBuffer
-        return ByteBuffer.wrap(argbBytes);
+    /**
+     * Same as {@link #yuv420ToRGBA8888(ByteBuffer, int, int)}, but writes to a buffer reused by caller.
+     */
+    public static void yuv420ToRGBA8888(ByteBuffer yuv420Buffer, int width, int height, ByteBuffer rgbaBuffer) {
+        FTXYuvConverter.convertParallel(yuv420Buffer, FTXYuvConverter.YUV_I420, width, height,
+                rgbaBuffer, FTXYuvConverter.RGB_RGBA);
     }
 
     public static Bundle buildNetBundle(V2TXLiveDef.V2TXLivePlayerStatistics statistics) {
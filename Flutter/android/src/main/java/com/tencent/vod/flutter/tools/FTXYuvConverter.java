@@ -0,0 +1,198 @@
+// Copyright (c) 2022 Tencent. All rights reserved.
+
+package com.tencent.vod.flutter.tools;
+
+import com.tencent.liteav.base.util.LiteavLog;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Converts tightly packed YUV 4:2:0 frames to 32 bit RGB with BT.601 limited range integer math.
+ * <p>
+ * Source and destination buffers are supplied by caller and never allocated here, positions of the buffers are
+ * not changed. Large frames can be converted by several cores, each one converting a band of rows.
+ * <p>
+ * YUV 转 RGB 工具，BT.601 limited range，整数运算
+ */
+public class FTXYuvConverter {
+
+    private static final String TAG = "FTXYuvConverter";
+
+    /**
+     * Y plane, then U plane, then V plane
+     */
+    public static final int YUV_I420 = 0;
+    /**
+     * Y plane, then interleaved U V
+     */
+    public static final int YUV_NV12 = 1;
+    /**
+     * Y plane, then interleaved V U
+     */
+    public static final int YUV_NV21 = 2;
+
+    /**
+     * Bytes R G B A, the memory layout of Bitmap.Config.ARGB_8888
+     */
+    public static final int RGB_RGBA = 0;
+    /**
+     * Bytes A R G B
+     */
+    public static final int RGB_ARGB = 1;
+
+    // below this pixel count dispatching to other threads costs more than it saves
+    private static final int PARALLEL_MIN_PIXELS = 640 * 360;
+    private static final int MAX_THREADS = 4;
+    private static final int THREAD_COUNT = Math.max(1,
+            Math.min(Runtime.getRuntime().availableProcessors(), MAX_THREADS));
+    private static ExecutorService sExecutor;
+
+    /**
+     * @return bytes of a tightly packed YUV 4:2:0 frame
+     */
+    public static int getYuvSize(int width, int height) {
+        return width * height + 2 * ((width + 1) / 2) * ((height + 1) / 2);
+    }
+
+    public static int getRgbSize(int width, int height) {
+        return width * height * 4;
+    }
+
+    /**
+     * Convert on the calling thread.
+     *
+     * @param yuvFormat one of YUV_*
+     * @param rgbFormat one of RGB_*
+     */
+    public static void convert(ByteBuffer src, int yuvFormat, int width, int height,
+                               ByteBuffer dst, int rgbFormat) {
+        checkArgs(src, yuvFormat, width, height, dst);
+        convertRows(src, yuvFormat, width, height, dst, rgbFormat, 0, height);
+    }
+
+    /**
+     * Convert by bands of rows on up to 4 cores, the calling thread converts one band and waits for the others.
+     * Small frames are converted on the calling thread only.
+     */
+    public static void convertParallel(final ByteBuffer src, final int yuvFormat, final int width, final int height,
+                                       final ByteBuffer dst, final int rgbFormat) {
+        checkArgs(src, yuvFormat, width, height, dst);
+        if (THREAD_COUNT <= 1 || width * height < PARALLEL_MIN_PIXELS) {
+            convertRows(src, yuvFormat, width, height, dst, rgbFormat, 0, height);
+            return;
+        }
+        // bands start on even rows so that no chroma row is shared by two bands
+        final int bandHeight = ((height + THREAD_COUNT - 1) / THREAD_COUNT + 1) & ~1;
+        final int bandCount = (height + bandHeight - 1) / bandHeight;
+        final CountDownLatch latch = new CountDownLatch(bandCount - 1);
+        final ExecutorService executor = getExecutor();
+        for (int band = 1; band < bandCount; band++) {
+            final int rowStart = band * bandHeight;
+            final int rowEnd = Math.min(height, rowStart + bandHeight);
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        convertRows(src, yuvFormat, width, height, dst, rgbFormat, rowStart, rowEnd);
+                    } finally {
+                        latch.countDown();
+                    }
+                }
+            });
+        }
+        convertRows(src, yuvFormat, width, height, dst, rgbFormat, 0, Math.min(height, bandHeight));
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            LiteavLog.e(TAG, "convertParallel interrupted");
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static synchronized ExecutorService getExecutor() {
+        if (null == sExecutor) {
+            sExecutor = Executors.newFixedThreadPool(THREAD_COUNT - 1);
+        }
+        return sExecutor;
+    }
+
+    private static void checkArgs(ByteBuffer src, int yuvFormat, int width, int height, ByteBuffer dst) {
+        if (null == src || null == dst || width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("invalid buffer or size:" + width + "x" + height);
+        }
+        if (yuvFormat != YUV_I420 && yuvFormat != YUV_NV12 && yuvFormat != YUV_NV21) {
+            throw new IllegalArgumentException("unknown yuv format:" + yuvFormat);
+        }
+        if (src.remaining() < getYuvSize(width, height)) {
+            throw new IllegalArgumentException("yuv buffer too small:" + src.remaining());
+        }
+        if (dst.remaining() < getRgbSize(width, height)) {
+            throw new IllegalArgumentException("rgb buffer too small:" + dst.remaining());
+        }
+    }
+
+    static void convertRows(ByteBuffer src, int yuvFormat, int width, int height,
+                            ByteBuffer dst, int rgbFormat, int rowStart, int rowEnd) {
+        final int srcBase = src.position();
+        final int dstBase = dst.position();
+        final int chromaWidth = (width + 1) / 2;
+        final int chromaHeight = (height + 1) / 2;
+        final int chromaBase = srcBase + width * height;
+        // offset and step of U and V samples
+        final int uBase;
+        final int vBase;
+        final int chromaStep;
+        final int chromaStride;
+        if (yuvFormat == YUV_I420) {
+            uBase = chromaBase;
+            vBase = chromaBase + chromaWidth * chromaHeight;
+            chromaStep = 1;
+            chromaStride = chromaWidth;
+        } else if (yuvFormat == YUV_NV12) {
+            uBase = chromaBase;
+            vBase = chromaBase + 1;
+            chromaStep = 2;
+            chromaStride = chromaWidth * 2;
+        } else {
+            vBase = chromaBase;
+            uBase = chromaBase + 1;
+            chromaStep = 2;
+            chromaStride = chromaWidth * 2;
+        }
+        final boolean isRgba = rgbFormat == RGB_RGBA;
+        for (int row = rowStart; row < rowEnd; row++) {
+            int yIndex = srcBase + row * width;
+            final int chromaRow = (row >> 1) * chromaStride;
+            int dstIndex = dstBase + row * width * 4;
+            for (int col = 0; col < width; col++) {
+                final int chromaIndex = chromaRow + (col >> 1) * chromaStep;
+                // Y below 16 is kept, like the reference formula, results are clamped instead
+                final int c = ((src.get(yIndex++) & 0xFF) - 16) * 298;
+                final int d = (src.get(uBase + chromaIndex) & 0xFF) - 128;
+                final int e = (src.get(vBase + chromaIndex) & 0xFF) - 128;
+                final int r = clamp((c + 409 * e + 128) >> 8);
+                final int g = clamp((c - 100 * d - 208 * e + 128) >> 8);
+                final int b = clamp((c + 516 * d + 128) >> 8);
+                if (isRgba) {
+                    dst.put(dstIndex, (byte) r);
+                    dst.put(dstIndex + 1, (byte) g);
+                    dst.put(dstIndex + 2, (byte) b);
+                    dst.put(dstIndex + 3, (byte) 0xFF);
+                } else {
+                    dst.put(dstIndex, (byte) 0xFF);
+                    dst.put(dstIndex + 1, (byte) r);
+                    dst.put(dstIndex + 2, (byte) g);
+                    dst.put(dstIndex + 3, (byte) b);
+                }
+                dstIndex += 4;
+            }
+        }
+    }
+
+    private static int clamp(int value) {
+        return value < 0 ? 0 : (value > 255 ? 255 : value);
+    }
+}
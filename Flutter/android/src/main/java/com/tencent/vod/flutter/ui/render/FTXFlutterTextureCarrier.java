@@ -0,0 +1,151 @@
+// Copyright (c) 2022 Tencent. All rights reserved.
+
+package com.tencent.vod.flutter.ui.render;
+
+import android.graphics.SurfaceTexture;
+import android.view.Surface;
+
+import com.tencent.liteav.base.util.LiteavLog;
+import com.tencent.vod.flutter.common.FTXRenderStats;
+import com.tencent.vod.flutter.player.render.FTXPlayerRenderSurfaceHost;
+import com.tencent.vod.flutter.player.render.gl.FTXEGLRender;
+
+import io.flutter.view.TextureRegistry;
+
+/**
+ * 直接将 Flutter 纹理的 Surface 交给播放器，解码画面由 Flutter 引擎直接合成，不经过 PlatformView 和 GL 拷贝。
+ * <p>
+ * Carrier backed by a Flutter texture. The surface of the texture is handed to the player directly, so decoded frames
+ * are composed by the Flutter engine without a PlatformView or an extra GL copy. Render mode and view port are
+ * decided by the Texture widget on dart side.
+ */
+public class FTXFlutterTextureCarrier implements FTXRenderCarrier {
+
+    private static final String TAG = "FTXFlutterTextureCarrier";
+
+    private final TextureRegistry.SurfaceTextureEntry mTextureEntry;
+    private final Surface mSurface;
+    private boolean mIsReleased = false;
+
+    public FTXFlutterTextureCarrier(TextureRegistry textureRegistry) {
+        mTextureEntry = textureRegistry.createSurfaceTexture();
+        mSurface = new Surface(mTextureEntry.surfaceTexture());
+        LiteavLog.i(TAG, "texture is created, textureId:" + mTextureEntry.id());
+    }
+
+    public long getTextureId() {
+        return mTextureEntry.id();
+    }
+
+    @Override
+    public void bindPlayer(FTXPlayerRenderSurfaceHost surfaceHost) {
+        LiteavLog.i(TAG, "called bindPlayer " + surfaceHost + ", textureId:" + getTextureId());
+        if (null != surfaceHost && !mIsReleased) {
+            updateBufferSize(surfaceHost.getVideoWidth(), surfaceHost.getVideoHeight());
+            surfaceHost.setSurface(mSurface);
+        }
+    }
+
+    @Override
+    public void clearLastImg() {
+        // the surface is connected to decoder, it can not be cleared by GL
+    }
+
+    @Override
+    public boolean clearContent() {
+        return true;
+    }
+
+    @Override
+    public void setVisibility(int visibility) {
+    }
+
+    @Override
+    public void notifyVideoResolutionChanged(int videoWidth, int videoHeight) {
+        updateBufferSize(videoWidth, videoHeight);
+    }
+
+    private void updateBufferSize(int videoWidth, int videoHeight) {
+        if (videoWidth > 0 && videoHeight > 0 && !mIsReleased) {
+            SurfaceTexture surfaceTexture = mTextureEntry.surfaceTexture();
+            if (null != surfaceTexture) {
+                surfaceTexture.setDefaultBufferSize(videoWidth, videoHeight);
+            }
+        }
+    }
+
+    @Override
+    public void updateRenderMode(long renderMode) {
+    }
+
+    @Override
+    public void updateRenderMaxFps(int maxFps) {
+    }
+
+    @Override
+    public void updateRenderSharpness(float sharpness) {
+    }
+
+    @Override
+    public long getFilterCostUs() {
+        return 0;
+    }
+
+    @Override
+    public long getPresentedFrameCount() {
+        return 0;
+    }
+
+    @Override
+    public long getDroppedFrameCount() {
+        return 0;
+    }
+
+    @Override
+    public FTXRenderStats getRenderStats() {
+        // frames are composed by flutter engine, nothing is drawn by plugin
+        return null;
+    }
+
+    @Override
+    public void setMirrorSource(FTXRenderCarrier source, long renderMode) {
+        LiteavLog.w(TAG, "flutter texture can not be a mirror");
+    }
+
+    @Override
+    public FTXEGLRender getEGLRender() {
+        return null;
+    }
+
+    @Override
+    public void requestLayoutSizeByContainerSize(int viewWidth, int viewHeight) {
+    }
+
+    @Override
+    public void destroyRender() {
+        if (mIsReleased) {
+            return;
+        }
+        LiteavLog.i(TAG, "release texture, textureId:" + getTextureId());
+        mIsReleased = true;
+        mSurface.release();
+        mTextureEntry.release();
+    }
+
+    @Override
+    public void reDrawVod() {
+        // frames are composed by Flutter engine, nothing to redraw
+    }
+
+    @Override
+    public void addSurfaceTextureListener(FTXCarrierSurfaceListener listener) {
+    }
+
+    @Override
+    public void removeSurfaceTextureListener(FTXCarrierSurfaceListener listener) {
+    }
+
+    @Override
+    public void removeAllSurfaceListener() {
+    }
+}
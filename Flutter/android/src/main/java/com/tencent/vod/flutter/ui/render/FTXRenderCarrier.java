@@ -1,6 +1,8 @@
 package com.tencent.vod.flutter.ui.render;
 
+import com.tencent.vod.flutter.common.FTXRenderStats;
 import com.tencent.vod.flutter.player.render.FTXPlayerRenderSurfaceHost;
+import com.tencent.vod.flutter.player.render.gl.FTXEGLRender;
 
 public interface FTXRenderCarrier {
 
@@ -8,12 +10,47 @@ public interface FTXRenderCarrier {
 
     void clearLastImg();
 
+    /**
+     * Clear the image on screen, but keep surface and render of this carrier.
+     *
+     * @return false if the content can not be cleared, then the carrier should be rebuilt
+     */
+    boolean clearContent();
+
     void setVisibility(int visibility);
 
     void notifyVideoResolutionChanged(int videoWidth, int videoHeight);
 
     void updateRenderMode(long renderMode);
 
+    void updateRenderMaxFps(int maxFps);
+
+    void updateRenderSharpness(float sharpness);
+
+    /**
+     * Average cost of post-processing filters per frame, in microseconds.
+     */
+    long getFilterCostUs();
+
+    long getPresentedFrameCount();
+
+    long getDroppedFrameCount();
+
+    /**
+     * @return null if frames are not drawn by plugin
+     */
+    FTXRenderStats getRenderStats();
+
+    /**
+     * Show frames drawn by the render of source carrier instead of binding a player, null to stop mirroring.
+     */
+    void setMirrorSource(FTXRenderCarrier source, long renderMode);
+
+    /**
+     * @return null if frames are not drawn by plugin GL render
+     */
+    FTXEGLRender getEGLRender();
+
     void requestLayoutSizeByContainerSize(int viewWidth, int viewHeight);
 
     void destroyRender();
@@ -53,6 +53,10 @@ public class FTXRenderView implements PlatformView {
     }
 
     private void resetRenderView() {
+        if (null != mTextureView) {
+            // remove and destroy the old one, or it is still kept in container
+            mContainer.setCarrier(null);
+        }
         if (mRenderType == FTXEvent.ViewType.TEXTURE_TYPE) {
             mTextureView = new FTXTextureView(mContext);
         } else if (mRenderType == FTXEvent.ViewType.SURFACE_TYPE
@@ -83,7 +87,14 @@ public class FTXRenderView implements PlatformView {
         player.setRenderView(mTextureView);
     }
 
+    /**
+     * Clear the image on current carrier, carrier is rebuilt only if the clear is failed.
+     */
     public void clearTexture() {
+        if (null != mTextureView && mTextureView.clearContent()) {
+            return;
+        }
+        LiteavLog.w(TAG, "clear content failed, rebuild carrier, viewId:" + mViewId);
         resetRenderView();
     }
 
@@ -10,6 +10,7 @@ import androidx.annotation.NonNull;
 
 import com.tencent.liteav.base.util.LiteavLog;
 import com.tencent.vod.flutter.common.FTXPlayerConstants;
+import com.tencent.vod.flutter.common.FTXRenderStats;
 import com.tencent.vod.flutter.player.render.FTXPlayerRenderSurfaceHost;
 import com.tencent.vod.flutter.player.render.gl.FTXEGLRender;
 import com.tencent.vod.flutter.player.render.gl.GLSurfaceTools;
@@ -32,6 +33,17 @@ public class FTXSurfaceView extends SurfaceView implements FTXRenderCarrier {
     private int mViewHeight = 0;
     private final Object mLayoutLock = new Object();
     private FTXEGLRender mRender;
+    // not null if this view shows frames of another view's render
+    private FTXEGLRender mMirrorSourceRender;
+    private FTXEGLRender.MirrorTarget mMirrorTarget;
+    private long mMirrorRenderMode = FTXPlayerConstants.FTXRenderMode.FULL_FILL_CONTAINER;
+    private final FTXViewVisibilityTracker mVisibilityTracker = new FTXViewVisibilityTracker(this,
+            new FTXViewVisibilityTracker.Listener() {
+                @Override
+                public void onVisibilityChanged(boolean isVisible) {
+                    applyVisibility(isVisible);
+                }
+            });
     private final SurfaceViewInnerListener mSurfaceListenerDelegate = new SurfaceViewInnerListener(this);
 
     public FTXSurfaceView(Context context) {
@@ -42,6 +54,14 @@ public class FTXSurfaceView extends SurfaceView implements FTXRenderCarrier {
     private void init() {
         getHolder().addCallback(mSurfaceListenerDelegate);
         mRender = new FTXEGLRender(1080, 720);
+        mRender.setDisplayDensity(getResources().getDisplayMetrics().density);
+    }
+
+    private void applyVisibility(boolean isVisible) {
+        mRender.setVisible(isVisible);
+        if (null != mMirrorTarget) {
+            mMirrorSourceRender.setMirrorVisible(mMirrorTarget, isVisible);
+        }
     }
 
     @Override
@@ -52,6 +72,23 @@ public class FTXSurfaceView extends SurfaceView implements FTXRenderCarrier {
         }
     }
 
+    @Override
+    public boolean clearContent() {
+        LiteavLog.i(TAG, "start clearContent, view:" + hashCode());
+        if (null != mMirrorTarget) {
+            // view surface is owned by the source render, it is cleared with the source
+            return true;
+        }
+        if (mRender.isAttached()) {
+            return mRender.clearSurface();
+        }
+        if (null != mSurface && mSurface.isValid()) {
+            // surface may be rendered by live player directly
+            return mGlSurfaceTools.clearSurface(mSurface);
+        }
+        return true;
+    }
+
     @Override
     public void notifyVideoResolutionChanged(int videoWidth, int videoHeight) {
         synchronized (mLayoutLock) {
@@ -73,6 +110,8 @@ public class FTXSurfaceView extends SurfaceView implements FTXRenderCarrier {
     protected void onDetachedFromWindow() {
         super.onDetachedFromWindow();
         LiteavLog.i(TAG, "target onDetachedFromWindow,view:" + hashCode());
+        mVisibilityTracker.onDetachedFromWindow();
+        detachMirror();
         mRender.stopRender();
     }
 
@@ -80,6 +119,13 @@ public class FTXSurfaceView extends SurfaceView implements FTXRenderCarrier {
     protected void onAttachedToWindow() {
         super.onAttachedToWindow();
         LiteavLog.i(TAG, "target onAttachedToWindow,view:" + hashCode());
+        mVisibilityTracker.onAttachedToWindow();
+    }
+
+    @Override
+    protected void onWindowVisibilityChanged(int visibility) {
+        super.onWindowVisibilityChanged(visibility);
+        mVisibilityTracker.onWindowVisibilityChanged(visibility);
     }
 
     @Override
@@ -90,6 +136,81 @@ public class FTXSurfaceView extends SurfaceView implements FTXRenderCarrier {
         }
     }
 
+    @Override
+    public void updateRenderMaxFps(int maxFps) {
+        if (null != mRender && mRender.getMaxFps() != maxFps) {
+            mRender.setMaxFps(maxFps);
+        }
+    }
+
+    @Override
+    public void updateRenderSharpness(float sharpness) {
+        if (null != mRender && mRender.getSharpness() != sharpness) {
+            mRender.setSharpness(sharpness);
+        }
+    }
+
+    @Override
+    public long getFilterCostUs() {
+        return null != mRender ? mRender.getFilterCostUs() : 0;
+    }
+
+    @Override
+    public long getPresentedFrameCount() {
+        return null != mRender ? mRender.getPresentedFrameCount() : 0;
+    }
+
+    @Override
+    public long getDroppedFrameCount() {
+        return null != mRender ? mRender.getDroppedFrameCount() : 0;
+    }
+
+    @Override
+    public FTXRenderStats getRenderStats() {
+        return null != mRender ? mRender.getRenderStats() : null;
+    }
+
+    @Override
+    public void setMirrorSource(FTXRenderCarrier source, long renderMode) {
+        final FTXEGLRender sourceRender = null != source && source != this ? source.getEGLRender() : null;
+        LiteavLog.i(TAG, "setMirrorSource:" + source + ", renderMode:" + renderMode + ", view:" + hashCode());
+        if (sourceRender == mMirrorSourceRender) {
+            mMirrorRenderMode = renderMode;
+            if (null != mMirrorTarget) {
+                mMirrorSourceRender.updateMirror(mMirrorTarget, mViewWidth, mViewHeight, renderMode);
+            }
+            return;
+        }
+        detachMirror();
+        mMirrorSourceRender = sourceRender;
+        mMirrorRenderMode = renderMode;
+        if (null != sourceRender) {
+            // frames come from source render, own render must release the view surface
+            mRender.stopRender();
+            attachMirrorIfCan();
+        }
+    }
+
+    @Override
+    public FTXEGLRender getEGLRender() {
+        return mRender;
+    }
+
+    private void attachMirrorIfCan() {
+        if (null != mMirrorSourceRender && null == mMirrorTarget && null != mSurface && mSurface.isValid()) {
+            mMirrorTarget = mMirrorSourceRender.addMirror(mSurface, mMirrorRenderMode);
+            mMirrorSourceRender.setMirrorVisible(mMirrorTarget, mVisibilityTracker.isVisible());
+            mMirrorSourceRender.updateMirror(mMirrorTarget, mViewWidth, mViewHeight, mMirrorRenderMode);
+        }
+    }
+
+    private void detachMirror() {
+        if (null != mMirrorSourceRender && null != mMirrorTarget) {
+            mMirrorSourceRender.removeMirror(mMirrorTarget);
+        }
+        mMirrorTarget = null;
+    }
+
     @Override
     public void requestLayoutSizeByContainerSize(int viewWidth, int viewHeight) {
         updateRenderSizeIfNeed(viewWidth, viewHeight);
@@ -104,6 +225,11 @@ public class FTXSurfaceView extends SurfaceView implements FTXRenderCarrier {
     @Override
     public void bindPlayer(FTXPlayerRenderSurfaceHost surfaceHost) {
         LiteavLog.i(TAG, "called bindPlayer " + surfaceHost + ", view:" + FTXSurfaceView.this.hashCode());
+        if (null != surfaceHost && null != mMirrorSourceRender) {
+            // bound to a player, stop mirroring
+            detachMirror();
+            mMirrorSourceRender = null;
+        }
         if (mPlayer == surfaceHost) {
             if (null != mPlayer) {
                 surfaceHost.setSurface(mRender.getInputSurface());
@@ -122,6 +248,8 @@ public class FTXSurfaceView extends SurfaceView implements FTXRenderCarrier {
             mVideoWidth = surfaceHost.getVideoWidth();
             mVideoHeight = surfaceHost.getVideoHeight();
             updateVideoRenderMode();
+            updateRenderMaxFps(surfaceHost.getPlayerRenderMaxFps());
+            updateRenderSharpness(surfaceHost.getPlayerRenderSharpness());
             LiteavLog.i(TAG, "updateSize, mVideoWidth:" + mVideoWidth + ",mVideoHeight:"
                     + mVideoHeight + ",renderMode:" + mRenderMode);
         }
@@ -156,6 +284,9 @@ public class FTXSurfaceView extends SurfaceView implements FTXRenderCarrier {
             mViewHeight = height;
             LiteavLog.i(TAG, "updateRenderSizeIfNeed, width:" + width + ",height:" + height);
             mRender.setViewPortSize(width, height);
+            if (null != mMirrorTarget) {
+                mMirrorSourceRender.updateMirror(mMirrorTarget, width, height, mMirrorRenderMode);
+            }
         }
     }
 
@@ -179,11 +310,14 @@ public class FTXSurfaceView extends SurfaceView implements FTXRenderCarrier {
             // surfaceView must clear img when created, or it will show flutter ui img
             mGlSurfaceTools.clearSurface(surface);
             updateHostSurface(surface);
+            attachMirrorIfCan();
         }
     }
 
     @Override
     public void destroyRender() {
+        detachMirror();
+        mMirrorSourceRender = null;
         mRender.stopRender();
     }
 
@@ -245,6 +379,7 @@ public class FTXSurfaceView extends SurfaceView implements FTXRenderCarrier {
             for (FTXCarrierSurfaceListener listener : mExternalSurfaceListeners) {
                 listener.onSurfaceTextureDestroyed(mContainer.mSurface);
             }
+            mContainer.detachMirror();
             mContainer.mSurface = null;
         }
     }
@@ -11,6 +11,7 @@ import androidx.annotation.Nullable;
 
 import com.tencent.liteav.base.util.LiteavLog;
 import com.tencent.vod.flutter.common.FTXPlayerConstants;
+import com.tencent.vod.flutter.common.FTXRenderStats;
 import com.tencent.vod.flutter.player.render.FTXPlayerRenderSurfaceHost;
 import com.tencent.vod.flutter.player.render.gl.FTXEGLRender;
 import com.tencent.vod.flutter.player.render.gl.GLSurfaceTools;
@@ -32,6 +33,17 @@ public class FTXTextureView extends TextureView implements FTXRenderCarrier {
     private int mViewWidth = 0;
     private int mViewHeight = 0;
     private FTXEGLRender mRender;
+    // not null if this view shows frames of another view's render
+    private FTXEGLRender mMirrorSourceRender;
+    private FTXEGLRender.MirrorTarget mMirrorTarget;
+    private long mMirrorRenderMode = FTXPlayerConstants.FTXRenderMode.FULL_FILL_CONTAINER;
+    private final FTXViewVisibilityTracker mVisibilityTracker = new FTXViewVisibilityTracker(this,
+            new FTXViewVisibilityTracker.Listener() {
+                @Override
+                public void onVisibilityChanged(boolean isVisible) {
+                    applyVisibility(isVisible);
+                }
+            });
     private final Object mLayoutLock = new Object();
     private final TextureViewInnerListener mSurfaceListenerDelegate = new TextureViewInnerListener(this);
 
@@ -43,6 +55,14 @@ public class FTXTextureView extends TextureView implements FTXRenderCarrier {
     private void initTextureView() {
         setSurfaceTextureListener(mSurfaceListenerDelegate);
         mRender = new FTXEGLRender(1080, 720);
+        mRender.setDisplayDensity(getResources().getDisplayMetrics().density);
+    }
+
+    private void applyVisibility(boolean isVisible) {
+        mRender.setVisible(isVisible);
+        if (null != mMirrorTarget) {
+            mMirrorSourceRender.setMirrorVisible(mMirrorTarget, isVisible);
+        }
     }
 
     @Override
@@ -53,6 +73,23 @@ public class FTXTextureView extends TextureView implements FTXRenderCarrier {
         }
     }
 
+    @Override
+    public boolean clearContent() {
+        LiteavLog.i(TAG, "start clearContent, view:" + hashCode());
+        if (null != mMirrorTarget) {
+            // view surface is owned by the source render, it is cleared with the source
+            return true;
+        }
+        if (mRender.isAttached()) {
+            return mRender.clearSurface();
+        }
+        if (null != mSurface && mSurface.isValid()) {
+            // surface may be rendered by live player directly
+            return mGlSurfaceTools.clearSurface(mSurface);
+        }
+        return true;
+    }
+
     @Override
     public void notifyVideoResolutionChanged(int videoWidth, int videoHeight) {
         synchronized (mLayoutLock) {
@@ -78,6 +115,81 @@ public class FTXTextureView extends TextureView implements FTXRenderCarrier {
         }
     }
 
+    @Override
+    public void updateRenderMaxFps(int maxFps) {
+        if (null != mRender && mRender.getMaxFps() != maxFps) {
+            mRender.setMaxFps(maxFps);
+        }
+    }
+
+    @Override
+    public void updateRenderSharpness(float sharpness) {
+        if (null != mRender && mRender.getSharpness() != sharpness) {
+            mRender.setSharpness(sharpness);
+        }
+    }
+
+    @Override
+    public long getFilterCostUs() {
+        return null != mRender ? mRender.getFilterCostUs() : 0;
+    }
+
+    @Override
+    public long getPresentedFrameCount() {
+        return null != mRender ? mRender.getPresentedFrameCount() : 0;
+    }
+
+    @Override
+    public long getDroppedFrameCount() {
+        return null != mRender ? mRender.getDroppedFrameCount() : 0;
+    }
+
+    @Override
+    public FTXRenderStats getRenderStats() {
+        return null != mRender ? mRender.getRenderStats() : null;
+    }
+
+    @Override
+    public void setMirrorSource(FTXRenderCarrier source, long renderMode) {
+        final FTXEGLRender sourceRender = null != source && source != this ? source.getEGLRender() : null;
+        LiteavLog.i(TAG, "setMirrorSource:" + source + ", renderMode:" + renderMode + ", view:" + hashCode());
+        if (sourceRender == mMirrorSourceRender) {
+            mMirrorRenderMode = renderMode;
+            if (null != mMirrorTarget) {
+                mMirrorSourceRender.updateMirror(mMirrorTarget, mViewWidth, mViewHeight, renderMode);
+            }
+            return;
+        }
+        detachMirror();
+        mMirrorSourceRender = sourceRender;
+        mMirrorRenderMode = renderMode;
+        if (null != sourceRender) {
+            // frames come from source render, own render must release the view surface
+            mRender.stopRender();
+            attachMirrorIfCan();
+        }
+    }
+
+    @Override
+    public FTXEGLRender getEGLRender() {
+        return mRender;
+    }
+
+    private void attachMirrorIfCan() {
+        if (null != mMirrorSourceRender && null == mMirrorTarget && null != mSurface && mSurface.isValid()) {
+            mMirrorTarget = mMirrorSourceRender.addMirror(mSurface, mMirrorRenderMode);
+            mMirrorSourceRender.setMirrorVisible(mMirrorTarget, mVisibilityTracker.isVisible());
+            mMirrorSourceRender.updateMirror(mMirrorTarget, mViewWidth, mViewHeight, mMirrorRenderMode);
+        }
+    }
+
+    private void detachMirror() {
+        if (null != mMirrorSourceRender && null != mMirrorTarget) {
+            mMirrorSourceRender.removeMirror(mMirrorTarget);
+        }
+        mMirrorTarget = null;
+    }
+
     @Override
     public void requestLayoutSizeByContainerSize(int viewWidth, int viewHeight) {
         updateRenderSizeIfNeed(viewWidth, viewHeight);
@@ -94,6 +206,11 @@ public class FTXTextureView extends TextureView implements FTXRenderCarrier {
     @Override
     public void bindPlayer(FTXPlayerRenderSurfaceHost surfaceHost) {
         LiteavLog.i(TAG, "called bindPlayer " + surfaceHost + ", view:" + FTXTextureView.this.hashCode());
+        if (null != surfaceHost && null != mMirrorSourceRender) {
+            // bound to a player, stop mirroring
+            detachMirror();
+            mMirrorSourceRender = null;
+        }
         if (mPlayer == surfaceHost) {
             if (null != mPlayer) {
                 surfaceHost.setSurface(mRender.getInputSurface());
@@ -112,6 +229,8 @@ public class FTXTextureView extends TextureView implements FTXRenderCarrier {
             mVideoWidth = surfaceHost.getVideoWidth();
             mVideoHeight = surfaceHost.getVideoHeight();
             updateVideoRenderMode();
+            updateRenderMaxFps(surfaceHost.getPlayerRenderMaxFps());
+            updateRenderSharpness(surfaceHost.getPlayerRenderSharpness());
         }
     }
 
@@ -153,6 +272,9 @@ public class FTXTextureView extends TextureView implements FTXRenderCarrier {
             mViewHeight = height;
             LiteavLog.i(TAG, "updateRenderSizeIfNeed, width:" + width + ",height:" + height);
             mRender.setViewPortSize(width, height);
+            if (null != mMirrorTarget) {
+                mMirrorSourceRender.updateMirror(mMirrorTarget, width, height, mMirrorRenderMode);
+            }
         }
     }
 
@@ -160,6 +282,8 @@ public class FTXTextureView extends TextureView implements FTXRenderCarrier {
     protected void onDetachedFromWindow() {
         super.onDetachedFromWindow();
         LiteavLog.i(TAG, "target onDetachedFromWindow,view:" + hashCode());
+        mVisibilityTracker.onDetachedFromWindow();
+        detachMirror();
         mRender.stopRender();
     }
 
@@ -167,6 +291,13 @@ public class FTXTextureView extends TextureView implements FTXRenderCarrier {
     protected void onAttachedToWindow() {
         super.onAttachedToWindow();
         LiteavLog.i(TAG, "target onAttachedToWindow,view:" + hashCode());
+        mVisibilityTracker.onAttachedToWindow();
+    }
+
+    @Override
+    protected void onWindowVisibilityChanged(int visibility) {
+        super.onWindowVisibilityChanged(visibility);
+        mVisibilityTracker.onWindowVisibilityChanged(visibility);
     }
 
     @Override
@@ -193,11 +324,14 @@ public class FTXTextureView extends TextureView implements FTXRenderCarrier {
             mSurfaceTexture = surfaceTexture;
             mSurface = new Surface(surfaceTexture);
             updateHostSurface(mSurface);
+            attachMirrorIfCan();
         }
     }
 
     @Override
     public void destroyRender() {
+        detachMirror();
+        mMirrorSourceRender = null;
         mRender.stopRender();
         setSurfaceTextureListener(null);
     }
@@ -259,6 +393,7 @@ public class FTXTextureView extends TextureView implements FTXRenderCarrier {
             for (FTXCarrierSurfaceListener listener : mExternalSurfaceListeners) {
                 listener.onSurfaceTextureDestroyed(mContainer.mSurface);
             }
+            mContainer.detachMirror();
             mContainer.mSurface = null;
             mContainer.mSurfaceTexture = null;
             return false;
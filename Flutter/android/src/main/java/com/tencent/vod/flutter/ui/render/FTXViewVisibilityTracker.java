@@ -0,0 +1,112 @@
+package com.tencent.vod.flutter.ui.render;
+
+import android.graphics.Rect;
+import android.view.View;
+import android.view.ViewTreeObserver;
+
+import com.tencent.liteav.base.util.LiteavLog;
+import com.tencent.vod.flutter.tools.TXFlutterEngineHolder;
+
+/**
+ * Tracks whether a render view can be seen: attached, window visible, at least one pixel on screen and app in
+ * foreground. The on-screen part is checked before each draw of the window, so scrolling in flutter is followed
+ * without polling. All methods are called on main thread.
+ */
+public class FTXViewVisibilityTracker {
+
+    private static final String TAG = "FTXViewVisibilityTracker";
+
+    public interface Listener {
+        void onVisibilityChanged(boolean isVisible);
+    }
+
+    private final View mView;
+    private final Listener mListener;
+    private final Rect mVisibleRect = new Rect();
+    private boolean mIsAttached = false;
+    private boolean mIsWindowVisible = true;
+    private boolean mIsVisible = true;
+    private ViewTreeObserver mObserver;
+
+    private final ViewTreeObserver.OnPreDrawListener mPreDrawListener = new ViewTreeObserver.OnPreDrawListener() {
+        @Override
+        public boolean onPreDraw() {
+            update();
+            return true;
+        }
+    };
+
+    private final TXFlutterEngineHolder.TXAppStatusListener mAppStatusListener =
+            new TXFlutterEngineHolder.TXAppStatusListener() {
+                @Override
+                public void onResume() {
+                    update();
+                }
+
+                @Override
+                public void onEnterBack() {
+                    update();
+                }
+            };
+
+    public FTXViewVisibilityTracker(View view, Listener listener) {
+        mView = view;
+        mListener = listener;
+    }
+
+    public void onAttachedToWindow() {
+        if (mIsAttached) {
+            return;
+        }
+        mIsAttached = true;
+        mObserver = mView.getViewTreeObserver();
+        mObserver.addOnPreDrawListener(mPreDrawListener);
+        TXFlutterEngineHolder.getInstance().addAppLifeListener(mAppStatusListener);
+        update();
+    }
+
+    public void onDetachedFromWindow() {
+        if (!mIsAttached) {
+            return;
+        }
+        mIsAttached = false;
+        if (null != mObserver && mObserver.isAlive()) {
+            mObserver.removeOnPreDrawListener(mPreDrawListener);
+        } else {
+            mView.getViewTreeObserver().removeOnPreDrawListener(mPreDrawListener);
+        }
+        mObserver = null;
+        TXFlutterEngineHolder.getInstance().removeAppLifeListener(mAppStatusListener);
+        update();
+    }
+
+    public void onWindowVisibilityChanged(int visibility) {
+        mIsWindowVisible = visibility == View.VISIBLE;
+        update();
+    }
+
+    public boolean isVisible() {
+        return mIsVisible;
+    }
+
+    /**
+     * @return part of view area on screen, 0 ~ 1
+     */
+    public float getVisibleFraction() {
+        final int area = mView.getWidth() * mView.getHeight();
+        if (area <= 0 || !mView.getGlobalVisibleRect(mVisibleRect)) {
+            return 0;
+        }
+        return Math.min(1, (float) mVisibleRect.width() * mVisibleRect.height() / area);
+    }
+
+    private void update() {
+        final boolean isVisible = mIsAttached && mIsWindowVisible && mView.isShown()
+                && TXFlutterEngineHolder.getInstance().isInForeground() && getVisibleFraction() > 0;
+        if (isVisible != mIsVisible) {
+            mIsVisible = isVisible;
+            LiteavLog.i(TAG, "visibility changed:" + isVisible + ", view:" + mView.hashCode());
+            mListener.onVisibilityChanged(isVisible);
+        }
+    }
+}
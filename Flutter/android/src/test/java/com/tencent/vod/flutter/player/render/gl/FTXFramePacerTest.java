@@ -0,0 +1,188 @@
+package com.tencent.vod.flutter.player.render.gl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class FTXFramePacerTest {
+
+    private static final long VSYNC_MS = 16;
+
+    private FakeTarget mTarget;
+    private FTXFramePacer mPacer;
+    private long mFrameTimeMs;
+
+    @Before
+    public void setUp() {
+        mTarget = new FakeTarget();
+        mPacer = new FTXFramePacer(mTarget);
+        mFrameTimeMs = 0;
+    }
+
+    @Test
+    public void presentsEachNewFrameOnce() {
+        for (int i = 0; i < 3; i++) {
+            mPacer.onFrameAvailable();
+            vsync(5);
+        }
+        assertEquals(3, mTarget.swapCount);
+        assertEquals(3, mTarget.latchedFrames);
+    }
+
+    @Test
+    public void seekSwapsOncePerNewFrame() {
+        mPacer.onFrameAvailable();
+        vsync(1);
+        final int swapsBeforeSeek = mTarget.swapCount;
+
+        mPacer.requestRedraw();
+        assertTrue(mTarget.isTimeoutPosted);
+        vsync(10);
+        assertEquals(swapsBeforeSeek, mTarget.swapCount);
+
+        // the frame after seek
+        mPacer.onFrameAvailable();
+        vsync(10);
+        assertEquals(swapsBeforeSeek + 1, mTarget.swapCount);
+        assertFalse(mPacer.isRedrawDirty());
+        assertFalse(mTarget.isTimeoutPosted);
+
+        // a late timeout draws nothing
+        mPacer.onRedrawTimeout();
+        assertEquals(swapsBeforeSeek + 1, mTarget.swapCount);
+    }
+
+    @Test
+    public void seekFrameBypassesFpsCap() {
+        mPacer.setFrameInterval(100);
+        mFrameTimeMs = 1000;
+        mPacer.onFrameAvailable();
+        assertFalse(mPacer.onVsync(mFrameTimeMs));
+        assertEquals(1, mTarget.swapCount);
+
+        mPacer.requestRedraw();
+        mPacer.onFrameAvailable();
+        assertFalse(mPacer.onVsync(mFrameTimeMs + VSYNC_MS));
+        assertEquals(2, mTarget.swapCount);
+
+        // held back by the cap once the redraw is done
+        mPacer.onFrameAvailable();
+        assertTrue(mPacer.onVsync(mFrameTimeMs + 2 * VSYNC_MS));
+        assertEquals(2, mTarget.swapCount);
+    }
+
+    @Test
+    public void timeoutDrawsCurrentTextureOnce() {
+        mPacer.onFrameAvailable();
+        vsync(1);
+        final int swapsBeforeSeek = mTarget.swapCount;
+
+        mPacer.requestRedraw();
+        vsync(10);
+        mPacer.onRedrawTimeout();
+        assertEquals(swapsBeforeSeek + 1, mTarget.swapCount);
+        assertEquals(0, mTarget.lastLatchCount);
+        assertFalse(mPacer.isRedrawDirty());
+
+        mPacer.onRedrawTimeout();
+        vsync(10);
+        assertEquals(swapsBeforeSeek + 1, mTarget.swapCount);
+    }
+
+    @Test
+    public void noRedrawAfterClearUntilNewFrame() {
+        mPacer.onFrameAvailable();
+        vsync(1);
+        mPacer.onFrameAvailable();
+        assertEquals(1, mPacer.dropFrames());
+        assertFalse(mPacer.hasFrame());
+        final int swapsAfterClear = mTarget.swapCount;
+
+        mPacer.requestRedraw();
+        mPacer.onRedrawTimeout();
+        assertFalse(mPacer.draw());
+        assertEquals(swapsAfterClear, mTarget.swapCount);
+
+        mPacer.onFrameAvailable();
+        vsync(1);
+        assertEquals(swapsAfterClear + 1, mTarget.swapCount);
+        assertTrue(mPacer.hasFrame());
+    }
+
+    @Test
+    public void invisibleLatchesWithoutSwap() {
+        mTarget.isVisible = false;
+        mPacer.onFrameAvailable();
+        mPacer.onFrameAvailable();
+        vsync(1);
+        assertEquals(0, mTarget.swapCount);
+        assertEquals(2, mTarget.latchedFrames);
+        assertTrue(mPacer.hasFrame());
+
+        mTarget.isVisible = true;
+        assertTrue(mPacer.draw());
+        assertEquals(1, mTarget.swapCount);
+    }
+
+    @Test
+    public void failedLatchKeepsFramesPending() {
+        mTarget.canLatch = false;
+        mPacer.onFrameAvailable();
+        vsync(1);
+        assertEquals(0, mTarget.swapCount);
+        assertTrue(mPacer.hasPendingFrames());
+
+        mTarget.canLatch = true;
+        vsync(1);
+        assertEquals(1, mTarget.swapCount);
+        assertFalse(mPacer.hasPendingFrames());
+    }
+
+    private void vsync(int count) {
+        for (int i = 0; i < count; i++) {
+            mFrameTimeMs += VSYNC_MS;
+            mPacer.onVsync(mFrameTimeMs);
+        }
+    }
+
+    private static class FakeTarget implements FTXFramePacer.Target {
+        private boolean isVisible = true;
+        private boolean canLatch = true;
+        private boolean isTimeoutPosted = false;
+        private int swapCount = 0;
+        private int latchedFrames = 0;
+        private int lastLatchCount = -1;
+
+        @Override
+        public boolean latchFrames(int frameCount) {
+            if (!canLatch) {
+                return false;
+            }
+            latchedFrames += frameCount;
+            lastLatchCount = frameCount;
+            return true;
+        }
+
+        @Override
+        public boolean presentFrame() {
+            if (isVisible) {
+                swapCount++;
+            }
+            return isVisible;
+        }
+
+        @Override
+        public void postRedrawTimeout(long delayMs) {
+            assertEquals(FTXFramePacer.RE_DRAW_TIMEOUT_MS, delayMs);
+            isTimeoutPosted = true;
+        }
+
+        @Override
+        public void cancelRedrawTimeout() {
+            isTimeoutPosted = false;
+        }
+    }
+}
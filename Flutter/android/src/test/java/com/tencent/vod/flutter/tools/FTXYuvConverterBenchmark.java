@@ -0,0 +1,59 @@
+package com.tencent.vod.flutter.tools;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Locale;
+
+/**
+ * Rough JVM timing of {@link FTXYuvConverter}, printed to stdout. Not run with unit tests, remove the ignore to run
+ * it locally, numbers on a device differ and should be measured there.
+ */
+@Ignore("benchmark, run manually")
+public class FTXYuvConverterBenchmark {
+
+    private static final int WARM_UP_ROUNDS = 10;
+    private static final int ROUNDS = 30;
+
+    @Test
+    public void benchmark720p() {
+        run(1280, 720);
+    }
+
+    @Test
+    public void benchmark1080p() {
+        run(1920, 1080);
+    }
+
+    private static void run(int width, int height) {
+        final ByteBuffer src = ByteBuffer.allocateDirect(FTXYuvConverter.getYuvSize(width, height));
+        src.put(FTXYuvConverterTest.randomFrame(width, height, width));
+        src.clear();
+        final ByteBuffer dst = ByteBuffer.allocateDirect(FTXYuvConverter.getRgbSize(width, height));
+        final double serialMs = measure(src, width, height, dst, false);
+        final double parallelMs = measure(src, width, height, dst, true);
+        System.out.println(String.format(Locale.US, "yuv to rgba %dx%d, serial: %.2fms, parallel: %.2fms",
+                width, height, serialMs, parallelMs));
+    }
+
+    private static double measure(ByteBuffer src, int width, int height, ByteBuffer dst, boolean isParallel) {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            convert(src, width, height, dst, isParallel);
+        }
+        final long startNs = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            convert(src, width, height, dst, isParallel);
+        }
+        return (System.nanoTime() - startNs) / 1e6 / ROUNDS;
+    }
+
+    private static void convert(ByteBuffer src, int width, int height, ByteBuffer dst, boolean isParallel) {
+        if (isParallel) {
+            FTXYuvConverter.convertParallel(src, FTXYuvConverter.YUV_I420, width, height, dst,
+                    FTXYuvConverter.RGB_RGBA);
+        } else {
+            FTXYuvConverter.convert(src, FTXYuvConverter.YUV_I420, width, height, dst, FTXYuvConverter.RGB_RGBA);
+        }
+    }
+}
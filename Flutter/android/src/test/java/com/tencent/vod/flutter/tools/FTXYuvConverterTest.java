@@ -0,0 +1,178 @@
+package com.tencent.vod.flutter.tools;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+public class FTXYuvConverterTest {
+
+    @Test
+    public void matchesBt601Reference() {
+        // every Y, U and V value, against a floating point reference
+        final int width = 256;
+        final int height = 256;
+        int maxDiff = 0;
+        for (int v = 0; v < 256; v++) {
+            final byte[] yuv = new byte[FTXYuvConverter.getYuvSize(width, height)];
+            final int chromaSize = (width / 2) * (height / 2);
+            for (int i = 0; i < width * height; i++) {
+                yuv[i] = (byte) ((i % width + i / width) & 0xFF);
+            }
+            for (int i = 0; i < chromaSize; i++) {
+                yuv[width * height + i] = (byte) (i & 0xFF);
+                yuv[width * height + chromaSize + i] = (byte) v;
+            }
+            final byte[] rgba = convert(yuv, FTXYuvConverter.YUV_I420, width, height, FTXYuvConverter.RGB_RGBA);
+            final int[] expected = referenceI420(yuv, width, height);
+            for (int i = 0; i < expected.length; i++) {
+                maxDiff = Math.max(maxDiff, Math.abs((rgba[(i / 3) * 4 + i % 3] & 0xFF) - expected[i]));
+            }
+        }
+        assertTrue("max diff:" + maxDiff, maxDiff <= 1);
+    }
+
+    @Test
+    public void writesRgbaAndArgbByteOrder() {
+        // BT.601 limited range red
+        final byte[] yuv = frameOf(2, 2, 81, 90, 240);
+        final byte[] rgba = convert(yuv, FTXYuvConverter.YUV_I420, 2, 2, FTXYuvConverter.RGB_RGBA);
+        final byte[] argb = convert(yuv, FTXYuvConverter.YUV_I420, 2, 2, FTXYuvConverter.RGB_ARGB);
+        assertPixel(rgba, 0, 255, 0, 0, 255, 1);
+        assertPixel(argb, 0, 255, 255, 0, 0, 1);
+        // limited range white is opaque full white
+        final byte[] white = convert(frameOf(2, 2, 235, 128, 128), FTXYuvConverter.YUV_I420, 2, 2,
+                FTXYuvConverter.RGB_RGBA);
+        assertPixel(white, 0, 255, 255, 255, 255, 0);
+    }
+
+    @Test
+    public void semiPlanarMatchesPlanar() {
+        final int width = 33;
+        final int height = 17;
+        final byte[] i420 = randomFrame(width, height, 1);
+        final int lumaSize = width * height;
+        final int chromaSize = ((width + 1) / 2) * ((height + 1) / 2);
+        final byte[] nv12 = new byte[i420.length];
+        final byte[] nv21 = new byte[i420.length];
+        System.arraycopy(i420, 0, nv12, 0, lumaSize);
+        System.arraycopy(i420, 0, nv21, 0, lumaSize);
+        for (int i = 0; i < chromaSize; i++) {
+            final byte u = i420[lumaSize + i];
+            final byte v = i420[lumaSize + chromaSize + i];
+            nv12[lumaSize + 2 * i] = u;
+            nv12[lumaSize + 2 * i + 1] = v;
+            nv21[lumaSize + 2 * i] = v;
+            nv21[lumaSize + 2 * i + 1] = u;
+        }
+        final byte[] expected = convert(i420, FTXYuvConverter.YUV_I420, width, height, FTXYuvConverter.RGB_RGBA);
+        assertArrayEquals(expected, convert(nv12, FTXYuvConverter.YUV_NV12, width, height,
+                FTXYuvConverter.RGB_RGBA));
+        assertArrayEquals(expected, convert(nv21, FTXYuvConverter.YUV_NV21, width, height,
+                FTXYuvConverter.RGB_RGBA));
+    }
+
+    @Test
+    public void parallelMatchesSerial() {
+        final int[][] sizes = {{1280, 720}, {641, 361}, {1920, 1081}};
+        for (int[] size : sizes) {
+            final int width = size[0];
+            final int height = size[1];
+            final byte[] yuv = randomFrame(width, height, width);
+            final ByteBuffer serial = ByteBuffer.allocate(FTXYuvConverter.getRgbSize(width, height));
+            final ByteBuffer parallel = ByteBuffer.allocateDirect(FTXYuvConverter.getRgbSize(width, height));
+            FTXYuvConverter.convert(ByteBuffer.wrap(yuv), FTXYuvConverter.YUV_I420, width, height, serial,
+                    FTXYuvConverter.RGB_RGBA);
+            FTXYuvConverter.convertParallel(ByteBuffer.wrap(yuv), FTXYuvConverter.YUV_I420, width, height, parallel,
+                    FTXYuvConverter.RGB_RGBA);
+            final byte[] parallelBytes = new byte[parallel.capacity()];
+            parallel.get(parallelBytes);
+            assertArrayEquals(serial.array(), parallelBytes);
+        }
+    }
+
+    @Test
+    public void keepsBufferPositions() {
+        final byte[] yuv = frameOf(4, 2, 100, 110, 120);
+        final ByteBuffer src = ByteBuffer.allocate(yuv.length + 3);
+        src.position(3);
+        src.put(yuv);
+        src.position(3);
+        final ByteBuffer dst = ByteBuffer.allocate(FTXYuvConverter.getRgbSize(4, 2) + 5);
+        dst.position(5);
+        FTXYuvConverter.convert(src, FTXYuvConverter.YUV_I420, 4, 2, dst, FTXYuvConverter.RGB_RGBA);
+        assertEquals(3, src.position());
+        assertEquals(5, dst.position());
+        final byte[] expected = convert(yuv, FTXYuvConverter.YUV_I420, 4, 2, FTXYuvConverter.RGB_RGBA);
+        final byte[] actual = new byte[expected.length];
+        dst.get(actual);
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsSmallBuffer() {
+        FTXYuvConverter.convert(ByteBuffer.allocate(10), FTXYuvConverter.YUV_I420, 4, 4,
+                ByteBuffer.allocate(FTXYuvConverter.getRgbSize(4, 4)), FTXYuvConverter.RGB_RGBA);
+    }
+
+    static byte[] randomFrame(int width, int height, long seed) {
+        final byte[] yuv = new byte[FTXYuvConverter.getYuvSize(width, height)];
+        new Random(seed).nextBytes(yuv);
+        return yuv;
+    }
+
+    private static byte[] frameOf(int width, int height, int y, int u, int v) {
+        final byte[] yuv = new byte[FTXYuvConverter.getYuvSize(width, height)];
+        final int lumaSize = width * height;
+        final int chromaSize = ((width + 1) / 2) * ((height + 1) / 2);
+        for (int i = 0; i < yuv.length; i++) {
+            yuv[i] = (byte) (i < lumaSize ? y : (i < lumaSize + chromaSize ? u : v));
+        }
+        return yuv;
+    }
+
+    private static byte[] convert(byte[] yuv, int yuvFormat, int width, int height, int rgbFormat) {
+        final ByteBuffer dst = ByteBuffer.allocate(FTXYuvConverter.getRgbSize(width, height));
+        FTXYuvConverter.convert(ByteBuffer.wrap(yuv), yuvFormat, width, height, dst, rgbFormat);
+        return dst.array();
+    }
+
+    /**
+     * BT.601 limited range, floating point, R G B per pixel.
+     */
+    private static int[] referenceI420(byte[] yuv, int width, int height) {
+        final int chromaWidth = (width + 1) / 2;
+        final int chromaSize = chromaWidth * ((height + 1) / 2);
+        final int[] rgb = new int[width * height * 3];
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                final int chromaIndex = (row / 2) * chromaWidth + col / 2;
+                final double y = 1.164 * ((yuv[row * width + col] & 0xFF) - 16);
+                final double u = (yuv[width * height + chromaIndex] & 0xFF) - 128;
+                final double v = (yuv[width * height + chromaSize + chromaIndex] & 0xFF) - 128;
+                final int index = (row * width + col) * 3;
+                rgb[index] = clamp(y + 1.596 * v);
+                rgb[index + 1] = clamp(y - 0.392 * u - 0.813 * v);
+                rgb[index + 2] = clamp(y + 2.017 * u);
+            }
+        }
+        return rgb;
+    }
+
+    private static int clamp(double value) {
+        return (int) Math.max(0, Math.min(255, Math.round(value)));
+    }
+
+    private static void assertPixel(byte[] pixels, int index, int b0, int b1, int b2, int b3, int tolerance) {
+        final int[] expected = {b0, b1, b2, b3};
+        for (int i = 0; i < 4; i++) {
+            final int actual = pixels[index * 4 + i] & 0xFF;
+            assertTrue("byte " + i + " expected " + expected[i] + " but " + actual,
+                    Math.abs(actual - expected[i]) <= tolerance);
+        }
+    }
+}
@@ -422,6 +422,26 @@ class TXLivePlayerController extends ChangeNotifier implements ValueListenable<T
     await _livePlayerApi.setRenderMode(renderMode.index);
   }
 
+  /// Capture the next decoded live frame. The frame is scaled down to fit in [maxWidth] x [maxHeight] keeping
+  /// aspect ratio, 0 means no limit. Returns null if no frame is decoded within one second. Only valid on Android.
+  ///
+  /// 截取下一帧直播画面，画面按比例缩小到 [maxWidth] x [maxHeight] 以内，0 表示不限制。一秒内没有解码出画面时返回 null。
+  /// 仅 Android 有效
+  Future<Uint8List?> captureFrame({int maxWidth = 0, int maxHeight = 0,
+      FTXCaptureFormat format = FTXCaptureFormat.JPEG}) async {
+    if (_isNeedDisposed) return null;
+    await _initPlayer.future;
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return null;
+    }
+    UInt8ListMsg int8listMsg = await _livePlayerApi.captureFrame(CaptureFramePlayerMsg()
+      ..maxWidth = maxWidth
+      ..maxHeight = maxHeight
+      ..format = format.index
+      ..playerId = _playerId);
+    return int8listMsg.value;
+  }
+
   /// Release `controller`.
   ///
   /// 释放controller
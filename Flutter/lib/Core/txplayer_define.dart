@@ -413,6 +413,9 @@ abstract class TXVodPlayEvent {
   // Error occurred during video download.
   // 视频下载错误
   static const EVENT_DOWNLOAD_ERROR = 305;
+  // Progress of a batch of downloads or deletes.
+  // 批量下载或删除进度
+  static const EVENT_DOWNLOAD_BATCH_PROGRESS = 306;
 
   // SDK event
   // onLicenceLoaded
@@ -448,6 +451,14 @@ abstract class TXVodPlayEvent {
   /// MediaType of alternative playback URL resource during HEVC downgrade playback, supported by the Advanced Player 12.0
   /// HEVC 降级播放时备选播放 URL 资源的 MediaType， 播放器高级版 12.0 版本开始支持
   static const VOD_KEY_BACKUP_URL_MEDIA_TYPE = "VOD_KEY_BACKUP_URL_MEDIA_TYPE";
+  /// Max presented fps of the render view, e.g. 15 for muted thumbnails. 0 means following display refresh rate.
+  /// Only valid on Android, set by setStringOption.
+  /// 画面最大上屏帧率，例如静音缩略图可设置为 15，0 表示跟随屏幕刷新率。仅 Android 有效，通过 setStringOption 设置
+  static const VOD_KEY_RENDER_MAX_FPS = "FTX_KEY_RENDER_MAX_FPS";
+  /// Sharpness of the render view, 0 ~ 1, 0 means disabled. The video is sharpened and upscaled up to 2x on GPU,
+  /// which helps low resolution streams on large views. Only valid on Android, set by setStringOption.
+  /// 画面锐化强度，0 ~ 1，0 表示关闭。在 GPU 上锐化并最多放大 2 倍，适合在大视图上播放低分辨率码流。仅 Android 有效，通过 setStringOption 设置
+  static const VOD_KEY_RENDER_SHARPNESS = "FTX_KEY_RENDER_SHARPNESS";
   /// HEVC format, supported by the player advanced version 12.0
   /// HEVC 格式， 播放器高级版 12.0 版本开始支持
   static const VOD_PLAY_MIMETYPE_H265 = "video/hevc";
@@ -530,6 +541,15 @@ abstract class TXVodNetEvent {
   // Network quality: 0: undefined, 1: best, 2: good, 3: normal, 4: poor, 5: very poor, 6: unavailable.
   // 网络质量：0：未定义 1：最好 2：好 3：一般 4：差 5：很差 6：不可用
   static const NET_STATUS_QUALITY_LEVEL = "NET_QUALITY_LEVEL";
+  // Frames presented by the plugin render view, only valid on Android.
+  // 插件渲染视图已上屏的帧数，仅 Android 有效
+  static const NET_STATUS_RENDER_PRESENTED_FRAMES = "RENDER_PRESENTED_FRAMES";
+  // Frames dropped by the plugin render view because a newer frame arrived before vsync, only valid on Android.
+  // 插件渲染视图在同一个 vsync 内被新帧覆盖而丢弃的帧数，仅 Android 有效
+  static const NET_STATUS_RENDER_DROPPED_FRAMES = "RENDER_DROPPED_FRAMES";
+  // Average cost of render filters per frame in microseconds, only valid on Android.
+  // 插件渲染滤镜每帧平均耗时，单位微秒，仅 Android 有效
+  static const NET_STATUS_RENDER_FILTER_COST_US = "RENDER_FILTER_COST_US";
 }
 
 enum TXPlayerLiveMode {
@@ -705,6 +725,30 @@ class TXVodDownloadDataSource {
   }
 }
 
+/// A page or a delta of the download list.
+/// 下载列表的一页或增量
+class TXVodDownloadListPage {
+  /// Downloads of the page, or downloads changed after the version of a delta query.
+  /// 本页的下载，或增量查询中版本之后变化的下载
+  List<TXVodDownloadMediaInfo> infoList = [];
+
+  /// Downloads removed after the version of a delta query, only identity fields are valid.
+  /// 增量查询中版本之后删除的下载，仅标识字段有效
+  List<TXVodDownloadMediaInfo> removedList = [];
+
+  /// Count of downloads matching the filter.
+  /// 符合过滤条件的下载数量
+  int totalCount = 0;
+
+  /// Version of the list, pass it to the next delta query.
+  /// 列表版本号，下次增量查询时传入
+  int version = 0;
+
+  /// The version of a delta query is too old, read the list again by pages.
+  /// 增量查询的版本过旧，需重新分页获取
+  bool isFullSyncRequired = false;
+}
+
 /// Video download information.
 /// 视频下载信息
 class TXVodDownloadMediaInfo {
@@ -964,6 +1008,22 @@ enum FTXPlayerRenderMode {
   FULL_FILL_CONTAINER
 }
 
+/// 截图格式
+///
+/// Frame capture format
+///
+enum FTXCaptureFormat {
+  /// JPEG 编码
+  /// JPEG encoded
+  JPEG,
+  /// PNG 编码
+  /// PNG encoded
+  PNG,
+  /// 未编码的 RGBA 像素，每像素 4 字节，从上到下逐行排列
+  /// Raw RGBA pixels, 4 bytes per pixel, rows from top to bottom
+  RGBA
+}
+
 // Video pre-download event callback listener.
 // 视频预下载事件回调Listener
 // onStartListener, just for fileId preload
@@ -974,5 +1034,8 @@ typedef FTXPredownlodOnErrorListener = void Function(int taskId, String url, int
 // 视频下载时间回调Listener
 typedef FTXDownlodOnStateChangeListener = void Function(int event, TXVodDownloadMediaInfo info);
 typedef FTXDownlodOnErrorListener = void Function(int errorCode, String errorMsg, TXVodDownloadMediaInfo info);
+// Batch download or delete progress callback listener.
+// 批量下载或删除进度回调Listener
+typedef FTXDownloadBatchProgressListener = void Function(int completedCount, int totalCount, int successCount);
 
 typedef FTXLicenceLoadedListener = void Function(int result, String reason);
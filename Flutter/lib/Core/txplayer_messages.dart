@@ -866,6 +866,7 @@ class PreLoadInfoMsg {
     this.preferredResolution,
     this.tmpPreloadTaskId,
     this.httpHeader,
+    this.priority,
   });
 
   int? appId;
@@ -884,6 +885,8 @@ class PreLoadInfoMsg {
 
   Map<String?, String?>? httpHeader;
 
+  int? priority;
+
   Object encode() {
     return <Object?>[
       appId,
@@ -894,6 +897,7 @@ class PreLoadInfoMsg {
       preferredResolution,
       tmpPreloadTaskId,
       httpHeader,
+      priority,
     ];
   }
 
@@ -908,6 +912,7 @@ class PreLoadInfoMsg {
       preferredResolution: result[5] as int?,
       tmpPreloadTaskId: result[6] as int?,
       httpHeader: (result[7] as Map<Object?, Object?>?)?.cast<String?, String?>(),
+      priority: result[8] as int?,
     );
   }
 }
@@ -1087,6 +1092,409 @@ class StringOptionPlayerMsg {
 }
 
 
+class CaptureFramePlayerMsg {
+  CaptureFramePlayerMsg({
+    this.playerId,
+    this.maxWidth,
+    this.maxHeight,
+    this.format,
+  });
+
+  int? playerId;
+
+  int? maxWidth;
+
+  int? maxHeight;
+
+  int? format;
+
+  Object encode() {
+    return <Object?>[
+      playerId,
+      maxWidth,
+      maxHeight,
+      format,
+    ];
+  }
+
+  static CaptureFramePlayerMsg decode(Object result) {
+    result as List<Object?>;
+    return CaptureFramePlayerMsg(
+      playerId: result[0] as int?,
+      maxWidth: result[1] as int?,
+      maxHeight: result[2] as int?,
+      format: result[3] as int?,
+    );
+  }
+}
+
+class PreloadPriorityMsg {
+  PreloadPriorityMsg({
+    this.tmpPreloadTaskId,
+    this.priority,
+  });
+
+  int? tmpPreloadTaskId;
+
+  int? priority;
+
+  Object encode() {
+    return <Object?>[
+      tmpPreloadTaskId,
+      priority,
+    ];
+  }
+
+  static PreloadPriorityMsg decode(Object result) {
+    result as List<Object?>;
+    return PreloadPriorityMsg(
+      tmpPreloadTaskId: result[0] as int?,
+      priority: result[1] as int?,
+    );
+  }
+}
+
+class PreloadSchedulerConfigMsg {
+  PreloadSchedulerConfigMsg({
+    this.maxConcurrentCount,
+    this.maxInflightMB,
+  });
+
+  int? maxConcurrentCount;
+
+  double? maxInflightMB;
+
+  Object encode() {
+    return <Object?>[
+      maxConcurrentCount,
+      maxInflightMB,
+    ];
+  }
+
+  static PreloadSchedulerConfigMsg decode(Object result) {
+    result as List<Object?>;
+    return PreloadSchedulerConfigMsg(
+      maxConcurrentCount: result[0] as int?,
+      maxInflightMB: result[1] as double?,
+    );
+  }
+}
+
+class FeedPreloadListMsg {
+  FeedPreloadListMsg({
+    this.items,
+    this.maxPreloadCount,
+    this.nextItemMB,
+  });
+
+  List<PreLoadInfoMsg?>? items;
+
+  int? maxPreloadCount;
+
+  double? nextItemMB;
+
+  Object encode() {
+    return <Object?>[
+      items,
+      maxPreloadCount,
+      nextItemMB,
+    ];
+  }
+
+  static FeedPreloadListMsg decode(Object result) {
+    result as List<Object?>;
+    return FeedPreloadListMsg(
+      items: (result[0] as List<Object?>?)?.cast<PreLoadInfoMsg?>(),
+      maxPreloadCount: result[1] as int?,
+      nextItemMB: result[2] as double?,
+    );
+  }
+}
+
+class FeedPreloadCursorMsg {
+  FeedPreloadCursorMsg({
+    this.index,
+    this.velocity,
+  });
+
+  int? index;
+
+  double? velocity;
+
+  Object encode() {
+    return <Object?>[
+      index,
+      velocity,
+    ];
+  }
+
+  static FeedPreloadCursorMsg decode(Object result) {
+    result as List<Object?>;
+    return FeedPreloadCursorMsg(
+      index: result[0] as int?,
+      velocity: result[1] as double?,
+    );
+  }
+}
+
+class DownloadEventConfigMsg {
+  DownloadEventConfigMsg({
+    this.minIntervalMs,
+    this.minProgressDelta,
+  });
+
+  int? minIntervalMs;
+
+  double? minProgressDelta;
+
+  Object encode() {
+    return <Object?>[
+      minIntervalMs,
+      minProgressDelta,
+    ];
+  }
+
+  static DownloadEventConfigMsg decode(Object result) {
+    result as List<Object?>;
+    return DownloadEventConfigMsg(
+      minIntervalMs: result[0] as int?,
+      minProgressDelta: result[1] as double?,
+    );
+  }
+}
+
+class DownloadListQueryMsg {
+  DownloadListQueryMsg({
+    this.userName,
+    this.downloadState,
+    this.offset,
+    this.limit,
+    this.sinceVersion,
+  });
+
+  String? userName;
+
+  int? downloadState;
+
+  int? offset;
+
+  int? limit;
+
+  int? sinceVersion;
+
+  Object encode() {
+    return <Object?>[
+      userName,
+      downloadState,
+      offset,
+      limit,
+      sinceVersion,
+    ];
+  }
+
+  static DownloadListQueryMsg decode(Object result) {
+    result as List<Object?>;
+    return DownloadListQueryMsg(
+      userName: result[0] as String?,
+      downloadState: result[1] as int?,
+      offset: result[2] as int?,
+      limit: result[3] as int?,
+      sinceVersion: result[4] as int?,
+    );
+  }
+}
+
+class DownloadListPageMsg {
+  DownloadListPageMsg({
+    this.infoList,
+    this.removedList,
+    this.totalCount,
+    this.version,
+    this.isFullSyncRequired,
+  });
+
+  List<TXVodDownloadMediaMsg?>? infoList;
+
+  List<TXVodDownloadMediaMsg?>? removedList;
+
+  int? totalCount;
+
+  int? version;
+
+  bool? isFullSyncRequired;
+
+  Object encode() {
+    return <Object?>[
+      infoList,
+      removedList,
+      totalCount,
+      version,
+      isFullSyncRequired,
+    ];
+  }
+
+  static DownloadListPageMsg decode(Object result) {
+    result as List<Object?>;
+    return DownloadListPageMsg(
+      infoList: (result[0] as List<Object?>?)?.cast<TXVodDownloadMediaMsg?>(),
+      removedList: (result[1] as List<Object?>?)?.cast<TXVodDownloadMediaMsg?>(),
+      totalCount: result[2] as int?,
+      version: result[3] as int?,
+      isFullSyncRequired: result[4] as bool?,
+    );
+  }
+}
+
+class DownloadSchedulerConfigMsg {
+  DownloadSchedulerConfigMsg({
+    this.maxConcurrentCount,
+    this.maxRateKBps,
+    this.yieldToPlayback,
+  });
+
+  int? maxConcurrentCount;
+
+  int? maxRateKBps;
+
+  bool? yieldToPlayback;
+
+  Object encode() {
+    return <Object?>[
+      maxConcurrentCount,
+      maxRateKBps,
+      yieldToPlayback,
+    ];
+  }
+
+  static DownloadSchedulerConfigMsg decode(Object result) {
+    result as List<Object?>;
+    return DownloadSchedulerConfigMsg(
+      maxConcurrentCount: result[0] as int?,
+      maxRateKBps: result[1] as int?,
+      yieldToPlayback: result[2] as bool?,
+    );
+  }
+}
+
+class DownloadQuotaMsg {
+  DownloadQuotaMsg({
+    this.globalLimitBytes,
+    this.userLimitBytes,
+    this.userLimits,
+  });
+
+  int? globalLimitBytes;
+
+  int? userLimitBytes;
+
+  Map<String?, String?>? userLimits;
+
+  Object encode() {
+    return <Object?>[
+      globalLimitBytes,
+      userLimitBytes,
+      userLimits,
+    ];
+  }
+
+  static DownloadQuotaMsg decode(Object result) {
+    result as List<Object?>;
+    return DownloadQuotaMsg(
+      globalLimitBytes: result[0] as int?,
+      userLimitBytes: result[1] as int?,
+      userLimits: (result[2] as Map<Object?, Object?>?)?.cast<String?, String?>(),
+    );
+  }
+}
+
+class DownloadBatchMsg {
+  DownloadBatchMsg({
+    this.batchId,
+    this.infoList,
+    this.priority,
+  });
+
+  int? batchId;
+
+  List<TXVodDownloadMediaMsg?>? infoList;
+
+  int? priority;
+
+  Object encode() {
+    return <Object?>[
+      batchId,
+      infoList,
+      priority,
+    ];
+  }
+
+  static DownloadBatchMsg decode(Object result) {
+    result as List<Object?>;
+    return DownloadBatchMsg(
+      batchId: result[0] as int?,
+      infoList: (result[1] as List<Object?>?)?.cast<TXVodDownloadMediaMsg?>(),
+      priority: result[2] as int?,
+    );
+  }
+}
+
+class DownloadBatchResultMsg {
+  DownloadBatchResultMsg({
+    this.batchId,
+    this.results,
+    this.successCount,
+  });
+
+  int? batchId;
+
+  List<Object?>? results;
+
+  int? successCount;
+
+  Object encode() {
+    return <Object?>[
+      batchId,
+      results,
+      successCount,
+    ];
+  }
+
+  static DownloadBatchResultMsg decode(Object result) {
+    result as List<Object?>;
+    return DownloadBatchResultMsg(
+      batchId: result[0] as int?,
+      results: result[1] as List<Object?>?,
+      successCount: result[2] as int?,
+    );
+  }
+}
+
+class DownloadPriorityMsg {
+  DownloadPriorityMsg({
+    this.mediaInfo,
+    this.priority,
+  });
+
+  TXVodDownloadMediaMsg? mediaInfo;
+
+  int? priority;
+
+  Object encode() {
+    return <Object?>[
+      mediaInfo,
+      priority,
+    ];
+  }
+
+  static DownloadPriorityMsg decode(Object result) {
+    result as List<Object?>;
+    return DownloadPriorityMsg(
+      mediaInfo: result[0] as TXVodDownloadMediaMsg?,
+      priority: result[1] as int?,
+    );
+  }
+}
+
 class _PigeonCodec extends StandardMessageCodec {
   const _PigeonCodec();
   @override
@@ -1175,6 +1583,45 @@ class _PigeonCodec extends StandardMessageCodec {
     }    else if (value is StringOptionPlayerMsg) {
       buffer.putUint8(155);
       writeValue(buffer, value.encode());
+    }    else if (value is CaptureFramePlayerMsg) {
+      buffer.putUint8(156);
+      writeValue(buffer, value.encode());
+    }    else if (value is PreloadPriorityMsg) {
+      buffer.putUint8(157);
+      writeValue(buffer, value.encode());
+    }    else if (value is PreloadSchedulerConfigMsg) {
+      buffer.putUint8(158);
+      writeValue(buffer, value.encode());
+    }    else if (value is FeedPreloadListMsg) {
+      buffer.putUint8(159);
+      writeValue(buffer, value.encode());
+    }    else if (value is FeedPreloadCursorMsg) {
+      buffer.putUint8(160);
+      writeValue(buffer, value.encode());
+    }    else if (value is DownloadEventConfigMsg) {
+      buffer.putUint8(161);
+      writeValue(buffer, value.encode());
+    }    else if (value is DownloadListQueryMsg) {
+      buffer.putUint8(162);
+      writeValue(buffer, value.encode());
+    }    else if (value is DownloadListPageMsg) {
+      buffer.putUint8(163);
+      writeValue(buffer, value.encode());
+    }    else if (value is DownloadSchedulerConfigMsg) {
+      buffer.putUint8(164);
+      writeValue(buffer, value.encode());
+    }    else if (value is DownloadQuotaMsg) {
+      buffer.putUint8(165);
+      writeValue(buffer, value.encode());
+    }    else if (value is DownloadBatchMsg) {
+      buffer.putUint8(166);
+      writeValue(buffer, value.encode());
+    }    else if (value is DownloadBatchResultMsg) {
+      buffer.putUint8(167);
+      writeValue(buffer, value.encode());
+    }    else if (value is DownloadPriorityMsg) {
+      buffer.putUint8(168);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -1237,6 +1684,32 @@ class _PigeonCodec extends StandardMessageCodec {
         return SubTitleRenderModelPlayerMsg.decode(readValue(buffer)!);
       case 155: 
         return StringOptionPlayerMsg.decode(readValue(buffer)!);
+      case 156: 
+        return CaptureFramePlayerMsg.decode(readValue(buffer)!);
+      case 157: 
+        return PreloadPriorityMsg.decode(readValue(buffer)!);
+      case 158: 
+        return PreloadSchedulerConfigMsg.decode(readValue(buffer)!);
+      case 159: 
+        return FeedPreloadListMsg.decode(readValue(buffer)!);
+      case 160: 
+        return FeedPreloadCursorMsg.decode(readValue(buffer)!);
+      case 161: 
+        return DownloadEventConfigMsg.decode(readValue(buffer)!);
+      case 162: 
+        return DownloadListQueryMsg.decode(readValue(buffer)!);
+      case 163: 
+        return DownloadListPageMsg.decode(readValue(buffer)!);
+      case 164: 
+        return DownloadSchedulerConfigMsg.decode(readValue(buffer)!);
+      case 165: 
+        return DownloadQuotaMsg.decode(readValue(buffer)!);
+      case 166: 
+        return DownloadBatchMsg.decode(readValue(buffer)!);
+      case 167: 
+        return DownloadBatchResultMsg.decode(readValue(buffer)!);
+      case 168: 
+        return DownloadPriorityMsg.decode(readValue(buffer)!);
       default:
         return super.readValueOfType(type, buffer);
     }
@@ -3176,32 +3649,21 @@ class TXFlutterVodPlayerApi {
       return;
     }
   }
-}
-
-class TXFlutterLivePlayerApi {
-  /// Constructor for [TXFlutterLivePlayerApi].  The [binaryMessenger] named argument is
-  /// available for dependency injection.  If it is left null, the default
-  /// BinaryMessenger will be used which routes to the host platform.
-  TXFlutterLivePlayerApi({BinaryMessenger? binaryMessenger, String messageChannelSuffix = ''})
-      : pigeonVar_binaryMessenger = binaryMessenger,
-        pigeonVar_messageChannelSuffix = messageChannelSuffix.isNotEmpty ? '.$messageChannelSuffix' : '';
-  final BinaryMessenger? pigeonVar_binaryMessenger;
-
-  static const MessageCodec<Object?> pigeonChannelCodec = _PigeonCodec();
-
-  final String pigeonVar_messageChannelSuffix;
 
-  /// 播放器初始化，创建共享纹理、初始化播放器
-  /// @param onlyAudio 是否是纯音频模式
-  Future<IntMsg> initialize(BoolPlayerMsg onlyAudio) async {
-    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.initialize$pigeonVar_messageChannelSuffix';
+  /// 直接使用 Flutter 纹理渲染，解码画面直接输出到 Flutter Texture，不经过 PlatformView 和 GL 拷贝，仅 Android 有效
+  ///
+  /// Render directly to a Flutter texture, decoded frames go to the Flutter Texture without PlatformView and GL copy.
+  /// Only valid on Android.
+  /// return textureId, -1 if disabled
+  Future<IntMsg> enableTextureRender(BoolPlayerMsg enable) async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.enableTextureRender$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
       pigeonVar_channelName,
       pigeonChannelCodec,
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_channel.send(<Object?>[onlyAudio]) as List<Object?>?;
+        await pigeonVar_channel.send(<Object?>[enable]) as List<Object?>?;
     if (pigeonVar_replyList == null) {
       throw _createConnectionError(pigeonVar_channelName);
     } else if (pigeonVar_replyList.length > 1) {
@@ -3220,13 +3682,169 @@ class TXFlutterLivePlayerApi {
     }
   }
 
+  /// 获取当前渲染视图的渲染统计，包括 updateTexImage、绘制、交换缓冲区耗时分布，上屏帧数、丢帧数和 EGL 错误，仅 Android 有效
   ///
-  /// 当设置[LivePlayer] 类型播放器时
-  /// 10.7版本开始，startPlay变更为startLivePlay，需要通过 {@link SuperPlayerPlugin#setGlobalLicense} 设置 Licence 后方可成功播放，
-  /// 否则将播放失败（黑屏），全局仅设置一次即可。直播 Licence、短视频 Licence 和视频播放 Licence 均可使用，若您暂未获取上述 Licence ，
-  /// 可[快速免费申请测试版 Licence](https://cloud.tencent.com/act/event/License) 以正常播放，正式版 License 需[购买]
-  /// (https://cloud.tencent.com/document/product/881/74588#.E8.B4.AD.E4.B9.B0.E5.B9.B6.E6.96.B0.E5.BB.BA.E6.AD.A3.E5.BC.8F.E7.89.88-license)。
-  Future<BoolMsg> startLivePlay(StringPlayerMsg playerMsg) async {
+  /// Get render statistics of current render view, including time histograms of updateTexImage, draw and swap,
+  /// frames presented and dropped, and EGL errors. Only valid on Android.
+  Future<MapMsg> getRenderStats(PlayerMsg playerMsg) async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.getRenderStats$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[playerMsg]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as MapMsg?)!;
+    }
+  }
+
+  /// 镜像渲染到另一个渲染视图，与主视图共用同一路解码，每个视图使用自己的渲染模式，仅 Android 有效
+  ///
+  /// Mirror the decoded video to another render view. The view shares the decoder of the main view and has its own
+  /// render mode. Only valid on Android.
+  Future<void> addMirrorView(int renderViewId, int renderMode) async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.addMirrorView$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[renderViewId, renderMode]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// 移除镜像渲染视图，仅 Android 有效
+  ///
+  /// Stop mirroring to the render view. Only valid on Android.
+  Future<void> removeMirrorView(int renderViewId) async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.removeMirrorView$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[renderViewId]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// 异步截取当前视频帧，在 GPU 上缩放到 maxWidth x maxHeight 以内，不阻塞渲染线程，仅 Android 有效
+  ///
+  /// Capture the current video frame asynchronously, scaled on GPU to fit in maxWidth x maxHeight, without
+  /// blocking the render thread. format: 0 JPEG, 1 PNG, 2 raw RGBA. Only valid on Android.
+  Future<UInt8ListMsg> captureFrame(CaptureFramePlayerMsg msg) async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterVodPlayerApi.captureFrame$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[msg]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as UInt8ListMsg?)!;
+    }
+  }
+}
+
+class TXFlutterLivePlayerApi {
+  /// Constructor for [TXFlutterLivePlayerApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  TXFlutterLivePlayerApi({BinaryMessenger? binaryMessenger, String messageChannelSuffix = ''})
+      : pigeonVar_binaryMessenger = binaryMessenger,
+        pigeonVar_messageChannelSuffix = messageChannelSuffix.isNotEmpty ? '.$messageChannelSuffix' : '';
+  final BinaryMessenger? pigeonVar_binaryMessenger;
+
+  static const MessageCodec<Object?> pigeonChannelCodec = _PigeonCodec();
+
+  final String pigeonVar_messageChannelSuffix;
+
+  /// 播放器初始化，创建共享纹理、初始化播放器
+  /// @param onlyAudio 是否是纯音频模式
+  Future<IntMsg> initialize(BoolPlayerMsg onlyAudio) async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.initialize$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[onlyAudio]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as IntMsg?)!;
+    }
+  }
+
+  ///
+  /// 当设置[LivePlayer] 类型播放器时
+  /// 10.7版本开始，startPlay变更为startLivePlay，需要通过 {@link SuperPlayerPlugin#setGlobalLicense} 设置 Licence 后方可成功播放，
+  /// 否则将播放失败（黑屏），全局仅设置一次即可。直播 Licence、短视频 Licence 和视频播放 Licence 均可使用，若您暂未获取上述 Licence ，
+  /// 可[快速免费申请测试版 Licence](https://cloud.tencent.com/act/event/License) 以正常播放，正式版 License 需[购买]
+  /// (https://cloud.tencent.com/document/product/881/74588#.E8.B4.AD.E4.B9.B0.E5.B9.B6.E6.96.B0.E5.BB.BA.E6.AD.A3.E5.BC.8F.E7.89.88-license)。
+  Future<BoolMsg> startLivePlay(StringPlayerMsg playerMsg) async {
     final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.startLivePlay$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -3784,6 +4402,37 @@ class TXFlutterLivePlayerApi {
       return;
     }
   }
+
+  /// 异步截取下一帧直播画面，解码后的 I420 数据在 CPU 上转换为 RGBA，并缩放到 maxWidth x maxHeight 以内，仅 Android 有效
+  ///
+  /// Capture the next live video frame asynchronously. The decoded I420 frame is converted to RGBA on CPU and
+  /// scaled to fit in maxWidth x maxHeight. format: 0 JPEG, 1 PNG, 2 raw RGBA. Only valid on Android.
+  Future<UInt8ListMsg> captureFrame(CaptureFramePlayerMsg msg) async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterLivePlayerApi.captureFrame$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[msg]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as UInt8ListMsg?)!;
+    }
+  }
 }
 
 class TXFlutterDownloadApi {
@@ -4056,6 +4705,588 @@ class TXFlutterDownloadApi {
       return (pigeonVar_replyList[0] as BoolMsg?)!;
     }
   }
+
+  /// 修改排队中预下载任务的优先级，值越小越先开始，例如与当前播放位置的距离，仅 Android 有效
+  ///
+  /// Change priority of a queued preload, smaller value starts first, e.g. distance from the current feed index.
+  /// Only valid on Android.
+  Future<void> setPreloadPriority(PreloadPriorityMsg msg) async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterDownloadApi.setPreloadPriority$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[msg]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// 取消 startPreLoadByParams 启动的预下载，排队中的任务直接移除，已开始的任务会被停止，仅 Android 有效
+  ///
+  /// Cancel a preload started by startPreLoadByParams with its tmpPreloadTaskId. A queued preload is removed,
+  /// a started one is stopped. Only valid on Android.
+  Future<void> cancelPreload(IntMsg msg) async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterDownloadApi.cancelPreload$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[msg]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// 设置预下载调度参数：同时进行的预下载数量和进行中预下载的总大小上限，仅 Android 有效
+  ///
+  /// Set max count of concurrent preloads and max total size of preloads in flight. Only valid on Android.
+  Future<void> setPreloadSchedulerConfig(PreloadSchedulerConfigMsg msg) async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterDownloadApi.setPreloadSchedulerConfig$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[msg]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// 获取预下载调度统计，包括排队数量和排队耗时，仅 Android 有效
+  ///
+  /// Get preload scheduler metrics, including queue depth and wait time. Only valid on Android.
+  Future<MapMsg> getPreloadMetrics() async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterDownloadApi.getPreloadMetrics$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(null) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as MapMsg?)!;
+    }
+  }
+
+  /// 设置信息流的有序列表，之后只需上报当前位置，由原生决定预下载哪些条目及各自大小，仅 Android 有效
+  ///
+  /// Set the ordered items of a feed once, then only the current index is reported and native decides which
+  /// items to preload and how much of each. Only valid on Android.
+  Future<void> setFeedPreloadList(FeedPreloadListMsg msg) async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterDownloadApi.setFeedPreloadList$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[msg]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// 上报信息流当前位置和滑动速度（条/秒，向后为正），仅 Android 有效
+  ///
+  /// Report current index of the feed and scroll velocity in items per second, positive towards later items.
+  /// Only valid on Android.
+  Future<void> updateFeedPreloadCursor(FeedPreloadCursorMsg msg) async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterDownloadApi.updateFeedPreloadCursor$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[msg]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// 停止信息流预下载，取消其启动的所有预下载，仅 Android 有效
+  ///
+  /// Stop feed preloading and cancel all preloads started by it. Only valid on Android.
+  Future<void> stopFeedPreload() async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterDownloadApi.stopFeedPreload$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(null) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// 获取信息流预下载统计，包括播放时的命中率，仅 Android 有效
+  ///
+  /// Get feed preload metrics, including hit rate when items are played. Only valid on Android.
+  Future<MapMsg> getFeedPreloadMetrics() async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterDownloadApi.getFeedPreloadMetrics$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(null) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as MapMsg?)!;
+    }
+  }
+
+  /// 设置下载进度事件节流：每个任务两次进度事件的最小间隔和最小进度变化，仅发送变化的字段，开始、停止、完成和失败事件总是立即发送，仅 Android 有效
+  ///
+  /// Throttle download progress events per task by min interval and min progress change, only changed fields
+  /// are sent. Start, stop, finish and error events are always sent at once. Only valid on Android.
+  Future<void> setDownloadEventConfig(DownloadEventConfigMsg msg) async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterDownloadApi.setDownloadEventConfig$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[msg]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// 分页获取下载列表，可按用户名和下载状态过滤，返回当前版本号，仅 Android 有效
+  ///
+  /// Get a page of the download list, filtered by userName and downloadState, with the current version.
+  /// Only valid on Android.
+  Future<DownloadListPageMsg> getDownloadListPage(DownloadListQueryMsg msg) async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterDownloadApi.getDownloadListPage$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[msg]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as DownloadListPageMsg?)!;
+    }
+  }
+
+  /// 获取 sinceVersion 之后变化和删除的下载，版本过旧时 isFullSyncRequired 为 true，需重新分页获取，仅 Android 有效
+  ///
+  /// Get downloads changed or removed after sinceVersion. If the version is too old isFullSyncRequired is true
+  /// and the list must be read again by pages. Only valid on Android.
+  Future<DownloadListPageMsg> getDownloadListDelta(DownloadListQueryMsg msg) async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterDownloadApi.getDownloadListDelta$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[msg]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as DownloadListPageMsg?)!;
+    }
+  }
+
+  /// 设置离线下载调度：最大同时下载数、总速率上限（KB/s，0 为不限制）以及播放缓冲时是否暂停下载，仅 Android 有效
+  ///
+  /// Set the offline download scheduler: max running downloads, total rate cap in KB/s (0 for no limit) and
+  /// whether downloads pause while a player is buffering. Only valid on Android.
+  Future<void> setDownloadSchedulerConfig(DownloadSchedulerConfigMsg msg) async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterDownloadApi.setDownloadSchedulerConfig$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[msg]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// 修改排队或下载中任务的优先级，数值越小越先下载，仅 Android 有效
+  ///
+  /// Change priority of a queued or running download, smaller value downloads first. Only valid on Android.
+  Future<void> setDownloadPriority(DownloadPriorityMsg msg) async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterDownloadApi.setDownloadPriority$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[msg]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// 获取离线下载调度状态，仅 Android 有效
+  ///
+  /// Get state of the offline download scheduler. Only valid on Android.
+  Future<MapMsg> getDownloadSchedulerMetrics() async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterDownloadApi.getDownloadSchedulerMetrics$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(null) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as MapMsg?)!;
+    }
+  }
+
+  /// 从磁盘快照获取下载列表，冷启动时无需等待 SDK 枚举下载即可展示，快照会在后台与 SDK 列表同步，仅 Android 有效
+  ///
+  /// Get the download list from the on-disk snapshot, so it can be shown at cold start without waiting for the
+  /// SDK to list downloads. The snapshot is reconciled with the SDK list in background. Only valid on Android.
+  Future<TXDownloadListMsg> getDownloadListSnapshot() async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterDownloadApi.getDownloadListSnapshot$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(null) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as TXDownloadListMsg?)!;
+    }
+  }
+
+  /// 设置离线下载磁盘配额：全局和每个用户的字节上限，0 为不限制。超出时自动删除最久未观看的下载，仅 Android 有效
+  ///
+  /// Set disk quota of offline downloads: global and per-user byte limits, 0 for no limit. Over a limit the least
+  /// recently watched downloads are deleted. Only valid on Android.
+  Future<void> setDownloadQuota(DownloadQuotaMsg msg) async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterDownloadApi.setDownloadQuota$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[msg]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// 获取离线下载磁盘占用和淘汰统计，仅 Android 有效
+  ///
+  /// Get disk usage of offline downloads and eviction counts. Only valid on Android.
+  Future<MapMsg> getDownloadUsage() async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterDownloadApi.getDownloadUsage$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(null) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as MapMsg?)!;
+    }
+  }
+
+  /// 在工作线程批量开始下载，通过 batchId 回调进度，返回每个下载是否成功开始，仅 Android 有效
+  ///
+  /// Start downloads in a batch on a worker thread, progress is reported by batchId. Returns whether each
+  /// download is started. Only valid on Android.
+  Future<DownloadBatchResultMsg> startDownloadBatch(DownloadBatchMsg msg) async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterDownloadApi.startDownloadBatch$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[msg]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as DownloadBatchResultMsg?)!;
+    }
+  }
+
+  /// 在工作线程批量删除下载，通过 batchId 回调进度，返回每个下载是否删除成功，仅 Android 有效
+  ///
+  /// Delete downloads in a batch on a worker thread, progress is reported by batchId. Returns whether each
+  /// download is deleted. Only valid on Android.
+  Future<DownloadBatchResultMsg> deleteDownloadBatch(DownloadBatchMsg msg) async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterDownloadApi.deleteDownloadBatch$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[msg]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as DownloadBatchResultMsg?)!;
+    }
+  }
+
+  /// 按优先级开始下载，数值越小越先下载，仅 Android 有效
+  ///
+  /// Start a download with priority, smaller value downloads first. Only valid on Android.
+  Future<void> startDownloadWithPriority(DownloadPriorityMsg msg) async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterDownloadApi.startDownloadWithPriority$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[msg]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// 按优先级继续下载，数值越小越先下载，仅 Android 有效
+  ///
+  /// Resume a download with priority, smaller value downloads first. Only valid on Android.
+  Future<void> resumeDownloadWithPriority(DownloadPriorityMsg msg) async {
+    final String pigeonVar_channelName = 'dev.flutter.pigeon.super_player.TXFlutterDownloadApi.resumeDownloadWithPriority$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel = BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[msg]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
 }
 
 abstract class TXDownloadFlutterAPI {
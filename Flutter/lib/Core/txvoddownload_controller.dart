@@ -12,11 +12,18 @@ class TXVodDownloadController implements TXDownloadFlutterAPI {
 
   static TXVodDownloadController get instance => _sharedInstance();
 
-  Map<int, _PreloadListener> _preloadListeners = {};
+  /// preloads of the same media share one task, so a task may have several listeners
+  Map<int, List<_PreloadListener>> _preloadListeners = {};
   Map<int, _PreloadListener> _fileIdBeforeStartListeners = {};
+  // tmpTaskId -> taskId, for preloads started by [startPreload] whose listener is in [_preloadListeners]
+  Map<int, int> _startedPreloadTaskIds = {};
+  /// last full download event of each task, progress events of Android only carry changed fields
+  Map<String, Map<dynamic, dynamic>> _downloadEvents = {};
   FTXDownlodOnStateChangeListener? _downlodOnStateChangeListener;
   FTXDownlodOnErrorListener? _downlodOnErrorListener;
   AtomicInt _atomicPreloadId = AtomicInt(0);
+  Map<int, FTXDownloadBatchProgressListener> _batchProgressListeners = {};
+  AtomicInt _atomicBatchId = AtomicInt(0);
 
   static TXVodDownloadController _sharedInstance() {
     if (_instance == null) {
@@ -59,24 +66,38 @@ class TXVodDownloadController implements TXDownloadFlutterAPI {
       ..preferredResolution = preferredResolution);
     int taskId = msg.value ?? -1;
     if (taskId >= 0) {
-      _preloadListeners[taskId] = _PreloadListener()
+      _addPreloadListener(taskId, _PreloadListener()
           ..onCompleteListener = onCompleteListener
-          ..onErrorListener = onErrorListener;
+          ..onErrorListener = onErrorListener);
     }
     return taskId;
   }
 
-  Future<void> startPreload(
+  /// Start pre-downloading by [TXPlayInfoParams].
+  /// priority: Smaller value starts first, e.g. distance from the current feed index. Only valid on Android.
+  /// Return value: Temporary task ID, which can be used by [setPreloadPriority] and [cancelPreload].
+  ///
+  /// 通过 [TXPlayInfoParams] 启动预下载。
+  /// priority: 优先级，值越小越先开始，例如与当前播放位置的距离。仅 Android 有效
+  /// 返回值：临时任务ID，可用于 [setPreloadPriority] 和 [cancelPreload]
+  Future<int> startPreload(
     TXPlayInfoParams txPlayInfoParams,
     final double preloadSizeMB,
     final int preferredResolution, {
     FTXPredownlodOnCompleteListener? onCompleteListener,
     FTXPredownlodOnErrorListener? onErrorListener,
     FTXPredownlodOnStartListener? onStartListener,
+    int priority = 0,
   }) async {
     int tmpPreloadTaskId = await _atomicPreloadId.incrementAndGet();
+    _fileIdBeforeStartListeners[tmpPreloadTaskId] = _PreloadListener()
+      ..tmpTaskId = tmpPreloadTaskId
+      ..onCompleteListener = onCompleteListener
+      ..onErrorListener = onErrorListener
+      ..onStartListener = onStartListener;
     await _api.startPreLoadByParams(PreLoadInfoMsg()
       ..tmpPreloadTaskId = tmpPreloadTaskId
+      ..priority = priority
       ..playUrl = txPlayInfoParams.url
       ..fileId = txPlayInfoParams.fileId
       ..appId = txPlayInfoParams.appId
@@ -84,40 +105,192 @@ class TXVodDownloadController implements TXDownloadFlutterAPI {
       ..preloadSizeMB = preloadSizeMB
       ..preferredResolution = preferredResolution
       ..httpHeader = txPlayInfoParams.httpHeader);
-    _fileIdBeforeStartListeners[tmpPreloadTaskId] = _PreloadListener()
-      ..onCompleteListener = onCompleteListener
-      ..onErrorListener = onErrorListener
-      ..onStartListener = onStartListener;
+    return tmpPreloadTaskId;
+  }
+
+  /// Change priority of a preload which is still queued. Only valid on Android.
+  /// tmpTaskId: Temporary task ID, returned by [startPreload].
+  ///
+  /// 修改排队中预下载的优先级，仅 Android 有效
+  /// tmpTaskId: 临时任务ID，[startPreload] 返回值
+  Future<void> setPreloadPriority(int tmpTaskId, int priority) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return;
+    }
+    await _api.setPreloadPriority(PreloadPriorityMsg()
+      ..tmpPreloadTaskId = tmpTaskId
+      ..priority = priority);
+  }
+
+  /// Cancel a preload started by [startPreload]. A queued one is removed, a started one is stopped.
+  /// Only valid on Android.
+  ///
+  /// 取消 [startPreload] 启动的预下载，排队中的任务直接移除，已开始的任务会被停止。仅 Android 有效
+  Future<void> cancelPreload(int tmpTaskId) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return;
+    }
+    _fileIdBeforeStartListeners.remove(tmpTaskId);
+    int? taskId = _startedPreloadTaskIds.remove(tmpTaskId);
+    if (taskId != null) {
+      List<_PreloadListener>? listeners = _preloadListeners[taskId];
+      listeners?.removeWhere((listener) => listener.tmpTaskId == tmpTaskId);
+      if (listeners != null && listeners.isEmpty) {
+        _preloadListeners.remove(taskId);
+      }
+    }
+    await _api.cancelPreload(IntMsg()..value = tmpTaskId);
+  }
+
+  /// Set max count of concurrent preloads, and max total size of preloads in flight, 0 means no limit.
+  /// Only valid on Android.
+  ///
+  /// 设置同时进行的预下载数量，以及进行中预下载的总大小上限，0 表示不限制。仅 Android 有效
+  Future<void> setPreloadSchedulerConfig({int maxConcurrentCount = 3, double maxInflightMB = 0}) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return;
+    }
+    await _api.setPreloadSchedulerConfig(PreloadSchedulerConfigMsg()
+      ..maxConcurrentCount = maxConcurrentCount
+      ..maxInflightMB = maxInflightMB);
+  }
+
+  /// Get preload scheduler metrics, e.g. queueDepth, runningCount, waitP90Ms. Only valid on Android.
+  ///
+  /// 获取预下载调度统计，例如 queueDepth、runningCount、waitP90Ms。仅 Android 有效
+  Future<Map<String, String>> getPreloadMetrics() async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return {};
+    }
+    return _toStringMap(await _api.getPreloadMetrics());
+  }
+
+  /// Preload a feed around the viewport. The ordered items are set once, after that only
+  /// [updateFeedPreloadCursor] is called. Native decides which items to preload and how much of each: the next
+  /// item gets [nextItemMB], later ones less, and preloads left behind the cursor are cancelled.
+  /// Only valid on Android.
+  /// maxPreloadCount: Items preloaded ahead of the cursor, more are preloaded with smaller sizes when scrolling fast.
+  /// initialIndex: Current index of the feed.
+  ///
+  /// 信息流预下载。有序列表只需设置一次，之后只需调用 [updateFeedPreloadCursor]。由原生决定预下载的条目和大小：
+  /// 下一条预下载 [nextItemMB]，更后的条目递减，已划过的条目会取消预下载。仅 Android 有效
+  /// maxPreloadCount: 当前位置之后预下载的条目数，快速滑动时会预下载更多条目，每条更小
+  /// initialIndex: 信息流当前位置
+  Future<void> setFeedPreloadList(
+    List<TXPlayInfoParams> items, {
+    int maxPreloadCount = 3,
+    double nextItemMB = 2,
+    int preferredResolution = -1,
+    int initialIndex = 0,
+  }) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return;
+    }
+    List<PreLoadInfoMsg> infoList = items
+        .map((params) => PreLoadInfoMsg()
+          ..playUrl = params.url
+          ..fileId = params.fileId
+          ..appId = params.appId
+          ..pSign = params.psign
+          ..preferredResolution = preferredResolution
+          ..httpHeader = params.httpHeader)
+        .toList();
+    await _api.setFeedPreloadList(FeedPreloadListMsg()
+      ..items = infoList
+      ..maxPreloadCount = maxPreloadCount
+      ..nextItemMB = nextItemMB);
+    await updateFeedPreloadCursor(initialIndex);
+  }
+
+  /// Report current index of the feed. velocity: Items per second, positive towards later items.
+  /// Only valid on Android.
+  ///
+  /// 上报信息流当前位置。velocity: 滑动速度，条/秒，向后为正。仅 Android 有效
+  Future<void> updateFeedPreloadCursor(int index, {double velocity = 0}) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return;
+    }
+    await _api.updateFeedPreloadCursor(FeedPreloadCursorMsg()
+      ..index = index
+      ..velocity = velocity);
+  }
+
+  /// Stop feed preloading and cancel its preloads. Only valid on Android.
+  ///
+  /// 停止信息流预下载并取消其预下载任务。仅 Android 有效
+  Future<void> stopFeedPreload() async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return;
+    }
+    await _api.stopFeedPreload();
+  }
+
+  /// Get feed preload metrics, e.g. playCount, hitCount, hitRate. Only valid on Android.
+  ///
+  /// 获取信息流预下载统计，例如 playCount、hitCount、hitRate。仅 Android 有效
+  Future<Map<String, String>> getFeedPreloadMetrics() async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return {};
+    }
+    return _toStringMap(await _api.getFeedPreloadMetrics());
+  }
+
+  Map<String, String> _toStringMap(MapMsg mapMsg) {
+    Map<String, String> result = {};
+    mapMsg.map?.forEach((key, value) {
+      if (null != key && null != value) {
+        result[key] = value;
+      }
+    });
+    return result;
   }
 
   /// Stop pre-downloading.
   /// taskId: Task ID, returned by [startPreLoad].
+  /// Preloads of the same media share one task, the task is stopped after every requester stopped it.
   ///
   /// 停止预下载。
   /// taskId： 任务id,[startPreLoad]返回值
+  /// 相同媒体的预下载共用一个任务，所有请求方都停止后任务才会停止
   Future<void> stopPreLoad(final int taskId) async {
     await _api.stopPreLoad(IntMsg()..value = taskId);
   }
 
   /// Start downloading.
   /// videoDownloadModel: Download constructor [TXVodDownloadMediaInfo].
+  /// priority: Smaller value downloads first on Android, downloads are queued by [setDownloadSchedulerConfig].
   ///
   /// 开始下载
   /// videoDownloadModel: 下载构造体 [TXVodDownloadMediaInfo]
-  Future<void> startDownload(TXVodDownloadMediaInfo mediaInfo) async {
-    await _api.startDownload(mediaInfo.toMsg());
+  /// priority: 数值越小越先下载，仅 Android 有效，下载按 [setDownloadSchedulerConfig] 排队
+  Future<void> startDownload(TXVodDownloadMediaInfo mediaInfo, {int priority = 0}) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      await _api.startDownload(mediaInfo.toMsg());
+      return;
+    }
+    await _api.startDownloadWithPriority(DownloadPriorityMsg()
+      ..mediaInfo = mediaInfo.toMsg()
+      ..priority = priority);
   }
 
   /// Resume downloading. This interface is different from the start downloading interface.
   /// This interface will find the corresponding cache and reuse the previous cache to resume downloading,
   /// while the start downloading interface will start a brand new download.
   /// videoDownloadModel: Download constructor [TXVodDownloadMediaInfo].
+  /// priority: Smaller value downloads first. Only valid on Android.
   ///
   /// 继续下载，与开始下载接口有区别，该接口会寻找对应的缓存，复用之前的缓存来续点下载，
   /// 而开始下载接口会启动一个全新的下载
   /// videoDownloadModel: 下载构造体 [TXVodDownloadMediaInfo]
-  Future<void> resumeDownload(TXVodDownloadMediaInfo mediaInfo) async {
-    await _api.resumeDownload(mediaInfo.toMsg());
+  /// priority: 数值越小越先下载，仅 Android 有效
+  Future<void> resumeDownload(TXVodDownloadMediaInfo mediaInfo, {int priority = 0}) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      await _api.resumeDownload(mediaInfo.toMsg());
+      return;
+    }
+    await _api.resumeDownloadWithPriority(DownloadPriorityMsg()
+      ..mediaInfo = mediaInfo.toMsg()
+      ..priority = priority);
   }
 
   /// Stop downloading.
@@ -129,6 +302,97 @@ class TXVodDownloadController implements TXDownloadFlutterAPI {
     await _api.stopDownload(mediaInfo.toMsg());
   }
 
+  /// Throttle download progress events per task, an event is sent after [minIntervalMs] and when progress moved
+  /// by [minProgressDelta] (0 ~ 1). Only changed fields are sent and merged here, so listeners still get full
+  /// infos. Start, stop, finish and error events are always sent at once. Only valid on Android.
+  ///
+  /// 下载进度事件节流，间隔 [minIntervalMs] 且进度变化 [minProgressDelta]（0 ~ 1）后才发送。仅发送变化的字段并在此合并，
+  /// 回调仍收到完整信息。开始、停止、完成和失败事件总是立即发送。仅 Android 有效
+  Future<void> setDownloadEventConfig({int minIntervalMs = 300, double minProgressDelta = 0}) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return;
+    }
+    await _api.setDownloadEventConfig(DownloadEventConfigMsg()
+      ..minIntervalMs = minIntervalMs
+      ..minProgressDelta = minProgressDelta);
+  }
+
+  /// Set the offline download scheduler. Only valid on Android.
+  /// maxConcurrentCount: Max running downloads, the others wait in a queue kept across restarts.
+  /// maxRateKBps: Total download rate cap in KB/s, 0 for no limit. It is kept by running fewer downloads.
+  /// yieldToPlayback: Pause downloads while any player is buffering, and resume them after.
+  /// Until this is called, downloads are not limited and not paused for playback.
+  ///
+  /// 设置离线下载调度。仅 Android 有效
+  /// maxConcurrentCount：最大同时下载数，其余下载排队，队列在重启后保留
+  /// maxRateKBps：总下载速率上限，单位 KB/s，0 表示不限制，通过减少同时下载数实现
+  /// yieldToPlayback：任一播放器缓冲时暂停下载，缓冲结束后恢复
+  /// 调用前下载数量不受限制，播放缓冲时也不暂停下载
+  Future<void> setDownloadSchedulerConfig(
+      {int maxConcurrentCount = 2, int maxRateKBps = 0, bool yieldToPlayback = true}) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return;
+    }
+    await _api.setDownloadSchedulerConfig(DownloadSchedulerConfigMsg()
+      ..maxConcurrentCount = maxConcurrentCount
+      ..maxRateKBps = maxRateKBps
+      ..yieldToPlayback = yieldToPlayback);
+  }
+
+  /// Change priority of a queued or running download, smaller value downloads first. Only valid on Android.
+  ///
+  /// 修改排队或下载中任务的优先级，数值越小越先下载。仅 Android 有效
+  Future<void> setDownloadPriority(TXVodDownloadMediaInfo mediaInfo, int priority) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return;
+    }
+    await _api.setDownloadPriority(DownloadPriorityMsg()
+      ..mediaInfo = mediaInfo.toMsg()
+      ..priority = priority);
+  }
+
+  /// Get state of the download scheduler, e.g. queueCount, runningCount, rateKBps. Only valid on Android.
+  ///
+  /// 获取离线下载调度状态，例如 queueCount、runningCount、rateKBps。仅 Android 有效
+  Future<Map<String, String>> getDownloadSchedulerMetrics() async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return {};
+    }
+    return _toStringMap(await _api.getDownloadSchedulerMetrics());
+  }
+
+  /// Set disk quota of offline downloads. Over a limit, the least recently watched downloads that are not
+  /// downloading or playing are deleted. Watching is counted from plays of [TXVodDownloadMediaInfo.playPath].
+  /// Only valid on Android.
+  /// globalLimitBytes: Limit of all downloads, 0 for no limit.
+  /// userLimitBytes: Limit of each user without its own limit in [userLimits], 0 for no limit.
+  ///
+  /// 设置离线下载磁盘配额，超出时删除最久未观看且未在下载或播放的下载，观看记录来自 [TXVodDownloadMediaInfo.playPath] 的播放。
+  /// 仅 Android 有效
+  /// globalLimitBytes：所有下载的字节上限，0 表示不限制
+  /// userLimitBytes：[userLimits] 中未单独设置的用户的字节上限，0 表示不限制
+  Future<void> setDownloadQuota(
+      {int globalLimitBytes = 0, int userLimitBytes = 0, Map<String, int>? userLimits}) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return;
+    }
+    await _api.setDownloadQuota(DownloadQuotaMsg()
+      ..globalLimitBytes = globalLimitBytes
+      ..userLimitBytes = userLimitBytes
+      ..userLimits = userLimits?.map((key, value) => MapEntry(key, value.toString())));
+  }
+
+  /// Get disk usage of offline downloads, e.g. totalBytes, evictedCount, and userBytes/<userName> for each user.
+  /// Only valid on Android.
+  ///
+  /// 获取离线下载磁盘占用，例如 totalBytes、evictedCount，以及每个用户的 userBytes/<userName>。仅 Android 有效
+  Future<Map<String, String>> getDownloadUsage() async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return {};
+    }
+    return _toStringMap(await _api.getDownloadUsage());
+  }
+
   /// Set download request headers.
   ///
   /// 设置下载请求头
@@ -154,6 +418,87 @@ class TXVodDownloadController implements TXDownloadFlutterAPI {
     return outputList;
   }
 
+  /// Get the download list from the on-disk snapshot, it is fast at cold start as the SDK does not list its
+  /// downloads. Progress is of the last start, stop or end. The snapshot is reconciled with the SDK list in
+  /// background, read [getDownloadListPage] after it for the authoritative list. On other platforms it is
+  /// [getDownloadList].
+  ///
+  /// 从磁盘快照获取下载列表，冷启动时无需等待 SDK 枚举下载。进度为最近一次开始、停止或结束时的进度。
+  /// 快照会在后台与 SDK 列表同步，之后可通过 [getDownloadListPage] 获取准确列表。其他平台等同于 [getDownloadList]
+  Future<List<TXVodDownloadMediaInfo>> getDownloadListSnapshot() async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return getDownloadList();
+    }
+    TXDownloadListMsg listMsg = await _api.getDownloadListSnapshot();
+    List<TXVodDownloadMediaInfo> outputList = [];
+    listMsg.infoList?.forEach((msg) {
+      if (null != msg) {
+        outputList.add(_getDownloadInfoFromMsg(msg));
+      }
+    });
+    return outputList;
+  }
+
+  /// Get a page of the download list, only the page is converted and sent. Only valid on Android.
+  /// userName, downloadState: Filters, null for all.
+  /// limit: Max count of the page, 0 for all after offset.
+  ///
+  /// 分页获取下载列表，仅转换和传输本页数据。仅 Android 有效
+  /// userName、downloadState：过滤条件，null 表示不过滤
+  /// limit：本页最大数量，0 表示 offset 之后全部
+  Future<TXVodDownloadListPage> getDownloadListPage(
+      {int offset = 0, int limit = 50, String? userName, int? downloadState}) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      List<TXVodDownloadMediaInfo> infoList = await getDownloadList();
+      return TXVodDownloadListPage()
+        ..infoList = infoList
+        ..totalCount = infoList.length
+        ..isFullSyncRequired = true;
+    }
+    DownloadListPageMsg pageMsg = await _api.getDownloadListPage(DownloadListQueryMsg()
+      ..offset = offset
+      ..limit = limit
+      ..userName = userName
+      ..downloadState = downloadState);
+    return _getDownloadListPageFromMsg(pageMsg);
+  }
+
+  /// Get downloads changed or removed after [sinceVersion], which is the version of the last page or delta.
+  /// If [TXVodDownloadListPage.isFullSyncRequired] is true, read the list again by [getDownloadListPage].
+  /// Only valid on Android.
+  ///
+  /// 获取 [sinceVersion] 之后变化和删除的下载，[sinceVersion] 为上次分页或增量查询返回的版本号。
+  /// [TXVodDownloadListPage.isFullSyncRequired] 为 true 时需通过 [getDownloadListPage] 重新获取。仅 Android 有效
+  Future<TXVodDownloadListPage> getDownloadListDelta(int sinceVersion,
+      {String? userName, int? downloadState}) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return TXVodDownloadListPage()..isFullSyncRequired = true;
+    }
+    DownloadListPageMsg pageMsg = await _api.getDownloadListDelta(DownloadListQueryMsg()
+      ..sinceVersion = sinceVersion
+      ..userName = userName
+      ..downloadState = downloadState);
+    return _getDownloadListPageFromMsg(pageMsg);
+  }
+
+  TXVodDownloadListPage _getDownloadListPageFromMsg(DownloadListPageMsg pageMsg) {
+    TXVodDownloadListPage page = TXVodDownloadListPage()
+      ..totalCount = pageMsg.totalCount ?? 0
+      ..version = pageMsg.version ?? 0
+      ..isFullSyncRequired = pageMsg.isFullSyncRequired ?? false;
+    pageMsg.infoList?.forEach((msg) {
+      if (null != msg) {
+        page.infoList.add(_getDownloadInfoFromMsg(msg));
+      }
+    });
+    pageMsg.removedList?.forEach((msg) {
+      if (null != msg) {
+        page.removedList.add(_getDownloadInfoFromMsg(msg));
+      }
+    });
+    return page;
+  }
+
   /// Get the download information of the specified video.
   /// return [TXVodDownloadMediaInfo].
   ///
@@ -181,6 +526,66 @@ class TXVodDownloadController implements TXDownloadFlutterAPI {
     return msg.value ?? false;
   }
 
+  /// Start downloads in a batch, e.g. a whole season. The batch runs on a worker thread on Android, so the UI
+  /// is not blocked by N separate calls. On other platforms downloads are started one by one.
+  /// priority: Priority of every download, smaller value downloads first. Only valid on Android.
+  /// onProgress: Called with the count of handled items. Only valid on Android.
+  /// Return value: Whether each download is started, in the order of [mediaInfoList].
+  ///
+  /// 批量开始下载，例如下载整季视频。Android 上在工作线程执行，避免多次单独调用阻塞界面，其他平台逐个开始下载
+  /// priority：每个下载的优先级，数值越小越先下载。仅 Android 有效
+  /// onProgress：已处理数量的进度回调。仅 Android 有效
+  /// 返回值：每个下载是否成功开始，顺序与 [mediaInfoList] 一致
+  Future<List<bool>> startDownloadBatch(List<TXVodDownloadMediaInfo> mediaInfoList,
+      {int priority = 0, FTXDownloadBatchProgressListener? onProgress}) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      for (TXVodDownloadMediaInfo mediaInfo in mediaInfoList) {
+        await startDownload(mediaInfo);
+      }
+      return List.filled(mediaInfoList.length, true);
+    }
+    return _runDownloadBatch(mediaInfoList.map((mediaInfo) => mediaInfo.toMsg()).toList(), priority, onProgress, true);
+  }
+
+  /// Delete downloads in a batch, e.g. clearing a user's library. The batch runs on a worker thread on Android,
+  /// on other platforms downloads are deleted one by one.
+  /// onProgress: Called with the count of handled items. Only valid on Android.
+  /// Return value: Whether each download is deleted, in the order of [mediaInfoList].
+  ///
+  /// 批量删除下载，例如清空用户的下载库。Android 上在工作线程执行，其他平台逐个删除
+  /// onProgress：已处理数量的进度回调。仅 Android 有效
+  /// 返回值：每个下载是否删除成功，顺序与 [mediaInfoList] 一致
+  Future<List<bool>> deleteDownloadBatch(List<TXVodDownloadMediaInfo> mediaInfoList,
+      {FTXDownloadBatchProgressListener? onProgress}) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      List<bool> results = [];
+      for (TXVodDownloadMediaInfo mediaInfo in mediaInfoList) {
+        results.add(await deleteDownloadMediaInfo(mediaInfo));
+      }
+      return results;
+    }
+    return _runDownloadBatch(mediaInfoList.map((mediaInfo) => mediaInfo.toMsg()).toList(), 0, onProgress, false);
+  }
+
+  Future<List<bool>> _runDownloadBatch(List<TXVodDownloadMediaMsg> infoList, int priority,
+      FTXDownloadBatchProgressListener? onProgress, bool isStart) async {
+    int batchId = await _atomicBatchId.incrementAndGet();
+    if (null != onProgress) {
+      _batchProgressListeners[batchId] = onProgress;
+    }
+    DownloadBatchMsg batchMsg = DownloadBatchMsg()
+      ..batchId = batchId
+      ..infoList = infoList
+      ..priority = priority;
+    try {
+      DownloadBatchResultMsg resultMsg =
+          isStart ? await _api.startDownloadBatch(batchMsg) : await _api.deleteDownloadBatch(batchMsg);
+      return resultMsg.results?.map((result) => result == true).toList() ?? List.filled(infoList.length, false);
+    } finally {
+      _batchProgressListeners.remove(batchId);
+    }
+  }
+
   TXVodDownloadMediaInfo _getDownloadInfoFromMap(Map<dynamic, dynamic> map) {
     TXVodDownloadMediaInfo mediaInfo = TXVodDownloadMediaInfo();
     mediaInfo.playPath = map["playPath"];
@@ -235,7 +640,7 @@ class TXVodDownloadController implements TXDownloadFlutterAPI {
   @override
   void onDownloadEvent(Map<String, Object> event) {
     LogUtils.d(TAG, 'onDownloadEvent _eventHandler, event= $event');
-    final Map<dynamic, dynamic> map = event;
+    final Map<dynamic, dynamic> map = _mergeDownloadEvent(event);
     int eventCode = map["event"];
     switch (eventCode) {
       case TXVodPlayEvent.EVENT_DOWNLOAD_START:
@@ -250,11 +655,52 @@ class TXVodDownloadController implements TXDownloadFlutterAPI {
         String errorMsg = map["errorMsg"];
         _downlodOnErrorListener?.call(errorCode, errorMsg, info);
         break;
+      case TXVodPlayEvent.EVENT_DOWNLOAD_BATCH_PROGRESS:
+        _batchProgressListeners[map["batchId"]]?.call(map["completedCount"], map["totalCount"], map["successCount"]);
+        break;
       default:
         break;
     }
   }
 
+  Map<dynamic, dynamic> _mergeDownloadEvent(Map<String, Object> event) {
+    String? taskKey = event["taskKey"] as String?;
+    if (null == taskKey) {
+      return event;
+    }
+    Map<dynamic, dynamic> merged = {};
+    if (event["isDelta"] == true) {
+      merged.addAll(_downloadEvents[taskKey] ?? {});
+    }
+    merged.addAll(event);
+    int eventCode = merged["event"];
+    if (eventCode == TXVodPlayEvent.EVENT_DOWNLOAD_STOP ||
+        eventCode == TXVodPlayEvent.EVENT_DOWNLOAD_FINISH ||
+        eventCode == TXVodPlayEvent.EVENT_DOWNLOAD_ERROR) {
+      _downloadEvents.remove(taskKey);
+    } else {
+      _downloadEvents[taskKey] = merged;
+    }
+    return merged;
+  }
+
+  void _addPreloadListener(int taskId, _PreloadListener listener) {
+    _preloadListeners.putIfAbsent(taskId, () => []).add(listener);
+    if (listener.tmpTaskId >= 0) {
+      _startedPreloadTaskIds[listener.tmpTaskId] = taskId;
+    }
+  }
+
+  List<_PreloadListener>? _removePreloadListeners(int taskId) {
+    List<_PreloadListener>? listeners = _preloadListeners.remove(taskId);
+    listeners?.forEach((listener) {
+      if (listener.tmpTaskId >= 0) {
+        _startedPreloadTaskIds.remove(listener.tmpTaskId);
+      }
+    });
+    return listeners;
+  }
+
   @override
   void onPreDownloadEvent(Map<String, Object> event) {
     LogUtils.d(TAG, 'onPreDownloadEvent _eventHandler, event= $event');
@@ -265,8 +711,9 @@ class TXVodDownloadController implements TXDownloadFlutterAPI {
         int taskId = map['taskId'];
         String url = map['url'];
         LogUtils.d(TAG, 'receive EVENT_PREDOWNLOAD_ON_COMPLETE, taskID=$taskId ,url=$url');
-        _preloadListeners[taskId]?.onCompleteListener?.call(taskId, url);
-        _preloadListeners.remove(taskId);
+        _removePreloadListeners(taskId)?.forEach((listener) {
+          listener.onCompleteListener?.call(taskId, url);
+        });
         break;
       case TXVodPlayEvent.EVENT_PREDOWNLOAD_ON_ERROR:
         int tmpTaskId = map['tmpTaskId'] ?? -1;
@@ -275,12 +722,12 @@ class TXVodDownloadController implements TXDownloadFlutterAPI {
         int code = map['code'] ?? 0;
         String msg = map['msg'] ?? '';
         LogUtils.d(TAG, 'receive EVENT_PREDOWNLOAD_ON_ERROR, taskID=$taskId ,url=$url, code=$code , msg=$msg');
-        if (tmpTaskId >= 0) {
-          _fileIdBeforeStartListeners[tmpTaskId]!.onErrorListener?.call(taskId, url, code, msg);
-          _fileIdBeforeStartListeners.remove(tmpTaskId);
+        if (tmpTaskId >= 0 && _fileIdBeforeStartListeners.containsKey(tmpTaskId)) {
+          _fileIdBeforeStartListeners.remove(tmpTaskId)?.onErrorListener?.call(taskId, url, code, msg);
         } else {
-          _preloadListeners[taskId]?.onErrorListener?.call(taskId, url, code, msg);
-          _preloadListeners.remove(taskId);
+          _removePreloadListeners(taskId)?.forEach((listener) {
+            listener.onErrorListener?.call(taskId, url, code, msg);
+          });
         }
         break;
       case TXVodPlayEvent.EVENT_PREDOWNLOAD_ON_START:
@@ -291,10 +738,10 @@ class TXVodDownloadController implements TXDownloadFlutterAPI {
         Map<dynamic, dynamic> bundle = map['params'] ?? {};
         LogUtils.d(TAG, 'receive EVENT_PREDOWNLOAD_ON_START, tmpTaskId=$tmpTaskId, '
             'taskID=$taskId ,fileId=$fileId, url=$url , bundle=$bundle');
-        if (_fileIdBeforeStartListeners[tmpTaskId] != null) {
-          _preloadListeners[taskId] = _fileIdBeforeStartListeners[tmpTaskId]!;
-          _preloadListeners[taskId]!.onStartListener?.call(taskId, fileId, url, bundle);
-          _fileIdBeforeStartListeners.remove(tmpTaskId);
+        _PreloadListener? listener = _fileIdBeforeStartListeners.remove(tmpTaskId);
+        if (listener != null) {
+          _addPreloadListener(taskId, listener);
+          listener.onStartListener?.call(taskId, fileId, url, bundle);
         }
         break;
       default:
@@ -305,6 +752,8 @@ class TXVodDownloadController implements TXDownloadFlutterAPI {
 }
 
 class _PreloadListener {
+  // temporary task ID of [TXVodDownloadController.startPreload], -1 for [TXVodDownloadController.startPreLoad]
+  int tmpTaskId = -1;
   FTXPredownlodOnCompleteListener? onCompleteListener;
   FTXPredownlodOnErrorListener? onErrorListener;
   FTXPredownlodOnStartListener? onStartListener;
@@ -643,6 +643,54 @@ class TXVodPlayerController extends ChangeNotifier implements ValueListenable<TX
     await _vodPlayerApi.setRenderMode(renderMode.index);
   }
 
+  /// Show the video on another render view too, e.g. a blurred background or a mini view. The view shares the decoder
+  /// of the view set by [setPlayerView] and has its own [renderMode], so there is no extra decoding and network cost.
+  /// Only valid on Android.
+  ///
+  /// 在另一个渲染视图上同时显示视频，例如模糊背景或小窗。该视图与 [setPlayerView] 设置的视图共用同一路解码，并使用自己的
+  /// [renderMode]，不会增加解码和网络开销。仅 Android 有效
+  Future<void> addMirrorView(int renderViewId, FTXPlayerRenderMode renderMode) async {
+    if (_isNeedDisposed) return;
+    await _initPlayer.future;
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return;
+    }
+    await _vodPlayerApi.addMirrorView(renderViewId, renderMode.index);
+  }
+
+  /// Stop showing the video on the render view added by [addMirrorView]. Only valid on Android.
+  ///
+  /// 停止在 [addMirrorView] 添加的视图上显示视频。仅 Android 有效
+  Future<void> removeMirrorView(int renderViewId) async {
+    if (_isNeedDisposed) return;
+    await _initPlayer.future;
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return;
+    }
+    await _vodPlayerApi.removeMirrorView(renderViewId);
+  }
+
+  /// Capture the current video frame without blocking rendering. The frame is scaled down to fit in [maxWidth] x
+  /// [maxHeight] keeping aspect ratio, 0 means no limit. Returns null if no frame is rendered yet. Only valid on Android
+  /// with the plugin render view.
+  ///
+  /// 异步截取当前视频帧，不阻塞渲染。画面按比例缩小到 [maxWidth] x [maxHeight] 以内，0 表示不限制。尚未渲染画面时返回 null。
+  /// 仅 Android 使用插件渲染视图时有效
+  Future<Uint8List?> captureFrame({int maxWidth = 0, int maxHeight = 0,
+      FTXCaptureFormat format = FTXCaptureFormat.JPEG}) async {
+    if (_isNeedDisposed) return null;
+    await _initPlayer.future;
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return null;
+    }
+    UInt8ListMsg int8listMsg = await _vodPlayerApi.captureFrame(CaptureFramePlayerMsg()
+      ..maxWidth = maxWidth
+      ..maxHeight = maxHeight
+      ..format = format.index
+      ..playerId = _playerId);
+    return int8listMsg.value;
+  }
+
   ///
   /// only valid on Android
   ///
@@ -652,6 +700,50 @@ class TXVodPlayerController extends ChangeNotifier implements ValueListenable<TX
     await _vodPlayerApi.reDraw();
   }
 
+  /// Render directly to a Flutter texture instead of the render view set by [setPlayerView]. Decoded frames are
+  /// composed by Flutter engine without PlatformView and extra GL copy. Show the returned id with a [Texture]
+  /// widget, the aspect ratio is decided by the widget. Disabling it rebinds the last render view.
+  /// Only valid on Android, returns -1 if disabled or not supported.
+  ///
+  /// 直接渲染到 Flutter 纹理，不再使用 [setPlayerView] 设置的渲染视图，解码画面由 Flutter 引擎直接合成，没有 PlatformView
+  /// 和额外的 GL 拷贝。返回的纹理 id 通过 [Texture] 组件展示，画面比例由组件决定。关闭后会重新绑定之前的渲染视图。
+  /// 仅 Android 有效，关闭或不支持时返回 -1。
+  Future<int> enableTextureRender(bool enable) async {
+    if (_isNeedDisposed) return -1;
+    await _initPlayer.future;
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return -1;
+    }
+    IntMsg intMsg = await _vodPlayerApi.enableTextureRender(BoolPlayerMsg()
+      ..value = enable
+      ..playerId = _playerId);
+    return intMsg.value ?? -1;
+  }
+
+  /// Render statistics of the current render view, times are in microseconds. Keys are presentedFrames,
+  /// droppedFrames, eglErrors, lastEglError, and Count/AvgUs/P50Us/P90Us/P99Us/MaxUs of latch (updateTexImage),
+  /// draw and swap, e.g. drawP99Us. Percentiles are accurate to 2x.
+  /// Only valid on Android, returns an empty map if not supported or frames are not drawn by plugin.
+  ///
+  /// 当前渲染视图的渲染统计，耗时单位为微秒。包括 presentedFrames、droppedFrames、eglErrors、lastEglError，以及 latch
+  /// （updateTexImage）、draw、swap 的 Count/AvgUs/P50Us/P90Us/P99Us/MaxUs，例如 drawP99Us。分位值精度为 2 倍。
+  /// 仅 Android 有效，不支持或画面不由插件绘制时返回空 map。
+  Future<Map<String, String>> getRenderStats() async {
+    if (_isNeedDisposed) return {};
+    await _initPlayer.future;
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return {};
+    }
+    MapMsg mapMsg = await _vodPlayerApi.getRenderStats(PlayerMsg()..playerId = _playerId);
+    Map<String, String> result = {};
+    mapMsg.map?.forEach((key, value) {
+      if (null != key && null != value) {
+        result[key] = value;
+      }
+    });
+    return result;
+  }
+
   /// release controller
   ///
   /// 释放controller